@@ -19,7 +19,9 @@ package nl.aerius.codegen;
 import java.util.ArrayList;
 import java.util.List;
 
+import nl.aerius.codegen.generator.GeneratorOptions;
 import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTargets;
 import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.Logger;
 
@@ -40,6 +42,53 @@ public class Main {
                                   If not specified, derived from classpath.
       --extra-source-root, -e <dir> Extra source root directory to add to auto-derived roots
                                   (can be specified multiple times).
+      --key-driven-parsing        Generate setter-based parsers that loop once over the JSON keys
+                                  and dispatch with a switch, instead of checking each field.
+      --streaming-parsing         Also generate parse(JsonParser) methods reading from a streaming
+                                  Jackson parser (JVM only).
+      --indexed-loops             Parse arrays, collections and maps with plain for loops instead of
+                                  forEach lambdas.
+      --flatten-inheritance       Parse inherited fields in the parser of the subclass in a single
+                                  pass over the JSON keys, instead of calling each parent parser.
+      --merge-parsing             Also generate merge methods that apply a JSON merge patch to an
+                                  existing object in place.
+      --generate-writers          Also generate a writer per type that appends its JSON to a
+                                  StringBuilder.
+      --generate-overlays         Also generate native JsInterop overlays viewing the result of
+                                  JSON.parse without parsing, for the types that allow it.
+      --lenient-parsing           Also generate parse methods taking a ParseErrors sink, which record
+                                  elements of collections, arrays and maps that fail to parse and
+                                  skip them instead of aborting.
+      --field-projection          Also generate parse methods taking a Projection selecting the
+                                  fields to parse, skipping unselected fields and their contents.
+      --generate-registry         Also generate a ParserRegistry that parses a JSON object as a type
+                                  given by its Class, without reflection.
+      --shared-helpers            Parse nested generic shapes, like a map of maps, with one shared
+                                  helper per distinct shape in a generated ParserHelpers class.
+      --table-driven              Generate setter-based parsers as field tables walked by a shared
+                                  TableParser, for smaller output at the cost of parsing speed.
+      --single-lookup             Look each field up once with getOrAbsent() and read it from the
+                                  returned JSONValueHandle, instead of with has() and isNull().
+      --primitive-accessors       Read primitive fields with the primitive getters and fill primitive
+                                  arrays by index, instead of with the boxed getters and forEach.
+      --lazy-type <class>         Parse fields of this type only on first access (can be specified
+                                  multiple times).
+      --lazy-field <class#field>  Parse this field only on first access (can be specified multiple
+                                  times).
+      --intern-type <class>       Deduplicate repeated String values of all fields of this type
+                                  through a bounded string pool (can be specified multiple times).
+      --intern-field <class#field> Deduplicate repeated String values of this field through a
+                                  bounded string pool (can be specified multiple times).
+      --string-pool-size <n>      Maximum number of distinct Strings in the string pool
+                                  (default 1024).
+      --parallel-threshold <n>    Parse collections and arrays of objects with at least this many
+                                  elements in parallel on the common ForkJoinPool (JVM only,
+                                  default 0: disabled).
+      --method-size-limit <n>     Maximum estimated bytecode size of the code parsing the fields
+                                  of a type in one method, larger ones are split (default 8000).
+      --runtime-target <name>     JSON API the parsers are generated for: a built-in target name or
+                                  the class name of a JsonRuntimeTarget (default handle). Built in
+                                  are handle and jsinterop, reading JSON.parse results natively.
       --help, -h                 Show this help message
       """;
 
@@ -64,6 +113,28 @@ public class Main {
     System.out.println("  Parser package: " + options.parserPackage);
     System.out.println(
         "  Custom parser directory: " + (options.customParserDir != null ? options.customParserDir : "not specified"));
+    System.out.println("  Key-driven parsing: " + options.generatorOptions.isKeyDrivenParsing());
+    System.out.println("  Streaming parsing: " + options.generatorOptions.isStreamingParsing());
+    System.out.println("  Indexed loops: " + options.generatorOptions.isIndexedLoops());
+    System.out.println("  Flatten inheritance: " + options.generatorOptions.isFlattenInheritance());
+    System.out.println("  Merge parsing: " + options.generatorOptions.isMergeParsing());
+    System.out.println("  Generate writers: " + options.generatorOptions.isGenerateWriters());
+    System.out.println("  Generate overlays: " + options.generatorOptions.isGenerateOverlays());
+    System.out.println("  Lenient parsing: " + options.generatorOptions.isLenientParsing());
+    System.out.println("  Field projection: " + options.generatorOptions.isFieldProjection());
+    System.out.println("  Generate registry: " + options.generatorOptions.isGenerateRegistry());
+    System.out.println("  Shared helpers: " + options.generatorOptions.isSharedHelpers());
+    System.out.println("  Table-driven: " + options.generatorOptions.isTableDriven());
+    System.out.println("  Single lookup: " + options.generatorOptions.isSingleLookup());
+    System.out.println("  Primitive accessors: " + options.generatorOptions.isPrimitiveAccessors());
+    System.out.println("  Lazy types: " + options.generatorOptions.getLazyTypes());
+    System.out.println("  Lazy fields: " + options.generatorOptions.getLazyFields());
+    System.out.println("  Intern types: " + options.generatorOptions.getInternTypes());
+    System.out.println("  Intern fields: " + options.generatorOptions.getInternFields());
+    System.out.println("  String pool size: " + options.generatorOptions.getStringPoolSize());
+    System.out.println("  Parallel parsing threshold: " + options.generatorOptions.getParallelParsingThreshold());
+    System.out.println("  Method size limit: " + options.generatorOptions.getMethodSizeLimit());
+    System.out.println("  Runtime target: " + options.generatorOptions.getRuntimeTarget().getName());
 
     // Derive source roots from classpath if not explicitly specified
     List<String> sourceRoots = options.sourceRoots;
@@ -86,6 +157,7 @@ public class Main {
       final ClassFinder classFinder = new ClassFinder() {};
 
       ParserWriterUtils.initParsers(classFinder, logger);
+      ParserWriterUtils.setOptions(options.generatorOptions);
       ParserGenerator.generateParsers(options.rootClassName, options.outputDir, options.parserPackage, options.customParserDir, sourceRoots, classFinder, logger);
       System.out.println("\n✓ Parser generation completed successfully");
     } catch (final Exception e) {
@@ -150,6 +222,110 @@ public class Main {
           System.err.println("Missing value for --extra-source-root");
           return null;
         }
+      } else if ("--key-driven-parsing".equals(arg)) {
+        options.generatorOptions.setKeyDrivenParsing(true);
+      } else if ("--streaming-parsing".equals(arg)) {
+        options.generatorOptions.setStreamingParsing(true);
+      } else if ("--indexed-loops".equals(arg)) {
+        options.generatorOptions.setIndexedLoops(true);
+      } else if ("--flatten-inheritance".equals(arg)) {
+        options.generatorOptions.setFlattenInheritance(true);
+      } else if ("--merge-parsing".equals(arg)) {
+        options.generatorOptions.setMergeParsing(true);
+      } else if ("--generate-writers".equals(arg)) {
+        options.generatorOptions.setGenerateWriters(true);
+      } else if ("--generate-overlays".equals(arg)) {
+        options.generatorOptions.setGenerateOverlays(true);
+      } else if ("--lenient-parsing".equals(arg)) {
+        options.generatorOptions.setLenientParsing(true);
+      } else if ("--field-projection".equals(arg)) {
+        options.generatorOptions.setFieldProjection(true);
+      } else if ("--generate-registry".equals(arg)) {
+        options.generatorOptions.setGenerateRegistry(true);
+      } else if ("--shared-helpers".equals(arg)) {
+        options.generatorOptions.setSharedHelpers(true);
+      } else if ("--table-driven".equals(arg)) {
+        options.generatorOptions.setTableDriven(true);
+      } else if ("--single-lookup".equals(arg)) {
+        options.generatorOptions.setSingleLookup(true);
+      } else if ("--primitive-accessors".equals(arg)) {
+        options.generatorOptions.setPrimitiveAccessors(true);
+      } else if ("--lazy-type".equals(arg)) {
+        if (i + 1 < args.length) {
+          options.generatorOptions.getLazyTypes().add(args[++i]);
+        } else {
+          System.err.println("Missing value for --lazy-type");
+          return null;
+        }
+      } else if ("--lazy-field".equals(arg)) {
+        if (i + 1 < args.length) {
+          options.generatorOptions.getLazyFields().add(args[++i]);
+        } else {
+          System.err.println("Missing value for --lazy-field");
+          return null;
+        }
+      } else if ("--intern-type".equals(arg)) {
+        if (i + 1 < args.length) {
+          options.generatorOptions.getInternTypes().add(args[++i]);
+        } else {
+          System.err.println("Missing value for --intern-type");
+          return null;
+        }
+      } else if ("--intern-field".equals(arg)) {
+        if (i + 1 < args.length) {
+          options.generatorOptions.getInternFields().add(args[++i]);
+        } else {
+          System.err.println("Missing value for --intern-field");
+          return null;
+        }
+      } else if ("--string-pool-size".equals(arg)) {
+        if (i + 1 < args.length) {
+          try {
+            options.generatorOptions.setStringPoolSize(Integer.parseInt(args[++i]));
+          } catch (final IllegalArgumentException e) {
+            System.err.println("Invalid value for --string-pool-size: " + args[i]);
+            return null;
+          }
+        } else {
+          System.err.println("Missing value for --string-pool-size");
+          return null;
+        }
+      } else if ("--parallel-threshold".equals(arg)) {
+        if (i + 1 < args.length) {
+          try {
+            options.generatorOptions.setParallelParsingThreshold(Integer.parseInt(args[++i]));
+          } catch (final IllegalArgumentException e) {
+            System.err.println("Invalid value for --parallel-threshold: " + args[i]);
+            return null;
+          }
+        } else {
+          System.err.println("Missing value for --parallel-threshold");
+          return null;
+        }
+      } else if ("--method-size-limit".equals(arg)) {
+        if (i + 1 < args.length) {
+          try {
+            options.generatorOptions.setMethodSizeLimit(Integer.parseInt(args[++i]));
+          } catch (final IllegalArgumentException e) {
+            System.err.println("Invalid value for --method-size-limit: " + args[i]);
+            return null;
+          }
+        } else {
+          System.err.println("Missing value for --method-size-limit");
+          return null;
+        }
+      } else if ("--runtime-target".equals(arg)) {
+        if (i + 1 < args.length) {
+          try {
+            options.generatorOptions.setRuntimeTarget(JsonRuntimeTargets.forName(args[++i]));
+          } catch (final IllegalArgumentException e) {
+            System.err.println("Invalid value for --runtime-target: " + e.getMessage());
+            return null;
+          }
+        } else {
+          System.err.println("Missing value for --runtime-target");
+          return null;
+        }
       } else {
         System.err.println("Unknown argument: " + arg);
         printUsage();
@@ -177,5 +353,6 @@ public class Main {
     String customParserDir = null;
     List<String> sourceRoots = new ArrayList<>();
     List<String> extraSourceRoots = new ArrayList<>();
+    GeneratorOptions generatorOptions = new GeneratorOptions();
   }
 }
@@ -7,11 +7,13 @@ import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import com.palantir.javapoet.ClassName;
 
 import nl.aerius.codegen.analyzer.TypeAnalyzer;
+import nl.aerius.codegen.generator.GeneratorOptions;
 import nl.aerius.codegen.generator.ParserWriter;
 import nl.aerius.codegen.generator.ParserWriterUtils;
 import nl.aerius.codegen.util.ClassFinder;
@@ -24,6 +26,8 @@ import nl.aerius.codegen.validator.ConfigurationValidator;
  * ParserWriter components.
  */
 public class ParserGenerator {
+  // A parse method taking a streaming Jackson parser, as called by the streaming parsers
+  private static final Pattern STREAMING_PARSE_METHOD = Pattern.compile("\\bparse\\s*\\(\\s*(final\\s+)?(com\\.fasterxml\\.jackson\\.core\\.)?JsonParser\\s");
 
   public static void generateParsers(final String rootClassName, final String outputDir, final String parserPackage)
       throws IOException, ClassNotFoundException {
@@ -94,6 +98,7 @@ public class ParserGenerator {
     logger.info("Generator Name: " + generatorName);
     final String generatorDetails = String.format("version: %s (git: %s)", logger.pluginVersion(), logger.gitHash());
     logger.info("Generator Details: " + generatorDetails);
+    ParserWriterUtils.getOptions().getIgnoredModes().forEach(logger::warn);
 
     try {
       // Find custom parsers first (if a custom parser directory is provided)
@@ -119,6 +124,12 @@ public class ParserGenerator {
       final ParserWriter parserWriter = new ParserWriter(outputDir, parserPackage, generatorName, generatorDetails, classFinder, logger);
 
       parserWriter.generateParsers(classFinder, filteredClassNames);
+      if (ParserWriterUtils.getOptions().isGenerateRegistry()) {
+        parserWriter.generateParserRegistry(classFinder, filteredClassNames, analyzer.getCustomParserClasses());
+      }
+      if (ParserWriterUtils.getOptions().isGenerateOverlays()) {
+        parserWriter.generateOverlays(classFinder, filteredClassNames);
+      }
 
       logger.info("Parser generation completed successfully!");
     } catch (final nl.aerius.codegen.analyzer.UnsupportedTypeException e) {
@@ -171,6 +182,7 @@ public class ParserGenerator {
             ParserWriterUtils.registerCustomParser(typeName, packageName);
             logger.info("Registered custom parser: " + packageName + "." + typeName + "Parser");
           }
+          checkCustomParserMethods(typeName, content, customPath, logger);
         } catch (final IOException e) {
           logger.info("Warning: Could not read custom parser file: " + e.getMessage());
         }
@@ -182,6 +194,21 @@ public class ParserGenerator {
     return customParserTypes;
   }
 
+  /**
+   * Warns about the methods the enabled modes call on a custom parser that it doesn't provide, so a missing method is
+   * reported with its reason instead of only failing the compilation of the generated code.
+   */
+  private static void checkCustomParserMethods(final String typeName, final String content, final Path customPath, final Logger logger) {
+    final GeneratorOptions options = ParserWriterUtils.getOptions();
+    if (options.isStreamingParsing() && !STREAMING_PARSE_METHOD.matcher(content).find()) {
+      logger.warn("Custom parser " + typeName + "Parser has no parse(JsonParser) method, which the streaming parsers call");
+    }
+    if (options.isGenerateWriters() && !Files.exists(customPath.resolve(typeName + "Writer.java"))) {
+      logger.warn("No " + typeName + "Writer found next to custom parser " + typeName + "Parser, the generated writers call its static "
+          + "write(StringBuilder, " + typeName + ") method");
+    }
+  }
+
   private static void clearOutputDirectory(final String outputDir) throws IOException {
     final Path outputPath = Paths.get(outputDir);
 
@@ -39,6 +39,7 @@ public class TypeAnalyzer {
   private final Set<Class<?>> processedTypes;
   private final Set<String> skippedTypes;
   private final Set<ClassName> discoveredTypes;
+  private final Set<Class<?>> customParserClasses;
   private final Set<String> printedTypes = new HashSet<>();
   private final Set<String> customParserTypes = new HashSet<>();
   private final ClassFinder classFinder;
@@ -77,9 +78,14 @@ public class TypeAnalyzer {
     unsupportedTypes.add(SortedMap.class);
     unsupportedTypes.add(TreeMap.class);
 
+    // Arrays written as a JSON string by Jackson, byte[] as base64
+    unsupportedTypes.add(byte[].class);
+    unsupportedTypes.add(char[].class);
+
     processedTypes = new HashSet<>();
     skippedTypes = new HashSet<>();
     discoveredTypes = new TreeSet<>(Comparator.comparing(ClassName::toString));
+    customParserClasses = new TreeSet<>(Comparator.comparing(Class::getName));
   }
 
   /**
@@ -101,6 +107,7 @@ public class TypeAnalyzer {
       processedTypes.clear();
       skippedTypes.clear();
       discoveredTypes.clear();
+      customParserClasses.clear();
       printedTypes.clear();
 
       analyzeTypeAndSubtypes(rootClass);
@@ -116,6 +123,14 @@ public class TypeAnalyzer {
     }
   }
 
+  /**
+   * @return the types found by the last call to {@link #analyzeClass} that have a custom parser, and therefore are not
+   *         part of the types returned for generation
+   */
+  public Set<Class<?>> getCustomParserClasses() {
+    return customParserClasses;
+  }
+
   private void analyzeTypeAndSubtypes(final Class<?> type) {
     if (!shouldAnalyzeType(type)) {
       return;
@@ -137,6 +152,7 @@ public class TypeAnalyzer {
       addTypeForGeneration(type);
     } else {
       logger.info("Skipping parser generation for " + type.getName() + " (has custom parser)");
+      customParserClasses.add(type);
     }
 
     // Find and process superclasses
@@ -212,7 +228,7 @@ public class TypeAnalyzer {
     if (type instanceof Class<?>) {
       final Class<?> classType = (Class<?>) type;
       if (isUnsupportedType(classType)) {
-        throw new UnsupportedTypeException(classType.getName(), "type parameter/element", Object.class);
+        throw new UnsupportedTypeException(classType.getTypeName(), "type parameter/element", Object.class);
       }
       analyzeTypeAndSubtypes(classType);
     } else if (type instanceof ParameterizedType) {
@@ -224,7 +240,7 @@ public class TypeAnalyzer {
       // Analyze all type arguments recursively
       for (final Type typeArg : paramType.getActualTypeArguments()) {
         if (typeArg instanceof Class<?> && isUnsupportedType((Class<?>) typeArg)) {
-          throw new UnsupportedTypeException(((Class<?>) typeArg).getName(), "type parameter/element", Object.class);
+          throw new UnsupportedTypeException(((Class<?>) typeArg).getTypeName(), "type parameter/element", Object.class);
         }
         analyzeType(typeArg);
       }
@@ -33,6 +33,6 @@ public class UnsupportedTypeException extends RuntimeException {
    *                        type
    */
   public UnsupportedTypeException(Class<?> type, String fieldName, Class<?> containingClass) {
-    this(type.getName(), fieldName, containingClass);
+    this(type.getTypeName(), fieldName, containingClass);
   }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package nl.aerius.codegen.generator;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeSpec;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+import nl.aerius.codegen.util.ClassFinder;
+import nl.aerius.codegen.util.Logger;
+
+/**
+ * Generates the enum decoders, which convert a JSON string to an enum constant with a switch on the JSON names of the
+ * constants. Each enum gets one static {@code decode<Enum>(String)} method in a generated {@code EnumDecoders} class, called
+ * by every field, element and map key of that enum in all parsers, instead of expanding the switch inline at every use.
+ */
+public final class EnumDecoderWriterUtils {
+  private static final String STRING_PARAM_NAME = "json";
+  private static final String RESULT_VAR_NAME = "value";
+
+  // Decoder methods by their name, in the order they were created
+  private static final Map<String, MethodSpec> DECODERS = new LinkedHashMap<>();
+  // Decoder method names by the enum they decode
+  private static final Map<Class<?>, String> DECODER_NAMES = new HashMap<>();
+
+  private EnumDecoderWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Forgets the decoders of a previous run.
+   */
+  static void reset() {
+    DECODERS.clear();
+    DECODER_NAMES.clear();
+  }
+
+  /**
+   * @return true if any decoder was created since the last reset
+   */
+  static boolean hasDecoders() {
+    return !DECODERS.isEmpty();
+  }
+
+  /**
+   * Declares {@code resultVarName} holding the enum constant decoded from the string {@code strExpression}, through the
+   * decoder of the enum, creating the decoder if this is the first use of the enum. Null values decode to null, unknown values
+   * through the {@code @JsonCreator} method of the enum if it has one and to null otherwise.
+   *
+   * @param code          The code block builder to add the call to.
+   * @param enumType      The enum class to decode.
+   * @param strExpression Expression of the JSON string, may be null at runtime.
+   * @param resultVarName Name of the enum variable to declare.
+   * @param parserPackage The package of the generated parsers.
+   * @param classFinder   Util to get the class based on the name
+   * @param logger        Logger to log progress
+   */
+  public static void addDecoderCall(final CodeBlock.Builder code, final Class<?> enumType, final CodeBlock strExpression,
+      final String resultVarName,
+      final String parserPackage, final ClassFinder classFinder, final Logger logger) {
+    String decoderName = DECODER_NAMES.get(enumType);
+    if (decoderName == null) {
+      decoderName = createDecoder(enumType, classFinder, logger);
+      DECODER_NAMES.put(enumType, decoderName);
+    }
+    code.addStatement("final $T $L = $T.$L($L)", enumType, resultVarName, ParserCommonUtils.getEnumDecoders(parserPackage), decoderName,
+        strExpression);
+  }
+
+  /**
+   * Creates the class holding all decoders created since the last reset.
+   */
+  static TypeSpec createEnumDecodersTypeSpec(final String parserPackage, final String generatorName, final String generatorDetails) {
+    return ParserWriterUtils.createParserTypeSpec(ParserCommonUtils.getEnumDecoders(parserPackage).simpleName(), generatorName,
+        generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethods(DECODERS.values())
+        .build();
+  }
+
+  private static String createDecoder(final Class<?> enumType, final ClassFinder classFinder, final Logger logger) {
+    // Enums with the same simple name in different packages get a numbered decoder
+    String decoderName = "decode" + enumType.getSimpleName();
+    for (int i = 2; DECODERS.containsKey(decoderName); i++) {
+      decoderName = "decode" + enumType.getSimpleName() + i;
+    }
+
+    final CodeBlock.Builder body = CodeBlock.builder();
+    ParserCommonUtils.addEnumDecoding(body, enumType, STRING_PARAM_NAME, RESULT_VAR_NAME, classFinder, logger);
+    body.addStatement("return $L", RESULT_VAR_NAME);
+
+    DECODERS.put(decoderName, MethodSpec.methodBuilder(decoderName)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(enumType)
+        .addParameter(String.class, STRING_PARAM_NAME, Modifier.FINAL)
+        .addCode(body.build())
+        .build());
+    return decoderName;
+  }
+}
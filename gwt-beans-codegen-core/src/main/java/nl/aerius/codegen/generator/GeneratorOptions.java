@@ -0,0 +1,412 @@
+package nl.aerius.codegen.generator;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTargets;
+
+/**
+ * Optional generation modes for the parser generator.
+ * All modes are disabled by default.
+ */
+public class GeneratorOptions {
+  /**
+   * Default maximum number of distinct strings kept in the string pool.
+   */
+  public static final int DEFAULT_STRING_POOL_SIZE = 1024;
+  /**
+   * Default maximum estimated bytecode size of the code parsing the fields of a type in one method, matching the
+   * HugeMethodLimit of the JIT.
+   */
+  public static final int DEFAULT_METHOD_SIZE_LIMIT = 8000;
+
+  private boolean keyDrivenParsing;
+  private boolean streamingParsing;
+  private boolean indexedLoops;
+  private boolean flattenInheritance;
+  private boolean mergeParsing;
+  private boolean generateWriters;
+  private boolean generateOverlays;
+  private boolean lenientParsing;
+  private boolean fieldProjection;
+  private boolean generateRegistry;
+  private boolean sharedHelpers;
+  private boolean tableDriven;
+  private boolean singleLookup;
+  private boolean primitiveAccessors;
+  private final Set<String> lazyTypes = new HashSet<>();
+  private final Set<String> lazyFields = new HashSet<>();
+  private final Set<String> internTypes = new HashSet<>();
+  private final Set<String> internFields = new HashSet<>();
+  private int stringPoolSize = DEFAULT_STRING_POOL_SIZE;
+  private int parallelParsingThreshold;
+  private int methodSizeLimit = DEFAULT_METHOD_SIZE_LIMIT;
+  private JsonRuntimeTarget runtimeTarget = JsonRuntimeTargets.getDefault();
+
+  /**
+   * @return true if setter-based parsers loop once over the keys of the JSON object and dispatch on the key with a
+   *         switch, instead of looking up each field of the model
+   */
+  public boolean isKeyDrivenParsing() {
+    return keyDrivenParsing;
+  }
+
+  public GeneratorOptions setKeyDrivenParsing(final boolean keyDrivenParsing) {
+    this.keyDrivenParsing = keyDrivenParsing;
+    return this;
+  }
+
+  /**
+   * @return true if every parser also gets a parse(JsonParser) overload that reads from a streaming Jackson parser without
+   *         building a tree first. This is only usable on the JVM.
+   */
+  public boolean isStreamingParsing() {
+    return streamingParsing;
+  }
+
+  public GeneratorOptions setStreamingParsing(final boolean streamingParsing) {
+    this.streamingParsing = streamingParsing;
+    return this;
+  }
+
+  /**
+   * @return true if arrays, collections and maps are parsed with plain for loops over the indices or keys, instead of
+   *         forEach calls with lambdas
+   */
+  public boolean isIndexedLoops() {
+    return indexedLoops;
+  }
+
+  public GeneratorOptions setIndexedLoops(final boolean indexedLoops) {
+    this.indexedLoops = indexedLoops;
+    return this;
+  }
+
+  /**
+   * @return true if setter-based parsers parse the fields of their parent classes themselves in a single pass over the JSON
+   *         keys, instead of calling the parser of each parent class
+   */
+  public boolean isFlattenInheritance() {
+    return flattenInheritance;
+  }
+
+  public GeneratorOptions setFlattenInheritance(final boolean flattenInheritance) {
+    this.flattenInheritance = flattenInheritance;
+    return this;
+  }
+
+  /**
+   * @return true if setter-based parsers also get a merge(JSONObjectHandle, T) method that applies a JSON Merge Patch to an
+   *         existing object, updating it in place
+   */
+  public boolean isMergeParsing() {
+    return mergeParsing;
+  }
+
+  public GeneratorOptions setMergeParsing(final boolean mergeParsing) {
+    this.mergeParsing = mergeParsing;
+    return this;
+  }
+
+  /**
+   * @return true if a writer is generated next to every generated parser, which appends the JSON of an object to a
+   *         StringBuilder
+   */
+  public boolean isGenerateWriters() {
+    return generateWriters;
+  }
+
+  public GeneratorOptions setGenerateWriters(final boolean generateWriters) {
+    this.generateWriters = generateWriters;
+    return this;
+  }
+
+  /**
+   * @return true if native JsInterop overlays are generated for the types whose JSON can be used without parsing, which
+   *         view the result of JSON.parse as the model without copying it
+   */
+  public boolean isGenerateOverlays() {
+    return generateOverlays;
+  }
+
+  public GeneratorOptions setGenerateOverlays(final boolean generateOverlays) {
+    this.generateOverlays = generateOverlays;
+    return this;
+  }
+
+  /**
+   * @return true if every parse method also takes a ParseErrors sink, and elements of collections, arrays and maps that fail
+   *         to parse are recorded in the sink and skipped, instead of aborting the whole parse
+   */
+  public boolean isLenientParsing() {
+    return lenientParsing;
+  }
+
+  public GeneratorOptions setLenientParsing(final boolean lenientParsing) {
+    this.lenientParsing = lenientParsing;
+    return this;
+  }
+
+  /**
+   * @return true if the parse methods also take a Projection selecting the fields to parse, so unselected fields and
+   *         everything in them are skipped
+   */
+  public boolean isFieldProjection() {
+    return fieldProjection;
+  }
+
+  public GeneratorOptions setFieldProjection(final boolean fieldProjection) {
+    this.fieldProjection = fieldProjection;
+    return this;
+  }
+
+  /**
+   * @return true if a ParserRegistry is generated that parses a JSON object as a type given by its Class, dispatching to the
+   *         generated or custom parser of the type without reflection
+   */
+  public boolean isGenerateRegistry() {
+    return generateRegistry;
+  }
+
+  public GeneratorOptions setGenerateRegistry(final boolean generateRegistry) {
+    this.generateRegistry = generateRegistry;
+    return this;
+  }
+
+  /**
+   * @return true if nested generic shapes, like a map of maps, are parsed by a helper in a shared ParserHelpers class that
+   *         is generated once per distinct shape, instead of inline at every field of that shape
+   */
+  public boolean isSharedHelpers() {
+    return sharedHelpers;
+  }
+
+  public GeneratorOptions setSharedHelpers(final boolean sharedHelpers) {
+    this.sharedHelpers = sharedHelpers;
+    return this;
+  }
+
+  /**
+   * @return true if setter-based parsers hold a table of their fields that is walked by a shared interpreter, instead of
+   *         generated code per field, for a smaller output at the cost of some parsing speed. The interpreter looks the
+   *         fields up with getOrAbsent() and reads them with the primitive getters, as with {@link #isSingleLookup()} and
+   *         {@link #isPrimitiveAccessors()}.
+   */
+  public boolean isTableDriven() {
+    return tableDriven;
+  }
+
+  public GeneratorOptions setTableDriven(final boolean tableDriven) {
+    this.tableDriven = tableDriven;
+    return this;
+  }
+
+  /**
+   * @return true if each field is looked up once with getOrAbsent(), and read from the returned JSONValueHandle, instead of
+   *         with has(), isNull() and a getter by key. The JSON handles must offer getOrAbsent() and JSONValueHandle. The
+   *         table-driven mode always reads fields this way.
+   */
+  public boolean isSingleLookup() {
+    return singleLookup || tableDriven;
+  }
+
+  public GeneratorOptions setSingleLookup(final boolean singleLookup) {
+    this.singleLookup = singleLookup;
+    return this;
+  }
+
+  /**
+   * @return true if primitive fields are read with the primitive getters of the JSON handles (getInt(), getLongValue(),
+   *         getDouble() and getBooleanValue()) instead of the boxed getters, and primitive arrays are filled by index with
+   *         length() and the getters by index of JSONArrayHandle instead of through a forEach method and a temporary list.
+   *         The JSON handles must offer these getters. The table-driven mode always reads values this way.
+   */
+  public boolean isPrimitiveAccessors() {
+    return primitiveAccessors || tableDriven;
+  }
+
+  public GeneratorOptions setPrimitiveAccessors(final boolean primitiveAccessors) {
+    this.primitiveAccessors = primitiveAccessors;
+    return this;
+  }
+
+  /**
+   * @return fully qualified names of the types that are parsed lazily wherever they are the type of a field
+   */
+  public Set<String> getLazyTypes() {
+    return lazyTypes;
+  }
+
+  public GeneratorOptions setLazyTypes(final Collection<String> lazyTypes) {
+    this.lazyTypes.clear();
+    this.lazyTypes.addAll(lazyTypes);
+    return this;
+  }
+
+  /**
+   * @return fields that are parsed lazily, as the fully qualified name of the declaring class and the field name separated
+   *         by a {@code #}, for example {@code com.example.Config#details}
+   */
+  public Set<String> getLazyFields() {
+    return lazyFields;
+  }
+
+  public GeneratorOptions setLazyFields(final Collection<String> lazyFields) {
+    this.lazyFields.clear();
+    this.lazyFields.addAll(lazyFields);
+    return this;
+  }
+
+  public boolean isLazyType(final Class<?> type) {
+    return lazyTypes.contains(type.getName()) || lazyTypes.contains(type.getCanonicalName());
+  }
+
+  public boolean isLazyField(final Field field) {
+    final Class<?> declaringClass = field.getDeclaringClass();
+    return lazyFields.contains(declaringClass.getName() + "#" + field.getName())
+        || lazyFields.contains(declaringClass.getCanonicalName() + "#" + field.getName());
+  }
+
+  /**
+   * @return fully qualified names of the types of which all String values of the fields are deduplicated through the string
+   *         pool while parsing
+   */
+  public Set<String> getInternTypes() {
+    return internTypes;
+  }
+
+  public GeneratorOptions setInternTypes(final Collection<String> internTypes) {
+    this.internTypes.clear();
+    this.internTypes.addAll(internTypes);
+    return this;
+  }
+
+  /**
+   * @return fields of which the String values are deduplicated through the string pool while parsing, as the fully qualified
+   *         name of the declaring class and the field name separated by a {@code #}, for example {@code com.example.Config#unit}
+   */
+  public Set<String> getInternFields() {
+    return internFields;
+  }
+
+  public GeneratorOptions setInternFields(final Collection<String> internFields) {
+    this.internFields.clear();
+    this.internFields.addAll(internFields);
+    return this;
+  }
+
+  /**
+   * @return maximum number of distinct strings kept in the string pool, the least recently used string is evicted when the
+   *         pool is full
+   */
+  public int getStringPoolSize() {
+    return stringPoolSize;
+  }
+
+  public GeneratorOptions setStringPoolSize(final int stringPoolSize) {
+    if (stringPoolSize <= 0) {
+      throw new IllegalArgumentException("String pool size must be positive: " + stringPoolSize);
+    }
+    this.stringPoolSize = stringPoolSize;
+    return this;
+  }
+
+  /**
+   * @return minimum number of elements of a collection or array of objects to parse its elements in parallel on the
+   *         common ForkJoinPool, or 0 if everything is parsed on the calling thread. Parallel parsing is only usable on the
+   *         JVM, and is not applied in lenient mode.
+   */
+  public int getParallelParsingThreshold() {
+    return parallelParsingThreshold;
+  }
+
+  public GeneratorOptions setParallelParsingThreshold(final int parallelParsingThreshold) {
+    if (parallelParsingThreshold < 0) {
+      throw new IllegalArgumentException("Parallel parsing threshold must not be negative: " + parallelParsingThreshold);
+    }
+    this.parallelParsingThreshold = parallelParsingThreshold;
+    return this;
+  }
+
+  /**
+   * @return true if large collections and arrays of objects are parsed in parallel, in which case the parallel parsing
+   *         helper class is generated
+   */
+  public boolean isParallelParsing() {
+    return parallelParsingThreshold > 0;
+  }
+
+  /**
+   * @return maximum estimated bytecode size in bytes of the generated code parsing the fields of a type in one method. The
+   *         fields of a type with more code are parsed in several private methods, so each stays below the size the JIT
+   *         refuses to compile. The size is estimated from the generated source, calibrated on the bytecode javac emits for
+   *         it, and errs on the large side.
+   */
+  public int getMethodSizeLimit() {
+    return methodSizeLimit;
+  }
+
+  public GeneratorOptions setMethodSizeLimit(final int methodSizeLimit) {
+    if (methodSizeLimit <= 0) {
+      throw new IllegalArgumentException("Method size limit must be positive: " + methodSizeLimit);
+    }
+    this.methodSizeLimit = methodSizeLimit;
+    return this;
+  }
+
+  /**
+   * @return the JSON API the generated parsers read from, deciding the handle types, accessors and iteration idioms
+   */
+  public JsonRuntimeTarget getRuntimeTarget() {
+    return runtimeTarget;
+  }
+
+  public GeneratorOptions setRuntimeTarget(final JsonRuntimeTarget runtimeTarget) {
+    if (runtimeTarget == null) {
+      throw new IllegalArgumentException("Runtime target must not be null");
+    }
+    this.runtimeTarget = runtimeTarget;
+    return this;
+  }
+
+  /**
+   * @return true if any type or field deduplicates its strings, in which case the string pool class is generated
+   */
+  public boolean isStringInterning() {
+    return !internTypes.isEmpty() || !internFields.isEmpty();
+  }
+
+  public boolean isInternField(final Field field) {
+    final Class<?> declaringClass = field.getDeclaringClass();
+    return internTypes.contains(declaringClass.getName())
+        || internTypes.contains(declaringClass.getCanonicalName())
+        || internFields.contains(declaringClass.getName() + "#" + field.getName())
+        || internFields.contains(declaringClass.getCanonicalName() + "#" + field.getName());
+  }
+
+  /**
+   * @return a description of each enabled mode that does not apply to the code generated by another enabled mode, to warn
+   *         about before generating
+   */
+  public List<String> getIgnoredModes() {
+    final List<String> ignored = new ArrayList<>();
+    if (streamingParsing) {
+      if (lenientParsing) {
+        ignored.add("Lenient parsing is not applied to the streaming parse methods, they have no ParseErrors overload");
+      }
+      if (fieldProjection) {
+        ignored.add("Field projection is not applied to the streaming parse methods, they have no Projection overload");
+      }
+      if (flattenInheritance) {
+        ignored.add("Flatten inheritance is not applied to the streaming parse methods, they pass inherited fields to the parser of the "
+            + "parent class");
+      }
+    }
+    return ignored;
+  }
+}
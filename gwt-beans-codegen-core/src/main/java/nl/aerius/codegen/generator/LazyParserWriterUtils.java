@@ -0,0 +1,211 @@
+package nl.aerius.codegen.generator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+import com.palantir.javapoet.TypeVariableName;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
+import nl.aerius.codegen.util.ClassFinder;
+
+/**
+ * Generates lazy parsing of nested objects. A field configured as lazy gets a generated subclass of its type that keeps the
+ * JSON object and only parses it on the first method call.
+ *
+ * Only setter-based, non-polymorphic types without a custom parser that can be subclassed are parsed lazily; other types are
+ * parsed as usual. Types overriding equals are parsed as usual as well: equals reads the fields of the other instance
+ * directly, which a lazy instance has not parsed yet. Lazy parsing is not applied with lenient parsing or field projection,
+ * as the deferred parse has no error sink or projection of the original call to pass on.
+ */
+final class LazyParserWriterUtils {
+  private static final String LAZY_CLASS_NAME = "Lazy";
+  private static final String LAZY_PARSE_METHOD_NAME = "parseLazy";
+  private static final String LAZY_JSON_FIELD_NAME = "lazyJson";
+  private static final String MATERIALIZE_METHOD_NAME = "materialize";
+
+  private LazyParserWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * @return true if the field is configured as lazy, either by itself or by its type, and its type can be parsed lazily
+   */
+  static boolean isLazyField(final Field field) {
+    final GeneratorOptions options = ParserWriterUtils.getOptions();
+    return isLazyParsing(options)
+        && field.getGenericType() instanceof Class<?>
+        && (options.isLazyField(field) || options.isLazyType(field.getType()))
+        && supportsLazyParsing(field.getType());
+  }
+
+  /**
+   * @return true if the parser of the target class needs the lazy subclass and parseLazy method
+   */
+  static boolean isLazyTarget(final Class<?> targetClass, final ClassFinder classFinder) {
+    final GeneratorOptions options = ParserWriterUtils.getOptions();
+    if (!isLazyParsing(options) || !supportsLazyParsing(targetClass)) {
+      return false;
+    }
+    return options.isLazyType(targetClass) || findLazyFieldTypes(options, classFinder).contains(targetClass);
+  }
+
+  /**
+   * Generates the code parsing a lazy field and passing the result to the setter of the config object.
+   */
+  static void addLazyFieldParsingCode(final CodeBlock.Builder code, final Field field, final String parserPackage) {
+    code.addStatement("final $T value = $T.$L($L)", field.getType(),
+        ParserWriterUtils.determineParserClassName(field.getType(), parserPackage), LAZY_PARSE_METHOD_NAME,
+        ParserCommonUtils.createFieldValueAccessCode(ValueKind.OBJECT, ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName()));
+    code.addStatement("config.set$L(value)", ParserCommonUtils.capitalize(field.getName()));
+  }
+
+  /**
+   * Adds the parseLazy method and the lazy subclass to the parser type specification.
+   */
+  static void addLazyParseMethods(final TypeSpec.Builder typeSpec, final Class<?> targetClass, final ClassName parserClassName) {
+    final ClassName targetClassName = ClassName.get(targetClass);
+    final ClassName lazyClassName = parserClassName.nestedClass(LAZY_CLASS_NAME);
+
+    typeSpec.addMethod(MethodSpec.methodBuilder(LAZY_PARSE_METHOD_NAME)
+        .addJavadoc("Returns an instance that parses the JSON object on the first method call.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(targetClassName)
+        .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL)
+        .addStatement("return $L == null ? null : new $T($L)", ParserCommonUtils.BASE_OBJECT_PARAM_NAME, lazyClassName,
+            ParserCommonUtils.BASE_OBJECT_PARAM_NAME)
+        .build());
+
+    final TypeSpec.Builder lazyClass = TypeSpec.classBuilder(LAZY_CLASS_NAME)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .superclass(targetClassName)
+        .addField(ParserCommonUtils.getJSONObjectHandle(), LAZY_JSON_FIELD_NAME, Modifier.PRIVATE);
+
+    lazyClass.addMethod(MethodSpec.constructorBuilder()
+        .addParameter(ParserCommonUtils.getJSONObjectHandle(), LAZY_JSON_FIELD_NAME, Modifier.FINAL)
+        .addStatement("this.$L = $L", LAZY_JSON_FIELD_NAME, LAZY_JSON_FIELD_NAME)
+        .build());
+
+    // The JSON object is released before parsing, so the setters called while parsing don't parse again
+    lazyClass.addMethod(MethodSpec.methodBuilder(MATERIALIZE_METHOD_NAME)
+        .addModifiers(Modifier.PRIVATE)
+        .beginControlFlow("if ($L != null)", LAZY_JSON_FIELD_NAME)
+        .addStatement("final $T json = $L", ParserCommonUtils.getJSONObjectHandle(), LAZY_JSON_FIELD_NAME)
+        .addStatement("$L = null", LAZY_JSON_FIELD_NAME)
+        .addStatement("$T.parse(json, this)", parserClassName)
+        .endControlFlow()
+        .build());
+
+    for (final Method method : targetClass.getMethods()) {
+      if (isOverridable(method)) {
+        lazyClass.addMethod(createMaterializingOverride(method));
+      }
+    }
+
+    typeSpec.addType(lazyClass.build());
+  }
+
+  private static boolean isLazyParsing(final GeneratorOptions options) {
+    return !options.isLenientParsing() && !options.isFieldProjection();
+  }
+
+  private static boolean supportsLazyParsing(final Class<?> type) {
+    final int modifiers = type.getModifiers();
+    return java.lang.reflect.Modifier.isPublic(modifiers)
+        && !java.lang.reflect.Modifier.isFinal(modifiers)
+        && !java.lang.reflect.Modifier.isAbstract(modifiers)
+        && !type.isInterface()
+        && !type.isEnum()
+        && !type.isRecord()
+        && (type.getEnclosingClass() == null || java.lang.reflect.Modifier.isStatic(modifiers))
+        && type.getTypeParameters().length == 0
+        && hasAccessibleNoArgConstructor(type)
+        && !ParserWriterUtils.hasJsonTypeInfoWithNameDiscriminator(type)
+        && !ParserWriterUtils.hasCustomParser(type.getSimpleName())
+        && ParserWriterUtils.findConstructorInfo(type).isEmpty()
+        && !overridesEquals(type);
+  }
+
+  private static boolean overridesEquals(final Class<?> type) {
+    try {
+      return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean hasAccessibleNoArgConstructor(final Class<?> type) {
+    try {
+      final int modifiers = type.getDeclaredConstructor().getModifiers();
+      return java.lang.reflect.Modifier.isPublic(modifiers) || java.lang.reflect.Modifier.isProtected(modifiers);
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static Set<Class<?>> findLazyFieldTypes(final GeneratorOptions options, final ClassFinder classFinder) {
+    final Set<Class<?>> types = new HashSet<>();
+    for (final String lazyField : options.getLazyFields()) {
+      final int separator = lazyField.indexOf('#');
+      if (separator > 0) {
+        try {
+          types.add(classFinder.forName(lazyField.substring(0, separator)).getDeclaredField(lazyField.substring(separator + 1)).getType());
+        } catch (final ClassNotFoundException | NoSuchFieldException e) {
+          // Unknown field, it will not match any field either
+        }
+      }
+    }
+    return types;
+  }
+
+  private static boolean isOverridable(final Method method) {
+    final int modifiers = method.getModifiers();
+    return method.getDeclaringClass() != Object.class
+        && !java.lang.reflect.Modifier.isStatic(modifiers)
+        && !java.lang.reflect.Modifier.isFinal(modifiers)
+        && !method.isBridge()
+        && !method.isSynthetic();
+  }
+
+  /**
+   * Creates an override of the method that parses the JSON object before calling the super implementation.
+   */
+  private static MethodSpec createMaterializingOverride(final Method method) {
+    final MethodSpec.Builder builder = MethodSpec.methodBuilder(method.getName())
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PUBLIC)
+        .returns(TypeName.get(method.getGenericReturnType()));
+
+    for (final TypeVariable<Method> typeVariable : method.getTypeParameters()) {
+      builder.addTypeVariable(TypeVariableName.get(typeVariable));
+    }
+    final StringBuilder arguments = new StringBuilder();
+    for (final Parameter parameter : method.getParameters()) {
+      builder.addParameter(TypeName.get(parameter.getParameterizedType()), parameter.getName(), Modifier.FINAL);
+      arguments.append(arguments.length() == 0 ? "" : ", ").append(parameter.getName());
+    }
+    for (final Type exceptionType : method.getGenericExceptionTypes()) {
+      builder.addException(TypeName.get(exceptionType));
+    }
+
+    builder.addStatement("$L()", MATERIALIZE_METHOD_NAME);
+    if (method.getReturnType() == void.class) {
+      builder.addStatement("super.$L($L)", method.getName(), arguments);
+    } else {
+      builder.addStatement("return super.$L($L)", method.getName(), arguments);
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,226 @@
+package nl.aerius.codegen.generator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.MethodSpec;
+
+import nl.aerius.codegen.analyzer.ConstructorAnalyzer;
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
+
+/**
+ * Generates merge methods that apply a JSON Merge Patch (RFC 7396) to an existing object.
+ *
+ * Fields absent from the patch are left untouched, fields set to null are cleared and other fields are replaced. Nested
+ * objects with a generated setter-based parser are merged in place, as are maps with String keys, recursively for values that
+ * are maps with String keys themselves. Arrays and collections are replaced as a whole, as the RFC prescribes. Primitive fields
+ * can't be cleared, a null value leaves them untouched.
+ */
+final class MergeParserWriterUtils {
+  private static final String MERGE_METHOD_NAME = "merge";
+  private static final String EXISTING_PARAM_NAME = "existing";
+
+  private MergeParserWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Creates the merge method for a setter-based parser.
+   *
+   * The fields of a superclass are merged by the merge method of its parser. A superclass without one, because it has a custom
+   * parser or is created through its constructor, is not merged but parsed into the existing object with
+   * {@code Parent.parse(baseObj, existing)}: its fields in the patch replace the existing values as a whole, without merging
+   * nested objects and maps, and a custom parser may also reset fields that are absent from the patch.
+   */
+  static MethodSpec createMergeMethod(final Class<?> targetClass, final String parserPackage) {
+    final ClassName targetClassName = ClassName.get(targetClass);
+    final String baseObj = ParserCommonUtils.BASE_OBJECT_PARAM_NAME;
+    final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(MERGE_METHOD_NAME)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(targetClassName)
+        .addParameter(ParserCommonUtils.getJSONObjectHandle(), baseObj, Modifier.FINAL)
+        .addParameter(targetClassName, EXISTING_PARAM_NAME, Modifier.FINAL);
+
+    methodBuilder.beginControlFlow("if ($L == null)", baseObj)
+        .addStatement("return $L", EXISTING_PARAM_NAME)
+        .endControlFlow();
+    methodBuilder.beginControlFlow("if ($L == null)", EXISTING_PARAM_NAME)
+        .addStatement("return parse($L)", baseObj)
+        .endControlFlow();
+
+    final Class<?> superclass = targetClass.getSuperclass();
+    if (superclass != null && superclass != Object.class) {
+      methodBuilder.addCode("\n");
+      if (isMergeable(superclass)) {
+        methodBuilder.addComment("Merge fields from parent class ($L)", superclass.getSimpleName())
+            .addStatement("$T.merge($L, $L)", ParserWriterUtils.determineParserClassName(superclass, parserPackage), baseObj,
+                EXISTING_PARAM_NAME);
+      } else {
+        methodBuilder.addComment("Parse fields from parent class ($L)", superclass.getSimpleName())
+            .addStatement("$T.parse($L, $L)", ParserWriterUtils.determineParserClassName(superclass, parserPackage), baseObj,
+                EXISTING_PARAM_NAME);
+      }
+    }
+
+    if (ParserWriterUtils.getOptions().isLenientParsing()) {
+      // Values replaced by a patch are parsed as a whole, failing on the first error
+      final ClassName parseErrors = ParserCommonUtils.getParseErrors(parserPackage);
+      methodBuilder.addStatement("final $T $L = $T.failFast()", parseErrors, ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, parseErrors);
+    }
+
+    for (final Field field : ConstructorAnalyzer.getParseableFields(targetClass)) {
+      methodBuilder.addCode("\n");
+      methodBuilder.addComment("Merge $L", field.getName());
+      methodBuilder.addCode(ParserWriterUtils.generateForField(field, () -> createFieldMergeCode(targetClass, field, parserPackage)));
+    }
+
+    methodBuilder.addStatement("return $L", EXISTING_PARAM_NAME);
+    return methodBuilder.build();
+  }
+
+  /**
+   * @return true if a merge method is generated for the type, so existing instances can be merged in place
+   */
+  static boolean isMergeable(final Class<?> type) {
+    return !type.isInterface()
+        && !type.isEnum()
+        && !type.isPrimitive()
+        && !type.isArray()
+        && !type.getName().startsWith("java.")
+        && !ParserWriterUtils.hasCustomParser(type.getSimpleName())
+        && ParserWriterUtils.findConstructorInfo(type).isEmpty();
+  }
+
+  private static CodeBlock createFieldMergeCode(final Class<?> targetClass, final Field field, final String parserPackage) {
+    final String baseObj = ParserCommonUtils.BASE_OBJECT_PARAM_NAME;
+    final String setter = "set" + ParserCommonUtils.capitalize(field.getName());
+    final Method getter = ParserCommonUtils.findGetter(targetClass, field);
+    final CodeBlock.Builder code = CodeBlock.builder();
+
+    code.add(ParserCommonUtils.createFieldHandleDeclaration(baseObj, field.getName()));
+    final CodeBlock present = ParserCommonUtils.createFieldPresentCheck(baseObj, field.getName());
+    final CodeBlock isNull = ParserCommonUtils.createFieldNullCheck(baseObj, field.getName());
+    if (ParserCommonUtils.isPrimitiveType(field.getGenericType())) {
+      code.beginControlFlow("if ($L && !$L)", present, isNull);
+    } else {
+      code.beginControlFlow("if ($L)", present)
+          .beginControlFlow("if ($L)", isNull)
+          .addStatement("$L.$L(null)", EXISTING_PARAM_NAME, setter)
+          .nextControlFlow("else");
+    }
+
+    if (getter != null && isMergeableField(field)) {
+      code.addStatement("final $T value = $T.merge($L, $L.$L())", field.getType(),
+          ParserWriterUtils.determineParserClassName(field.getType(), parserPackage),
+          ParserCommonUtils.createFieldValueAccessCode(ValueKind.OBJECT, baseObj, field.getName()),
+          EXISTING_PARAM_NAME, getter.getName());
+      code.addStatement("$L.$L(value)", EXISTING_PARAM_NAME, setter);
+    } else if (getter != null && isStringKeyedMap(field.getGenericType())) {
+      addMapMergeCode(code, field, getter, setter, parserPackage);
+    } else {
+      final String resultVar = ParserWriterUtils.addFieldValueParsingCode(code, field, parserPackage);
+      code.addStatement("$L.$L($L)", EXISTING_PARAM_NAME, setter, resultVar);
+    }
+
+    if (!ParserCommonUtils.isPrimitiveType(field.getGenericType())) {
+      code.endControlFlow(); // End if (isNull)
+    }
+    code.endControlFlow(); // End if (has)
+    return code.build();
+  }
+
+  /**
+   * Merges the entries of the patch into the existing map: null values remove the entry, other values replace it, or are
+   * merged into the existing value if that is a mergeable object or a map with String keys.
+   */
+  private static void addMapMergeCode(final CodeBlock.Builder code, final Field field, final Method getter, final String setter,
+      final String parserPackage) {
+    final String patchVar = "patchObj";
+    final String mapVar = "existingMap";
+
+    code.addStatement("final $T $L = $L.$L()", field.getGenericType(), mapVar, EXISTING_PARAM_NAME, getter.getName());
+    code.beginControlFlow("if ($L == null)", mapVar);
+    final String resultVar = ParserWriterUtils.addFieldValueParsingCode(code, field, parserPackage);
+    code.addStatement("$L.$L($L)", EXISTING_PARAM_NAME, setter, resultVar);
+    code.nextControlFlow("else");
+    code.addStatement("final $T $L = $L", ParserCommonUtils.getJSONObjectHandle(), patchVar,
+        ParserCommonUtils.createFieldValueAccessCode(ValueKind.OBJECT, ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName()));
+    addMapEntriesMergeCode(code, (ParameterizedType) field.getGenericType(), mapVar, patchVar, parserPackage, 1);
+    code.endControlFlow(); // End if (mapVar == null)
+  }
+
+  /**
+   * Merges the entries of the JSON object {@code patchVar} into the existing map {@code mapVar}, descending into values that
+   * are maps with String keys, where {@code depth} numbers the variables of each nested map.
+   */
+  private static void addMapEntriesMergeCode(final CodeBlock.Builder code, final ParameterizedType mapType, final String mapVar,
+      final String patchVar, final String parserPackage, final int depth) {
+    final Type valueType = mapType.getActualTypeArguments()[1];
+    final String suffix = depth == 1 ? "" : String.valueOf(depth);
+    final String keyVar = "key" + suffix;
+    final CodeBlock key = CodeBlock.of("$L", keyVar);
+    final CodeBlock keyExpression = ParserWriterUtils.internString(key, parserPackage);
+    final JsonRuntimeTarget target = ParserCommonUtils.getRuntimeTarget();
+
+    code.beginControlFlow("for (final $T $L : $L)", String.class, keyVar, target.keys(patchVar));
+    code.beginControlFlow("if ($L)", target.isNullMember(patchVar, key))
+        .addStatement("$L.remove($L)", mapVar, keyVar)
+        .nextControlFlow("else");
+    if (valueType instanceof Class<?> && isMergeable((Class<?>) valueType)
+        && !ParserWriterUtils.hasJsonTypeInfoWithNameDiscriminator((Class<?>) valueType)) {
+      code.addStatement("$L.put($L, $T.merge($L, $L.get($L)))", mapVar, keyExpression,
+          ParserWriterUtils.determineParserClassName(valueType, parserPackage),
+          target.readMember(ValueKind.OBJECT, patchVar, key), mapVar, keyVar);
+    } else if (isStringKeyedMap(valueType)) {
+      final String nestedMapVar = "existingMap" + (depth + 1);
+      final String nestedPatchVar = "patchObj" + (depth + 1);
+      code.addStatement("final $T $L = $L.get($L)", valueType, nestedMapVar, mapVar, keyVar);
+      code.beginControlFlow("if ($L == null)", nestedMapVar);
+      addMapValueParsingCode(code, valueType, mapVar, patchVar, keyExpression, key, parserPackage, depth);
+      code.nextControlFlow("else");
+      code.addStatement("final $T $L = $L", ParserCommonUtils.getJSONObjectHandle(), nestedPatchVar,
+          target.readMember(ValueKind.OBJECT, patchVar, key));
+      addMapEntriesMergeCode(code, (ParameterizedType) valueType, nestedMapVar, nestedPatchVar, parserPackage, depth + 1);
+      code.endControlFlow(); // End if (nestedMapVar == null)
+    } else {
+      addMapValueParsingCode(code, valueType, mapVar, patchVar, keyExpression, key, parserPackage, depth);
+    }
+    code.endControlFlow(); // End if (isNull)
+    code.endControlFlow(); // End for
+  }
+
+  private static void addMapValueParsingCode(final CodeBlock.Builder code, final Type valueType, final String mapVar,
+      final String patchVar, final CodeBlock keyExpression, final CodeBlock key, final String parserPackage, final int depth) {
+    final String valueVar = ParserWriterUtils.dispatchGenerateParsingCodeInto(code, valueType, patchVar, parserPackage,
+        ParserCommonUtils.createFieldAccessCode(valueType, patchVar, key), depth + 1, valueType);
+    code.addStatement("$L.put($L, $L)", mapVar, keyExpression, valueVar);
+  }
+
+  private static boolean isMergeableField(final Field field) {
+    return field.getGenericType() instanceof Class<?>
+        && !Iterable.class.isAssignableFrom(field.getType())
+        && !Map.class.isAssignableFrom(field.getType())
+        && !ParserWriterUtils.hasJsonTypeInfoWithNameDiscriminator(field.getType())
+        && !LazyParserWriterUtils.isLazyField(field)
+        && isMergeable(field.getType());
+  }
+
+  private static boolean isStringKeyedMap(final Type type) {
+    if (!(type instanceof ParameterizedType)) {
+      return false;
+    }
+    final ParameterizedType parameterizedType = (ParameterizedType) type;
+    return parameterizedType.getRawType() instanceof Class<?>
+        && Map.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())
+        && String.class.equals(parameterizedType.getActualTypeArguments()[0]);
+  }
+}
@@ -0,0 +1,415 @@
+package nl.aerius.codegen.generator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+import nl.aerius.codegen.analyzer.ConstructorAnalyzer;
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+import nl.aerius.codegen.util.ClassFinder;
+import nl.aerius.codegen.util.Logger;
+
+/**
+ * Generates native JsInterop overlays, interfaces that view the result of {@code JSON.parse} as the model without copying
+ * it into beans. The overlay of a type has a {@code @JsProperty} getter per field and extends the overlay of its superclass.
+ *
+ * Getters return the JavaScript representation: numbers as int or double, collections and arrays as {@code JsArrayLike}
+ * and maps as {@code JsPropertyMap}, with the elements as String, Double, Boolean or overlay. Fields whose Java type differs
+ * from their JavaScript representation, such as enums, longs and boxed integers, get an overlay method converting the value
+ * on every call, with the JSON value available from the getter ending in Json. Maps with enum or number keys get a lookup
+ * method converting the key. Enums are converted by a generated adapter, which can also convert enum elements.
+ *
+ * Only types whose JSON can be used as it is get an overlay. Polymorphic types need the type discriminator to choose the
+ * subtype, sets and maps with other keys need to be copied, and types with a custom parser have their own JSON format.
+ */
+final class OverlayWriterUtils {
+  private static final ClassName JS = ClassName.get("jsinterop.base", "Js");
+  private static final ClassName JS_PROPERTY_MAP = ClassName.get("jsinterop.base", "JsPropertyMap");
+  private static final ClassName JS_ARRAY_LIKE = ClassName.get("jsinterop.base", "JsArrayLike");
+  private static final ClassName GLOBAL = ClassName.get("elemental2.core", "Global");
+
+  private static final String PARSE_METHOD_NAME = "parse";
+  private static final String TEXT_PARAM_NAME = "jsonText";
+  private static final String JSON_GETTER_SUFFIX = "Json";
+  private static final String KEY_LOOKUP_SUFFIX = "For";
+  private static final String JSON_VAR = "json";
+  private static final String FROM_JSON_METHOD_NAME = "fromJson";
+  private static final String TO_JSON_METHOD_NAME = "toJson";
+
+  // Conversion of the Java types whose JSON value is a double, from the json variable
+  private static final Map<Class<?>, String> NUMBER_CONVERSIONS = new LinkedHashMap<>();
+
+  static {
+    NUMBER_CONVERSIONS.put(byte.class, "(byte) $1L");
+    NUMBER_CONVERSIONS.put(short.class, "(short) $1L");
+    NUMBER_CONVERSIONS.put(long.class, "(long) $1L");
+    NUMBER_CONVERSIONS.put(float.class, "(float) $1L");
+    NUMBER_CONVERSIONS.put(Byte.class, "$1L == null ? null : $1L.byteValue()");
+    NUMBER_CONVERSIONS.put(Short.class, "$1L == null ? null : $1L.shortValue()");
+    NUMBER_CONVERSIONS.put(Integer.class, "$1L == null ? null : $1L.intValue()");
+    NUMBER_CONVERSIONS.put(Long.class, "$1L == null ? null : $1L.longValue()");
+    NUMBER_CONVERSIONS.put(Float.class, "$1L == null ? null : $1L.floatValue()");
+  }
+
+  private OverlayWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * @return the simple name of the overlay interface for the target class
+   */
+  static String getOverlayClassName(final Class<?> targetClass) {
+    return targetClass.getSimpleName() + "Overlay";
+  }
+
+  /**
+   * @return the simple name of the adapter class for the enum
+   */
+  static String getAdapterClassName(final Class<?> enumType) {
+    return enumType.getSimpleName() + "Adapter";
+  }
+
+  /**
+   * Determines which of the types can't be viewed with an overlay. A type is incompatible when its own shape is, or when it
+   * references a type that is incompatible or has no generated parser.
+   *
+   * @param types the types parsers are generated for
+   * @return the reason each incompatible type has no overlay, by type
+   */
+  static Map<Class<?>, String> findIncompatibleTypes(final Collection<Class<?>> types) {
+    final Map<Class<?>, String> incompatible = new LinkedHashMap<>();
+    final Map<Class<?>, Set<Class<?>>> references = new LinkedHashMap<>();
+    for (final Class<?> type : types) {
+      final Set<Class<?>> referenced = new HashSet<>();
+      final String reason = findShapeIncompatibility(type, referenced);
+      if (reason == null) {
+        references.put(type, referenced);
+      } else {
+        incompatible.put(type, reason);
+      }
+    }
+
+    // Incompatibility spreads to the types referencing an incompatible type, until no more types are found
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (final Map.Entry<Class<?>, Set<Class<?>>> entry : references.entrySet()) {
+        if (incompatible.containsKey(entry.getKey())) {
+          continue;
+        }
+        for (final Class<?> referenced : entry.getValue()) {
+          if (incompatible.containsKey(referenced) || !references.containsKey(referenced)) {
+            incompatible.put(entry.getKey(), "references " + referenced.getSimpleName() + ", which "
+                + (incompatible.containsKey(referenced) ? "has no overlay" : "has a custom parser"));
+            changed = true;
+            break;
+          }
+        }
+      }
+    }
+    return incompatible;
+  }
+
+  /**
+   * Checks the type itself and its fields, collecting the other types it references.
+   *
+   * @return the reason the type is incompatible, or null if its own shape is compatible
+   */
+  private static String findShapeIncompatibility(final Class<?> type, final Set<Class<?>> referenced) {
+    if (ParserWriterUtils.hasJsonTypeInfoWithNameDiscriminator(type) || ParserWriterUtils.findPolymorphicSuperclass(type) != null) {
+      return "is polymorphic, which needs the type discriminator to choose the subtype";
+    } else if (type.isInterface()) {
+      return "is an interface, which has no fields to view";
+    }
+    final Set<String> superclassFields = new HashSet<>();
+    final Class<?> superclass = getModelSuperclass(type);
+    if (superclass != null) {
+      referenced.add(superclass);
+      for (Class<?> current = superclass; current != null && current != Object.class; current = current.getSuperclass()) {
+        ConstructorAnalyzer.getParseableFields(current).forEach(field -> superclassFields.add(field.getName()));
+      }
+    }
+    for (final Field field : ConstructorAnalyzer.getParseableFields(type)) {
+      if (superclassFields.contains(field.getName())) {
+        return "field '" + field.getName() + "' hides a field of a superclass";
+      }
+      final String reason = findTypeIncompatibility(field.getGenericType(), referenced);
+      if (reason != null) {
+        return "field '" + field.getName() + "' " + reason;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the superclass of the type that is part of the model, or null if it extends Object or is a record
+   */
+  private static Class<?> getModelSuperclass(final Class<?> type) {
+    final Class<?> superclass = type.getSuperclass();
+    return superclass == null || superclass == Object.class || superclass == Record.class ? null : superclass;
+  }
+
+  private static String findTypeIncompatibility(final Type type, final Set<Class<?>> referenced) {
+    if (type instanceof Class<?>) {
+      final Class<?> classType = (Class<?>) type;
+      if (classType.isArray()) {
+        return findTypeIncompatibility(classType.getComponentType(), referenced);
+      } else if (isScalar(classType) || classType.isEnum()) {
+        return null;
+      } else if (classType == Object.class || classType.getName().startsWith("java.")) {
+        return "is a " + classType.getSimpleName() + ", which has no JSON representation an overlay can view";
+      }
+      referenced.add(classType);
+      return null;
+    } else if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class<?>) {
+      final Class<?> rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+      final Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+      if (Map.class.isAssignableFrom(rawType)) {
+        if (!isLookupKey(typeArguments[0])) {
+          return "is a map with " + typeArguments[0].getTypeName() + " keys, which can't be looked up in the JSON object";
+        }
+        return findTypeIncompatibility(typeArguments[1], referenced);
+      } else if (Set.class.isAssignableFrom(rawType)) {
+        return "is a set, which can't view a JSON array without removing its duplicates";
+      } else if (Collection.class.isAssignableFrom(rawType)) {
+        return findTypeIncompatibility(typeArguments[0], referenced);
+      }
+    }
+    return "is of the generic type " + type.getTypeName();
+  }
+
+  private static boolean isScalar(final Class<?> type) {
+    return type.isPrimitive() || type == String.class || type == Boolean.class || type == Character.class
+        || Number.class.isAssignableFrom(type) && type.getName().startsWith("java.lang.");
+  }
+
+  /**
+   * @return true if the map key has a JSON key the overlay can compute: Strings, enums and integers
+   */
+  private static boolean isLookupKey(final Type keyType) {
+    return keyType == String.class || keyType instanceof Class<?> && ((Class<?>) keyType).isEnum()
+        || keyType == Integer.class || keyType == Long.class || keyType == Short.class || keyType == Byte.class;
+  }
+
+  /**
+   * Collects the enums used by the fields of the types, which get an adapter.
+   */
+  static Set<Class<?>> collectEnums(final Collection<Class<?>> types) {
+    final Set<Class<?>> enums = new TreeSet<>(Comparator.comparing(Class::getName));
+    for (final Class<?> type : types) {
+      for (final Field field : ConstructorAnalyzer.getParseableFields(type)) {
+        collectEnums(field.getGenericType(), enums);
+      }
+    }
+    return enums;
+  }
+
+  private static void collectEnums(final Type type, final Set<Class<?>> enums) {
+    if (type instanceof Class<?> && ((Class<?>) type).isArray()) {
+      collectEnums(((Class<?>) type).getComponentType(), enums);
+    } else if (type instanceof Class<?> && ((Class<?>) type).isEnum()) {
+      enums.add((Class<?>) type);
+    } else if (type instanceof ParameterizedType) {
+      for (final Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+        collectEnums(typeArgument, enums);
+      }
+    }
+  }
+
+  /**
+   * Creates the overlay interface of the target class, which must be compatible.
+   */
+  static TypeSpec createOverlayTypeSpec(final Class<?> targetClass, final String parserPackage, final String generatorName,
+      final String generatorDetails) {
+    final ClassName overlayName = ClassName.get(parserPackage, getOverlayClassName(targetClass));
+    final TypeSpec.Builder typeSpec = TypeSpec.interfaceBuilder(overlayName)
+        .addModifiers(Modifier.PUBLIC)
+        .addAnnotation(ParserCommonUtils.createGeneratedAnnotation(generatorName, generatorDetails))
+        .addAnnotation(AnnotationSpec.builder(JsType.class)
+            .addMember("isNative", "true")
+            .addMember("namespace", "$T.GLOBAL", JsPackage.class)
+            .addMember("name", "$S", "Object")
+            .build());
+
+    final Class<?> superclass = getModelSuperclass(targetClass);
+    if (superclass != null) {
+      typeSpec.addSuperinterface(ClassName.get(parserPackage, getOverlayClassName(superclass)));
+    }
+
+    typeSpec.addMethod(MethodSpec.methodBuilder(PARSE_METHOD_NAME)
+        .addJavadoc("Parses the JSON text with JSON.parse and views the result as $L, without copying it.\n", targetClass.getSimpleName())
+        .addAnnotation(JsOverlay.class)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(overlayName)
+        .addParameter(String.class, TEXT_PARAM_NAME, Modifier.FINAL)
+        .addStatement("return $T.uncheckedCast($T.JSON.parse($L))", JS, GLOBAL, TEXT_PARAM_NAME)
+        .build());
+
+    for (final Field field : ConstructorAnalyzer.getParseableFields(targetClass)) {
+      addFieldMethods(typeSpec, field, parserPackage);
+    }
+    return typeSpec.build();
+  }
+
+  private static void addFieldMethods(final TypeSpec.Builder typeSpec, final Field field, final String parserPackage) {
+    final Type fieldType = field.getGenericType();
+    final TypeName jsonType = getJsonType(fieldType, parserPackage, false);
+    final String getterName = (field.getType() == boolean.class ? "is" : "get") + ParserCommonUtils.capitalize(field.getName());
+    final CodeBlock conversion = createConversion(field.getType(), parserPackage);
+    final String jsonGetterName = conversion == null ? getterName : getterName + JSON_GETTER_SUFFIX;
+
+    typeSpec.addMethod(MethodSpec.methodBuilder(jsonGetterName)
+        .addAnnotation(AnnotationSpec.builder(JsProperty.class).addMember("name", "$S", field.getName()).build())
+        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+        .returns(jsonType)
+        .build());
+
+    if (conversion != null) {
+      typeSpec.addMethod(MethodSpec.methodBuilder(getterName)
+          .addAnnotation(JsOverlay.class)
+          .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+          .returns(TypeName.get(field.getType()))
+          .addStatement("final $T $L = $L()", jsonType, JSON_VAR, jsonGetterName)
+          .addStatement("return $L", conversion)
+          .build());
+    }
+
+    if (fieldType instanceof ParameterizedType && Map.class.isAssignableFrom(field.getType())) {
+      final Type keyType = ((ParameterizedType) fieldType).getActualTypeArguments()[0];
+      if (keyType != String.class) {
+        final CodeBlock jsonKey = ((Class<?>) keyType).isEnum()
+            ? CodeBlock.of("$T.$L(key)", ClassName.get(parserPackage, getAdapterClassName((Class<?>) keyType)), TO_JSON_METHOD_NAME)
+            : CodeBlock.of("$T.valueOf(key)", String.class);
+        typeSpec.addMethod(MethodSpec.methodBuilder(getterName + KEY_LOOKUP_SUFFIX)
+            .addJavadoc("@return the value of the key in $L, or null if the map has no such key\n", field.getName())
+            .addAnnotation(JsOverlay.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+            .returns(((ParameterizedTypeName) jsonType).typeArguments().get(0))
+            .addParameter(TypeName.get(keyType), "key", Modifier.FINAL)
+            .addStatement("return $L().get($L)", getterName, jsonKey)
+            .build());
+      }
+    }
+  }
+
+  /**
+   * @return the conversion of the json variable to the Java type, or null if the JSON value can be used as it is
+   */
+  private static CodeBlock createConversion(final Class<?> javaType, final String parserPackage) {
+    if (NUMBER_CONVERSIONS.containsKey(javaType)) {
+      return CodeBlock.of(NUMBER_CONVERSIONS.get(javaType), JSON_VAR);
+    } else if (javaType == char.class) {
+      return CodeBlock.of("$1L == null || $1L.isEmpty() ? 0 : $1L.charAt(0)", JSON_VAR);
+    } else if (javaType == Character.class) {
+      return CodeBlock.of("$1L == null || $1L.isEmpty() ? null : $1L.charAt(0)", JSON_VAR);
+    } else if (javaType.isEnum()) {
+      return CodeBlock.of("$T.$L($L)", ClassName.get(parserPackage, getAdapterClassName(javaType)), FROM_JSON_METHOD_NAME, JSON_VAR);
+    }
+    return null;
+  }
+
+  /**
+   * @param element true for the type of an element of a collection, array or map, which must be a reference type
+   * @return the type of the JavaScript representation of the JSON of the Java type
+   */
+  private static TypeName getJsonType(final Type type, final String parserPackage, final boolean element) {
+    if (type instanceof Class<?>) {
+      final Class<?> classType = (Class<?>) type;
+      if (classType.isArray()) {
+        return ParameterizedTypeName.get(JS_ARRAY_LIKE, getJsonType(classType.getComponentType(), parserPackage, true));
+      } else if (classType == String.class || classType == char.class || classType == Character.class || classType.isEnum()) {
+        return ClassName.get(String.class);
+      } else if (classType == boolean.class || classType == Boolean.class) {
+        return element ? ClassName.get(Boolean.class) : TypeName.get(classType);
+      } else if (classType == int.class || classType == double.class) {
+        return element ? ClassName.get(Double.class) : TypeName.get(classType);
+      } else if (classType.isPrimitive()) {
+        return element ? ClassName.get(Double.class) : TypeName.DOUBLE;
+      } else if (Number.class.isAssignableFrom(classType)) {
+        return ClassName.get(Double.class);
+      }
+      return ClassName.get(parserPackage, getOverlayClassName(classType));
+    }
+    final ParameterizedType parameterizedType = (ParameterizedType) type;
+    final Type[] typeArguments = parameterizedType.getActualTypeArguments();
+    if (Map.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+      return ParameterizedTypeName.get(JS_PROPERTY_MAP, getJsonType(typeArguments[1], parserPackage, true));
+    }
+    return ParameterizedTypeName.get(JS_ARRAY_LIKE, getJsonType(typeArguments[0], parserPackage, true));
+  }
+
+  /**
+   * Creates the adapter of an enum, converting between the constants and their JSON strings like the parsers and writers do.
+   */
+  static TypeSpec createEnumAdapterTypeSpec(final Class<?> enumType, final String generatorName, final String generatorDetails,
+      final ClassFinder classFinder, final Logger logger) {
+    final CodeBlock.Builder decoding = CodeBlock.builder();
+    ParserCommonUtils.addEnumDecoding(decoding, enumType, JSON_VAR, "value", classFinder, logger);
+
+    final MethodSpec fromJson = MethodSpec.methodBuilder(FROM_JSON_METHOD_NAME)
+        .addJavadoc("@return the constant with the JSON string, or null if the string is null or unknown\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(enumType)
+        .addParameter(String.class, JSON_VAR, Modifier.FINAL)
+        .addCode(decoding.build())
+        .addStatement("return value")
+        .build();
+
+    final MethodSpec.Builder toJson = MethodSpec.methodBuilder(TO_JSON_METHOD_NAME)
+        .addJavadoc("@return the JSON string of the constant, its key in a JSON object, or null if the constant is null\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(String.class)
+        .addParameter(enumType, "value", Modifier.FINAL)
+        .beginControlFlow("if (value == null)")
+        .addStatement("return null")
+        .endControlFlow();
+    final Method jsonValueMethod = ParserCommonUtils.findJsonValueMethod(enumType, classFinder);
+    if (jsonValueMethod != null) {
+      toJson.addStatement("return $T.valueOf(value.$L())", String.class, jsonValueMethod.getName());
+    } else {
+      final Map<String, String> jsonNames = ParserCommonUtils.findEnumConstantJsonNames(enumType, classFinder, logger);
+      if (!jsonNames.isEmpty()) {
+        toJson.beginControlFlow("switch (value)");
+        for (final Map.Entry<String, String> entry : jsonNames.entrySet()) {
+          toJson.addCode("case $L:\n", entry.getKey()).addCode("$>").addStatement("return $S", entry.getValue()).addCode("$<");
+        }
+        toJson.addCode("default:\n").addCode("$>").addStatement("return value.name()").addCode("$<");
+        toJson.endControlFlow();
+      } else {
+        toJson.addStatement("return value.name()");
+      }
+    }
+
+    return ParserWriterUtils.createParserTypeSpec(getAdapterClassName(enumType), generatorName, generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(fromJson)
+        .addMethod(toJson.build())
+        .build();
+  }
+}
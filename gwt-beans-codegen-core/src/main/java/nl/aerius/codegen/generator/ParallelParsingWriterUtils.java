@@ -0,0 +1,115 @@
+package nl.aerius.codegen.generator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.ArrayTypeName;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+import com.palantir.javapoet.TypeVariableName;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates the helper used in parallel mode to parse the elements of large arrays on the common ForkJoinPool.
+ *
+ * The elements are split into ranges that are parsed by separate tasks, each writing its elements at their own index of
+ * the result array, so the order of the elements is preserved. Arrays below the threshold are parsed by the calling thread
+ * as before; they only pay the length check.
+ */
+final class ParallelParsingWriterUtils {
+  private static final String THRESHOLD_FIELD_NAME = "THRESHOLD";
+  private static final String TASK_CLASS_NAME = "ParseTask";
+
+  private ParallelParsingWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Creates the parallel parsing helper class, parsing arrays with at least the given number of elements in parallel.
+   */
+  static TypeSpec createParallelParsingTypeSpec(final String parserPackage, final int threshold, final String generatorName,
+      final String generatorDetails) {
+    final ClassName parallelParsing = ParserCommonUtils.getParallelParsing(parserPackage);
+    final TypeVariableName t = TypeVariableName.get("T");
+    final TypeName elements = ArrayTypeName.of(t);
+    final TypeName elementParser = ParameterizedTypeName.get(ClassName.get(IntFunction.class), t);
+    final ClassName taskClass = parallelParsing.nestedClass(TASK_CLASS_NAME);
+
+    final MethodSpec isParallel = MethodSpec.methodBuilder("isParallel")
+        .addJavadoc("Returns true if the array is large enough to parse its elements in parallel.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(boolean.class)
+        .addParameter(ParserCommonUtils.getJSONArrayHandle(), "array", Modifier.FINAL)
+        .addStatement("return $L >= $L", ParserCommonUtils.getRuntimeTarget().length("array"), THRESHOLD_FIELD_NAME)
+        .build();
+
+    final MethodSpec parse = MethodSpec.methodBuilder("parse")
+        .addJavadoc("Parses all elements in parallel, storing the element at each index in the given array.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addTypeVariable(t)
+        .addParameter(elements, "elements", Modifier.FINAL)
+        .addParameter(elementParser, "elementParser", Modifier.FINAL)
+        .addStatement("final $T pool = $T.commonPool()", ForkJoinPool.class, ForkJoinPool.class)
+        .addComment("A few ranges per worker, so workers that finish early can steal the remaining work")
+        .addStatement("final int rangeSize = $T.max(1, elements.length / (pool.getParallelism() * 4))", Math.class)
+        .addStatement("pool.invoke(new $T<>(elements, elementParser, 0, elements.length, rangeSize))", taskClass)
+        .build();
+
+    final TypeSpec task = TypeSpec.classBuilder(TASK_CLASS_NAME)
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+        .addTypeVariable(t)
+        .superclass(RecursiveAction.class)
+        .addField(FieldSpec.builder(elements, "elements", Modifier.PRIVATE, Modifier.FINAL).build())
+        .addField(FieldSpec.builder(elementParser, "elementParser", Modifier.PRIVATE, Modifier.FINAL).build())
+        .addField(FieldSpec.builder(int.class, "from", Modifier.PRIVATE, Modifier.FINAL).build())
+        .addField(FieldSpec.builder(int.class, "to", Modifier.PRIVATE, Modifier.FINAL).build())
+        .addField(FieldSpec.builder(int.class, "rangeSize", Modifier.PRIVATE, Modifier.FINAL).build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addParameter(elements, "elements", Modifier.FINAL)
+            .addParameter(elementParser, "elementParser", Modifier.FINAL)
+            .addParameter(int.class, "from", Modifier.FINAL)
+            .addParameter(int.class, "to", Modifier.FINAL)
+            .addParameter(int.class, "rangeSize", Modifier.FINAL)
+            .addStatement("this.elements = elements")
+            .addStatement("this.elementParser = elementParser")
+            .addStatement("this.from = from")
+            .addStatement("this.to = to")
+            .addStatement("this.rangeSize = rangeSize")
+            .build())
+        .addMethod(MethodSpec.methodBuilder("compute")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .beginControlFlow("if (to - from <= rangeSize)")
+            .beginControlFlow("for (int i = from; i < to; i++)")
+            .addStatement("elements[i] = elementParser.apply(i)")
+            .endControlFlow()
+            .addStatement("return")
+            .endControlFlow()
+            .addStatement("final int middle = (from + to) >>> 1")
+            .addStatement("invokeAll(new $T<>(elements, elementParser, from, middle, rangeSize), "
+                + "new $T<>(elements, elementParser, middle, to, rangeSize))", taskClass, taskClass)
+            .build())
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(parallelParsing.simpleName(), generatorName, generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addField(FieldSpec.builder(int.class, THRESHOLD_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", threshold)
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(isParallel)
+        .addMethod(parse)
+        .addType(task)
+        .build();
+  }
+}
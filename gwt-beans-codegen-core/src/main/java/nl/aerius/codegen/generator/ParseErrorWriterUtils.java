@@ -0,0 +1,279 @@
+package nl.aerius.codegen.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates the exception thrown by the parsers when the JSON doesn't match the model.
+ *
+ * The exception carries a JSON pointer to the value that failed to parse. The parsers don't track the path while parsing:
+ * each parse method that catches an error prepends the segment it was parsing while the exception propagates up. The path
+ * therefore costs nothing unless an error occurs, and the exception is created once, with its path extended in place.
+ *
+ * In lenient mode an error sink is generated as well. An element that fails to parse is recorded in the sink instead of
+ * aborting the parse, so the path of the enclosing fields and elements can't be prepended while unwinding. Lenient parsers
+ * therefore keep that path in the sink while parsing: each parse method and loop takes a level of the sink and stores the
+ * name of the field or the index or key of the element it is parsing in it, which is a plain array store.
+ */
+final class ParseErrorWriterUtils {
+  static final String CURRENT_FIELD_VARIABLE = "currentField";
+  static final String PATH_LEVEL_VARIABLE = "fieldPathLevel";
+
+  private static final int MAX_SNIPPET_LENGTH = 200;
+  private static final String SEGMENT_PARAM_NAME = "segment";
+  private static final String CAUSE_PARAM_NAME = "cause";
+  private static final String LEVEL_PARAM_NAME = "level";
+  private static final int INITIAL_DEPTH = 16;
+
+  private ParseErrorWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Creates the parse exception class.
+   */
+  static TypeSpec createParseExceptionTypeSpec(final String parserPackage, final String generatorName, final String generatorDetails) {
+    final ClassName parseException = ParserCommonUtils.getParseException(parserPackage);
+
+    final MethodSpec messageConstructor = MethodSpec.constructorBuilder()
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(String.class, "message", Modifier.FINAL)
+        .addStatement("super(message)")
+        .addStatement("this.path = $S", "")
+        .addStatement("this.snippet = snippet(message)")
+        .build();
+
+    final MethodSpec causeConstructor = MethodSpec.constructorBuilder()
+        .addModifiers(Modifier.PRIVATE)
+        .addParameter(String.class, "path", Modifier.FINAL)
+        .addParameter(String.class, "snippet", Modifier.FINAL)
+        .addParameter(RuntimeException.class, CAUSE_PARAM_NAME, Modifier.FINAL)
+        .addStatement("super(snippet, $L)", CAUSE_PARAM_NAME)
+        .addStatement("this.path = path")
+        .addStatement("this.snippet = snippet")
+        .build();
+
+    final MethodSpec at = MethodSpec.methodBuilder("at")
+        .addJavadoc("Returns an exception for an error that occurred while parsing the given segment of the JSON, prepending the\n"
+            + "segment to the path of the error. A {@code null} segment leaves the path as is.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(parseException)
+        .addParameter(String.class, SEGMENT_PARAM_NAME, Modifier.FINAL)
+        .addParameter(RuntimeException.class, CAUSE_PARAM_NAME, Modifier.FINAL)
+        .addStatement("final $T prefix = $L == null ? $S : $S + escape($L)", String.class, SEGMENT_PARAM_NAME, "", "/",
+            SEGMENT_PARAM_NAME)
+        .beginControlFlow("if ($L instanceof $T)", CAUSE_PARAM_NAME, parseException)
+        .addStatement("final $T error = ($T) $L", parseException, parseException, CAUSE_PARAM_NAME)
+        .addStatement("error.path = prefix + error.path")
+        .addStatement("return error")
+        .endControlFlow()
+        .addStatement("return new $T(prefix, snippet($L.getMessage()), $L)", parseException, CAUSE_PARAM_NAME, CAUSE_PARAM_NAME)
+        .build();
+
+    final MethodSpec getPath = MethodSpec.methodBuilder("getPath")
+        .addJavadoc("@return the JSON pointer to the value that failed to parse, empty for the document itself\n")
+        .addModifiers(Modifier.PUBLIC)
+        .returns(String.class)
+        .addStatement("return path")
+        .build();
+
+    final MethodSpec getSnippet = MethodSpec.methodBuilder("getSnippet")
+        .addJavadoc("@return the description of the error, cut off after $L characters\n", MAX_SNIPPET_LENGTH)
+        .addModifiers(Modifier.PUBLIC)
+        .returns(String.class)
+        .addStatement("return snippet")
+        .build();
+
+    final MethodSpec getMessage = MethodSpec.methodBuilder("getMessage")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PUBLIC)
+        .returns(String.class)
+        .addStatement("return $S + path + $S + snippet", "Failed to parse JSON at '", "': ")
+        .build();
+
+    // Escapes a key as a JSON pointer reference token (RFC 6901)
+    final MethodSpec escape = MethodSpec.methodBuilder("escape")
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+        .returns(String.class)
+        .addParameter(String.class, SEGMENT_PARAM_NAME, Modifier.FINAL)
+        .addStatement("return $L.replace($S, $S).replace($S, $S)", SEGMENT_PARAM_NAME, "~", "~0", "/", "~1")
+        .build();
+
+    final MethodSpec snippet = MethodSpec.methodBuilder("snippet")
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+        .returns(String.class)
+        .addParameter(String.class, "message", Modifier.FINAL)
+        .addStatement("return message == null || message.length() <= $L ? message : message.substring(0, $L) + $S",
+            MAX_SNIPPET_LENGTH, MAX_SNIPPET_LENGTH, "...")
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(parseException.simpleName(), generatorName, generatorDetails)
+        .superclass(RuntimeException.class)
+        .addField(FieldSpec.builder(long.class, "serialVersionUID", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("1L")
+            .build())
+        .addField(String.class, "path", Modifier.PRIVATE)
+        .addField(String.class, "snippet", Modifier.PRIVATE, Modifier.FINAL)
+        .addMethod(messageConstructor)
+        .addMethod(causeConstructor)
+        .addMethod(at)
+        .addMethod(getPath)
+        .addMethod(getSnippet)
+        .addMethod(getMessage)
+        .addMethod(escape)
+        .addMethod(snippet)
+        .build();
+  }
+
+  /**
+   * Creates the error sink class of lenient mode.
+   */
+  static TypeSpec createParseErrorsTypeSpec(final String parserPackage, final String generatorName, final String generatorDetails) {
+    final ClassName parseErrors = ParserCommonUtils.getParseErrors(parserPackage);
+    final ClassName parseException = ParserCommonUtils.getParseException(parserPackage);
+    final TypeName errorList = ParameterizedTypeName.get(ClassName.get(List.class), parseException);
+
+    final MethodSpec failFast = MethodSpec.methodBuilder("failFast")
+        .addJavadoc("Returns a sink that doesn't collect errors, but throws the first one.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(parseErrors)
+        .addStatement("return new $T(true)", parseErrors)
+        .build();
+
+    final MethodSpec getErrors = MethodSpec.methodBuilder("getErrors")
+        .addJavadoc("@return the errors of the elements that failed to parse, in the order they occurred\n")
+        .addModifiers(Modifier.PUBLIC)
+        .returns(errorList)
+        .addStatement("return errors")
+        .build();
+
+    final MethodSpec hasErrors = MethodSpec.methodBuilder("hasErrors")
+        .addModifiers(Modifier.PUBLIC)
+        .returns(boolean.class)
+        .addStatement("return !errors.isEmpty()")
+        .build();
+
+    final MethodSpec enter = MethodSpec.methodBuilder("enter")
+        .addJavadoc("Takes the next level of the path, for a parse method or loop.\n\n@return the level taken\n")
+        .addModifiers(Modifier.PUBLIC)
+        .returns(int.class)
+        .beginControlFlow("if (depth == names.length)")
+        .addStatement("names = $T.copyOf(names, depth * 2)", Arrays.class)
+        .addStatement("indexes = $T.copyOf(indexes, depth * 2)", Arrays.class)
+        .endControlFlow()
+        .addStatement("names[depth] = null")
+        .addStatement("indexes[depth] = -1")
+        .addStatement("return depth++")
+        .build();
+
+    final MethodSpec atName = MethodSpec.methodBuilder("at")
+        .addJavadoc("Sets the field or map key being parsed at the level.\n")
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(int.class, LEVEL_PARAM_NAME, Modifier.FINAL)
+        .addParameter(String.class, "name", Modifier.FINAL)
+        .addStatement("names[$L] = name", LEVEL_PARAM_NAME)
+        .build();
+
+    final MethodSpec atIndex = MethodSpec.methodBuilder("at")
+        .addJavadoc("Sets the index of the array element being parsed at the level.\n")
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(int.class, LEVEL_PARAM_NAME, Modifier.FINAL)
+        .addParameter(int.class, "index", Modifier.FINAL)
+        .addStatement("names[$L] = null", LEVEL_PARAM_NAME)
+        .addStatement("indexes[$L] = index", LEVEL_PARAM_NAME)
+        .build();
+
+    final MethodSpec exit = MethodSpec.methodBuilder("exit")
+        .addJavadoc("Releases the level, and any level taken after it.\n")
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(int.class, LEVEL_PARAM_NAME, Modifier.FINAL)
+        .addStatement("depth = $L", LEVEL_PARAM_NAME)
+        .build();
+
+    final MethodSpec fail = MethodSpec.methodBuilder("fail")
+        .addJavadoc("Returns the exception to throw for an error that is not recorded at the level, releasing the level.\n")
+        .addModifiers(Modifier.PUBLIC)
+        .returns(parseException)
+        .addParameter(int.class, LEVEL_PARAM_NAME, Modifier.FINAL)
+        .addParameter(RuntimeException.class, CAUSE_PARAM_NAME, Modifier.FINAL)
+        .addStatement("depth = $L", LEVEL_PARAM_NAME)
+        .addStatement("return $T.at(segment($L), $L)", parseException, LEVEL_PARAM_NAME, CAUSE_PARAM_NAME)
+        .build();
+
+    // The levels after the given level hold the path of the failed element, up to where the error was thrown. That part of
+    // the path is already in the exception, as the parse methods in between prepended it while unwinding.
+    final MethodSpec record = MethodSpec.methodBuilder("record")
+        .addJavadoc("Records an error of the element being parsed at the level, so parsing can continue with the next element.\n"
+            + "A fail fast sink throws the error instead.\n")
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(int.class, LEVEL_PARAM_NAME, Modifier.FINAL)
+        .addParameter(RuntimeException.class, CAUSE_PARAM_NAME, Modifier.FINAL)
+        .beginControlFlow("if (failFast)")
+        .addStatement("throw fail($L, $L)", LEVEL_PARAM_NAME, CAUSE_PARAM_NAME)
+        .endControlFlow()
+        .addStatement("$T error = $L", RuntimeException.class, CAUSE_PARAM_NAME)
+        .beginControlFlow("for (int i = $L; i >= 0; i--)", LEVEL_PARAM_NAME)
+        .addStatement("error = $T.at(segment(i), error)", parseException)
+        .endControlFlow()
+        .addStatement("errors.add(($T) error)", parseException)
+        .addStatement("depth = $L + 1", LEVEL_PARAM_NAME)
+        .build();
+
+    final MethodSpec segment = MethodSpec.methodBuilder("segment")
+        .addModifiers(Modifier.PRIVATE)
+        .returns(String.class)
+        .addParameter(int.class, LEVEL_PARAM_NAME, Modifier.FINAL)
+        .beginControlFlow("if (names[$L] != null)", LEVEL_PARAM_NAME)
+        .addStatement("return names[$L]", LEVEL_PARAM_NAME)
+        .endControlFlow()
+        .addStatement("return indexes[$L] < 0 ? null : String.valueOf(indexes[$L])", LEVEL_PARAM_NAME, LEVEL_PARAM_NAME)
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(parseErrors.simpleName(), generatorName, generatorDetails)
+        .addJavadoc("Collects the errors of elements that failed to parse, and keeps the path of the value being parsed.\n")
+        .addField(boolean.class, "failFast", Modifier.PRIVATE, Modifier.FINAL)
+        .addField(FieldSpec.builder(errorList, "errors", Modifier.PRIVATE, Modifier.FINAL)
+            .initializer("new $T<>()", ArrayList.class)
+            .build())
+        .addField(FieldSpec.builder(String[].class, "names", Modifier.PRIVATE)
+            .initializer("new String[$L]", INITIAL_DEPTH)
+            .build())
+        .addField(FieldSpec.builder(int[].class, "indexes", Modifier.PRIVATE)
+            .initializer("new int[$L]", INITIAL_DEPTH)
+            .build())
+        .addField(int.class, "depth", Modifier.PRIVATE)
+        .addMethod(MethodSpec.constructorBuilder()
+            .addJavadoc("Creates a sink that collects the errors.\n")
+            .addModifiers(Modifier.PUBLIC)
+            .addStatement("this(false)")
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(boolean.class, "failFast", Modifier.FINAL)
+            .addStatement("this.failFast = failFast")
+            .build())
+        .addMethod(failFast)
+        .addMethod(getErrors)
+        .addMethod(hasErrors)
+        .addMethod(enter)
+        .addMethod(atName)
+        .addMethod(atIndex)
+        .addMethod(exit)
+        .addMethod(fail)
+        .addMethod(record)
+        .addMethod(segment)
+        .build();
+  }
+}
@@ -1,11 +1,16 @@
 package nl.aerius.codegen.generator;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.TypeSpec;
 
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
 import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.Logger;
 
@@ -48,12 +53,118 @@ public class ParserWriter {
 
     // Write to file
     ParserWriterUtils.writeParserToFile(outputDir, parserPackage, typeSpec.build(), parserClassName, logger);
+
+    if (ParserWriterUtils.getOptions().isGenerateWriters()) {
+      generateWriter(targetClass);
+    }
+  }
+
+  /**
+   * Generates a writer for a specific class.
+   */
+  public void generateWriter(final Class<?> targetClass) throws IOException {
+    final String writerClassName = SerializerWriterUtils.getWriterClassName(targetClass);
+
+    logger.info("Generating " + writerClassName);
+
+    final TypeSpec.Builder typeSpec = ParserWriterUtils.createParserTypeSpec(writerClassName, generatorName, generatorDetails);
+    SerializerWriterUtils.generateWriterForFields(typeSpec, targetClass, parserPackage);
+    ParserWriterUtils.writeParserToFile(outputDir, parserPackage, typeSpec.build(), writerClassName, logger);
+  }
+
+  /**
+   * Generates the registry dispatching to the parsers of the generated types and of the types with a custom parser.
+   */
+  public void generateParserRegistry(final ClassFinder classFinder, final Set<ClassName> classNames, final Set<Class<?>> customParserClasses)
+      throws IOException {
+    final List<Class<?>> types = new ArrayList<>(customParserClasses);
+    for (final ClassName className : classNames) {
+      try {
+        types.add(classFinder.forName(className.canonicalName()));
+      } catch (final ClassNotFoundException e) {
+        throw new IOException("Failed to load class: " + className.canonicalName(), e);
+      }
+    }
+    // Sorted, so the type ids don't change between runs on the same model
+    types.sort(Comparator.comparing(Class::getName));
+
+    logger.info("Generating " + ParserCommonUtils.getParserRegistry(parserPackage).simpleName());
+    final TypeSpec registry = RegistryWriterUtils.createParserRegistryTypeSpec(parserPackage, types, generatorName, generatorDetails);
+    ParserWriterUtils.writeParserToFile(outputDir, parserPackage, registry, registry.name(), logger);
+  }
+
+  /**
+   * Generates the overlays of the types whose JSON can be viewed without parsing, and the adapters of the enums they use.
+   * Types that can't be viewed with an overlay are reported and skipped.
+   */
+  public void generateOverlays(final ClassFinder classFinder, final Set<ClassName> classNames) throws IOException {
+    final List<Class<?>> types = new ArrayList<>();
+    for (final ClassName className : classNames) {
+      try {
+        types.add(classFinder.forName(className.canonicalName()));
+      } catch (final ClassNotFoundException e) {
+        throw new IOException("Failed to load class: " + className.canonicalName(), e);
+      }
+    }
+    types.sort(Comparator.comparing(Class::getName));
+
+    final Map<Class<?>, String> incompatibleTypes = OverlayWriterUtils.findIncompatibleTypes(types);
+    incompatibleTypes.forEach((type, reason) -> logger.warn("No overlay for " + type.getName() + ": " + reason));
+    types.removeAll(incompatibleTypes.keySet());
+
+    for (final Class<?> type : types) {
+      final String overlayClassName = OverlayWriterUtils.getOverlayClassName(type);
+      logger.info("Generating " + overlayClassName);
+      final TypeSpec overlay = OverlayWriterUtils.createOverlayTypeSpec(type, parserPackage, generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, overlay, overlayClassName, logger);
+    }
+    for (final Class<?> enumType : OverlayWriterUtils.collectEnums(types)) {
+      final TypeSpec adapter = OverlayWriterUtils.createEnumAdapterTypeSpec(enumType, generatorName, generatorDetails, classFinder, logger);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, adapter, adapter.name(), logger);
+    }
   }
 
   /**
    * Generates parsers for all types in the provided set.
    */
   public void generateParsers(final ClassFinder classFinder, final Set<ClassName> classNames) throws IOException {
+    SharedHelperWriterUtils.reset();
+    EnumDecoderWriterUtils.reset();
+    final TypeSpec parseException = ParseErrorWriterUtils.createParseExceptionTypeSpec(parserPackage, generatorName, generatorDetails);
+    ParserWriterUtils.writeParserToFile(outputDir, parserPackage, parseException, parseException.name(), logger);
+    final TypeSpec targetHelpers = ParserCommonUtils.getRuntimeTarget().createHelpersTypeSpec(parserPackage,
+        ParserCommonUtils.createGeneratedAnnotation(generatorName, generatorDetails));
+    if (targetHelpers != null) {
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, targetHelpers, targetHelpers.name(), logger);
+    }
+    if (ParserWriterUtils.getOptions().isLenientParsing()) {
+      final TypeSpec parseErrors = ParseErrorWriterUtils.createParseErrorsTypeSpec(parserPackage, generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, parseErrors, parseErrors.name(), logger);
+    }
+    if (ParserWriterUtils.getOptions().isFieldProjection()) {
+      final TypeSpec projection = ProjectionWriterUtils.createProjectionTypeSpec(parserPackage, generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, projection, projection.name(), logger);
+    }
+    if (ParserWriterUtils.getOptions().isParallelParsing()) {
+      final TypeSpec parallelParsing = ParallelParsingWriterUtils.createParallelParsingTypeSpec(parserPackage,
+          ParserWriterUtils.getOptions().getParallelParsingThreshold(), generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, parallelParsing, parallelParsing.name(), logger);
+    }
+    if (TableParserWriterUtils.isTableDriven()) {
+      final TypeSpec tableParser = TableParserWriterUtils.createTableParserTypeSpec(parserPackage, generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, tableParser, tableParser.name(), logger);
+    }
+    if (ParserWriterUtils.getOptions().isGenerateWriters()) {
+      final TypeSpec writerUtils = SerializerWriterUtils.createWriterUtilsTypeSpec(parserPackage, generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, writerUtils, writerUtils.name(), logger);
+    }
+    if (ParserWriterUtils.getOptions().isStringInterning()) {
+      final TypeSpec stringPool = StringPoolWriterUtils.createStringPoolTypeSpec(parserPackage,
+          ParserWriterUtils.getOptions().getStringPoolSize(), ParserWriterUtils.getOptions().isParallelParsing(), generatorName,
+          generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, stringPool, stringPool.name(), logger);
+    }
+
     for (final ClassName className : classNames) {
       try {
         final Class<?> targetClass = classFinder.forName(className.canonicalName());
@@ -63,5 +174,13 @@ public class ParserWriter {
         throw new IOException("Failed to load class: " + className.canonicalName(), e);
       }
     }
+    if (SharedHelperWriterUtils.hasHelpers()) {
+      final TypeSpec parserHelpers = SharedHelperWriterUtils.createParserHelpersTypeSpec(parserPackage, generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, parserHelpers, parserHelpers.name(), logger);
+    }
+    if (EnumDecoderWriterUtils.hasDecoders()) {
+      final TypeSpec enumDecoders = EnumDecoderWriterUtils.createEnumDecodersTypeSpec(parserPackage, generatorName, generatorDetails);
+      ParserWriterUtils.writeParserToFile(outputDir, parserPackage, enumDecoders, enumDecoders.name(), logger);
+    }
   }
 }
\ No newline at end of file
@@ -12,6 +12,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import javax.lang.model.element.Modifier;
 
@@ -21,6 +23,8 @@ import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterSpec;
+import com.palantir.javapoet.TypeName;
 import com.palantir.javapoet.TypeSpec;
 
 import nl.aerius.codegen.analyzer.ConstructorAnalyzer;
@@ -33,6 +37,7 @@ import nl.aerius.codegen.generator.parser.ParserCommonUtils;
 import nl.aerius.codegen.generator.parser.PrimitiveArrayFieldParser;
 import nl.aerius.codegen.generator.parser.SimpleFieldParser;
 import nl.aerius.codegen.generator.parser.TypeParser;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
 import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.Logger;
 
@@ -43,6 +48,16 @@ public final class ParserWriterUtils {
   // Track custom parser imports
   private static final Map<String, String> customParserImports = new HashMap<>();
 
+  // Loop variable holding the current key in key-driven parsing
+  private static final String KEY_VARIABLE_NAME = "fieldName";
+  private static final String FIELD_GROUP_METHOD_PREFIX = "parseFieldGroup";
+  private static final String CONSTRUCTOR_ARGS_VARIABLE = "constructorArgs";
+  private static final String CONSTRUCTOR_ARGS_CLASS = "ConstructorArgs";
+  private static final Pattern COMMENT_PATTERN = Pattern.compile("//[^\n]*");
+  private static final Pattern STRING_CASE_PATTERN = Pattern.compile("case \"");
+  private static final int SOURCE_CHARS_PER_BYTECODE_BYTE = 3;
+  private static final int BYTECODE_BYTES_PER_STRING_CASE = 24;
+
   private static final Map<Type, String> ELEMENT_TYPE_TO_ARRAY_GETTER = new HashMap<>();
 
   // Field parsers
@@ -69,6 +84,15 @@ public final class ParserWriterUtils {
   // Constructor analyzer for detecting constructor-based parsing
   private static ConstructorAnalyzer constructorAnalyzer;
 
+  // Optional generation modes
+  private static GeneratorOptions options = new GeneratorOptions();
+
+  // Whether String values of the field currently being generated are deduplicated through the string pool
+  private static boolean internStrings;
+
+  // Variable holding the projection of the field currently being generated, null if no field projection is in scope
+  private static String fieldProjectionVariable;
+
   private ParserWriterUtils() {
     // Utility class, no instantiation
   }
@@ -84,10 +108,126 @@ public final class ParserWriterUtils {
     constructorAnalyzer = new ConstructorAnalyzer(sourceRoots, logger);
   }
 
+  /**
+   * Sets the optional generation modes used for all parsers generated after this call.
+   *
+   * @param generatorOptions the options, or null to reset to the defaults
+   */
+  public static void setOptions(final GeneratorOptions generatorOptions) {
+    options = generatorOptions == null ? new GeneratorOptions() : generatorOptions;
+  }
+
+  public static GeneratorOptions getOptions() {
+    return options;
+  }
+
+  /**
+   * Runs the generator of the code parsing a field, with String deduplication enabled if the field is configured for it.
+   * All Strings of the field are deduplicated, including the elements of collections and the keys and values of maps.
+   */
+  static <T> T generateForField(final Field field, final Supplier<T> generator) {
+    final boolean previous = internStrings;
+    internStrings = options.isInternField(field);
+    try {
+      return generator.get();
+    } finally {
+      internStrings = previous;
+    }
+  }
+
+  /**
+   * @return true if String values of the field currently being generated are deduplicated through the string pool
+   */
+  public static boolean isInternStrings() {
+    return internStrings;
+  }
+
+  /**
+   * Wraps an expression reading a String in a lookup in the string pool, if the field currently being generated deduplicates
+   * its Strings.
+   */
+  public static CodeBlock internString(final CodeBlock expression, final String parserPackage) {
+    return internStrings ? CodeBlock.of("$T.intern($L)", ParserCommonUtils.getJSONStringPool(parserPackage), expression) : expression;
+  }
+
+  /**
+   * In lenient mode, takes a level of the error sink for a loop over the elements of an array or map.
+   */
+  public static void beginLenientLoop(final CodeBlock.Builder code, final String levelVar) {
+    if (options.isLenientParsing()) {
+      code.addStatement("final int $L = $L.enter()", levelVar, ParserCommonUtils.PARSE_ERRORS_PARAM_NAME);
+    }
+  }
+
+  /**
+   * Opens the try block around the parsing of an element of an array or map. In lenient mode the index or key of the
+   * element is stored in the level of the loop, so an error of the element is recorded instead of aborting the parse.
+   */
+  public static void beginElementTracking(final CodeBlock.Builder code, final String levelVar, final CodeBlock segment) {
+    if (options.isLenientParsing()) {
+      code.addStatement("$L.at($L, $L)", ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, levelVar, segment);
+    }
+    code.beginControlFlow("try");
+  }
+
+  /**
+   * Closes the try block opened by {@link #beginElementTracking}. Outside lenient mode the index or key of the element,
+   * given as a String expression, is prepended to the path of the error, so the path is only built once an error occurs.
+   */
+  public static void endElementTracking(final CodeBlock.Builder code, final String levelVar, final CodeBlock pathSegment,
+      final String parserPackage) {
+    code.nextControlFlow("catch (final $T e)", RuntimeException.class);
+    if (options.isLenientParsing()) {
+      code.addStatement("$L.record($L, e)", ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, levelVar);
+    } else {
+      code.addStatement("throw $T.at($L, e)", ParserCommonUtils.getParseException(parserPackage), pathSegment);
+    }
+    code.endControlFlow();
+  }
+
+  /**
+   * @return the index of an array element as a segment of the path passed to {@link #endElementTracking}
+   */
+  public static CodeBlock indexPathSegment(final String indexVar) {
+    return CodeBlock.of("$T.valueOf($L)", String.class, indexVar);
+  }
+
+  /**
+   * Releases the level taken by {@link #beginLenientLoop}.
+   */
+  public static void endLenientLoop(final CodeBlock.Builder code, final String levelVar) {
+    if (options.isLenientParsing()) {
+      code.addStatement("$L.exit($L)", ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, levelVar);
+    }
+  }
+
+  /**
+   * @return the argument passing the error sink on to a call to the parser of the given type, empty if the parser doesn't
+   *         take one because lenient mode is off or it is a custom parser
+   */
+  public static String parseErrorsArgument(final Class<?> targetClass) {
+    return options.isLenientParsing() && !hasCustomParser(targetClass.getSimpleName())
+        ? ", " + ParserCommonUtils.PARSE_ERRORS_PARAM_NAME
+        : "";
+  }
+
+  /**
+   * @return the argument passing the projection of the field currently being generated on to a call to the parser of the
+   *         given type, empty if the parser doesn't take one because projection mode is off or it is a custom parser
+   */
+  public static CodeBlock fieldProjectionArgument(final Class<?> targetClass, final String parserPackage) {
+    if (!options.isFieldProjection() || hasCustomParser(targetClass.getSimpleName())) {
+      return CodeBlock.of("");
+    }
+    return fieldProjectionVariable == null
+        ? CodeBlock.of(", $T.ALL", ParserCommonUtils.getProjection(parserPackage))
+        : CodeBlock.of(", $L", fieldProjectionVariable);
+  }
+
   public static void initParsers(final ClassFinder classFinder, final Logger logger) {
     enumFieldParser = new EnumFieldParser(classFinder, logger);
     collectionFieldParser = new CollectionFieldParser(classFinder, logger);
-    mapFieldParser = new MapFieldParser(logger);
+    mapFieldParser = new MapFieldParser(classFinder, logger);
 
     PARSERS = new TypeParser[] {
         SIMPLE_FIELD_PARSER,
@@ -109,7 +249,9 @@ public final class ParserWriterUtils {
   }
 
   /**
-   * Registers a custom parser for import tracking.
+   * Registers a custom parser for import tracking. The generated code calls the custom parser instead of a generated one,
+   * so it must provide the methods of the enabled modes: parse(JsonParser) for streaming parsing, and a {@code <Type>Writer}
+   * with write(StringBuilder, T) in the same package for writers.
    *
    * @param typeName    The simple name of the type that has a custom parser
    * @param packageName The package name where the custom parser is located
@@ -126,17 +268,28 @@ public final class ParserWriterUtils {
    */
   public static void generateParserForFields(final TypeSpec.Builder typeSpec, final Class<?> targetClass, final String parserPackage,
       final ClassFinder classFinder) {
-    typeSpec.addMethod(createStringParseMethod(targetClass));
+    addParseMethod(typeSpec, createStringParseMethod(targetClass, parserPackage), parserPackage);
 
     // Check if this class should use constructor-based parsing
     final Optional<ConstructorInfo> constructorInfo = findConstructorInfo(targetClass);
 
     if (constructorInfo.isPresent()) {
       // Constructor-based: single parse method that constructs the object
-      typeSpec.addMethod(createConstructorBasedParseMethod(targetClass, parserPackage, constructorInfo.get()));
+      addParseMethod(typeSpec, createConstructorBasedParseMethod(typeSpec, targetClass, parserPackage, constructorInfo.get()), parserPackage);
     } else {
       // Setter-based: existing approach
       addSetterBasedParseMethods(typeSpec, targetClass, parserPackage);
+      if (options.isMergeParsing()) {
+        typeSpec.addMethod(MergeParserWriterUtils.createMergeMethod(targetClass, parserPackage));
+      }
+    }
+
+    if (options.isStreamingParsing()) {
+      StreamingParserWriterUtils.addStreamingParseMethods(typeSpec, targetClass, parserPackage, constructorInfo);
+    }
+
+    if (LazyParserWriterUtils.isLazyTarget(targetClass, classFinder)) {
+      LazyParserWriterUtils.addLazyParseMethods(typeSpec, targetClass, determineParserClassName(targetClass, parserPackage));
     }
   }
 
@@ -146,17 +299,94 @@ public final class ParserWriterUtils {
   private static void addSetterBasedParseMethods(final TypeSpec.Builder typeSpec, final Class<?> targetClass,
       final String parserPackage) {
     if (hasJsonTypeInfoWithNameDiscriminator(targetClass)) {
-      typeSpec.addMethod(createPolymorphicObjectParseMethod(targetClass, parserPackage));
+      addParseMethod(typeSpec, createPolymorphicObjectParseMethod(targetClass, parserPackage), parserPackage);
     } else {
-      typeSpec.addMethod(createStandardObjectParseMethod(targetClass, parserPackage));
+      addParseMethod(typeSpec, createStandardObjectParseMethod(targetClass, parserPackage), parserPackage);
+    }
+    addParseMethod(typeSpec, createConfigParseMethod(typeSpec, targetClass, parserPackage), parserPackage);
+  }
+
+  /**
+   * Adds a parse method to the parser. In projection mode the method takes the projection, and in lenient mode the error
+   * sink, after its other parameters. It is preceded by overloads without these trailing parameters, which parse all
+   * fields and throw the first error, like the parse method without these modes.
+   */
+  private static void addParseMethod(final TypeSpec.Builder typeSpec, final MethodSpec parseMethod, final String parserPackage) {
+    final List<CodeBlock> defaults = new ArrayList<>();
+    if (options.isFieldProjection()) {
+      defaults.add(CodeBlock.of("$T.ALL", ParserCommonUtils.getProjection(parserPackage)));
+    }
+    if (options.isLenientParsing()) {
+      defaults.add(CodeBlock.of("$T.failFast()", ParserCommonUtils.getParseErrors(parserPackage)));
+    }
+    for (int omitted = defaults.size(); omitted > 0; omitted--) {
+      typeSpec.addMethod(createDefaultingParseMethod(parseMethod, defaults.subList(defaults.size() - omitted, defaults.size())));
+    }
+    typeSpec.addMethod(parseMethod);
+  }
+
+  /**
+   * Creates an overload of the parse method without its trailing parameters, passing the given defaults for them instead.
+   */
+  private static MethodSpec createDefaultingParseMethod(final MethodSpec parseMethod, final List<CodeBlock> defaults) {
+    final List<ParameterSpec> parameters = parseMethod.parameters().subList(0, parseMethod.parameters().size() - defaults.size());
+    final List<CodeBlock> arguments = new ArrayList<>();
+    parameters.forEach(parameter -> arguments.add(CodeBlock.of("$L", parameter.name())));
+    arguments.addAll(defaults);
+
+    return MethodSpec.methodBuilder(parseMethod.name())
+        .addModifiers(parseMethod.modifiers())
+        .returns(parseMethod.returnType())
+        .addParameters(parameters)
+        .addStatement("$L$L($L)", parseMethod.returnType().equals(TypeName.VOID) ? "" : "return ", parseMethod.name(),
+            CodeBlock.join(arguments, ", "))
+        .build();
+  }
+
+  /**
+   * In projection mode, adds the projection parameter to a parse method.
+   */
+  private static void addProjectionParameter(final MethodSpec.Builder methodBuilder, final String parserPackage) {
+    if (options.isFieldProjection()) {
+      methodBuilder.addParameter(ParserCommonUtils.getProjection(parserPackage), ParserCommonUtils.PROJECTION_PARAM_NAME, Modifier.FINAL);
     }
-    typeSpec.addMethod(createConfigParseMethod(targetClass, parserPackage));
+  }
+
+  /**
+   * @return the argument passing the projection on to another parse method of the same parser, empty without projection mode
+   */
+  private static String projectionArgument() {
+    return options.isFieldProjection() ? ", " + ParserCommonUtils.PROJECTION_PARAM_NAME : "";
+  }
+
+  /**
+   * @return the argument passing the projection on to a call to the parser of the given type for the same JSON object,
+   *         empty if the parser doesn't take one because projection mode is off or it is a custom parser
+   */
+  private static String projectionArgument(final Class<?> targetClass) {
+    return hasCustomParser(targetClass.getSimpleName()) ? "" : projectionArgument();
+  }
+
+  /**
+   * In lenient mode, adds the error sink parameter to a parse method.
+   */
+  private static void addParseErrorsParameter(final MethodSpec.Builder methodBuilder, final String parserPackage) {
+    if (options.isLenientParsing()) {
+      methodBuilder.addParameter(ParserCommonUtils.getParseErrors(parserPackage), ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, Modifier.FINAL);
+    }
+  }
+
+  /**
+   * @return the argument passing the error sink on to another parse method of the same parser, empty without lenient mode
+   */
+  private static String parseErrorsArgument() {
+    return options.isLenientParsing() ? ", " + ParserCommonUtils.PARSE_ERRORS_PARAM_NAME : "";
   }
 
   /**
    * Finds constructor info for a class, if constructor-based parsing is available.
    */
-  private static Optional<ConstructorInfo> findConstructorInfo(final Class<?> targetClass) {
+  static Optional<ConstructorInfo> findConstructorInfo(final Class<?> targetClass) {
     if (constructorAnalyzer == null) {
       return Optional.empty();
     }
@@ -275,17 +505,20 @@ public final class ParserWriterUtils {
     return customParserImports.get(typeName + "Parser");
   }
 
-  private static MethodSpec createStringParseMethod(final Class<?> targetClass) {
+  private static MethodSpec createStringParseMethod(final Class<?> targetClass, final String parserPackage) {
     final ClassName targetClassName = ClassName.get(targetClass);
     final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("parse")
         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
         .returns(targetClassName)
         .addParameter(ParserCommonUtils.STRING, "jsonText", Modifier.FINAL);
+    addProjectionParameter(methodBuilder, parserPackage);
+    addParseErrorsParameter(methodBuilder, parserPackage);
 
     methodBuilder.beginControlFlow("if (jsonText == null)")
         .addStatement("return null")
         .endControlFlow()
-        .addStatement("return parse($T.fromText(jsonText))", ParserCommonUtils.getJSONObjectHandle());
+        .addStatement("return parse($L$L$L)", ParserCommonUtils.getRuntimeTarget().parseText(CodeBlock.of("jsonText")),
+            projectionArgument(), parseErrorsArgument());
 
     return methodBuilder.build();
   }
@@ -296,6 +529,8 @@ public final class ParserWriterUtils {
         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
         .returns(targetClassName)
         .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL);
+    addProjectionParameter(methodBuilder, parserPackage);
+    addParseErrorsParameter(methodBuilder, parserPackage);
 
     methodBuilder.beginControlFlow("if ($L == null)", ParserCommonUtils.BASE_OBJECT_PARAM_NAME)
         .addStatement("return null")
@@ -312,7 +547,7 @@ public final class ParserWriterUtils {
           ". Use @JsonTypeInfo or a custom parser.");
     } else {
       methodBuilder.addStatement("final $T config = new $T()", targetClass, targetClass)
-          .addStatement("parse($L, config)", ParserCommonUtils.BASE_OBJECT_PARAM_NAME)
+          .addStatement("parse($L, config$L$L)", ParserCommonUtils.BASE_OBJECT_PARAM_NAME, projectionArgument(), parseErrorsArgument())
           .addStatement("return config");
     }
 
@@ -326,6 +561,8 @@ public final class ParserWriterUtils {
         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
         .returns(targetClassName) // Returns the base type
         .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL);
+    addProjectionParameter(methodBuilder, parserPackage);
+    addParseErrorsParameter(methodBuilder, parserPackage);
 
     methodBuilder.beginControlFlow("if ($L == null)", ParserCommonUtils.BASE_OBJECT_PARAM_NAME)
         .addStatement("return null")
@@ -333,16 +570,18 @@ public final class ParserWriterUtils {
 
     final String discriminatorProperty = getDiscriminatorProperty(targetClass);
 
-    // Generate the combined has/isNull check and specific error message from expected parser
-    methodBuilder.beginControlFlow("if (!$L.has($S) || $L.isNull($S))",
-        ParserCommonUtils.BASE_OBJECT_PARAM_NAME, discriminatorProperty,
-        ParserCommonUtils.BASE_OBJECT_PARAM_NAME, discriminatorProperty)
-        .addStatement("throw new $T($S)", RuntimeException.class,
+    // Check the discriminator is present and not null with the specific error message from expected parser
+    final String baseObj = ParserCommonUtils.BASE_OBJECT_PARAM_NAME;
+    methodBuilder.addCode(ParserCommonUtils.createFieldHandleDeclaration(baseObj, discriminatorProperty));
+    methodBuilder.beginControlFlow("if (!$L || $L)", ParserCommonUtils.createFieldPresentCheck(baseObj, discriminatorProperty),
+        ParserCommonUtils.createFieldNullCheck(baseObj, discriminatorProperty))
+        .addStatement("throw new $T($S)", ParserCommonUtils.getParseException(parserPackage),
             "Expected string for type discriminator field '" + discriminatorProperty + "', got different type") // Match expected message
         .endControlFlow();
 
     // Get the typeName *after* the combined check
-    methodBuilder.addStatement("final $T typeName = $L.getString($S)", String.class, ParserCommonUtils.BASE_OBJECT_PARAM_NAME, discriminatorProperty);
+    methodBuilder.addStatement("final $T typeName = $L", String.class,
+        ParserCommonUtils.createFieldValueAccessCode(ValueKind.STRING, baseObj, discriminatorProperty));
 
     // Remove the subsequent null/empty check on typeName as it's not in the expected parser
 
@@ -355,11 +594,12 @@ public final class ParserWriterUtils {
       final ClassName subTypeParserName = determineParserClassName(subTypeValue, parserPackage); // Use helper to get parser name
       methodBuilder.addCode("case $S:\n", caseName);
       // Delegate to the static parse method of the subtype parser
-      methodBuilder.addStatement("  return $T.parse($L)", subTypeParserName, ParserCommonUtils.BASE_OBJECT_PARAM_NAME);
+      methodBuilder.addStatement("  return $T.parse($L$L$L)", subTypeParserName, ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
+          projectionArgument(subTypeValue), parseErrorsArgument(subTypeValue));
     }
     // Default case for unknown type name
     methodBuilder.addCode("default:\n");
-    methodBuilder.addStatement("  throw new $T($S + typeName + $S)", RuntimeException.class, "Unknown type name '",
+    methodBuilder.addStatement("  throw new $T($S + typeName + $S)", ParserCommonUtils.getParseException(parserPackage), "Unknown type name '",
         "' for " + targetClass.getSimpleName());
     methodBuilder.endControlFlow(); // End switch
 
@@ -370,13 +610,15 @@ public final class ParserWriterUtils {
    * Creates a constructor-based parse method for immutable types.
    * Parses all fields into local variables and then calls the constructor.
    */
-  private static MethodSpec createConstructorBasedParseMethod(final Class<?> targetClass, final String parserPackage,
-      final ConstructorInfo constructorInfo) {
+  private static MethodSpec createConstructorBasedParseMethod(final TypeSpec.Builder typeSpec, final Class<?> targetClass,
+      final String parserPackage, final ConstructorInfo constructorInfo) {
     final ClassName targetClassName = ClassName.get(targetClass);
     final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("parse")
         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
         .returns(targetClassName)
         .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL);
+    addProjectionParameter(methodBuilder, parserPackage);
+    addParseErrorsParameter(methodBuilder, parserPackage);
 
     methodBuilder.beginControlFlow("if ($L == null)", ParserCommonUtils.BASE_OBJECT_PARAM_NAME)
         .addStatement("return null")
@@ -385,42 +627,108 @@ public final class ParserWriterUtils {
     // Get fields in constructor parameter order
     final List<Field> fieldsInOrder = constructorInfo.getFieldsInConstructorOrder();
     final List<String> constructorArgVars = new ArrayList<>();
+    final List<CodeBlock> fieldCodes = new ArrayList<>();
 
     // Parse each field using existing TypeParser infrastructure
     for (final Field field : fieldsInOrder) {
-      final String resultVar = generateFieldParsingCode(methodBuilder, field, parserPackage);
-      constructorArgVars.add(resultVar);
+      final MethodSpec.Builder fieldBuilder = MethodSpec.methodBuilder(field.getName());
+      constructorArgVars.add(generateFieldParsingCode(fieldBuilder, field, parserPackage));
+      fieldCodes.add(fieldBuilder.build().code());
+    }
+    final List<List<Integer>> groups = splitFieldGroups(fieldCodes);
+
+    if (groups.size() > 1) {
+      // Too much code for a single method, parse each group of fields in a method of its own into a holder of the arguments
+      final ClassName argsClassName = ClassName.get(parserPackage, targetClass.getSimpleName() + "Parser", CONSTRUCTOR_ARGS_CLASS);
+      typeSpec.addType(createConstructorArgsType(fieldsInOrder));
+      methodBuilder.addStatement("final $T $L = new $T()", argsClassName, CONSTRUCTOR_ARGS_VARIABLE, argsClassName);
+      for (int group = 0; group < groups.size(); group++) {
+        final String groupMethodName = FIELD_GROUP_METHOD_PREFIX + (group + 1);
+        final MethodSpec.Builder groupBuilder = MethodSpec.methodBuilder(groupMethodName)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL)
+            .addParameter(argsClassName, CONSTRUCTOR_ARGS_VARIABLE, Modifier.FINAL);
+        addProjectionParameter(groupBuilder, parserPackage);
+        addParseErrorsParameter(groupBuilder, parserPackage);
+
+        final List<Field> groupFields = selectFields(fieldsInOrder, groups.get(group));
+        beginFieldTracking(groupBuilder, groupFields);
+        for (final int index : groups.get(group)) {
+          addFieldSeparator(groupBuilder, groupFields, fieldsInOrder.get(index));
+          groupBuilder.addCode(fieldCodes.get(index));
+          groupBuilder.addStatement("$L.$L = $L", CONSTRUCTOR_ARGS_VARIABLE, fieldsInOrder.get(index).getName(), constructorArgVars.get(index));
+        }
+        exitFieldTracking(groupBuilder, groupFields);
+        endFieldTracking(groupBuilder, groupFields, parserPackage);
+        typeSpec.addMethod(groupBuilder.build());
+
+        methodBuilder.addStatement("$L($L, $L$L$L)", groupMethodName, ParserCommonUtils.BASE_OBJECT_PARAM_NAME, CONSTRUCTOR_ARGS_VARIABLE,
+            projectionArgument(), parseErrorsArgument());
+      }
+
+      final CodeBlock.Builder constructorArgs = CodeBlock.builder();
+      for (int i = 0; i < fieldsInOrder.size(); i++) {
+        constructorArgs.add(i == 0 ? "$L.$L" : ", $L.$L", CONSTRUCTOR_ARGS_VARIABLE, fieldsInOrder.get(i).getName());
+      }
+      methodBuilder.addStatement("return new $T($L)", targetClass, constructorArgs.build());
+      return methodBuilder.build();
+    }
+
+    beginFieldTracking(methodBuilder, fieldsInOrder);
+    for (int i = 0; i < fieldsInOrder.size(); i++) {
+      addFieldSeparator(methodBuilder, fieldsInOrder, fieldsInOrder.get(i));
+      methodBuilder.addCode(fieldCodes.get(i));
     }
 
     methodBuilder.addCode("\n");
+    exitFieldTracking(methodBuilder, fieldsInOrder);
     methodBuilder.addStatement("return new $T($L)", targetClass, String.join(", ", constructorArgVars));
+    endFieldTracking(methodBuilder, fieldsInOrder, parserPackage);
 
     return methodBuilder.build();
   }
 
+  /**
+   * Creates the holder the methods parsing a group of fields store the constructor arguments in, with a field of the exact
+   * type of each argument, so primitives are not boxed and no casts are needed to call the constructor.
+   */
+  private static TypeSpec createConstructorArgsType(final List<Field> fields) {
+    final TypeSpec.Builder argsBuilder = TypeSpec.classBuilder(CONSTRUCTOR_ARGS_CLASS)
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+    for (final Field field : fields) {
+      argsBuilder.addField(TypeName.get(field.getGenericType()), field.getName());
+    }
+    return argsBuilder.build();
+  }
+
   /**
    * Generates parsing code for a single field in a constructor-based parser.
    */
   private static String generateFieldParsingCode(final MethodSpec.Builder methodBuilder, final Field field,
       final String parserPackage) {
-    methodBuilder.addCode("\n");
     methodBuilder.addComment("Parse $L", field.getName());
+    trackField(methodBuilder, field);
+
+    final CodeBlock.Builder parseCode = CodeBlock.builder();
+    if (options.isFieldProjection()) {
+      // A field that is not selected is passed to the constructor as the default value of its type
+      parseCode.addStatement("final $T $L", field.getGenericType(), field.getName());
+      beginProjectedField(parseCode, field, parserPackage);
+    }
 
     // Check if field is required (must exist in JSON)
-    methodBuilder.beginControlFlow("if (!$L.has($S))", ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName())
-        .addStatement("throw new $T($S)", RuntimeException.class,
+    parseCode.add(ParserCommonUtils.createFieldHandleDeclaration(ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName()));
+    parseCode.beginControlFlow("if (!$L)", ParserCommonUtils.createFieldPresentCheck(ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName()))
+        .addStatement("throw new $T($S)", ParserCommonUtils.getParseException(parserPackage),
             "Required field '" + field.getName() + "' is missing")
         .endControlFlow();
 
     // Create access expression for this field
-    final CodeBlock fieldAccess = ParserCommonUtils.createFieldAccessCode(
-        field.getGenericType(),
-        ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
-        CodeBlock.of("$S", field.getName()));
+    final CodeBlock fieldAccess = ParserCommonUtils.createFieldValueAccessCode(field.getGenericType(),
+        ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName());
 
     // Use existing TypeParser infrastructure to generate parsing code with field name as variable name
-    final CodeBlock.Builder parseCode = CodeBlock.builder();
-    final String resultVar = dispatchGenerateParsingCodeInto(
+    final String resultVar = generateForField(field, () -> dispatchGenerateParsingCodeInto(
         parseCode,
         field.getGenericType(),
         ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
@@ -428,60 +736,403 @@ public final class ParserWriterUtils {
         fieldAccess,
         1,
         field.getGenericType(),
-        field.getName());
-
+        options.isFieldProjection() ? field.getName() + "Value" : field.getName()));
+
+    if (options.isFieldProjection()) {
+      parseCode.addStatement("$L = $L", field.getName(), resultVar);
+      parseCode.nextControlFlow("else")
+          .addStatement("$L = $L", field.getName(), field.getType().isPrimitive() ? defaultPrimitiveValue(field.getType()) : "null");
+      fieldProjectionVariable = null;
+      parseCode.endControlFlow();
+    }
     methodBuilder.addCode(parseCode.build());
-    return resultVar;
+    return options.isFieldProjection() ? field.getName() : resultVar;
+  }
+
+  private static String defaultPrimitiveValue(final Class<?> type) {
+    return type == boolean.class ? "false" : "0";
+  }
+
+  /**
+   * In projection mode, looks up the projection of the fields within the field, and opens the block that only parses the
+   * field if it is selected. The projection is passed on to the parsers of the field, including those of the elements of a
+   * collection or map.
+   */
+  private static void beginProjectedField(final CodeBlock.Builder code, final Field field, final String parserPackage) {
+    if (options.isFieldProjection()) {
+      fieldProjectionVariable = ParserCommonUtils.getFieldProjectionName(field.getName());
+      code.addStatement("final $T $L = $L.field($S)", ParserCommonUtils.getProjection(parserPackage), fieldProjectionVariable,
+          ParserCommonUtils.PROJECTION_PARAM_NAME, field.getName());
+      code.beginControlFlow("if ($L != null)", fieldProjectionVariable);
+    }
+  }
+
+  /**
+   * Closes the block opened by {@link #beginProjectedField}.
+   */
+  private static void endProjectedField(final CodeBlock.Builder code) {
+    if (options.isFieldProjection()) {
+      fieldProjectionVariable = null;
+      code.endControlFlow();
+    }
   }
 
-  private static MethodSpec createConfigParseMethod(final Class<?> targetClass, final String parserPackage) {
+  private static MethodSpec createConfigParseMethod(final TypeSpec.Builder typeSpec, final Class<?> targetClass,
+      final String parserPackage) {
     final ClassName targetClassName = ClassName.get(targetClass);
     final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("parse")
         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
         .returns(void.class)
         .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL)
         .addParameter(targetClassName, "config", Modifier.FINAL);
+    addProjectionParameter(methodBuilder, parserPackage);
+    addParseErrorsParameter(methodBuilder, parserPackage);
 
     methodBuilder.beginControlFlow("if ($L == null || config == null)", ParserCommonUtils.BASE_OBJECT_PARAM_NAME) // Added check for config != null
         .addStatement("return")
         .endControlFlow();
 
+    final List<Field> fields = new ArrayList<>(ConstructorAnalyzer.getParseableFields(targetClass));
+    Class<?> superclass = targetClass.getSuperclass();
+    if (options.isFlattenInheritance()) {
+      // Inline the fields of generated parent parsers, so the JSON object is scanned once for the whole hierarchy
+      while (superclass != null && superclass != Object.class && !hasCustomParser(superclass.getSimpleName())) {
+        addInheritedFields(fields, superclass);
+        superclass = superclass.getSuperclass();
+      }
+    }
+
     // Parse fields from parent class if any
-    final Class<?> superclass = targetClass.getSuperclass();
     if (superclass != null && superclass != Object.class) {
       methodBuilder.addComment(String.format("Parse fields from parent class (%s)", superclass.getSimpleName()))
-          .addStatement("$T.parse($L, config)", determineParserClassName(superclass, parserPackage), ParserCommonUtils.BASE_OBJECT_PARAM_NAME);
+          .addStatement("$T.parse($L, config$L$L)", determineParserClassName(superclass, parserPackage),
+              ParserCommonUtils.BASE_OBJECT_PARAM_NAME, projectionArgument(superclass), parseErrorsArgument(superclass));
     }
 
-    for (final Field field : ConstructorAnalyzer.getParseableFields(targetClass)) {
-      methodBuilder.addCode("\n");
-      methodBuilder.addComment("Parse $L", field.getName());
-      final boolean requireNonNull = !ParserCommonUtils.isPrimitiveType(field.getGenericType());
-      methodBuilder.addCode(ParserCommonUtils.createFieldExistsCheck(
-          ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
-          field.getName(),
-          requireNonNull,
-          innerCode -> {
-            final CodeBlock fieldAccess = ParserCommonUtils.createFieldAccessCode(
-                field.getGenericType(),
-                ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
-                CodeBlock.of("$S", field.getName()));
-
-            final String resultVar = dispatchGenerateParsingCodeInto(
-                innerCode,
-                field.getGenericType(),
-                ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
-                parserPackage,
-                fieldAccess,
-                1,
-                field.getGenericType());
-            innerCode.addStatement("config.set$L($L)", ParserCommonUtils.capitalize(field.getName()), resultVar);
-          }));
+    if (TableParserWriterUtils.isTableDriven(fields)) {
+      TableParserWriterUtils.addTableParsing(typeSpec, methodBuilder, targetClass, fields, parserPackage);
+      return methodBuilder.build();
+    }
+
+    final boolean keyDriven = options.isKeyDrivenParsing() || options.isFlattenInheritance();
+    final List<CodeBlock> fieldCodes = new ArrayList<>();
+    for (final Field field : fields) {
+      fieldCodes.add(keyDriven ? createKeyDrivenFieldCase(field, parserPackage) : createSetterFieldCode(field, parserPackage));
+    }
+    final List<List<Integer>> groups = splitFieldGroups(fieldCodes);
+
+    if (groups.size() > 1) {
+      // Too much code for a single method, parse each group of fields in a method of its own
+      for (int group = 0; group < groups.size(); group++) {
+        final String groupMethodName = FIELD_GROUP_METHOD_PREFIX + (group + 1);
+        final MethodSpec.Builder groupBuilder = createFieldGroupMethod(groupMethodName, targetClassName, parserPackage, keyDriven);
+        final List<Field> groupFields = selectFields(fields, groups.get(group));
+        final List<CodeBlock> groupCodes = selectFields(fieldCodes, groups.get(group));
+        if (keyDriven) {
+          // The parse method only passes the keys of the fields in this group
+          beginFieldTracking(groupBuilder, groupFields);
+          trackField(groupBuilder, CodeBlock.of("$L", KEY_VARIABLE_NAME));
+          groupBuilder.beginControlFlow("switch ($L)", KEY_VARIABLE_NAME);
+          groupCodes.forEach(groupBuilder::addCode);
+          groupBuilder.addCode("default:\n")
+              .addStatement("  break")
+              .endControlFlow();
+          exitFieldTracking(groupBuilder, groupFields);
+          endFieldTracking(groupBuilder, groupFields, parserPackage);
+        } else {
+          addTrackedFieldCodes(groupBuilder, groupFields, groupCodes, parserPackage);
+        }
+        typeSpec.addMethod(groupBuilder.build());
+      }
+      if (keyDriven) {
+        addKeyDrivenGroupDispatch(methodBuilder, fields, groups);
+      } else {
+        for (int group = 0; group < groups.size(); group++) {
+          methodBuilder.addStatement("$L$L($L, config$L$L)", FIELD_GROUP_METHOD_PREFIX, group + 1, ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
+              projectionArgument(), parseErrorsArgument());
+        }
+      }
+    } else if (keyDriven) {
+      beginFieldTracking(methodBuilder, fields);
+      addKeyDrivenFieldParsing(methodBuilder, fieldCodes);
+      exitFieldTracking(methodBuilder, fields);
+      endFieldTracking(methodBuilder, fields, parserPackage);
+    } else {
+      addTrackedFieldCodes(methodBuilder, fields, fieldCodes, parserPackage);
     }
 
     return methodBuilder.build();
   }
 
+  /**
+   * Generates the code parsing a single field and passing it to its setter, preceded by tracking the field for errors.
+   */
+  private static CodeBlock createSetterFieldCode(final Field field, final String parserPackage) {
+    final MethodSpec.Builder fieldBuilder = MethodSpec.methodBuilder(field.getName());
+    fieldBuilder.addComment("Parse $L", field.getName());
+    trackField(fieldBuilder, field);
+    final boolean requireNonNull = !ParserCommonUtils.isPrimitiveType(field.getGenericType());
+    final CodeBlock.Builder fieldCode = CodeBlock.builder();
+    beginProjectedField(fieldCode, field, parserPackage);
+    fieldCode.add(ParserCommonUtils.createFieldExistsCheck(
+        ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
+        field.getName(),
+        requireNonNull,
+        innerCode -> addSetterFieldParsingCode(innerCode, field, parserPackage)));
+    endProjectedField(fieldCode);
+    fieldBuilder.addCode(fieldCode.build());
+    return fieldBuilder.build().code();
+  }
+
+  /**
+   * Adds the code of the fields within the try block tracking the field being parsed.
+   */
+  private static void addTrackedFieldCodes(final MethodSpec.Builder methodBuilder, final List<Field> fields, final List<CodeBlock> fieldCodes,
+      final String parserPackage) {
+    beginFieldTracking(methodBuilder, fields);
+    for (int i = 0; i < fieldCodes.size(); i++) {
+      addFieldSeparator(methodBuilder, fields, fields.get(i));
+      methodBuilder.addCode(fieldCodes.get(i));
+    }
+    exitFieldTracking(methodBuilder, fields);
+    endFieldTracking(methodBuilder, fields, parserPackage);
+  }
+
+  /**
+   * Splits the code of the fields into consecutive groups of at most the method size limit each, so no method gets too large
+   * for the JIT to compile it. A field with more code than the limit gets a group of its own.
+   *
+   * @return the indices of the fields in each group; a single group if all code fits in one method
+   */
+  private static List<List<Integer>> splitFieldGroups(final List<CodeBlock> fieldCodes) {
+    final List<List<Integer>> groups = new ArrayList<>();
+    List<Integer> group = new ArrayList<>();
+    int groupSize = 0;
+    for (int i = 0; i < fieldCodes.size(); i++) {
+      final int size = estimateBytecodeSize(fieldCodes.get(i));
+      if (!group.isEmpty() && groupSize + size > options.getMethodSizeLimit()) {
+        groups.add(group);
+        group = new ArrayList<>();
+        groupSize = 0;
+      }
+      group.add(i);
+      groupSize += size;
+    }
+    groups.add(group);
+    return groups;
+  }
+
+  /**
+   * Estimates the size of the bytecode the code compiles to from its source without whitespace and comments. Measured on the
+   * bytecode javac emits for the generated parsers, plain code takes 3 to 6 of those characters per byte, while a case of a
+   * switch on strings takes about 24 bytes for its hash lookup and equals check, far more than its source. This overestimates
+   * the size by up to a factor 2, so no split method ends up over the limit.
+   */
+  private static int estimateBytecodeSize(final CodeBlock code) {
+    final String source = COMMENT_PATTERN.matcher(code.toString()).replaceAll("");
+    final long stringCases = STRING_CASE_PATTERN.matcher(source).results().count();
+    return (int) (source.replaceAll("\\s", "").length() / SOURCE_CHARS_PER_BYTECODE_BYTE + stringCases * BYTECODE_BYTES_PER_STRING_CASE);
+  }
+
+  private static <T> List<T> selectFields(final List<T> values, final List<Integer> indices) {
+    final List<T> selected = new ArrayList<>();
+    for (final int index : indices) {
+      selected.add(values.get(index));
+    }
+    return selected;
+  }
+
+  /**
+   * Creates a private method parsing a group of fields, taking the same arguments as the parse method it is split from.
+   */
+  private static MethodSpec.Builder createFieldGroupMethod(final String methodName, final TypeName targetType, final String parserPackage,
+      final boolean keyDriven) {
+    final MethodSpec.Builder groupBuilder = MethodSpec.methodBuilder(methodName)
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+        .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL)
+        .addParameter(targetType, "config", Modifier.FINAL);
+    if (keyDriven) {
+      groupBuilder.addParameter(String.class, KEY_VARIABLE_NAME, Modifier.FINAL);
+    }
+    addProjectionParameter(groupBuilder, parserPackage);
+    addParseErrorsParameter(groupBuilder, parserPackage);
+    return groupBuilder;
+  }
+
+  /**
+   * Opens the try block around the parsing of the fields. The field being parsed is kept in a local variable, so an error
+   * can be reported with its path without building that path while parsing. In lenient mode it is kept in a level of the
+   * error sink instead, where errors recorded deeper down find it.
+   */
+  private static void beginFieldTracking(final MethodSpec.Builder methodBuilder, final List<Field> fields) {
+    if (fields.isEmpty()) {
+      return;
+    }
+    methodBuilder.addCode("\n");
+    if (options.isLenientParsing()) {
+      methodBuilder.addStatement("final int $L = $L.enter()", ParseErrorWriterUtils.PATH_LEVEL_VARIABLE, ParserCommonUtils.PARSE_ERRORS_PARAM_NAME);
+    } else {
+      methodBuilder.addStatement("$T $L = null", String.class, ParseErrorWriterUtils.CURRENT_FIELD_VARIABLE);
+    }
+    methodBuilder.beginControlFlow("try");
+  }
+
+  private static void addFieldSeparator(final MethodSpec.Builder methodBuilder, final List<Field> fields, final Field field) {
+    if (field != fields.get(0)) {
+      methodBuilder.addCode("\n");
+    }
+  }
+
+  private static void trackField(final MethodSpec.Builder methodBuilder, final Field field) {
+    trackField(methodBuilder, CodeBlock.of("$S", field.getName()));
+  }
+
+  private static void trackField(final MethodSpec.Builder methodBuilder, final CodeBlock fieldName) {
+    if (options.isLenientParsing()) {
+      methodBuilder.addStatement("$L.at($L, $L)", ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, ParseErrorWriterUtils.PATH_LEVEL_VARIABLE,
+          fieldName);
+    } else {
+      methodBuilder.addStatement("$L = $L", ParseErrorWriterUtils.CURRENT_FIELD_VARIABLE, fieldName);
+    }
+  }
+
+  /**
+   * In lenient mode, releases the level of the error sink taken by {@link #beginFieldTracking} once all fields are parsed.
+   */
+  private static void exitFieldTracking(final MethodSpec.Builder methodBuilder, final List<Field> fields) {
+    if (!fields.isEmpty() && options.isLenientParsing()) {
+      methodBuilder.addStatement("$L.exit($L)", ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, ParseErrorWriterUtils.PATH_LEVEL_VARIABLE);
+    }
+  }
+
+  /**
+   * Closes the try block opened by {@link #beginFieldTracking}, prepending the field being parsed to the path of any error.
+   */
+  private static void endFieldTracking(final MethodSpec.Builder methodBuilder, final List<Field> fields, final String parserPackage) {
+    if (fields.isEmpty()) {
+      return;
+    }
+    methodBuilder.nextControlFlow("catch (final $T e)", RuntimeException.class);
+    if (options.isLenientParsing()) {
+      methodBuilder.addStatement("throw $L.fail($L, e)", ParserCommonUtils.PARSE_ERRORS_PARAM_NAME, ParseErrorWriterUtils.PATH_LEVEL_VARIABLE);
+    } else {
+      methodBuilder.addStatement("throw $T.at($L, e)", ParserCommonUtils.getParseException(parserPackage),
+          ParseErrorWriterUtils.CURRENT_FIELD_VARIABLE);
+    }
+    methodBuilder.endControlFlow();
+  }
+
+  /**
+   * Adds the parseable fields of a parent class in front of the fields collected so far, skipping fields that are hidden
+   * by a field with the same name in a subclass.
+   */
+  private static void addInheritedFields(final List<Field> fields, final Class<?> parentClass) {
+    final List<Field> inherited = new ArrayList<>();
+    for (final Field field : ConstructorAnalyzer.getParseableFields(parentClass)) {
+      if (fields.stream().noneMatch(f -> f.getName().equals(field.getName()))) {
+        inherited.add(field);
+      }
+    }
+    fields.addAll(0, inherited);
+  }
+
+  /**
+   * Generates a single loop over the keys present in the JSON object, dispatching on the key with a switch over the cases
+   * of the fields. The cost is proportional to the number of keys actually present instead of the number of fields in the
+   * model.
+   */
+  private static void addKeyDrivenFieldParsing(final MethodSpec.Builder methodBuilder, final List<CodeBlock> fieldCases) {
+    if (fieldCases.isEmpty()) {
+      return;
+    }
+    methodBuilder.beginControlFlow("for (final $T $L : $L)", String.class, KEY_VARIABLE_NAME,
+        ParserCommonUtils.getRuntimeTarget().keys(ParserCommonUtils.BASE_OBJECT_PARAM_NAME));
+    trackField(methodBuilder, CodeBlock.of("$L", KEY_VARIABLE_NAME));
+    methodBuilder.beginControlFlow("switch ($L)", KEY_VARIABLE_NAME);
+    fieldCases.forEach(methodBuilder::addCode);
+    methodBuilder.addCode("default:\n");
+    methodBuilder.addStatement("  break");
+    methodBuilder.endControlFlow(); // End switch
+    methodBuilder.endControlFlow(); // End for
+  }
+
+  /**
+   * Loops over the keys of the JSON object and passes each key to the method parsing the group of fields it belongs to, so
+   * each key is dispatched once rather than to every group.
+   */
+  private static void addKeyDrivenGroupDispatch(final MethodSpec.Builder methodBuilder, final List<Field> fields,
+      final List<List<Integer>> groups) {
+    methodBuilder.beginControlFlow("for (final $T $L : $L)", String.class, KEY_VARIABLE_NAME,
+        ParserCommonUtils.getRuntimeTarget().keys(ParserCommonUtils.BASE_OBJECT_PARAM_NAME));
+    methodBuilder.beginControlFlow("switch ($L)", KEY_VARIABLE_NAME);
+    for (int group = 0; group < groups.size(); group++) {
+      for (final Field field : selectFields(fields, groups.get(group))) {
+        methodBuilder.addCode("case $S:\n", field.getName());
+      }
+      methodBuilder.addStatement("  $L$L($L, config, $L$L$L)", FIELD_GROUP_METHOD_PREFIX, group + 1, ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
+          KEY_VARIABLE_NAME, projectionArgument(), parseErrorsArgument());
+      methodBuilder.addStatement("  break");
+    }
+    methodBuilder.addCode("default:\n");
+    methodBuilder.addStatement("  break");
+    methodBuilder.endControlFlow(); // End switch
+    methodBuilder.endControlFlow(); // End for
+  }
+
+  /**
+   * Generates the case of the switch on the JSON keys that parses the given field.
+   */
+  private static CodeBlock createKeyDrivenFieldCase(final Field field, final String parserPackage) {
+    final CodeBlock.Builder caseCode = CodeBlock.builder();
+    caseCode.beginControlFlow("case $S:", field.getName());
+    beginProjectedField(caseCode, field, parserPackage);
+    caseCode.add(ParserCommonUtils.createFieldHandleDeclaration(ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName()));
+    if (ParserCommonUtils.isPrimitiveType(field.getGenericType())) {
+      addSetterFieldParsingCode(caseCode, field, parserPackage);
+    } else {
+      caseCode.beginControlFlow("if (!$L)", ParserCommonUtils.createFieldNullCheck(ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName()));
+      addSetterFieldParsingCode(caseCode, field, parserPackage);
+      caseCode.endControlFlow();
+    }
+    endProjectedField(caseCode);
+    caseCode.addStatement("break");
+    caseCode.endControlFlow();
+    return caseCode.build();
+  }
+
+  /**
+   * Generates the code that parses a single field and passes the result to the setter of the config object.
+   */
+  private static void addSetterFieldParsingCode(final CodeBlock.Builder code, final Field field, final String parserPackage) {
+    if (LazyParserWriterUtils.isLazyField(field)) {
+      LazyParserWriterUtils.addLazyFieldParsingCode(code, field, parserPackage);
+      return;
+    }
+    final String resultVar = addFieldValueParsingCode(code, field, parserPackage);
+    code.addStatement("config.set$L($L)", ParserCommonUtils.capitalize(field.getName()), resultVar);
+  }
+
+  /**
+   * Generates the code that parses the value of a single field from the base object. With single lookups the value is read
+   * from the handle on the field, which must have been declared before with
+   * {@link ParserCommonUtils#createFieldHandleDeclaration}.
+   *
+   * @return the name of the variable holding the parsed value
+   */
+  static String addFieldValueParsingCode(final CodeBlock.Builder code, final Field field, final String parserPackage) {
+    final CodeBlock fieldAccess = ParserCommonUtils.createFieldValueAccessCode(field.getGenericType(),
+        ParserCommonUtils.BASE_OBJECT_PARAM_NAME, field.getName());
+
+    return generateForField(field, () -> dispatchGenerateParsingCodeInto(
+        code,
+        field.getGenericType(),
+        ParserCommonUtils.BASE_OBJECT_PARAM_NAME,
+        parserPackage,
+        fieldAccess,
+        1,
+        field.getGenericType()));
+  }
+
   /**
    * Dispatches parsing logic to the appropriate TypeParser based on the given type.
    *
@@ -504,10 +1155,22 @@ public final class ParserWriterUtils {
   }
 
   /**
-   * Dispatches parsing logic to the appropriate TypeParser with an optional variable name override.
+   * Dispatches parsing logic to the appropriate TypeParser with an optional variable name override. Nested generic shapes
+   * are parsed through a shared helper when enabled.
    */
   public static String dispatchGenerateParsingCodeInto(final CodeBlock.Builder code, final Type type, final String objVarName,
       final String parserPackage, final CodeBlock accessExpression, final int level, final Type fieldType, final String variableName) {
+    if (SharedHelperWriterUtils.isShared(type, fieldType)) {
+      return SharedHelperWriterUtils.addHelperCall(code, type, parserPackage, accessExpression, level, fieldType, variableName);
+    }
+    return dispatchToTypeParser(code, type, objVarName, parserPackage, accessExpression, level, fieldType, variableName);
+  }
+
+  /**
+   * Generates the parsing code with the TypeParser handling the given type, without going through a shared helper.
+   */
+  static String dispatchToTypeParser(final CodeBlock.Builder code, final Type type, final String objVarName, final String parserPackage,
+      final CodeBlock accessExpression, final int level, final Type fieldType, final String variableName) {
     for (final TypeParser parser : PARSERS) {
       if (parser.canHandle(type)) {
         return parser.generateParsingCodeInto(code, type, objVarName, parserPackage, accessExpression, level, fieldType, variableName);
@@ -520,8 +1183,55 @@ public final class ParserWriterUtils {
     return placeholderVar;
   }
 
+  /**
+   * Dispatches streaming parsing logic to the appropriate TypeParser based on the given type.
+   *
+   * @param code          The CodeBlock.Builder to add generated code to.
+   * @param type          The Type to parse.
+   * @param parserPackage The package for generated parsers.
+   * @param level         The current nesting level (for variable scoping).
+   * @param fieldType     The exact generic type of the field/setter parameter.
+   * @param variableName  Optional name of the result variable, null to use level-based naming.
+   * @return The name of the variable declared within the generated code block
+   *         that holds the final parsed value.
+   */
+  public static String dispatchGenerateStreamingCodeInto(final CodeBlock.Builder code, final Type type, final String parserPackage,
+      final int level, final Type fieldType, final String variableName) {
+    for (final TypeParser parser : PARSERS) {
+      if (parser.canHandle(type)) {
+        return parser.generateStreamingCodeInto(code, type, parserPackage, level, fieldType, variableName);
+      }
+    }
+
+    final String placeholderVar = variableName != null ? variableName : "level" + level + "UnsupportedValue";
+    code.addStatement("$L.skipChildren()", ParserCommonUtils.PARSER_PARAM_NAME);
+    code.addStatement("$T $L = null; // Type not supported: $L", Object.class, placeholderVar, type.getTypeName());
+    return placeholderVar;
+  }
+
+  /**
+   * Dispatches writing logic to the appropriate TypeParser based on the given type.
+   *
+   * @param code            The CodeBlock.Builder to add generated code to.
+   * @param type            The Type of the value to write.
+   * @param valueExpression Expression holding the value, usually a local variable.
+   * @param parserPackage   The package for generated parsers and writers.
+   * @param level           The current nesting level (for variable scoping).
+   */
+  public static void dispatchGenerateWritingCodeInto(final CodeBlock.Builder code, final Type type, final CodeBlock valueExpression,
+      final String parserPackage, final int level) {
+    for (final TypeParser parser : PARSERS) {
+      if (parser.canHandle(type)) {
+        parser.generateWritingCodeInto(code, type, valueExpression, parserPackage, level);
+        return;
+      }
+    }
+
+    code.addStatement("$L.append($S); // Type not supported: $L", ParserCommonUtils.BUILDER_PARAM_NAME, "null", type.getTypeName());
+  }
+
   // Helper to check for Polymorphic Base Class annotations
-  private static boolean hasJsonTypeInfoWithNameDiscriminator(final Class<?> clazz) {
+  static boolean hasJsonTypeInfoWithNameDiscriminator(final Class<?> clazz) {
     final JsonTypeInfo typeInfo = clazz.getAnnotation(JsonTypeInfo.class);
     final JsonSubTypes subTypes = clazz.getAnnotation(JsonSubTypes.class);
     // Check for the specific combination we want to handle
@@ -529,7 +1239,7 @@ public final class ParserWriterUtils {
   }
 
   // Helper to get the discriminator property name
-  private static String getDiscriminatorProperty(final Class<?> clazz) {
+  static String getDiscriminatorProperty(final Class<?> clazz) {
     final JsonTypeInfo typeInfo = clazz.getAnnotation(JsonTypeInfo.class);
     if (typeInfo != null) {
       return typeInfo.property();
@@ -538,7 +1248,7 @@ public final class ParserWriterUtils {
   }
 
   // Helper to find the superclass that is the polymorphic base, if any
-  private static Class<?> findPolymorphicSuperclass(final Class<?> clazz) {
+  static Class<?> findPolymorphicSuperclass(final Class<?> clazz) {
     Class<?> superclass = clazz.getSuperclass();
     while (superclass != null && superclass != Object.class) {
       if (hasJsonTypeInfoWithNameDiscriminator(superclass)) {
@@ -0,0 +1,100 @@
+package nl.aerius.codegen.generator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates the field projection taken by the parse methods in projection mode, which selects the fields to parse.
+ *
+ * A projection is compiled once from dotted field paths into a tree with a node per selected object, so checking a field
+ * while parsing is a single map lookup. Collections and maps are transparent: the projection of a field holding a
+ * collection or map applies to each of its elements.
+ */
+final class ProjectionWriterUtils {
+  private static final String FIELDS_FIELD_NAME = "fields";
+  private static final String ALL_FIELD_NAME = "ALL";
+
+  private ProjectionWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Creates the projection class.
+   */
+  static TypeSpec createProjectionTypeSpec(final String parserPackage, final String generatorName, final String generatorDetails) {
+    final ClassName projection = ParserCommonUtils.getProjection(parserPackage);
+    final TypeName fieldMap = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), projection);
+
+    final MethodSpec of = MethodSpec.methodBuilder("of")
+        .addJavadoc("Compiles a projection selecting the given fields. A path selects a field with everything in it, unless a\n"
+            + "longer path through it selects fields within it: {@code \"a\"} selects all of {@code a}, {@code \"a.b\"} only\n"
+            + "{@code b} within {@code a}.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(projection)
+        .addParameter(String[].class, "paths", Modifier.FINAL)
+        .varargs()
+        .addStatement("final $T projection = new $T(new $T<>())", projection, projection, HashMap.class)
+        .beginControlFlow("for (final $T path : paths)", String.class)
+        .addStatement("projection.add(path.split($S), 0)", "\\.")
+        .endControlFlow()
+        .addStatement("return projection")
+        .build();
+
+    final MethodSpec add = MethodSpec.methodBuilder("add")
+        .addModifiers(Modifier.PRIVATE)
+        .addParameter(String[].class, "segments", Modifier.FINAL)
+        .addParameter(int.class, "index", Modifier.FINAL)
+        .addStatement("final $T name = segments[index]", String.class)
+        .beginControlFlow("if (index == segments.length - 1)")
+        .addStatement("$L.put(name, $L)", FIELDS_FIELD_NAME, ALL_FIELD_NAME)
+        .addStatement("return")
+        .endControlFlow()
+        .addStatement("$T child = $L.get(name)", projection, FIELDS_FIELD_NAME)
+        .beginControlFlow("if (child == $L)", ALL_FIELD_NAME)
+        .addStatement("return")
+        .endControlFlow()
+        .beginControlFlow("if (child == null)")
+        .addStatement("child = new $T(new $T<>())", projection, HashMap.class)
+        .addStatement("$L.put(name, child)", FIELDS_FIELD_NAME)
+        .endControlFlow()
+        .addStatement("child.add(segments, index + 1)")
+        .build();
+
+    final MethodSpec field = MethodSpec.methodBuilder("field")
+        .addJavadoc("Returns the projection of the fields within the given field, or null if the field is not selected.\n")
+        .addModifiers(Modifier.PUBLIC)
+        .returns(projection)
+        .addParameter(String.class, "name", Modifier.FINAL)
+        .addStatement("return $L == null ? this : $L.get(name)", FIELDS_FIELD_NAME, FIELDS_FIELD_NAME)
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(projection.simpleName(), generatorName, generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addField(FieldSpec.builder(projection, ALL_FIELD_NAME, Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .addJavadoc("Projection selecting all fields, used by the parse methods without a projection.\n")
+            .initializer("new $T(null)", projection)
+            .build())
+        .addField(FieldSpec.builder(fieldMap, FIELDS_FIELD_NAME, Modifier.PRIVATE, Modifier.FINAL)
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(fieldMap, FIELDS_FIELD_NAME, Modifier.FINAL)
+            .addStatement("this.$L = $L", FIELDS_FIELD_NAME, FIELDS_FIELD_NAME)
+            .build())
+        .addMethod(of)
+        .addMethod(add)
+        .addMethod(field)
+        .build();
+  }
+}
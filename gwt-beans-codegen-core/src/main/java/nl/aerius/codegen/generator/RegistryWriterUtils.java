@@ -0,0 +1,108 @@
+package nl.aerius.codegen.generator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+import com.palantir.javapoet.TypeVariableName;
+import com.palantir.javapoet.WildcardTypeName;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates the parser registry, the single entry point that parses a JSON object as a type given by its Class.
+ *
+ * Each type gets a fixed type id. The Class is mapped to its id with one map lookup, and the id is dispatched to the parser
+ * with a switch calling the static parse method directly, so no reflection is needed and it works in GWT. Code parsing
+ * the same type repeatedly can look the id up once and call parse(int, JSONObjectHandle).
+ */
+final class RegistryWriterUtils {
+  private static final String TYPE_IDS_FIELD_NAME = "TYPE_IDS";
+  private static final String TYPE_PARAM_NAME = "type";
+  private static final String TYPE_ID_PARAM_NAME = "typeId";
+
+  private RegistryWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Creates the registry class for the given types, which all have a generated or custom parser. The type id of a type is
+   * its index in the list.
+   */
+  static TypeSpec createParserRegistryTypeSpec(final String parserPackage, final List<Class<?>> types, final String generatorName,
+      final String generatorDetails) {
+    final TypeName anyClass = ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+    final TypeName typeIdMap = ParameterizedTypeName.get(ClassName.get(Map.class), anyClass, ClassName.get(Integer.class));
+    final String baseObj = ParserCommonUtils.BASE_OBJECT_PARAM_NAME;
+
+    final CodeBlock.Builder typeIds = CodeBlock.builder();
+    for (int i = 0; i < types.size(); i++) {
+      typeIds.addStatement("$L.put($T.class, $L)", TYPE_IDS_FIELD_NAME, types.get(i), i);
+    }
+
+    final MethodSpec typeId = MethodSpec.methodBuilder("typeId")
+        .addJavadoc("Returns the id of the type, or -1 if there is no parser for the type.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(int.class)
+        .addParameter(anyClass, TYPE_PARAM_NAME, Modifier.FINAL)
+        .addStatement("final $T $L = $L.get($L)", Integer.class, TYPE_ID_PARAM_NAME, TYPE_IDS_FIELD_NAME, TYPE_PARAM_NAME)
+        .addStatement("return $L == null ? -1 : $L", TYPE_ID_PARAM_NAME, TYPE_ID_PARAM_NAME)
+        .build();
+
+    final MethodSpec.Builder parseById = MethodSpec.methodBuilder("parse")
+        .addJavadoc("Parses the JSON object as the type with the given id.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(Object.class)
+        .addParameter(int.class, TYPE_ID_PARAM_NAME, Modifier.FINAL)
+        .addParameter(ParserCommonUtils.getJSONObjectHandle(), baseObj, Modifier.FINAL)
+        .beginControlFlow("switch ($L)", TYPE_ID_PARAM_NAME);
+    for (int i = 0; i < types.size(); i++) {
+      parseById.addCode("case $L:\n", i)
+          .addStatement("  return $T.parse($L)", ParserWriterUtils.determineParserClassName(types.get(i), parserPackage), baseObj);
+    }
+    parseById.addCode("default:\n")
+        .addStatement("  throw new $T($S + $L)", IllegalArgumentException.class, "Unknown type id ", TYPE_ID_PARAM_NAME)
+        .endControlFlow();
+
+    final TypeVariableName typeVariable = TypeVariableName.get("T");
+    final MethodSpec parseByClass = MethodSpec.methodBuilder("parse")
+        .addJavadoc("Parses the JSON object as the given type.\n")
+        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addTypeVariable(typeVariable)
+        .returns(typeVariable)
+        .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), typeVariable), TYPE_PARAM_NAME, Modifier.FINAL)
+        .addParameter(ParserCommonUtils.getJSONObjectHandle(), baseObj, Modifier.FINAL)
+        .addStatement("final int $L = typeId($L)", TYPE_ID_PARAM_NAME, TYPE_PARAM_NAME)
+        .beginControlFlow("if ($L < 0)", TYPE_ID_PARAM_NAME)
+        .addStatement("throw new $T($S + $L.getName())", IllegalArgumentException.class, "No parser registered for ", TYPE_PARAM_NAME)
+        .endControlFlow()
+        .addStatement("return ($T) parse($L, $L)", typeVariable, TYPE_ID_PARAM_NAME, baseObj)
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(ParserCommonUtils.getParserRegistry(parserPackage).simpleName(), generatorName,
+        generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addField(FieldSpec.builder(typeIdMap, TYPE_IDS_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("new $T<>()", HashMap.class)
+            .build())
+        .addStaticBlock(typeIds.build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(typeId)
+        .addMethod(parseById.build())
+        .addMethod(parseByClass)
+        .build();
+  }
+}
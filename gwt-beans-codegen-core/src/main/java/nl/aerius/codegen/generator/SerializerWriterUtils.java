@@ -0,0 +1,265 @@
+package nl.aerius.codegen.generator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.lang.model.element.Modifier;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import nl.aerius.codegen.analyzer.ConstructorAnalyzer;
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates writers that append the JSON representation of an object straight into a StringBuilder, the reverse of the
+ * generated parsers. The writer of a type writes the same fields its parser reads, read through their getters.
+ *
+ * Polymorphic types write the type discriminator of the subtype, enums use their JSON names and map keys are written with
+ * their {@code @JsonKey} or toStringValue() method. Types with a custom parser need a custom writer with the same name
+ * pattern ({@code <Type>Writer}) in the package of the custom parser.
+ */
+final class SerializerWriterUtils {
+  private static final String WRITE_METHOD_NAME = "write";
+  private static final String VALUE_PARAM_NAME = "value";
+
+  private SerializerWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * @return the simple name of the writer class for the target class
+   */
+  static String getWriterClassName(final Class<?> targetClass) {
+    return targetClass.getSimpleName() + "Writer";
+  }
+
+  /**
+   * Adds the write methods for the target class to the writer type specification.
+   */
+  static void generateWriterForFields(final TypeSpec.Builder typeSpec, final Class<?> targetClass, final String parserPackage) {
+    final ClassName targetClassName = ClassName.get(targetClass);
+    final String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+
+    typeSpec.addMethod(MethodSpec.methodBuilder(WRITE_METHOD_NAME)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(String.class)
+        .addParameter(targetClassName, VALUE_PARAM_NAME, Modifier.FINAL)
+        .addStatement("final $T $L = new $T()", StringBuilder.class, builderVar, StringBuilder.class)
+        .addStatement("$L($L, $L)", WRITE_METHOD_NAME, builderVar, VALUE_PARAM_NAME)
+        .addStatement("return $L.toString()", builderVar)
+        .build());
+
+    typeSpec.addMethod(createWriteMethod(targetClass, parserPackage));
+  }
+
+  private static MethodSpec createWriteMethod(final Class<?> targetClass, final String parserPackage) {
+    final String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+    final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(WRITE_METHOD_NAME)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addParameter(StringBuilder.class, builderVar, Modifier.FINAL)
+        .addParameter(ClassName.get(targetClass), VALUE_PARAM_NAME, Modifier.FINAL);
+
+    methodBuilder.beginControlFlow("if ($L == null)", VALUE_PARAM_NAME)
+        .addStatement("$L.append($S)", builderVar, "null")
+        .addStatement("return")
+        .endControlFlow();
+
+    final boolean polymorphic = ParserWriterUtils.hasJsonTypeInfoWithNameDiscriminator(targetClass);
+    if (polymorphic) {
+      addSubtypeDispatch(methodBuilder, targetClass, parserPackage);
+    }
+    if (polymorphic && (targetClass.isInterface() || java.lang.reflect.Modifier.isAbstract(targetClass.getModifiers()))) {
+      methodBuilder.addStatement("throw new $T($S + $L.getClass().getName() + $S)", IllegalArgumentException.class, "Unknown type ",
+          VALUE_PARAM_NAME, " for " + targetClass.getSimpleName());
+      return methodBuilder.build();
+    }
+
+    // Names are known when generating, so each property is appended with its separator and quoted name in one literal
+    String separator = "{";
+    final String discriminatorName = findDiscriminatorName(targetClass);
+    if (discriminatorName != null) {
+      final Class<?> polymorphicBase = polymorphic ? targetClass : ParserWriterUtils.findPolymorphicSuperclass(targetClass);
+      methodBuilder.addStatement("$L.append($S)", builderVar, separator
+          + ParserCommonUtils.toJsonString(ParserWriterUtils.getDiscriminatorProperty(polymorphicBase)) + ":"
+          + ParserCommonUtils.toJsonString(discriminatorName));
+      separator = ",";
+    }
+
+    for (final Field field : collectFields(targetClass)) {
+      methodBuilder.addCode("\n");
+      methodBuilder.addComment("Write $L", field.getName());
+      methodBuilder.addStatement("$L.append($S)", builderVar, separator + ParserCommonUtils.toJsonString(field.getName()) + ":");
+      methodBuilder.addCode(createFieldWritingCode(targetClass, field, parserPackage));
+      separator = ",";
+    }
+
+    methodBuilder.addCode("\n");
+    methodBuilder.addStatement("$L.append($S)", builderVar, "{".equals(separator) ? "{}" : "}");
+    return methodBuilder.build();
+  }
+
+  /**
+   * Delegates to the writer of the subtype of the value, most specific subtypes first.
+   */
+  private static void addSubtypeDispatch(final MethodSpec.Builder methodBuilder, final Class<?> targetClass, final String parserPackage) {
+    final List<Class<?>> subTypes = new ArrayList<>();
+    for (final JsonSubTypes.Type subType : targetClass.getAnnotation(JsonSubTypes.class).value()) {
+      if (subType.value() != targetClass && !subTypes.contains(subType.value())) {
+        subTypes.add(subType.value());
+      }
+    }
+    subTypes.sort(Comparator.comparingInt(SerializerWriterUtils::getHierarchyDepth).reversed());
+
+    for (final Class<?> subType : subTypes) {
+      methodBuilder.beginControlFlow("if ($L instanceof $T)", VALUE_PARAM_NAME, subType)
+          .addStatement("$T.$L($L, ($T) $L)", determineWriterClassName(subType, parserPackage), WRITE_METHOD_NAME,
+              ParserCommonUtils.BUILDER_PARAM_NAME, subType, VALUE_PARAM_NAME)
+          .addStatement("return")
+          .endControlFlow();
+    }
+  }
+
+  private static CodeBlock createFieldWritingCode(final Class<?> targetClass, final Field field, final String parserPackage) {
+    final CodeBlock.Builder code = CodeBlock.builder();
+    final CodeBlock accessExpression = createFieldAccessExpression(targetClass, field);
+
+    if (ParserCommonUtils.isPrimitiveType(field.getGenericType())) {
+      ParserWriterUtils.dispatchGenerateWritingCodeInto(code, field.getGenericType(), accessExpression, parserPackage, 1);
+    } else {
+      // The value is read once into a local, as the writing code may use it more than once
+      final String valueVar = field.getName() + "Value";
+      code.addStatement("final $T $L = $L", TypeName.get(field.getGenericType()), valueVar, accessExpression);
+      ParserWriterUtils.dispatchGenerateWritingCodeInto(code, field.getGenericType(), CodeBlock.of("$L", valueVar), parserPackage, 1);
+    }
+    return code.build();
+  }
+
+  private static CodeBlock createFieldAccessExpression(final Class<?> targetClass, final Field field) {
+    final Method getter = ParserCommonUtils.findGetter(targetClass, field);
+    if (getter != null) {
+      return CodeBlock.of("$L.$L()", VALUE_PARAM_NAME, getter.getName());
+    } else if (java.lang.reflect.Modifier.isPublic(field.getModifiers())) {
+      return CodeBlock.of("$L.$L", VALUE_PARAM_NAME, field.getName());
+    }
+    throw new IllegalStateException("Cannot generate writer for " + targetClass.getName() + ": field '" + field.getName()
+        + "' has no public getter");
+  }
+
+  /**
+   * Collects the parseable fields of the class and its parent classes, parent fields first. Fields hidden by a field with the
+   * same name in a subclass are skipped.
+   */
+  private static List<Field> collectFields(final Class<?> targetClass) {
+    final List<Field> fields = new ArrayList<>();
+    for (Class<?> current = targetClass; current != null && current != Object.class; current = current.getSuperclass()) {
+      final List<Field> declared = new ArrayList<>();
+      for (final Field field : ConstructorAnalyzer.getParseableFields(current)) {
+        if (fields.stream().noneMatch(f -> f.getName().equals(field.getName()))) {
+          declared.add(field);
+        }
+      }
+      fields.addAll(0, declared);
+    }
+    return fields;
+  }
+
+  /**
+   * @return the type name the polymorphic base class uses for the target class, or null if the class isn't a named subtype
+   */
+  private static String findDiscriminatorName(final Class<?> targetClass) {
+    final Class<?> polymorphicBase = ParserWriterUtils.hasJsonTypeInfoWithNameDiscriminator(targetClass)
+        ? targetClass
+        : ParserWriterUtils.findPolymorphicSuperclass(targetClass);
+    if (polymorphicBase == null) {
+      return null;
+    }
+    return Arrays.stream(polymorphicBase.getAnnotation(JsonSubTypes.class).value())
+        .filter(subType -> subType.value() == targetClass && !subType.name().isEmpty())
+        .map(JsonSubTypes.Type::name)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static int getHierarchyDepth(final Class<?> type) {
+    int depth = 0;
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      depth++;
+    }
+    return depth;
+  }
+
+  private static ClassName determineWriterClassName(final Class<?> targetClass, final String parserPackage) {
+    final String customParserFQN = ParserWriterUtils.getCustomParserFQN(targetClass.getSimpleName());
+    final String writerPackage = customParserFQN == null ? parserPackage : customParserFQN.substring(0, customParserFQN.lastIndexOf('.'));
+    return ClassName.get(writerPackage, getWriterClassName(targetClass));
+  }
+
+  /**
+   * Creates the helper class shared by all writers, which appends Strings as escaped JSON strings.
+   */
+  static TypeSpec createWriterUtilsTypeSpec(final String parserPackage, final String generatorName, final String generatorDetails) {
+    final String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+    final CodeBlock.Builder escapeSwitch = CodeBlock.builder().beginControlFlow("switch (c)");
+    addEscapeCase(escapeSwitch, "'\\\"'", "\\\"");
+    addEscapeCase(escapeSwitch, "'\\\\'", "\\\\");
+    addEscapeCase(escapeSwitch, "'\\n'", "\\n");
+    addEscapeCase(escapeSwitch, "'\\r'", "\\r");
+    addEscapeCase(escapeSwitch, "'\\t'", "\\t");
+    escapeSwitch.add("default:\n").indent()
+        .addStatement("$L.append($S).append(HEX[c >> 4]).append(HEX[c & 0xF])", builderVar, "\\u00")
+        .addStatement("break").unindent()
+        .endControlFlow();
+
+    final MethodSpec appendString = MethodSpec.methodBuilder("appendString")
+        .addJavadoc("Appends the value as a quoted and escaped JSON string, or null if the value is null.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addParameter(StringBuilder.class, builderVar, Modifier.FINAL)
+        .addParameter(String.class, VALUE_PARAM_NAME, Modifier.FINAL)
+        .beginControlFlow("if ($L == null)", VALUE_PARAM_NAME)
+        .addStatement("$L.append($S)", builderVar, "null")
+        .addStatement("return")
+        .endControlFlow()
+        .addStatement("$L.append('\"')", builderVar)
+        .addComment("Unescaped runs are appended at once, only characters that need escaping are appended one by one")
+        .addStatement("int start = 0")
+        .beginControlFlow("for (int i = 0; i < $L.length(); i++)", VALUE_PARAM_NAME)
+        .addStatement("final char c = $L.charAt(i)", VALUE_PARAM_NAME)
+        .beginControlFlow("if (c < 0x20 || c == '\"' || c == '\\\\')")
+        .addStatement("$L.append($L, start, i)", builderVar, VALUE_PARAM_NAME)
+        .addCode(escapeSwitch.build())
+        .addStatement("start = i + 1")
+        .endControlFlow() // End if
+        .endControlFlow() // End for
+        .addStatement("$L.append($L, start, $L.length())", builderVar, VALUE_PARAM_NAME, VALUE_PARAM_NAME)
+        .addStatement("$L.append('\"')", builderVar)
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(ParserCommonUtils.getJSONWriterUtils(parserPackage).simpleName(), generatorName,
+        generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addField(FieldSpec.builder(char[].class, "HEX", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$S.toCharArray()", "0123456789abcdef")
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(appendString)
+        .build();
+  }
+
+  private static void addEscapeCase(final CodeBlock.Builder code, final String charLiteral, final String escaped) {
+    code.add("case $L:\n", charLiteral).indent()
+        .addStatement("$L.append($S)", ParserCommonUtils.BUILDER_PARAM_NAME, escaped)
+        .addStatement("break").unindent();
+  }
+}
@@ -0,0 +1,181 @@
+package nl.aerius.codegen.generator;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates the shared helpers, which parse a nested generic shape like {@code Map<String, Map<String, Integer>>} in one
+ * static method instead of expanding the same loops inline at every field of that shape.
+ *
+ * A helper is created the first time a shape is parsed and reused by every field and element of the same shape in all
+ * parsers, so each distinct shape is generated once. Helpers are only used when the parsing code of a shape does not depend
+ * on the field it is parsed for: not in lenient or projection mode, and not for fields that deduplicate their Strings.
+ */
+final class SharedHelperWriterUtils {
+  private static final String JSON_PARAM_NAME = "json";
+
+  // Helper methods by their name, in the order they were created
+  private static final Map<String, MethodSpec> HELPERS = new LinkedHashMap<>();
+  // Helper method names by the signature of the shape they parse
+  private static final Map<String, String> HELPER_NAMES = new HashMap<>();
+
+  private SharedHelperWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Forgets the helpers of a previous run.
+   */
+  static void reset() {
+    HELPERS.clear();
+    HELPER_NAMES.clear();
+  }
+
+  /**
+   * @return true if any helper was created since the last reset
+   */
+  static boolean hasHelpers() {
+    return !HELPERS.isEmpty();
+  }
+
+  /**
+   * Returns true if the type is parsed through a shared helper: a collection or map with a generic type argument, with
+   * all types in it known.
+   */
+  static boolean isShared(final Type type, final Type fieldType) {
+    final GeneratorOptions options = ParserWriterUtils.getOptions();
+    if (!options.isSharedHelpers() || options.isLenientParsing() || options.isFieldProjection() || ParserWriterUtils.isInternStrings()) {
+      return false;
+    }
+    return isNestedShape(type) && isConcrete(fieldType);
+  }
+
+  /**
+   * Adds the call to the helper parsing the type, creating the helper if this is the first use of its shape.
+   *
+   * @return the name of the variable holding the parsed value
+   */
+  static String addHelperCall(final CodeBlock.Builder code, final Type type, final String parserPackage, final CodeBlock accessExpression,
+      final int level, final Type fieldType, final String variableName) {
+    final String signature = type.getTypeName() + "|" + fieldType.getTypeName();
+    String helperName = HELPER_NAMES.get(signature);
+    if (helperName == null) {
+      helperName = createHelper(type, parserPackage, fieldType);
+      HELPER_NAMES.put(signature, helperName);
+    }
+    final String resultVar = ParserCommonUtils.localVarName(variableName, "", level, getLevelName(fieldType));
+    code.addStatement("final $T $L = $T.$L($L)", fieldType, resultVar, ParserCommonUtils.getParserHelpers(parserPackage), helperName,
+        accessExpression);
+    return resultVar;
+  }
+
+  /**
+   * Creates the class holding all helpers created since the last reset.
+   */
+  static TypeSpec createParserHelpersTypeSpec(final String parserPackage, final String generatorName, final String generatorDetails) {
+    return ParserWriterUtils.createParserTypeSpec(ParserCommonUtils.getParserHelpers(parserPackage).simpleName(), generatorName,
+        generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethods(HELPERS.values())
+        .build();
+  }
+
+  private static String createHelper(final Type type, final String parserPackage, final Type fieldType) {
+    final TypeName jsonType = Map.class.isAssignableFrom(getRawClass(type))
+        ? ParserCommonUtils.getJSONObjectHandle()
+        : ParserCommonUtils.getJSONArrayHandle();
+
+    // Generated as if parsing the first level of a field, so the body matches the code that would otherwise be inlined
+    final CodeBlock.Builder body = CodeBlock.builder();
+    final String resultVar = ParserWriterUtils.dispatchToTypeParser(body, type, null, parserPackage, CodeBlock.of("$L", JSON_PARAM_NAME),
+        1, fieldType, null);
+    body.addStatement("return $L", resultVar);
+
+    // Named after the body is generated, as that may create the helpers of the shapes nested in it
+    String helperName = "parse" + getShapeName(fieldType);
+    for (int i = 2; HELPERS.containsKey(helperName); i++) {
+      helperName = "parse" + getShapeName(fieldType) + i;
+    }
+
+    HELPERS.put(helperName, MethodSpec.methodBuilder(helperName)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(TypeName.get(fieldType))
+        .addParameter(jsonType, JSON_PARAM_NAME, Modifier.FINAL)
+        .addCode(body.build())
+        .build());
+    return helperName;
+  }
+
+  private static boolean isNestedShape(final Type type) {
+    if (!(type instanceof ParameterizedType) || !isConcrete(type)) {
+      return false;
+    }
+    final Class<?> rawClass = getRawClass(type);
+    if (!Map.class.isAssignableFrom(rawClass) && !Collection.class.isAssignableFrom(rawClass)) {
+      return false;
+    }
+    for (final Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+      if (argument instanceof ParameterizedType) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Wildcards and type variables can't be declared as the return type of a static helper
+  private static boolean isConcrete(final Type type) {
+    if (type instanceof Class<?>) {
+      return true;
+    } else if (type instanceof ParameterizedType) {
+      for (final Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+        if (!isConcrete(argument)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private static String getShapeName(final Type type) {
+    if (type instanceof ParameterizedType) {
+      final StringBuilder name = new StringBuilder(getRawClass(type).getSimpleName());
+      for (final Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+        name.append(getShapeName(argument));
+      }
+      return name.toString();
+    }
+    final Class<?> clazz = (Class<?>) type;
+    return clazz.isArray() ? getShapeName(clazz.getComponentType()) + "Array" : clazz.getSimpleName();
+  }
+
+  // Same level names as the inlined map and collection code
+  private static String getLevelName(final Type fieldType) {
+    final Class<?> rawClass = getRawClass(fieldType);
+    if (Map.class.isAssignableFrom(rawClass)) {
+      return "Map";
+    }
+    return Set.class.isAssignableFrom(rawClass) ? "Set" : "List";
+  }
+
+  private static Class<?> getRawClass(final Type type) {
+    return type instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) type).getRawType() : (Class<?>) type;
+  }
+}
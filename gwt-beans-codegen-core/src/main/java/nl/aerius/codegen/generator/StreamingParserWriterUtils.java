@@ -0,0 +1,354 @@
+package nl.aerius.codegen.generator;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.lang.model.element.Modifier;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import nl.aerius.codegen.analyzer.ConstructorAnalyzer;
+import nl.aerius.codegen.analyzer.ConstructorInfo;
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates the parse methods reading from a streaming Jackson {@code JsonParser}, so large documents can be parsed without
+ * building a JSON tree first.
+ *
+ * The generated parse(JsonParser) methods expect the parser to be positioned on the first token of the value (or on no token
+ * at all for a freshly created parser) and leave it on the last token of the value.
+ *
+ * Every parser also gets a parseEach(JsonParser, Consumer) method for top level arrays, which hands over each element as
+ * soon as it is parsed instead of collecting them in a list.
+ */
+final class StreamingParserWriterUtils {
+  private static final ClassName TOKEN_BUFFER = ClassName.get("com.fasterxml.jackson.databind.util", "TokenBuffer");
+  private static final ClassName JSON_PARSER_SEQUENCE = ClassName.get("com.fasterxml.jackson.core.util", "JsonParserSequence");
+
+  private static final String PARSER = ParserCommonUtils.PARSER_PARAM_NAME;
+  // Variable holding the name of the current field
+  private static final String FIELD_NAME_VARIABLE = "fieldName";
+  // Variable holding the name of the current field outside the loop over the fields, to report the path of an error
+  private static final String CURRENT_FIELD_VARIABLE = ParseErrorWriterUtils.CURRENT_FIELD_VARIABLE;
+
+  private StreamingParserWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Adds the streaming parse methods for the target class to the parser type specification.
+   */
+  static void addStreamingParseMethods(final TypeSpec.Builder typeSpec, final Class<?> targetClass,
+      final String parserPackage, final Optional<ConstructorInfo> constructorInfo) {
+    if (constructorInfo.isPresent()) {
+      typeSpec.addMethod(createConstructorBasedParseMethod(targetClass, parserPackage, constructorInfo.get()));
+    } else {
+      if (ParserWriterUtils.hasJsonTypeInfoWithNameDiscriminator(targetClass)) {
+        typeSpec.addMethod(createPolymorphicObjectParseMethod(targetClass, parserPackage));
+      } else {
+        typeSpec.addMethod(createStandardObjectParseMethod(targetClass, parserPackage));
+      }
+      typeSpec.addMethod(createConfigParseMethod(targetClass, parserPackage));
+      typeSpec.addMethod(createParseFieldMethod(targetClass, parserPackage));
+    }
+    typeSpec.addMethod(createParseEachMethod(targetClass, parserPackage));
+  }
+
+  /**
+   * Creates the method parsing a top level array element by element. Only the element being parsed is resident, so arrays
+   * of any size are parsed in constant memory.
+   */
+  private static MethodSpec createParseEachMethod(final Class<?> targetClass, final String parserPackage) {
+    final ClassName parseException = ParserCommonUtils.getParseException(parserPackage);
+    final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("parseEach")
+        .addJavadoc("Parses a top level JSON array, handing each element to the consumer as soon as it is parsed.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addParameter(ParserCommonUtils.JSON_PARSER, PARSER, Modifier.FINAL)
+        .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), ClassName.get(targetClass)), "consumer", Modifier.FINAL)
+        .addException(IOException.class);
+
+    methodBuilder.beginControlFlow("if ($L.currentToken() == null)", PARSER)
+        .addStatement("$L.nextToken()", PARSER)
+        .endControlFlow();
+    methodBuilder.beginControlFlow("if ($L)", ParserCommonUtils.createStreamingNullCheck())
+        .addStatement("return")
+        .endControlFlow();
+    methodBuilder.beginControlFlow("if ($L.currentToken() != $T.START_ARRAY)", PARSER, ParserCommonUtils.JSON_TOKEN)
+        .addStatement("throw new $T($S + $L.currentToken())", parseException, "Expected an array, got ", PARSER)
+        .endControlFlow();
+
+    methodBuilder.addCode("\n");
+    methodBuilder.addStatement("int index = 0");
+    methodBuilder.beginControlFlow("while ($L.nextToken() != $T.END_ARRAY)", PARSER, ParserCommonUtils.JSON_TOKEN)
+        .addCode(endOfInputCheck(parserPackage))
+        .addStatement("final $T element", targetClass)
+        .beginControlFlow("try")
+        .addStatement("element = parse($L)", PARSER)
+        .nextControlFlow("catch (final $T e)", RuntimeException.class)
+        .addStatement("throw $T.at($T.valueOf(index), e)", parseException, String.class)
+        .endControlFlow()
+        .addStatement("consumer.accept(element)")
+        .addStatement("index++")
+        .endControlFlow();
+    return methodBuilder.build();
+  }
+
+  private static MethodSpec.Builder createParseMethodBuilder(final Class<?> targetClass, final String parserPackage) {
+    final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("parse")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(ClassName.get(targetClass))
+        .addParameter(ParserCommonUtils.JSON_PARSER, PARSER, Modifier.FINAL)
+        .addException(IOException.class);
+
+    methodBuilder.beginControlFlow("if ($L.currentToken() == null)", PARSER)
+        .addStatement("$L.nextToken()", PARSER)
+        .endControlFlow();
+    methodBuilder.beginControlFlow("if ($L)", ParserCommonUtils.createStreamingNullCheck())
+        .addStatement("return null")
+        .endControlFlow();
+    methodBuilder.beginControlFlow("if ($L.currentToken() != $T.START_OBJECT)", PARSER, ParserCommonUtils.JSON_TOKEN)
+        .addStatement("throw new $T($S + $L.currentToken())", ParserCommonUtils.getParseException(parserPackage), "Expected an object, got ",
+            PARSER)
+        .endControlFlow();
+    return methodBuilder;
+  }
+
+  private static MethodSpec createStandardObjectParseMethod(final Class<?> targetClass, final String parserPackage) {
+    final MethodSpec.Builder methodBuilder = createParseMethodBuilder(targetClass, parserPackage);
+
+    if (targetClass.isInterface() || java.lang.reflect.Modifier.isAbstract(targetClass.getModifiers())) {
+      methodBuilder.addStatement("throw new $T($S + $T.class.getName() + $S)",
+          UnsupportedOperationException.class,
+          "Cannot directly instantiate abstract class or interface ",
+          targetClass,
+          ". Use @JsonTypeInfo or a custom parser.");
+    } else {
+      methodBuilder.addStatement("final $T config = new $T()", targetClass, targetClass)
+          .addStatement("parse($L, config)", PARSER)
+          .addStatement("return config");
+    }
+    return methodBuilder.build();
+  }
+
+  /**
+   * Creates the parse method for a polymorphic base class. The fields preceding the type discriminator are buffered, and
+   * replayed to the parser of the subtype followed by the remainder of the object.
+   */
+  private static MethodSpec createPolymorphicObjectParseMethod(final Class<?> targetClass, final String parserPackage) {
+    final MethodSpec.Builder methodBuilder = createParseMethodBuilder(targetClass, parserPackage);
+    final String discriminatorProperty = ParserWriterUtils.getDiscriminatorProperty(targetClass);
+
+    methodBuilder.addCode("\n");
+    methodBuilder.addComment("Buffer the fields preceding the type discriminator, so the subtype parser can replay them");
+    methodBuilder.addStatement("final $T buffer = new $T($L)", TOKEN_BUFFER, TOKEN_BUFFER, PARSER)
+        .addStatement("buffer.writeStartObject()")
+        .addStatement("$T typeName = null", String.class);
+    methodBuilder.beginControlFlow("while (typeName == null && $L.nextToken() == $T.FIELD_NAME)", PARSER, ParserCommonUtils.JSON_TOKEN)
+        .addStatement("final $T $L = $L.currentName()", String.class, FIELD_NAME_VARIABLE, PARSER)
+        .addStatement("$L.nextToken()", PARSER)
+        .beginControlFlow("if ($S.equals($L) && $L.currentToken() == $T.VALUE_STRING)", discriminatorProperty, FIELD_NAME_VARIABLE, PARSER,
+            ParserCommonUtils.JSON_TOKEN)
+        .addStatement("typeName = $L.getText()", PARSER)
+        .nextControlFlow("else")
+        .addStatement("buffer.writeFieldName($L)", FIELD_NAME_VARIABLE)
+        .addStatement("buffer.copyCurrentStructure($L)", PARSER)
+        .endControlFlow()
+        .endControlFlow();
+    methodBuilder.beginControlFlow("if (typeName == null)")
+        .addStatement("throw new $T($S)", ParserCommonUtils.getParseException(parserPackage),
+            "Expected string for type discriminator field '" + discriminatorProperty + "', got different type")
+        .endControlFlow();
+
+    methodBuilder.addCode("\n");
+    methodBuilder.addStatement("final $T objectParser = $T.createFlattened(false, buffer.asParser($L), $L)",
+        ParserCommonUtils.JSON_PARSER, JSON_PARSER_SEQUENCE, PARSER, PARSER);
+    methodBuilder.addStatement("objectParser.nextToken()");
+    methodBuilder.beginControlFlow("switch (typeName)");
+    final JsonSubTypes subTypes = targetClass.getAnnotation(JsonSubTypes.class);
+    for (final JsonSubTypes.Type subType : subTypes.value()) {
+      methodBuilder.addCode("case $S:\n", subType.name());
+      methodBuilder.addStatement("  return $T.parse(objectParser)", ParserWriterUtils.determineParserClassName(subType.value(), parserPackage));
+    }
+    methodBuilder.addCode("default:\n");
+    methodBuilder.addStatement("  throw new $T($S + typeName + $S)", ParserCommonUtils.getParseException(parserPackage), "Unknown type name '",
+        "' for " + targetClass.getSimpleName());
+    methodBuilder.endControlFlow();
+
+    return methodBuilder.build();
+  }
+
+  /**
+   * Creates the method reading the remaining fields of the current object into an existing instance. The field being parsed
+   * is prepended to the path of any error here, and not in parseField, which delegates the fields of the parent class to the
+   * parseField method of the parent parser, so the field would be prepended once for every level of inheritance.
+   */
+  private static MethodSpec createConfigParseMethod(final Class<?> targetClass, final String parserPackage) {
+    final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("parse")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(void.class)
+        .addParameter(ParserCommonUtils.JSON_PARSER, PARSER, Modifier.FINAL)
+        .addParameter(ClassName.get(targetClass), "config", Modifier.FINAL)
+        .addException(IOException.class);
+
+    beginFieldTracking(methodBuilder);
+    methodBuilder.beginControlFlow("while ($L.nextToken() == $T.FIELD_NAME)", PARSER, ParserCommonUtils.JSON_TOKEN)
+        .addStatement("final $T $L = $L.currentName()", String.class, FIELD_NAME_VARIABLE, PARSER)
+        .addStatement("$L = $L", CURRENT_FIELD_VARIABLE, FIELD_NAME_VARIABLE)
+        .addStatement("$L.nextToken()", PARSER)
+        .beginControlFlow("if (!parseField($L, $L, config))", PARSER, FIELD_NAME_VARIABLE)
+        .addStatement("$L.skipChildren()", PARSER)
+        .endControlFlow()
+        .endControlFlow();
+    endFieldTracking(methodBuilder, parserPackage);
+    methodBuilder.addCode(endObjectCheck(parserPackage));
+    return methodBuilder.build();
+  }
+
+  /**
+   * Creates the method parsing a single field into an existing instance. Fields that are not declared in the target class
+   * are delegated to the generated parser of the parent class. A custom parser only provides parse methods, so when the
+   * parent class has one the delegation stops there and the fields of the parent are skipped.
+   */
+  private static MethodSpec createParseFieldMethod(final Class<?> targetClass, final String parserPackage) {
+    final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("parseField")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(boolean.class)
+        .addParameter(ParserCommonUtils.JSON_PARSER, PARSER, Modifier.FINAL)
+        .addParameter(String.class, FIELD_NAME_VARIABLE, Modifier.FINAL)
+        .addParameter(ClassName.get(targetClass), "config", Modifier.FINAL)
+        .addException(IOException.class);
+
+    methodBuilder.beginControlFlow("switch ($L)", FIELD_NAME_VARIABLE);
+    for (final Field field : ConstructorAnalyzer.getParseableFields(targetClass)) {
+      methodBuilder.beginControlFlow("case $S:", field.getName());
+      final CodeBlock.Builder caseCode = CodeBlock.builder();
+      final boolean nullable = !ParserCommonUtils.isPrimitiveType(field.getGenericType());
+      if (nullable) {
+        caseCode.beginControlFlow("if ($L.currentToken() != $T.VALUE_NULL)", PARSER, ParserCommonUtils.JSON_TOKEN);
+      }
+      final String resultVar = ParserWriterUtils.generateForField(field, () -> ParserWriterUtils.dispatchGenerateStreamingCodeInto(caseCode,
+          field.getGenericType(), parserPackage, 1, field.getGenericType(), null));
+      caseCode.addStatement("config.set$L($L)", ParserCommonUtils.capitalize(field.getName()), resultVar);
+      if (nullable) {
+        caseCode.endControlFlow();
+      }
+      methodBuilder.addCode(caseCode.build());
+      methodBuilder.addStatement("return true");
+      methodBuilder.endControlFlow();
+    }
+    methodBuilder.addCode("default:\n");
+    final Class<?> superclass = targetClass.getSuperclass();
+    if (superclass != null && superclass != Object.class && ParserWriterUtils.hasCustomParser(superclass.getSimpleName())) {
+      methodBuilder.addComment("The custom parser of $L has no parseField method, so its fields are skipped", superclass.getSimpleName());
+      methodBuilder.addStatement("  return false");
+    } else if (superclass != null && superclass != Object.class) {
+      methodBuilder.addStatement("  return $T.parseField($L, $L, config)", ParserWriterUtils.determineParserClassName(superclass, parserPackage),
+          PARSER, FIELD_NAME_VARIABLE);
+    } else {
+      methodBuilder.addStatement("  return false");
+    }
+    methodBuilder.endControlFlow();
+    return methodBuilder.build();
+  }
+
+  /**
+   * Creates the parse method for constructor-based types. All fields are read into local variables in a single pass over
+   * the object, after which the constructor is called.
+   */
+  private static MethodSpec createConstructorBasedParseMethod(final Class<?> targetClass, final String parserPackage,
+      final ConstructorInfo constructorInfo) {
+    final MethodSpec.Builder methodBuilder = createParseMethodBuilder(targetClass, parserPackage);
+    final List<Field> fieldsInOrder = constructorInfo.getFieldsInConstructorOrder();
+    final List<String> constructorArgVars = new ArrayList<>();
+
+    methodBuilder.addCode("\n");
+    for (final Field field : fieldsInOrder) {
+      final Class<?> fieldClass = field.getType();
+      methodBuilder.addStatement("$T $L = $L", TypeName.get(field.getGenericType()), field.getName(),
+          !fieldClass.isPrimitive() ? "null" : fieldClass == boolean.class ? "false" : "0");
+      methodBuilder.addStatement("boolean $L = false", presentVariable(field));
+      constructorArgVars.add(field.getName());
+    }
+
+    methodBuilder.addCode("\n");
+    beginFieldTracking(methodBuilder);
+    methodBuilder.beginControlFlow("while ($L.nextToken() == $T.FIELD_NAME)", PARSER, ParserCommonUtils.JSON_TOKEN)
+        .addStatement("final $T $L = $L.currentName()", String.class, FIELD_NAME_VARIABLE, PARSER)
+        .addStatement("$L = $L", CURRENT_FIELD_VARIABLE, FIELD_NAME_VARIABLE)
+        .addStatement("$L.nextToken()", PARSER)
+        .beginControlFlow("switch ($L)", FIELD_NAME_VARIABLE);
+    for (final Field field : fieldsInOrder) {
+      methodBuilder.beginControlFlow("case $S:", field.getName());
+      final CodeBlock.Builder caseCode = CodeBlock.builder();
+      final String resultVar = ParserWriterUtils.generateForField(field, () -> ParserWriterUtils.dispatchGenerateStreamingCodeInto(caseCode,
+          field.getGenericType(), parserPackage, 1, field.getGenericType(), "parsed" + ParserCommonUtils.capitalize(field.getName())));
+      caseCode.addStatement("$L = $L", field.getName(), resultVar);
+      caseCode.addStatement("$L = true", presentVariable(field));
+      methodBuilder.addCode(caseCode.build());
+      methodBuilder.addStatement("break");
+      methodBuilder.endControlFlow();
+    }
+    methodBuilder.addCode("default:\n")
+        .addStatement("  $L.skipChildren()", PARSER)
+        .addStatement("  break")
+        .endControlFlow() // End switch
+        .endControlFlow(); // End while
+    endFieldTracking(methodBuilder, parserPackage);
+    methodBuilder.addCode(endObjectCheck(parserPackage));
+
+    final ClassName parseException = ParserCommonUtils.getParseException(parserPackage);
+    for (final Field field : fieldsInOrder) {
+      methodBuilder.beginControlFlow("if (!$L)", presentVariable(field))
+          .addStatement("throw $T.at($S, new $T($S))", parseException, field.getName(), parseException,
+              "Required field '" + field.getName() + "' is missing")
+          .endControlFlow();
+    }
+
+    methodBuilder.addCode("\n");
+    methodBuilder.addStatement("return new $T($L)", targetClass, String.join(", ", constructorArgVars));
+    return methodBuilder.build();
+  }
+
+  /**
+   * Opens the try block around the loop over the fields, keeping the field being parsed in a local variable.
+   */
+  private static void beginFieldTracking(final MethodSpec.Builder methodBuilder) {
+    methodBuilder.addStatement("$T $L = null", String.class, CURRENT_FIELD_VARIABLE);
+    methodBuilder.beginControlFlow("try");
+  }
+
+  /**
+   * Closes the try block opened by {@link #beginFieldTracking}, prepending the field being parsed to the path of any error.
+   */
+  private static void endFieldTracking(final MethodSpec.Builder methodBuilder, final String parserPackage) {
+    methodBuilder.nextControlFlow("catch (final $T e)", RuntimeException.class)
+        .addStatement("throw $T.at($L, e)", ParserCommonUtils.getParseException(parserPackage), CURRENT_FIELD_VARIABLE)
+        .endControlFlow();
+  }
+
+  private static CodeBlock endOfInputCheck(final String parserPackage) {
+    final CodeBlock.Builder code = CodeBlock.builder();
+    ParserCommonUtils.addStreamingEndOfInputCheck(code, parserPackage);
+    return code.build();
+  }
+
+  private static CodeBlock endObjectCheck(final String parserPackage) {
+    final CodeBlock.Builder code = CodeBlock.builder();
+    ParserCommonUtils.addStreamingEndObjectCheck(code, parserPackage);
+    return code.build();
+  }
+
+  private static String presentVariable(final Field field) {
+    return field.getName() + "Present";
+  }
+}
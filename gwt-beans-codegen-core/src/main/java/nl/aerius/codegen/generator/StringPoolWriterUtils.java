@@ -0,0 +1,215 @@
+package nl.aerius.codegen.generator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.ArrayTypeName;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+
+/**
+ * Generates the string pool shared by all parsers, which deduplicates repeated String values of the fields configured for it.
+ *
+ * The pool is a bounded LRU map, so the memory it holds is capped regardless of the number of distinct values parsed. Once
+ * full, the least recently used String is evicted. Evicted Strings are not affected, they are just no longer shared with
+ * values parsed afterwards.
+ *
+ * With parallel parsing the pool is split into stripes with a lock and an LRU map each, chosen by the hash of the String, so
+ * the threads parsing elements in parallel don't all wait on a single lock. The stripes share the maximum size evenly. Without
+ * parallel parsing the pool takes no lock at all, as it is only used from the single thread of the browser or of the caller;
+ * parsing from several threads at once requires the striped pool.
+ *
+ * Both pools have a scope, clearing the pool when it is opened and closed, so tests don't share pooled Strings.
+ */
+final class StringPoolWriterUtils {
+  private static final String VALUE_PARAM_NAME = "value";
+  private static final String POOL_FIELD_NAME = "POOL";
+  private static final String MAX_SIZE_FIELD_NAME = "MAX_SIZE";
+  private static final String MAX_STRIPE_SIZE_FIELD_NAME = "MAX_STRIPE_SIZE";
+  private static final String STRIPES_FIELD_NAME = "STRIPES";
+  private static final String STRIPE_CLASS_NAME = "Stripe";
+  private static final String SCOPE_CLASS_NAME = "Scope";
+  // Power of two, so a stripe is selected by masking the hash
+  private static final int STRIPE_COUNT = 16;
+
+  private StringPoolWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Creates the string pool class, holding at most the given number of Strings. A striped pool is created when the parsers
+   * intern Strings from several threads.
+   */
+  static TypeSpec createStringPoolTypeSpec(final String parserPackage, final int maxSize, final boolean striped, final String generatorName,
+      final String generatorDetails) {
+    if (striped) {
+      return createStripedStringPoolTypeSpec(parserPackage, maxSize, generatorName, generatorDetails);
+    }
+    final TypeName stringMap = ParameterizedTypeName.get(Map.class, String.class, String.class);
+    final TypeName stringEntry = ParameterizedTypeName.get(Map.Entry.class, String.class, String.class);
+
+    // An access ordered LinkedHashMap moves entries to the end on every get, so the eldest entry is the least recently used
+    final TypeSpec lruMap = TypeSpec.anonymousClassBuilder("16, 0.75f, true")
+        .superclass(ParameterizedTypeName.get(LinkedHashMap.class, String.class, String.class))
+        .addMethod(MethodSpec.methodBuilder("removeEldestEntry")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addParameter(stringEntry, "eldest", Modifier.FINAL)
+            .addStatement("return size() > $L", MAX_SIZE_FIELD_NAME)
+            .build())
+        .build();
+
+    final MethodSpec intern = MethodSpec.methodBuilder("intern")
+        .addJavadoc("Returns the pooled String equal to the value, or adds the value to the pool if there is none.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(String.class)
+        .addParameter(String.class, VALUE_PARAM_NAME, Modifier.FINAL)
+        .beginControlFlow("if ($L == null)", VALUE_PARAM_NAME)
+        .addStatement("return null")
+        .endControlFlow()
+        .addStatement("final $T pooled = $L.get($L)", String.class, POOL_FIELD_NAME, VALUE_PARAM_NAME)
+        .beginControlFlow("if (pooled != null)")
+        .addStatement("return pooled")
+        .endControlFlow()
+        .addStatement("$L.put($L, $L)", POOL_FIELD_NAME, VALUE_PARAM_NAME, VALUE_PARAM_NAME)
+        .addStatement("return $L", VALUE_PARAM_NAME)
+        .build();
+
+    final MethodSpec clear = MethodSpec.methodBuilder("clear")
+        .addJavadoc("Removes all Strings from the pool, for example after parsing a large document.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addStatement("$L.clear()", POOL_FIELD_NAME)
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(ParserCommonUtils.getJSONStringPool(parserPackage).simpleName(), generatorName,
+        generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addField(FieldSpec.builder(int.class, MAX_SIZE_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", maxSize)
+            .build())
+        .addField(FieldSpec.builder(stringMap, POOL_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", lruMap)
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(intern)
+        .addMethod(clear)
+        .addMethod(createScopeMethod(parserPackage))
+        .addType(createScopeType())
+        .build();
+  }
+
+  private static TypeSpec createStripedStringPoolTypeSpec(final String parserPackage, final int maxSize, final String generatorName,
+      final String generatorDetails) {
+    final ClassName stripeClass = ParserCommonUtils.getJSONStringPool(parserPackage).nestedClass(STRIPE_CLASS_NAME);
+    final TypeName stringEntry = ParameterizedTypeName.get(Map.Entry.class, String.class, String.class);
+
+    // Each stripe is an access ordered LinkedHashMap, evicting its least recently used String once full
+    final TypeSpec stripe = TypeSpec.classBuilder(STRIPE_CLASS_NAME)
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+        .superclass(ParameterizedTypeName.get(LinkedHashMap.class, String.class, String.class))
+        .addField(FieldSpec.builder(long.class, "serialVersionUID", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("1L")
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addStatement("super(16, 0.75f, true)")
+            .build())
+        .addMethod(MethodSpec.methodBuilder("removeEldestEntry")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addParameter(stringEntry, "eldest", Modifier.FINAL)
+            .addStatement("return size() > $L", MAX_STRIPE_SIZE_FIELD_NAME)
+            .build())
+        .build();
+
+    final MethodSpec intern = MethodSpec.methodBuilder("intern")
+        .addJavadoc("Returns the pooled String equal to the value, or adds the value to the pool if there is none.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(String.class)
+        .addParameter(String.class, VALUE_PARAM_NAME, Modifier.FINAL)
+        .beginControlFlow("if ($L == null)", VALUE_PARAM_NAME)
+        .addStatement("return null")
+        .endControlFlow()
+        .addStatement("final int hash = $L.hashCode()", VALUE_PARAM_NAME)
+        .addStatement("final $T stripe = $L[(hash ^ (hash >>> 16)) & ($L.length - 1)]", stripeClass, STRIPES_FIELD_NAME, STRIPES_FIELD_NAME)
+        .beginControlFlow("synchronized (stripe)")
+        .addStatement("final $T pooled = stripe.get($L)", String.class, VALUE_PARAM_NAME)
+        .beginControlFlow("if (pooled != null)")
+        .addStatement("return pooled")
+        .endControlFlow()
+        .addStatement("stripe.put($L, $L)", VALUE_PARAM_NAME, VALUE_PARAM_NAME)
+        .addStatement("return $L", VALUE_PARAM_NAME)
+        .endControlFlow()
+        .build();
+
+    final MethodSpec clear = MethodSpec.methodBuilder("clear")
+        .addJavadoc("Removes all Strings from the pool, for example after parsing a large document.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .beginControlFlow("for (final $T stripe : $L)", stripeClass, STRIPES_FIELD_NAME)
+        .beginControlFlow("synchronized (stripe)")
+        .addStatement("stripe.clear()")
+        .endControlFlow()
+        .endControlFlow()
+        .build();
+
+    return ParserWriterUtils.createParserTypeSpec(ParserCommonUtils.getJSONStringPool(parserPackage).simpleName(), generatorName,
+        generatorDetails)
+        .addModifiers(Modifier.FINAL)
+        .addField(FieldSpec.builder(int.class, MAX_STRIPE_SIZE_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", Math.max(1, (maxSize + STRIPE_COUNT - 1) / STRIPE_COUNT))
+            .build())
+        .addField(FieldSpec.builder(ArrayTypeName.of(stripeClass), STRIPES_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("new $T[$L]", stripeClass, STRIPE_COUNT)
+            .build())
+        .addStaticBlock(CodeBlock.builder()
+            .beginControlFlow("for (int i = 0; i < $L.length; i++)", STRIPES_FIELD_NAME)
+            .addStatement("$L[i] = new $T()", STRIPES_FIELD_NAME, stripeClass)
+            .endControlFlow()
+            .build())
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(intern)
+        .addMethod(clear)
+        .addMethod(createScopeMethod(parserPackage))
+        .addType(stripe)
+        .addType(createScopeType())
+        .build();
+  }
+
+  private static MethodSpec createScopeMethod(final String parserPackage) {
+    final ClassName pool = ParserCommonUtils.getJSONStringPool(parserPackage);
+    return MethodSpec.methodBuilder("scope")
+        .addJavadoc("Clears the pool, and again when the returned scope is closed, so Strings pooled within the scope, for example by a\n"
+            + "test, are not shared outside it.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(pool.nestedClass(SCOPE_CLASS_NAME))
+        .addStatement("clear()")
+        .addStatement("return $T::clear", pool)
+        .build();
+  }
+
+  private static TypeSpec createScopeType() {
+    return TypeSpec.interfaceBuilder(SCOPE_CLASS_NAME)
+        .addJavadoc("Scope of the pool, clearing it when closed.\n")
+        .addModifiers(Modifier.PUBLIC)
+        .addSuperinterface(AutoCloseable.class)
+        .addMethod(MethodSpec.methodBuilder("close")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .build())
+        .build();
+  }
+}
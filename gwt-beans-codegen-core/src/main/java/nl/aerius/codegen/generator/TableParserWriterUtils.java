@@ -0,0 +1,263 @@
+package nl.aerius.codegen.generator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+import com.palantir.javapoet.TypeVariableName;
+
+import nl.aerius.codegen.generator.parser.ParserCommonUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
+
+/**
+ * Generates the table-driven variant of the setter-based parsers, which trades a little parsing speed for much less code.
+ *
+ * Instead of a block of parsing code per field, each parser holds a table with the name and kind of each field, and the
+ * shared TableParser interpreter walks that table. Simple values are read by the interpreter itself. Only the fields it
+ * can't read, like nested objects, enums, collections and maps, get generated code, in a switch on their slot in the table
+ * that calls the parser of the nested type directly.
+ */
+final class TableParserWriterUtils {
+  private static final String TABLE_FIELD_NAME = "TABLE";
+  private static final String TABLE_CLASS_NAME = "Table";
+  private static final String SLOT_PARAM_NAME = "slot";
+  private static final String HANDLE_PARAM_NAME = "handle";
+  private static final String VALUE_PARAM_NAME = "value";
+  private static final String TARGET_PARAM_NAME = "target";
+
+  // Kinds of the fields, primitives first: a JSON null is read as their default value, other kinds skip a null
+  private static final String[] KINDS = {"INT", "LONG", "DOUBLE", "BOOLEAN", "STRING", "INTEGER", "LONG_OBJECT", "DOUBLE_OBJECT",
+      "BOOLEAN_OBJECT", "CUSTOM"};
+  private static final ValueKind[] KIND_VALUES = {ValueKind.INT, ValueKind.LONG, ValueKind.DOUBLE, ValueKind.BOOLEAN, ValueKind.STRING,
+      ValueKind.BOXED_INT, ValueKind.BOXED_LONG, ValueKind.BOXED_DOUBLE, ValueKind.BOXED_BOOLEAN};
+  private static final String FIRST_NULLABLE_KIND = "STRING";
+  private static final String CUSTOM_KIND = "CUSTOM";
+
+  private TableParserWriterUtils() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * Returns true if setter-based parsers are table-driven. Lenient and projection mode pass state along to each field,
+   * which the table doesn't support, so they keep the generated code.
+   */
+  static boolean isTableDriven() {
+    final GeneratorOptions options = ParserWriterUtils.getOptions();
+    return options.isTableDriven() && !options.isLenientParsing() && !options.isFieldProjection();
+  }
+
+  /**
+   * Returns true if the fields of the type can be parsed through a table, which is not the case for lazy fields, as these
+   * are set up with their own code.
+   */
+  static boolean isTableDriven(final List<Field> fields) {
+    return isTableDriven() && fields.stream().noneMatch(LazyParserWriterUtils::isLazyField);
+  }
+
+  /**
+   * Adds the table of the fields to the parser, and the call to the interpreter parsing them into the config object.
+   */
+  static void addTableParsing(final TypeSpec.Builder typeSpec, final MethodSpec.Builder methodBuilder, final Class<?> targetClass,
+      final List<Field> fields, final String parserPackage) {
+    if (fields.isEmpty()) {
+      return;
+    }
+    final ClassName tableParser = ParserCommonUtils.getTableParser(parserPackage);
+    final TypeName tableType = ParameterizedTypeName.get(tableParser.nestedClass(TABLE_CLASS_NAME), ClassName.get(targetClass));
+
+    final CodeBlock.Builder names = CodeBlock.builder();
+    final CodeBlock.Builder kinds = CodeBlock.builder();
+    final MethodSpec.Builder set = MethodSpec.methodBuilder("set")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PROTECTED)
+        .addParameter(ClassName.get(targetClass), TARGET_PARAM_NAME, Modifier.FINAL)
+        .addParameter(int.class, SLOT_PARAM_NAME, Modifier.FINAL)
+        .addParameter(Object.class, VALUE_PARAM_NAME, Modifier.FINAL)
+        .beginControlFlow("switch ($L)", SLOT_PARAM_NAME);
+    final MethodSpec.Builder parse = MethodSpec.methodBuilder("parse")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PROTECTED)
+        .returns(Object.class)
+        .addParameter(int.class, SLOT_PARAM_NAME, Modifier.FINAL)
+        .addParameter(ParserCommonUtils.getJSONValueHandle(), HANDLE_PARAM_NAME, Modifier.FINAL)
+        .beginControlFlow("switch ($L)", SLOT_PARAM_NAME);
+    boolean hasCustomFields = false;
+    boolean hasGenericFields = false;
+
+    for (int slot = 0; slot < fields.size(); slot++) {
+      final Field field = fields.get(slot);
+      final String kind = getKind(field);
+      names.add(slot == 0 ? "$S" : ", $S", field.getName());
+      kinds.add(slot == 0 ? "$T.$L" : ", $T.$L", tableParser, kind);
+
+      set.addCode("case $L:\n", slot)
+          .addStatement("  $L.set$L(($T) $L)", TARGET_PARAM_NAME, ParserCommonUtils.capitalize(field.getName()),
+              TypeName.get(field.getGenericType()).box(), VALUE_PARAM_NAME)
+          .addStatement("  break");
+      hasGenericFields |= !(field.getGenericType() instanceof Class<?>);
+
+      if (CUSTOM_KIND.equals(kind)) {
+        final CodeBlock.Builder caseCode = CodeBlock.builder();
+        caseCode.beginControlFlow("case $L:", slot);
+        caseCode.addStatement("final $T $L = $L", ParserCommonUtils.getJSONValueHandle(), ParserCommonUtils.getFieldHandleName(field.getName()),
+            HANDLE_PARAM_NAME);
+        final String resultVar = ParserWriterUtils.addFieldValueParsingCode(caseCode, field, parserPackage);
+        caseCode.addStatement("return $L", resultVar);
+        caseCode.endControlFlow();
+        parse.addCode(caseCode.build());
+        hasCustomFields = true;
+      }
+    }
+    set.addCode("default:\n")
+        .addStatement("  throw new $T($S + $L)", IllegalArgumentException.class, "Unknown slot ", SLOT_PARAM_NAME)
+        .endControlFlow();
+    if (hasGenericFields) {
+      set.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build());
+    }
+    parse.addCode("default:\n")
+        .addStatement("  throw new $T($S + $L)", IllegalArgumentException.class, "No parser for slot ", SLOT_PARAM_NAME)
+        .endControlFlow();
+
+    final TypeSpec.Builder table = TypeSpec.anonymousClassBuilder("new $T[] {$L}, new byte[] {$L}", String.class, names.build(), kinds.build())
+        .superclass(tableType)
+        .addMethod(set.build());
+    if (hasCustomFields) {
+      table.addMethod(parse.build());
+    }
+
+    typeSpec.addField(FieldSpec.builder(tableType, TABLE_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+        .initializer("$L", table.build())
+        .build());
+    methodBuilder.addStatement("$T.parse($L, config, $L)", tableParser, ParserCommonUtils.BASE_OBJECT_PARAM_NAME, TABLE_FIELD_NAME);
+  }
+
+  /**
+   * Creates the interpreter shared by the table-driven parsers.
+   */
+  static TypeSpec createTableParserTypeSpec(final String parserPackage, final String generatorName, final String generatorDetails) {
+    final ClassName tableParser = ParserCommonUtils.getTableParser(parserPackage);
+    final TypeVariableName t = TypeVariableName.get("T");
+    final TypeName tableType = ParameterizedTypeName.get(tableParser.nestedClass(TABLE_CLASS_NAME), t);
+
+    final TypeSpec table = TypeSpec.classBuilder(TABLE_CLASS_NAME)
+        .addJavadoc("The fields of a type: their names and kinds by slot, and the code setting them and parsing custom kinds.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT, Modifier.STATIC)
+        .addTypeVariable(t)
+        .addField(String[].class, "names", Modifier.PRIVATE, Modifier.FINAL)
+        .addField(byte[].class, "kinds", Modifier.PRIVATE, Modifier.FINAL)
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PROTECTED)
+            .addParameter(String[].class, "names", Modifier.FINAL)
+            .addParameter(byte[].class, "kinds", Modifier.FINAL)
+            .addStatement("this.names = names")
+            .addStatement("this.kinds = kinds")
+            .build())
+        .addMethod(MethodSpec.methodBuilder("set")
+            .addJavadoc("Sets the value of the field in the given slot.\n")
+            .addModifiers(Modifier.PROTECTED, Modifier.ABSTRACT)
+            .addParameter(t, TARGET_PARAM_NAME)
+            .addParameter(int.class, SLOT_PARAM_NAME)
+            .addParameter(Object.class, VALUE_PARAM_NAME)
+            .build())
+        .addMethod(MethodSpec.methodBuilder("parse")
+            .addJavadoc("Parses the value of a field of the custom kind in the given slot.\n")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(Object.class)
+            .addParameter(int.class, SLOT_PARAM_NAME, Modifier.FINAL)
+            .addParameter(ParserCommonUtils.getJSONValueHandle(), HANDLE_PARAM_NAME, Modifier.FINAL)
+            .addStatement("throw new $T($S + $L)", IllegalArgumentException.class, "No parser for slot ", SLOT_PARAM_NAME)
+            .build())
+        .build();
+
+    final MethodSpec.Builder read = MethodSpec.methodBuilder("read")
+        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+        .returns(Object.class)
+        .addParameter(tableType, "table", Modifier.FINAL)
+        .addParameter(int.class, SLOT_PARAM_NAME, Modifier.FINAL)
+        .addParameter(ParserCommonUtils.getJSONValueHandle(), HANDLE_PARAM_NAME, Modifier.FINAL)
+        .addTypeVariable(t)
+        .beginControlFlow("switch (table.kinds[$L])", SLOT_PARAM_NAME);
+    final JsonRuntimeTarget target = ParserCommonUtils.getRuntimeTarget();
+    for (int i = 0; i < KIND_VALUES.length; i++) {
+      read.addCode("case $L:\n", KINDS[i])
+          .addStatement("  return $L", target.readValue(KIND_VALUES[i], HANDLE_PARAM_NAME));
+    }
+    read.addCode("default:\n")
+        .addStatement("  return table.parse($L, $L)", SLOT_PARAM_NAME, HANDLE_PARAM_NAME)
+        .endControlFlow();
+
+    final MethodSpec parse = MethodSpec.methodBuilder("parse")
+        .addJavadoc("Parses the fields in the table that are present in the JSON object into the target.\n")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addTypeVariable(t)
+        .addParameter(ParserCommonUtils.getJSONObjectHandle(), ParserCommonUtils.BASE_OBJECT_PARAM_NAME, Modifier.FINAL)
+        .addParameter(t, TARGET_PARAM_NAME, Modifier.FINAL)
+        .addParameter(tableType, "table", Modifier.FINAL)
+        .beginControlFlow("for (int $L = 0; $L < table.names.length; $L++)", SLOT_PARAM_NAME, SLOT_PARAM_NAME, SLOT_PARAM_NAME)
+        .addStatement("final $T $L = $L", ParserCommonUtils.getJSONValueHandle(), HANDLE_PARAM_NAME,
+            target.lookup(ParserCommonUtils.BASE_OBJECT_PARAM_NAME, CodeBlock.of("table.names[$L]", SLOT_PARAM_NAME)))
+        .beginControlFlow("if ($L || table.kinds[$L] >= $L && $L)", target.isAbsent(HANDLE_PARAM_NAME), SLOT_PARAM_NAME,
+            FIRST_NULLABLE_KIND, target.isNull(HANDLE_PARAM_NAME))
+        .addStatement("continue")
+        .endControlFlow()
+        .beginControlFlow("try")
+        .addStatement("table.set($L, $L, read(table, $L, $L))", TARGET_PARAM_NAME, SLOT_PARAM_NAME, SLOT_PARAM_NAME, HANDLE_PARAM_NAME)
+        .nextControlFlow("catch (final $T e)", RuntimeException.class)
+        .addStatement("throw $T.at(table.names[$L], e)", ParserCommonUtils.getParseException(parserPackage), SLOT_PARAM_NAME)
+        .endControlFlow()
+        .endControlFlow()
+        .build();
+
+    final TypeSpec.Builder typeSpec = ParserWriterUtils.createParserTypeSpec(tableParser.simpleName(), generatorName, generatorDetails)
+        .addModifiers(Modifier.FINAL);
+    for (int i = 0; i < KINDS.length; i++) {
+      typeSpec.addField(FieldSpec.builder(byte.class, KINDS[i], Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+          .initializer("$L", i)
+          .build());
+    }
+    return typeSpec
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(parse)
+        .addMethod(read.build())
+        .addType(table)
+        .build();
+  }
+
+  // Simple values the interpreter reads itself, everything else is parsed by the code generated for its slot
+  private static String getKind(final Field field) {
+    final Type type = field.getGenericType();
+    if (type == int.class) {
+      return "INT";
+    } else if (type == long.class) {
+      return "LONG";
+    } else if (type == double.class) {
+      return "DOUBLE";
+    } else if (type == boolean.class) {
+      return "BOOLEAN";
+    } else if (type == String.class && !ParserWriterUtils.getOptions().isInternField(field)) {
+      return "STRING";
+    } else if (type == Integer.class) {
+      return "INTEGER";
+    } else if (type == Long.class) {
+      return "LONG_OBJECT";
+    } else if (type == Double.class) {
+      return "DOUBLE_OBJECT";
+    } else if (type == Boolean.class) {
+      return "BOOLEAN_OBJECT";
+    }
+    return CUSTOM_KIND;
+  }
+}
@@ -1,15 +1,19 @@
 package nl.aerius.codegen.generator.parser;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.TypeName;
 
+import nl.aerius.codegen.generator.EnumDecoderWriterUtils;
 import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
 import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.Logger;
 
@@ -138,46 +142,68 @@ public class CollectionFieldParser implements TypeParser {
     code.addStatement("final $T $L = new $T<>()", fieldType, resultVarName, collectionImpl);
 
     final String specificForEach = getSpecificForEachMethod(elementType);
-
-    if (specificForEach != null) {
+    final String indexVar = ParserCommonUtils.localVarName(variableName, "Index", level, "Index");
+    final String pathLevelVar = ParserCommonUtils.localVarName(variableName, "PathLevel", level, "PathLevel");
+
+    final boolean internElements = elementType.equals(String.class) && ParserWriterUtils.isInternStrings();
+
+    if (specificForEach != null && ParserCommonUtils.isIndexedLoops()) {
+      final CodeBlock element = ParserCommonUtils.getRuntimeTarget().readElement(getSpecificIndexedKind(elementType), arrayVar,
+          CodeBlock.of("$L", indexVar));
+      ParserWriterUtils.beginLenientLoop(code, pathLevelVar);
+      code.beginControlFlow("for (int $L = 0; $L < $L; $L++)", indexVar, indexVar, ParserCommonUtils.getRuntimeTarget().length(arrayVar),
+          indexVar);
+      ParserWriterUtils.beginElementTracking(code, pathLevelVar, CodeBlock.of("$L", indexVar));
+      code.addStatement("$L.add($L)", resultVarName, internElements ? ParserWriterUtils.internString(element, parserPackage) : element);
+      ParserWriterUtils.endElementTracking(code, pathLevelVar, ParserWriterUtils.indexPathSegment(indexVar), parserPackage);
+      code.endControlFlow();
+      ParserWriterUtils.endLenientLoop(code, pathLevelVar);
+    } else if (specificForEach != null && internElements) {
+      // Deduplicate each String through the string pool before adding it
+      code.addStatement("$L.$L($L -> $L.add($L))", arrayVar, specificForEach, itemVar, resultVarName,
+          ParserWriterUtils.internString(CodeBlock.of("$L", itemVar), parserPackage));
+    } else if (specificForEach != null) {
       // Handle simple types with specific forEach methods
       code.addStatement("$L.$L($L::add)", arrayVar, specificForEach, resultVarName);
     } else if (elementType instanceof Class<?> && ((Class<?>) elementType).isEnum()) {
       final Class<?> enumElementType = (Class<?>) elementType;
-      final Method jsonCreatorMethod = ParserCommonUtils.findJsonCreatorMethod(enumElementType, classFinder, logger); // Use common util
       final String strVar = itemVar; // Reuse itemVar name for the string in the lambda
       final String enumValueVar = ParserCommonUtils.getVariableNameForLevel(level + 1, "Value");
 
-      code.add("$L.forEachString($L -> {\n", arrayVar, strVar)
-          .indent()
-          .addStatement("$T $L = null", enumElementType, enumValueVar)
-          .beginControlFlow("if ($L != null)", strVar);
-
-      if (jsonCreatorMethod != null) {
-        // Use @JsonCreator if found
-        code.addStatement("$L = $T.$L($L)", enumValueVar, enumElementType, jsonCreatorMethod.getName(), strVar);
-      } else {
-        // Fallback to valueOf()
-        code.beginControlFlow("try")
-            .addStatement("$L = $T.valueOf($L)", enumValueVar, enumElementType, strVar)
-            .nextControlFlow("catch ($T e)", IllegalArgumentException.class)
-            .add("// Invalid enum value, leave as default\n")
-            .endControlFlow();
-      }
-
-      code.endControlFlow() // End if (strVar != null)
-          .addStatement("$L.add($L)", resultVarName, enumValueVar)
-          .unindent()
-          .addStatement("})"); // Add closing parenthesis for lambda
+      // forEachString passes no index, but decoding an enum doesn't fail on the value itself
+      beginElementLoop(code, CodeBlock.of("$L.forEachString($L -> {\n", arrayVar, strVar), false, arrayVar, indexVar,
+          ParserCommonUtils.STRING, ValueKind.STRING, strVar, pathLevelVar);
+      EnumDecoderWriterUtils.addDecoderCall(code, enumElementType, CodeBlock.of("$L", strVar), enumValueVar, parserPackage, classFinder, logger);
+      code.addStatement("$L.add($L)", resultVarName, enumValueVar);
+      endElementLoop(code, false, indexVar, pathLevelVar, parserPackage);
     } else {
-      // Handle complex types (Objects, other Collections/Maps) using generic forEach and dispatch
-      code.add("$L.forEach($L -> {\n", arrayVar, itemVar)
-          .indent();
       final Type elementFieldType = getElementTypeFromCollectionType(fieldType);
+      final boolean parallel = isParallel(elementType);
+      if (parallel) {
+        // Large arrays of objects are parsed in parallel into an array first, so the order of the elements is preserved
+        final String elementsVar = ParserCommonUtils.localVarName(variableName, "Elements", level, "Elements");
+        code.beginControlFlow("if ($T.isParallel($L))", ParserCommonUtils.getParallelParsing(parserPackage), arrayVar);
+        code.addStatement("final $T[] $L = new $T[$L]", elementType, elementsVar, elementType,
+            ParserCommonUtils.getRuntimeTarget().length(arrayVar));
+        addParallelElementParsing(code, elementsVar, arrayVar, indexVar, itemVar, elementType, elementFieldType, parserPackage, level);
+        code.addStatement("$T.addAll($L, $L)", Collections.class, resultVarName, elementsVar);
+        code.nextControlFlow("else");
+      }
+      // Handle complex types (Objects, other Collections/Maps) using generic forEach and dispatch
+      beginElementLoop(code, CodeBlock.of("$L.forEachWithIndex(($L, $L) -> {\n", arrayVar, itemVar, indexVar), true, arrayVar, indexVar,
+          ParserCommonUtils.getJSONObjectHandle(), ValueKind.OBJECT, itemVar, pathLevelVar);
+      // A null element is added as null, as in the parallel branch, instead of parsing the handle wrapping it
+      code.beginControlFlow("if ($L)", ParserCommonUtils.getRuntimeTarget().isNullElement(arrayVar, CodeBlock.of("$L", indexVar)))
+          .addStatement("$L.add(null)", resultVarName)
+          .nextControlFlow("else");
       final String elementVarName = ParserWriterUtils.dispatchGenerateParsingCodeInto(
           code, elementType, null, parserPackage, CodeBlock.of("$L", itemVar), level + 1, elementFieldType);
       code.addStatement("$L.add($L)", resultVarName, elementVarName);
-      code.unindent().addStatement("})");
+      code.endControlFlow();
+      endElementLoop(code, true, indexVar, pathLevelVar, parserPackage);
+      if (parallel) {
+        code.endControlFlow();
+      }
     }
     return resultVarName;
   }
@@ -190,19 +216,26 @@ public class CollectionFieldParser implements TypeParser {
     final String arrayJsonVar = ParserCommonUtils.localVarName(variableName, "JsonArray", level, "JsonArray");
     final String itemVar = ParserCommonUtils.localVarName(variableName, "Item", level, "Item");
     final String indexVar = ParserCommonUtils.localVarName(variableName, "Index", level, "Index");
+    final String pathLevelVar = ParserCommonUtils.localVarName(variableName, "PathLevel", level, "PathLevel");
 
     // 1. Get the JSON Array - Use $T for ClassName
     code.addStatement("final $T $L = $L", ParserCommonUtils.getJSONArrayHandle(), arrayJsonVar, accessExpression);
     // 2. Create the Java Array instance
-    // Use length() method of JSONArrayHandle
-    code.addStatement("final $T[] $L = new $T[$L.length()]",
-        fieldType, resultVarName, componentType, arrayJsonVar);
+    // Use the length of the JSON array
+    code.addStatement("final $T[] $L = new $T[$L]",
+        fieldType, resultVarName, componentType, ParserCommonUtils.getRuntimeTarget().length(arrayJsonVar));
+    final Type componentFieldType = getComponentTypeFromArrayType(fieldType);
+    final boolean parallel = isParallel(componentType);
+    if (parallel) {
+      code.beginControlFlow("if ($T.isParallel($L))", ParserCommonUtils.getParallelParsing(parserPackage), arrayJsonVar);
+      addParallelElementParsing(code, resultVarName, arrayJsonVar, indexVar, itemVar, componentType, componentFieldType, parserPackage, level);
+      code.nextControlFlow("else");
+    }
     // 3. Loop over the JSON Array using forEachWithIndex
-    code.add("$L.forEachWithIndex(($L, $L) -> {\n", arrayJsonVar, itemVar, indexVar)
-        .indent();
+    beginElementLoop(code, CodeBlock.of("$L.forEachWithIndex(($L, $L) -> {\n", arrayJsonVar, itemVar, indexVar), true, arrayJsonVar, indexVar,
+        ParserCommonUtils.getJSONObjectHandle(), ValueKind.OBJECT, itemVar, pathLevelVar);
 
     // 4. Dispatch parsing for the component type
-    final Type componentFieldType = getComponentTypeFromArrayType(fieldType);
     final String elementVarName = ParserWriterUtils.dispatchGenerateParsingCodeInto(
         code,
         componentType,
@@ -216,8 +249,10 @@ public class CollectionFieldParser implements TypeParser {
     code.addStatement("$L[$L] = $L", resultVarName, indexVar, elementVarName);
 
     // 6. End loop
-    code.unindent()
-        .addStatement("})");
+    endElementLoop(code, true, indexVar, pathLevelVar, parserPackage);
+    if (parallel) {
+      code.endControlFlow();
+    }
 
     return resultVarName;
   }
@@ -238,8 +273,10 @@ public class CollectionFieldParser implements TypeParser {
     code.addStatement("final $T<$T> $L = new $T<>()", java.util.List.class, componentType, tempListVar, java.util.ArrayList.class);
 
     // 3. Loop over JSON Array, parse elements into List (use generic forEach)
-    code.add("$L.forEach($L -> {\n", arrayJsonVar, itemVar)
-        .indent();
+    final String indexVar = ParserCommonUtils.localVarName(variableName, "Index", level, "Index");
+    final String pathLevelVar = ParserCommonUtils.localVarName(variableName, "PathLevel", level, "PathLevel");
+    beginElementLoop(code, CodeBlock.of("$L.forEachWithIndex(($L, $L) -> {\n", arrayJsonVar, itemVar, indexVar), true, arrayJsonVar, indexVar,
+        ParserCommonUtils.getJSONObjectHandle(), ValueKind.OBJECT, itemVar, pathLevelVar);
     final Type componentFieldType = getComponentTypeFromArrayType(fieldType);
     final String elementVarName = ParserWriterUtils.dispatchGenerateParsingCodeInto(
         code,
@@ -250,8 +287,7 @@ public class CollectionFieldParser implements TypeParser {
         level + 1,
         componentFieldType);
     code.addStatement("$L.add($L)", tempListVar, elementVarName);
-    code.unindent()
-        .addStatement("})");
+    endElementLoop(code, true, indexVar, pathLevelVar, parserPackage);
 
     // 4. Convert List to Array (Commented out / placeholder)
     code.addStatement("// TODO: Convert $L to array of $L", tempListVar, componentType.getTypeName());
@@ -260,6 +296,187 @@ public class CollectionFieldParser implements TypeParser {
     return resultVarName;
   }
 
+  @Override
+  public String generateStreamingCodeInto(final CodeBlock.Builder code, final Type type, final String parserPackage, final int level,
+      final Type fieldType, final String variableName) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("CollectionFieldParser cannot handle type: " + type.getTypeName());
+    }
+    final String parserVar = ParserCommonUtils.PARSER_PARAM_NAME;
+
+    if (type instanceof ParameterizedType) {
+      final Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+      final boolean isSet = Set.class.isAssignableFrom(getRawClass(fieldType));
+      final String resultVarName = ParserCommonUtils.localVarName(variableName, "", level, isSet ? "Set" : "List");
+      if (elementType instanceof java.lang.reflect.WildcardType || elementType instanceof java.lang.reflect.TypeVariable) {
+        code.addStatement("// Skipping collection with complex generic type argument: $L", type.getTypeName());
+        code.addStatement("$L.skipChildren()", parserVar);
+        code.addStatement("$T $L = null", fieldType, resultVarName);
+        return resultVarName;
+      }
+      ParserCommonUtils.addStreamingStartCheck(code, "START_ARRAY", "an array", parserPackage);
+      code.addStatement("final $T $L = $L ? null : new $T<>()", fieldType, resultVarName, ParserCommonUtils.createStreamingNullCheck(),
+          isSet ? HASH_SET : ARRAY_LIST);
+      addStreamingElementLoop(code, resultVarName, elementType, getElementTypeFromCollectionType(fieldType), parserPackage, level);
+      return resultVarName;
+    } else if (type instanceof Class<?>) {
+      // Object arrays are collected in a list first, as the length is not known upfront
+      final Class<?> componentType = ((Class<?>) type).getComponentType();
+      final String resultVarName = ParserCommonUtils.localVarName(variableName, "", level, "Array");
+      final String tempListVar = ParserCommonUtils.localVarName(variableName, "TempList", level, "TempList");
+      ParserCommonUtils.addStreamingStartCheck(code, "START_ARRAY", "an array", parserPackage);
+      code.addStatement("final $T<$T> $L = $L ? null : new $T<>()", java.util.List.class, componentType, tempListVar,
+          ParserCommonUtils.createStreamingNullCheck(), ARRAY_LIST);
+      addStreamingElementLoop(code, tempListVar, componentType, getComponentTypeFromArrayType(fieldType), parserPackage, level);
+      code.addStatement("final $T $L = $L == null ? null : $L.toArray(new $T[0])", fieldType, resultVarName, tempListVar, tempListVar,
+          componentType);
+      return resultVarName;
+    } else {
+      final String resultVarName = ParserCommonUtils.localVarName(variableName, "", level, "Array");
+      code.addStatement("$L.skipChildren()", parserVar);
+      code.addStatement("final $T[] $L = null; // Cannot directly create generic array", Object.class, resultVarName);
+      return resultVarName;
+    }
+  }
+
+  /**
+   * Loops over the elements of the current JSON array and adds each parsed element to the collection, including JSON nulls.
+   * Nothing is read when the array itself is JSON null, in which case the collection is null.
+   */
+  private void addStreamingElementLoop(final CodeBlock.Builder code, final String collectionVar, final Type elementType,
+      final Type elementFieldType, final String parserPackage, final int level) {
+    final String indexVar = ParserCommonUtils.getVariableNameForLevel(level, "Index");
+    code.beginControlFlow("if ($L != null)", collectionVar);
+    code.addStatement("int $L = 0", indexVar);
+    code.beginControlFlow("while ($L.nextToken() != $T.END_ARRAY)", ParserCommonUtils.PARSER_PARAM_NAME, ParserCommonUtils.JSON_TOKEN);
+    ParserCommonUtils.addStreamingEndOfInputCheck(code, parserPackage);
+    ParserCommonUtils.beginStreamingElementTracking(code);
+    final String elementVarName = ParserWriterUtils.dispatchGenerateStreamingCodeInto(
+        code, elementType, parserPackage, level + 1, elementFieldType, null);
+    code.addStatement("$L.add($L)", collectionVar, elementVarName);
+    ParserCommonUtils.endStreamingElementTracking(code, ParserWriterUtils.indexPathSegment(indexVar), parserPackage);
+    code.addStatement("$L++", indexVar);
+    code.endControlFlow(); // End while
+    code.endControlFlow(); // End if
+  }
+
+  @Override
+  public void generateWritingCodeInto(final CodeBlock.Builder code, final Type type, final CodeBlock valueExpression, final String parserPackage,
+      final int level) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("CollectionFieldParser cannot handle type: " + type.getTypeName());
+    }
+    final Type elementType = type instanceof ParameterizedType
+        ? getElementTypeFromCollectionType(type)
+        : getComponentTypeFromArrayType(type);
+    final String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+    final String startVar = ParserCommonUtils.getVariableNameForLevel(level, "Start");
+    final String itemVar = ParserCommonUtils.getVariableNameForLevel(level + 1, "Item");
+
+    // Every element appends at least one character, so a separator is needed once the builder grew past the start
+    ParserCommonUtils.beginNullSafeWrite(code, valueExpression);
+    code.addStatement("$L.append('[')", builderVar);
+    code.addStatement("final int $L = $L.length()", startVar, builderVar);
+    code.beginControlFlow("for (final $T $L : $L)", TypeName.get(elementType), itemVar, valueExpression);
+    code.beginControlFlow("if ($L.length() > $L)", builderVar, startVar)
+        .addStatement("$L.append(',')", builderVar)
+        .endControlFlow();
+    ParserWriterUtils.dispatchGenerateWritingCodeInto(code, elementType, CodeBlock.of("$L", itemVar), parserPackage, level + 1);
+    code.endControlFlow(); // End for
+    code.addStatement("$L.append(']')", builderVar);
+    code.endControlFlow(); // End null check
+  }
+
+  private static Class<?> getRawClass(final Type type) {
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    }
+    return type instanceof Class<?> ? (Class<?>) type : Object.class;
+  }
+
+  /**
+   * Large arrays of objects are parsed in parallel when enabled. Only beans are parsed in parallel, as the elements are
+   * collected in an array and parsing a simple value is cheaper than handing it to another thread. Lenient mode is
+   * excluded, as its error sink tracks the path of a single thread.
+   */
+  private static boolean isParallel(final Type elementType) {
+    if (!ParserWriterUtils.getOptions().isParallelParsing() || ParserWriterUtils.getOptions().isLenientParsing()
+        || !(elementType instanceof Class<?>)) {
+      return false;
+    }
+    final Class<?> elementClass = (Class<?>) elementType;
+    return !elementClass.isArray() && !elementClass.isEnum() && !elementClass.isPrimitive() && !elementClass.getName().startsWith("java.");
+  }
+
+  /**
+   * Parses each element of the JSON array in parallel, storing it at its index in {@code elementsVar}. A null element is
+   * stored as null, as in the sequential loop.
+   */
+  private static void addParallelElementParsing(final CodeBlock.Builder code, final String elementsVar, final String arrayVar,
+      final String indexVar, final String itemVar, final Type elementType, final Type elementFieldType, final String parserPackage,
+      final int level) {
+    final CodeBlock segment = CodeBlock.of("$L", indexVar);
+    code.add("$T.parse($L, $L -> {\n", ParserCommonUtils.getParallelParsing(parserPackage), elementsVar, indexVar).indent();
+    ParserWriterUtils.beginElementTracking(code, null, segment);
+    code.beginControlFlow("if ($L)", ParserCommonUtils.getRuntimeTarget().isNullElement(arrayVar, segment))
+        .addStatement("return null")
+        .endControlFlow();
+    code.addStatement("final $T $L = $L", ParserCommonUtils.getJSONObjectHandle(), itemVar,
+        ParserCommonUtils.getRuntimeTarget().readElement(ValueKind.OBJECT, arrayVar, segment));
+    final String elementVarName = ParserWriterUtils.dispatchGenerateParsingCodeInto(
+        code, elementType, null, parserPackage, CodeBlock.of("$L", itemVar), level + 1, elementFieldType);
+    code.addStatement("return $L", elementVarName);
+    ParserWriterUtils.endElementTracking(code, null, ParserWriterUtils.indexPathSegment(indexVar), parserPackage);
+    code.unindent().addStatement("})");
+  }
+
+  /**
+   * Opens the loop over the elements of a JSON array. By default this is the given forEach lambda, in indexed loop mode a
+   * plain for loop that reads the element of {@code itemKind} into {@code itemVar}. The parsing of each element is tracked
+   * by its index, unless the lambda doesn't pass {@code indexVar}.
+   */
+  private static void beginElementLoop(final CodeBlock.Builder code, final CodeBlock lambdaHeader, final boolean lambdaIndexed,
+      final String arrayVar, final String indexVar, final TypeName itemType, final ValueKind itemKind, final String itemVar,
+      final String pathLevelVar) {
+    if (ParserCommonUtils.isIndexedLoops()) {
+      final JsonRuntimeTarget target = ParserCommonUtils.getRuntimeTarget();
+      ParserWriterUtils.beginLenientLoop(code, pathLevelVar);
+      code.beginControlFlow("for (int $L = 0; $L < $L; $L++)", indexVar, indexVar, target.length(arrayVar), indexVar);
+      ParserWriterUtils.beginElementTracking(code, pathLevelVar, CodeBlock.of("$L", indexVar));
+      code.addStatement("final $T $L = $L", itemType, itemVar, target.readElement(itemKind, arrayVar, CodeBlock.of("$L", indexVar)));
+    } else {
+      code.add(lambdaHeader).indent();
+      if (lambdaIndexed) {
+        ParserWriterUtils.beginElementTracking(code, pathLevelVar, CodeBlock.of("$L", indexVar));
+      }
+    }
+  }
+
+  private static void endElementLoop(final CodeBlock.Builder code, final boolean lambdaIndexed, final String indexVar,
+      final String pathLevelVar, final String parserPackage) {
+    if (ParserCommonUtils.isIndexedLoops()) {
+      ParserWriterUtils.endElementTracking(code, pathLevelVar, ParserWriterUtils.indexPathSegment(indexVar), parserPackage);
+      code.endControlFlow();
+      ParserWriterUtils.endLenientLoop(code, pathLevelVar);
+    } else {
+      if (lambdaIndexed) {
+        ParserWriterUtils.endElementTracking(code, pathLevelVar, ParserWriterUtils.indexPathSegment(indexVar), parserPackage);
+      }
+      code.unindent().addStatement("})");
+    }
+  }
+
+  // Indexed counterparts of the specific forEach methods
+  private ValueKind getSpecificIndexedKind(final Type elementType) {
+    if (elementType.equals(String.class)) {
+      return ValueKind.STRING;
+    } else if (elementType.equals(Integer.class)) {
+      return ValueKind.BOXED_INT;
+    } else {
+      return ValueKind.BOXED_DOUBLE;
+    }
+  }
+
   // Helper method to get the specific forEach method name
   private String getSpecificForEachMethod(final Type elementType) {
     if (elementType.equals(String.class)) {
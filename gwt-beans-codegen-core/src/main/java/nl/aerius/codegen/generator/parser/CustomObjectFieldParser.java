@@ -8,6 +8,8 @@ import java.util.Map;
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
 
+import nl.aerius.codegen.generator.ParserWriterUtils;
+
 /**
  * Parser for custom object fields that require their own generated or custom parsers.
  */
@@ -81,20 +83,63 @@ public class CustomObjectFieldParser implements TypeParser {
       throw new IllegalArgumentException("Unexpected type structure in CustomObjectFieldParser: " + type.getTypeName());
     }
 
+    ClassName parserClassName = determineParserClassName(targetClass, parserPackage);
+
+    String resultVarName = variableName != null ? variableName : ParserCommonUtils.getVariableNameForLevel(level, "value");
+
+    code.addStatement("final $T $L = $T.parse($L$L$L)", fieldType, resultVarName, parserClassName, accessExpression,
+        ParserWriterUtils.fieldProjectionArgument(targetClass, parserPackage), ParserWriterUtils.parseErrorsArgument(targetClass));
+
+    return resultVarName;
+  }
+
+  @Override
+  public String generateStreamingCodeInto(CodeBlock.Builder code, Type type, String parserPackage, int level, Type fieldType,
+      String variableName) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("CustomObjectFieldParser cannot handle type: " + type.getTypeName());
+    }
+    Type rawType = type instanceof ParameterizedType ? ((ParameterizedType) type).getRawType() : type;
+    ClassName parserClassName = determineParserClassName((Class<?>) rawType, parserPackage);
+    String resultVarName = variableName != null ? variableName : ParserCommonUtils.getVariableNameForLevel(level, "value");
+
+    // Custom parsers must provide the parse(JsonParser) overload as well when streaming parsing is enabled
+    code.addStatement("final $T $L = $T.parse($L)", fieldType, resultVarName, parserClassName, ParserCommonUtils.PARSER_PARAM_NAME);
+
+    return resultVarName;
+  }
+
+  @Override
+  public void generateWritingCodeInto(CodeBlock.Builder code, Type type, CodeBlock valueExpression, String parserPackage, int level) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("CustomObjectFieldParser cannot handle type: " + type.getTypeName());
+    }
+    Type rawType = type instanceof ParameterizedType ? ((ParameterizedType) type).getRawType() : type;
+    ClassName writerClassName = determineWriterClassName((Class<?>) rawType, parserPackage);
+
+    // Types with a custom parser must have a custom writer next to it when writers are generated
+    code.addStatement("$T.write($L, $L)", writerClassName, ParserCommonUtils.BUILDER_PARAM_NAME, valueExpression);
+  }
+
+  private ClassName determineParserClassName(Class<?> targetClass, String parserPackage) {
     String parserSimpleName = targetClass.getSimpleName() + "Parser";
     String customParserFQN = customParserImports.get(parserSimpleName);
-    ClassName parserClassName;
 
     if (customParserFQN != null) {
-      parserClassName = ClassName.get(customParserFQN.substring(0, customParserFQN.lastIndexOf('.')), parserSimpleName);
+      return ClassName.get(customParserFQN.substring(0, customParserFQN.lastIndexOf('.')), parserSimpleName);
     } else {
-      parserClassName = ClassName.get(parserPackage, parserSimpleName);
+      return ClassName.get(parserPackage, parserSimpleName);
     }
+  }
 
-    String resultVarName = variableName != null ? variableName : ParserCommonUtils.getVariableNameForLevel(level, "value");
-
-    code.addStatement("final $T $L = $T.parse($L)", fieldType, resultVarName, parserClassName, accessExpression);
+  private ClassName determineWriterClassName(Class<?> targetClass, String parserPackage) {
+    String writerSimpleName = targetClass.getSimpleName() + "Writer";
+    String customParserFQN = customParserImports.get(targetClass.getSimpleName() + "Parser");
 
-    return resultVarName;
+    if (customParserFQN != null) {
+      return ClassName.get(customParserFQN.substring(0, customParserFQN.lastIndexOf('.')), writerSimpleName);
+    } else {
+      return ClassName.get(parserPackage, writerSimpleName);
+    }
   }
-}
\ No newline at end of file
+}
@@ -1,15 +1,15 @@
 package nl.aerius.codegen.generator.parser;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
 import com.palantir.javapoet.CodeBlock;
 
+import nl.aerius.codegen.generator.EnumDecoderWriterUtils;
 import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.Logger;
 
 /**
- * Parser for enum fields.
+ * Parser for enum fields. Values are decoded with a switch on the JSON names of the constants, unknown values result in null.
  */
 public class EnumFieldParser implements TypeParser {
 
@@ -51,31 +51,45 @@ public class EnumFieldParser implements TypeParser {
     }
     final Class<?> enumType = (Class<?>) type;
     final String resultVarName = variableName != null ? variableName : ParserCommonUtils.getVariableNameForLevel(level, "value");
-    final String strVarName = variableName != null ? variableName + "Str" : ParserCommonUtils.getVariableNameForLevel(level, "str");
-
-    // Find a potential @JsonCreator method using the common utility
-    final Method jsonCreatorMethod = ParserCommonUtils.findJsonCreatorMethod(enumType, classFinder, logger);
-
-    // Get the string value from JSON
-    code.addStatement("final String $L = $L", strVarName, accessExpression);
-    // Declare the result variable (nullable)
-    code.addStatement("$T $L = null", enumType, resultVarName);
-
-    // Use @JsonCreator if found, otherwise fallback to valueOf()
-    code.beginControlFlow("if ($L != null)", strVarName);
-    if (jsonCreatorMethod != null) {
-      // Assuming the @JsonCreator method handles invalid input gracefully (e.g., returns null)
-      code.addStatement("$L = $T.$L($L)", resultVarName, enumType, jsonCreatorMethod.getName(), strVarName);
-    } else {
-      // Try-catch block for valueOf as it throws IllegalArgumentException
-      code.beginControlFlow("try")
-          .addStatement("$L = $T.valueOf($L)", resultVarName, enumType, strVarName)
-          .nextControlFlow("catch (IllegalArgumentException e)")
-          .add("// Invalid enum value, leave as default\n")
-          .endControlFlow();
+
+    addEnumConversion(code, enumType, accessExpression, resultVarName, parserPackage);
+
+    return resultVarName;
+  }
+
+  @Override
+  public String generateStreamingCodeInto(final CodeBlock.Builder code, final Type type, final String parserPackage, final int level,
+      final Type fieldType, final String variableName) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("EnumFieldParser cannot handle type: " + type.getTypeName());
     }
-    code.endControlFlow(); // End if (strVarName != null)
+    final Class<?> enumType = (Class<?>) type;
+    final String resultVarName = variableName != null ? variableName : ParserCommonUtils.getVariableNameForLevel(level, "value");
+
+    ParserCommonUtils.addStreamingScalarCheck(code, enumType, parserPackage);
+    addEnumConversion(code, enumType, CodeBlock.of("$L.getValueAsString()", ParserCommonUtils.PARSER_PARAM_NAME), resultVarName,
+        parserPackage);
 
     return resultVarName;
   }
-}
\ No newline at end of file
+
+  @Override
+  public void generateWritingCodeInto(final CodeBlock.Builder code, final Type type, final CodeBlock valueExpression, final String parserPackage,
+      final int level) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("EnumFieldParser cannot handle type: " + type.getTypeName());
+    }
+    ParserCommonUtils.beginNullSafeWrite(code, valueExpression);
+    ParserCommonUtils.addEnumEncoding(code, (Class<?>) type, valueExpression, parserPackage, classFinder, logger);
+    code.endControlFlow();
+  }
+
+  /**
+   * Declares the result variable and converts the string in {@code strExpression} to the enum constant with the shared
+   * decoder of the enum.
+   */
+  private void addEnumConversion(final CodeBlock.Builder code, final Class<?> enumType, final CodeBlock strExpression, final String resultVarName,
+      final String parserPackage) {
+    EnumDecoderWriterUtils.addDecoderCall(code, enumType, strExpression, resultVarName, parserPackage, classFinder, logger);
+  }
+}
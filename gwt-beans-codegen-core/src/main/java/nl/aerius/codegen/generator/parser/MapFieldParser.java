@@ -6,8 +6,12 @@ import java.util.Map;
 
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
 
+import nl.aerius.codegen.generator.EnumDecoderWriterUtils;
 import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.Logger;
 
 /**
@@ -15,9 +19,11 @@ import nl.aerius.codegen.util.Logger;
  */
 public class MapFieldParser implements TypeParser {
 
+  private final ClassFinder classFinder;
   private final Logger logger;
 
-  public MapFieldParser(final Logger logger) {
+  public MapFieldParser(final ClassFinder classFinder, final Logger logger) {
+    this.classFinder = classFinder;
     this.logger = logger;
   }
 
@@ -71,35 +77,27 @@ public class MapFieldParser implements TypeParser {
     final Type keyType = mapRuntimeType.getActualTypeArguments()[0];
     final Type valueType = mapRuntimeType.getActualTypeArguments()[1];
 
-    // Determine Map implementation based on fieldType
-    ClassName mapImpl;
-    Type typeForImplCheck = fieldType; // Start with the actual field type
-
-    if (fieldType instanceof ParameterizedType) {
-      // If it's ParameterizedType (like HashMap<String, Integer>),
-      // get its raw type (HashMap.class) for the implementation check
-      typeForImplCheck = ((ParameterizedType) fieldType).getRawType();
-    }
-
-    // Now check if the type (or raw type) is a concrete Map implementation
-    if (typeForImplCheck instanceof Class<?> && !((Class<?>) typeForImplCheck).isInterface()
-        && Map.class.isAssignableFrom((Class<?>) typeForImplCheck)) {
-      mapImpl = ClassName.get((Class<?>) typeForImplCheck); // Use concrete class (e.g., HashMap)
-    } else {
-      // Default for Map interface or other cases
-      mapImpl = ClassName.get(java.util.LinkedHashMap.class);
-    }
+    final ClassName mapImpl = determineMapImplementation(fieldType);
 
     final String mapVar = ParserCommonUtils.localVarName(variableName, "", level, "Map");
-    final String objVar = ParserCommonUtils.getVariableNameForLevel(level, "Obj");
-    final String keyVar = ParserCommonUtils.getVariableNameForLevel(level, "Key");
+    final String objVar = ParserCommonUtils.localVarName(variableName, "Obj", level, "Obj");
+    final String keyVar = ParserCommonUtils.localVarName(variableName, "Key", level, "Key");
+    final String pathLevelVar = ParserCommonUtils.localVarName(variableName, "PathLevel", level, "PathLevel");
 
     code.addStatement("final $T $L = $L", ParserCommonUtils.getJSONObjectHandle(), objVar, accessExpression);
 
     code.addStatement("final $T $L = new $T<>()", fieldType, mapVar, mapImpl);
 
-    code.add("$L.keySet().forEach($L -> {\n", objVar, keyVar)
-        .indent();
+    // Targets without the forEach methods of the JSON handles loop over the keys as well
+    final boolean keyLoop = ParserWriterUtils.getOptions().isIndexedLoops() || !ParserCommonUtils.getRuntimeTarget().isLambdaIteration();
+    ParserWriterUtils.beginLenientLoop(code, pathLevelVar);
+    if (keyLoop) {
+      code.beginControlFlow("for (final $T $L : $L)", String.class, keyVar, ParserCommonUtils.getRuntimeTarget().keys(objVar));
+    } else {
+      code.add("$L.keySet().forEach($L -> {\n", objVar, keyVar)
+          .indent();
+    }
+    ParserWriterUtils.beginElementTracking(code, pathLevelVar, CodeBlock.of("$L", keyVar));
 
     final CodeBlock valueAccessExpression = ParserCommonUtils.createFieldAccessCode(
         valueType,
@@ -116,32 +114,43 @@ public class MapFieldParser implements TypeParser {
         level + 1,
         valueFieldType);
 
-    // Introduce intermediate key variable specifically for Enum keys
-    if (keyType instanceof Class<?> && ((Class<?>) keyType).isEnum()) {
-      final String enumKeyVar = ParserCommonUtils.getVariableNameForLevel(level, "EnumKey");
-      code.addStatement("final $T $L = $T.valueOf($L)", keyType, enumKeyVar, keyType, keyVar);
-      code.addStatement("$L.put($L, $L)", mapVar, enumKeyVar, valueVarName); // Use intermediate variable
+    addPutStatement(code, mapVar, keyType, keyVar, valueVarName, level, parserPackage);
+    ParserWriterUtils.endElementTracking(code, pathLevelVar, CodeBlock.of("$L", keyVar), parserPackage);
+
+    if (keyLoop) {
+      code.endControlFlow();
     } else {
-      // Original logic for other key types (String, Integer, etc.)
-      addPutStatement(code, mapVar, keyType, keyVar, valueVarName);
+      code.unindent()
+          .addStatement("})");
     }
-
-    code.unindent()
-        .addStatement("})");
+    ParserWriterUtils.endLenientLoop(code, pathLevelVar);
 
     return mapVar;
   }
 
-  private void addPutStatement(final CodeBlock.Builder code, final String mapVar, final Type keyType, final String keyVar, final String valueVar) {
+  private void addPutStatement(final CodeBlock.Builder code, final String mapVar, final Type keyType, final String keyVar, final String valueVar,
+      final int level, final String parserPackage) {
+    if (keyType instanceof Class<?> && ((Class<?>) keyType).isEnum()) {
+      // Decode enum keys into an intermediate variable, entries with an unknown key are skipped
+      final String enumKeyVar = ParserCommonUtils.getVariableNameForLevel(level, "EnumKey");
+      EnumDecoderWriterUtils.addDecoderCall(code, (Class<?>) keyType, CodeBlock.of("$L", keyVar), enumKeyVar, parserPackage, classFinder, logger);
+      code.beginControlFlow("if ($L != null)", enumKeyVar)
+          .addStatement("$L.put($L, $L)", mapVar, enumKeyVar, valueVar)
+          .endControlFlow();
+      return;
+    }
+    // If key type wasn't specifically handled, it defaults to using the keyVar as a String.
+    // This is correct for String keys, but will cause compile errors for unsupported types.
+    code.addStatement("$L.put($L, $L)", mapVar, createKeyExpression(keyType, keyVar, parserPackage), valueVar);
+  }
+
+  private CodeBlock createKeyExpression(final Type keyType, final String keyVar, final String parserPackage) {
     CodeBlock keyExpression = CodeBlock.of("$L", keyVar); // Default to using the string key directly
 
-    if (keyType.equals(Integer.class)) {
+    if (keyType.equals(String.class)) {
+      keyExpression = ParserWriterUtils.internString(keyExpression, parserPackage);
+    } else if (keyType.equals(Integer.class)) {
       keyExpression = CodeBlock.of("Integer.parseInt($L)", keyVar);
-    } else if (keyType instanceof Class<?> && ((Class<?>) keyType).isEnum()) {
-      // Enum keys were handled earlier by creating an intermediate variable.
-      // This part of addPutStatement should ideally not be reached for enums now.
-      // However, keeping the check for robustness or if called directly.
-      keyExpression = CodeBlock.of("$T.valueOf($L)", keyType, keyVar);
     } else if (keyType instanceof Class<?>) {
       // Check for complex key type with a fromStringValue method (like TestComplexKeyType)
       final Class<?> keyClass = (Class<?>) keyType;
@@ -159,10 +168,115 @@ public class MapFieldParser implements TypeParser {
         logger.warn("Warning: SecurityException while checking for fromStringValue method on " + keyClass.getName());
       }
     }
+    return keyExpression;
+  }
 
-    // If key type wasn't specifically handled, it defaults to using the keyVar as a String.
-    // This is correct for String keys, but will cause compile errors for unsupported types.
-    code.addStatement("$L.put($L, $L)", mapVar, keyExpression, valueVar);
+  @Override
+  public String generateStreamingCodeInto(final CodeBlock.Builder code, final Type type, final String parserPackage, final int level,
+      final Type fieldType, final String variableName) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("MapFieldParser cannot handle type: " + type.getTypeName());
+    }
+    final ParameterizedType mapRuntimeType = (ParameterizedType) type;
+    final Type keyType = mapRuntimeType.getActualTypeArguments()[0];
+    final Type valueType = mapRuntimeType.getActualTypeArguments()[1];
+    final String mapVar = ParserCommonUtils.localVarName(variableName, "", level, "Map");
+    final String keyVar = ParserCommonUtils.getVariableNameForLevel(level, "Key");
+    final String parserVar = ParserCommonUtils.PARSER_PARAM_NAME;
+
+    ParserCommonUtils.addStreamingStartCheck(code, "START_OBJECT", "an object", parserPackage);
+    code.addStatement("final $T $L = $L ? null : new $T<>()", fieldType, mapVar, ParserCommonUtils.createStreamingNullCheck(),
+        determineMapImplementation(fieldType));
+    code.beginControlFlow("if ($L != null)", mapVar);
+    code.beginControlFlow("while ($L.nextToken() == $T.FIELD_NAME)", parserVar, ParserCommonUtils.JSON_TOKEN);
+    code.addStatement("final $T $L = $L.currentName()", String.class, keyVar, parserVar);
+    code.addStatement("$L.nextToken()", parserVar);
+
+    ParserCommonUtils.beginStreamingElementTracking(code);
+    final String valueVarName = ParserWriterUtils.dispatchGenerateStreamingCodeInto(
+        code, valueType, parserPackage, level + 1, getValueTypeFromMapType(fieldType), null);
+    addPutStatement(code, mapVar, keyType, keyVar, valueVarName, level, parserPackage);
+    ParserCommonUtils.endStreamingElementTracking(code, CodeBlock.of("$L", keyVar), parserPackage);
+
+    code.endControlFlow(); // End while
+    ParserCommonUtils.addStreamingEndObjectCheck(code, parserPackage);
+    code.endControlFlow(); // End if
+    return mapVar;
+  }
+
+  @Override
+  public void generateWritingCodeInto(final CodeBlock.Builder code, final Type type, final CodeBlock valueExpression, final String parserPackage,
+      final int level) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("MapFieldParser cannot handle type: " + type.getTypeName());
+    }
+    final ParameterizedType mapType = (ParameterizedType) type;
+    final Type keyType = mapType.getActualTypeArguments()[0];
+    final Type valueType = mapType.getActualTypeArguments()[1];
+    final String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+    final String startVar = ParserCommonUtils.getVariableNameForLevel(level, "Start");
+    final String entryVar = ParserCommonUtils.getVariableNameForLevel(level + 1, "Entry");
+    final String valueVar = ParserCommonUtils.getVariableNameForLevel(level + 1, "Value");
+
+    ParserCommonUtils.beginNullSafeWrite(code, valueExpression);
+    code.addStatement("$L.append('{')", builderVar);
+    code.addStatement("final int $L = $L.length()", startVar, builderVar);
+    code.beginControlFlow("for (final $T $L : $L.entrySet())",
+        ParameterizedTypeName.get(ClassName.get(Map.Entry.class), TypeName.get(keyType), TypeName.get(valueType)), entryVar, valueExpression);
+    code.beginControlFlow("if ($L.length() > $L)", builderVar, startVar)
+        .addStatement("$L.append(',')", builderVar)
+        .endControlFlow();
+    addKeyWritingCode(code, keyType, CodeBlock.of("$L.getKey()", entryVar), parserPackage);
+    code.addStatement("$L.append(':')", builderVar);
+    code.addStatement("final $T $L = $L.getValue()", valueType, valueVar, entryVar);
+    ParserWriterUtils.dispatchGenerateWritingCodeInto(code, valueType, CodeBlock.of("$L", valueVar), parserPackage, level + 1);
+    code.endControlFlow(); // End for
+    code.addStatement("$L.append('}')", builderVar);
+    code.endControlFlow(); // End null check
+  }
+
+  /**
+   * Writes a map key as JSON string: enum keys by their JSON name, keys with a {@code @JsonKey} or toStringValue() method by
+   * its result, and other keys by their String value.
+   */
+  private void addKeyWritingCode(final CodeBlock.Builder code, final Type keyType, final CodeBlock keyExpression, final String parserPackage) {
+    final ClassName writerUtils = ParserCommonUtils.getJSONWriterUtils(parserPackage);
+    final String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+
+    if (keyType.equals(String.class)) {
+      code.addStatement("$T.appendString($L, $L)", writerUtils, builderVar, keyExpression);
+    } else if (keyType instanceof Class<?> && ((Class<?>) keyType).isEnum()) {
+      ParserCommonUtils.addEnumEncoding(code, (Class<?>) keyType, keyExpression, parserPackage, classFinder, logger);
+    } else {
+      final java.lang.reflect.Method keyMethod = keyType instanceof Class<?>
+          ? ParserCommonUtils.findJsonKeyMethod((Class<?>) keyType, classFinder)
+          : null;
+      if (keyMethod == null) {
+        code.addStatement("$T.appendString($L, $T.valueOf($L))", writerUtils, builderVar, String.class, keyExpression);
+      } else {
+        code.addStatement("$T.appendString($L, $T.valueOf($L.$L()))", writerUtils, builderVar, String.class, keyExpression,
+            keyMethod.getName());
+      }
+    }
+  }
+
+  private static ClassName determineMapImplementation(final Type fieldType) {
+    Type typeForImplCheck = fieldType; // Start with the actual field type
+
+    if (fieldType instanceof ParameterizedType) {
+      // If it's ParameterizedType (like HashMap<String, Integer>),
+      // get its raw type (HashMap.class) for the implementation check
+      typeForImplCheck = ((ParameterizedType) fieldType).getRawType();
+    }
+
+    // Now check if the type (or raw type) is a concrete Map implementation
+    if (typeForImplCheck instanceof Class<?> && !((Class<?>) typeForImplCheck).isInterface()
+        && Map.class.isAssignableFrom((Class<?>) typeForImplCheck)) {
+      return ClassName.get((Class<?>) typeForImplCheck); // Use concrete class (e.g., HashMap)
+    } else {
+      // Default for Map interface or other cases
+      return ClassName.get(java.util.LinkedHashMap.class);
+    }
   }
 
   private Type getValueTypeFromMapType(final Type mapFieldType) {
@@ -1,10 +1,13 @@
 package nl.aerius.codegen.generator.parser;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -14,7 +17,12 @@ import javax.annotation.processing.Generated;
 import com.palantir.javapoet.AnnotationSpec;
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.TypeName;
 
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
 import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.Logger;
 
@@ -22,36 +30,138 @@ import nl.aerius.codegen.util.Logger;
  * Common utilities for parser generation.
  */
 public final class ParserCommonUtils {
-  // JSON handling constants - Always use the AERIUS JSONObjectHandle and JSONArrayHandle for GWT target
-  private static final ClassName JSON_OBJECT_HANDLE = ClassName.get("nl.aerius.wui.service.json", "JSONObjectHandle");
-  private static final ClassName JSON_ARRAY_HANDLE = ClassName.get("nl.aerius.wui.service.json", "JSONArrayHandle");
-
   // Java standard types
   public static final ClassName STRING = ClassName.get(String.class);
 
+  // Jackson streaming types, only used when streaming parsing is enabled
+  public static final ClassName JSON_PARSER = ClassName.get("com.fasterxml.jackson.core", "JsonParser");
+  public static final ClassName JSON_TOKEN = ClassName.get("com.fasterxml.jackson.core", "JsonToken");
+
   // Parameter name constants
   public static final String BASE_OBJECT_PARAM_NAME = "baseObj";
+  public static final String PARSER_PARAM_NAME = "parser";
+  public static final String BUILDER_PARAM_NAME = "sb";
+  public static final String PARSE_ERRORS_PARAM_NAME = "parseErrors";
+  public static final String PROJECTION_PARAM_NAME = "projection";
+
+  // Generated helper class shared by all writers, only generated when writers are enabled
+  private static final String JSON_WRITER_UTILS_NAME = "JSONWriterUtils";
+  private static final String JSON_STRING_POOL_NAME = "JSONStringPool";
+  private static final String PARSE_EXCEPTION_NAME = "ParseException";
+  private static final String PARSE_ERRORS_NAME = "ParseErrors";
+  private static final String PROJECTION_NAME = "Projection";
+  private static final String PARSER_REGISTRY_NAME = "ParserRegistry";
+  private static final String PARALLEL_PARSING_NAME = "ParallelParsing";
+  private static final String PARSER_HELPERS_NAME = "ParserHelpers";
+  private static final String ENUM_DECODERS_NAME = "EnumDecoders";
+  private static final String TABLE_PARSER_NAME = "TableParser";
 
   // Added from Enum/Collection parsers
   private static final String JSON_CREATOR_ANNOTATION = "com.fasterxml.jackson.annotation.JsonCreator";
+  private static final String JSON_PROPERTY_ANNOTATION = "com.fasterxml.jackson.annotation.JsonProperty";
+  private static final String JSON_VALUE_ANNOTATION = "com.fasterxml.jackson.annotation.JsonValue";
+  private static final String JSON_KEY_ANNOTATION = "com.fasterxml.jackson.annotation.JsonKey";
 
   private ParserCommonUtils() {
     // Utility class, no instantiation
   }
 
   /**
-   * Gets the JSON object handle class.
+   * Gets the JSON runtime target the parsers are generated for.
+   */
+  public static JsonRuntimeTarget getRuntimeTarget() {
+    return ParserWriterUtils.getOptions().getRuntimeTarget();
+  }
+
+  /**
+   * Gets the JSON object handle class of the runtime target.
+   */
+  public static TypeName getJSONObjectHandle() {
+    return getRuntimeTarget().getObjectType();
+  }
+
+  /**
+   * Gets the JSON array handle class of the runtime target.
+   */
+  public static TypeName getJSONArrayHandle() {
+    return getRuntimeTarget().getArrayType();
+  }
+
+  /**
+   * Gets the JSON value handle class of the runtime target, returned by the single lookup of a field.
+   */
+  public static TypeName getJSONValueHandle() {
+    return getRuntimeTarget().getValueType();
+  }
+
+  /**
+   * Gets the generated helper class used by the writers to append escaped JSON strings.
+   */
+  public static ClassName getJSONWriterUtils(final String parserPackage) {
+    return ClassName.get(parserPackage, JSON_WRITER_UTILS_NAME);
+  }
+
+  /**
+   * Gets the generated bounded pool used by the parsers to deduplicate repeated String values.
+   */
+  public static ClassName getJSONStringPool(final String parserPackage) {
+    return ClassName.get(parserPackage, JSON_STRING_POOL_NAME);
+  }
+
+  /**
+   * Gets the generated exception thrown by the parsers, which carries the JSON pointer to the value that failed to parse.
    */
-  public static ClassName getJSONObjectHandle() {
-    // Always return the AERIUS JSONObjectHandle
-    return JSON_OBJECT_HANDLE;
+  public static ClassName getParseException(final String parserPackage) {
+    return ClassName.get(parserPackage, PARSE_EXCEPTION_NAME);
   }
 
   /**
-   * Gets the JSON array handle class.
+   * Gets the generated error sink taken by the parse methods in lenient mode.
    */
-  public static ClassName getJSONArrayHandle() {
-    return JSON_ARRAY_HANDLE;
+  public static ClassName getParseErrors(final String parserPackage) {
+    return ClassName.get(parserPackage, PARSE_ERRORS_NAME);
+  }
+
+  /**
+   * Gets the generated field projection taken by the parse methods in projection mode.
+   */
+  public static ClassName getProjection(final String parserPackage) {
+    return ClassName.get(parserPackage, PROJECTION_NAME);
+  }
+
+  /**
+   * Gets the generated registry dispatching from a type to its parser.
+   */
+  public static ClassName getParserRegistry(final String parserPackage) {
+    return ClassName.get(parserPackage, PARSER_REGISTRY_NAME);
+  }
+
+  /**
+   * Gets the generated helper used in parallel mode to parse the elements of large arrays in parallel.
+   */
+  public static ClassName getParallelParsing(final String parserPackage) {
+    return ClassName.get(parserPackage, PARALLEL_PARSING_NAME);
+  }
+
+  /**
+   * Gets the generated class holding the helpers shared by all parsers for repeated nested generic shapes.
+   */
+  public static ClassName getParserHelpers(final String parserPackage) {
+    return ClassName.get(parserPackage, PARSER_HELPERS_NAME);
+  }
+
+  /**
+   * Gets the generated class holding the decoder of each enum, shared by all parsers.
+   */
+  public static ClassName getEnumDecoders(final String parserPackage) {
+    return ClassName.get(parserPackage, ENUM_DECODERS_NAME);
+  }
+
+  /**
+   * Gets the generated interpreter walking the field tables of the parsers in table-driven mode.
+   */
+  public static ClassName getTableParser(final String parserPackage) {
+    return ClassName.get(parserPackage, TABLE_PARSER_NAME);
   }
 
   public static ClassName getHashMap() {
@@ -86,6 +196,9 @@ public final class ParserCommonUtils {
    * For primitive types, only checks existence since they cannot be null.
    * For wrapper types and objects, checks both existence and non-null.
    *
+   * The body reads the value with {@link #createFieldValueAccessCode}. With single lookups the check first declares a
+   * JSONValueHandle on the value (see {@link #getFieldHandleName}), so the field is looked up once.
+   *
    * @param objVarName     The variable name of the JSON object
    * @param fieldName      The name of the field to check
    * @param requireNonNull Whether to also check that the field is not null (ignored for primitive types)
@@ -95,18 +208,174 @@ public final class ParserCommonUtils {
   public static CodeBlock createFieldExistsCheck(final String objVarName, final String fieldName, final boolean requireNonNull,
       final Consumer<CodeBlock.Builder> body) {
     final CodeBlock.Builder code = CodeBlock.builder();
-    // Use CodeBlock for fieldName to handle potential variables vs String literals if needed later
-    final CodeBlock fieldNameBlock = CodeBlock.of("$S", fieldName);
+    code.add(createFieldHandleDeclaration(objVarName, fieldName));
     if (requireNonNull) {
-      code.beginControlFlow("if ($L.has($L) && !$L.isNull($L))", objVarName, fieldNameBlock, objVarName, fieldNameBlock);
+      code.beginControlFlow("if ($L && !$L)", createFieldPresentCheck(objVarName, fieldName), createFieldNullCheck(objVarName, fieldName));
     } else {
-      code.beginControlFlow("if ($L.has($L))", objVarName, fieldNameBlock);
+      code.beginControlFlow("if ($L)", createFieldPresentCheck(objVarName, fieldName));
     }
     body.accept(code);
     code.endControlFlow();
     return code.build();
   }
 
+  /**
+   * With single lookups, declares a JSONValueHandle on the value of the field, looking the field up once. The handle is
+   * {@code JSONValueHandle.ABSENT} if the field is not present. Otherwise nothing is declared, and the field is read by key.
+   */
+  public static CodeBlock createFieldHandleDeclaration(final String objVarName, final String fieldName) {
+    if (!ParserWriterUtils.getOptions().isSingleLookup()) {
+      return CodeBlock.of("");
+    }
+    return CodeBlock.builder()
+        .addStatement("final $T $L = $L", getJSONValueHandle(), getFieldHandleName(fieldName),
+            getRuntimeTarget().lookup(objVarName, CodeBlock.of("$S", fieldName)))
+        .build();
+  }
+
+  /**
+   * @return condition that is true if the field is present in the JSON object, also if it is null
+   */
+  public static CodeBlock createFieldPresentCheck(final String objVarName, final String fieldName) {
+    final JsonRuntimeTarget target = getRuntimeTarget();
+    return ParserWriterUtils.getOptions().isSingleLookup()
+        ? CodeBlock.of("!$L", target.isAbsent(getFieldHandleName(fieldName)))
+        : target.hasMember(objVarName, CodeBlock.of("$S", fieldName));
+  }
+
+  /**
+   * @return condition that is true if the field in the JSON object is null
+   */
+  public static CodeBlock createFieldNullCheck(final String objVarName, final String fieldName) {
+    final JsonRuntimeTarget target = getRuntimeTarget();
+    return ParserWriterUtils.getOptions().isSingleLookup()
+        ? target.isNull(getFieldHandleName(fieldName))
+        : target.isNullMember(objVarName, CodeBlock.of("$S", fieldName));
+  }
+
+  /**
+   * Creates a CodeBlock reading the value of a field checked with {@link #createFieldExistsCheck} or declared with
+   * {@link #createFieldHandleDeclaration}. With single lookups the value is read from the JSONValueHandle, whose getters
+   * have the same names as those of JSONObjectHandle without the key, so the key isn't looked up again.
+   *
+   * @param type       The Type of the data being accessed.
+   * @param objVarName The variable name of the JSON object.
+   * @param fieldName  The name of the field.
+   * @return A CodeBlock like `baseObj.getString("name")` or `nameHandle.getString()`.
+   */
+  public static CodeBlock createFieldValueAccessCode(final Type type, final String objVarName, final String fieldName) {
+    return createFieldValueAccessCode(getValueKind(type), objVarName, fieldName);
+  }
+
+  /**
+   * Creates a CodeBlock reading the value of a field as the given kind, see {@link #createFieldValueAccessCode(Type, String, String)}.
+   */
+  public static CodeBlock createFieldValueAccessCode(final ValueKind kind, final String objVarName, final String fieldName) {
+    final JsonRuntimeTarget target = getRuntimeTarget();
+    return ParserWriterUtils.getOptions().isSingleLookup()
+        ? target.readValue(kind, getFieldHandleName(fieldName))
+        : target.readMember(kind, objVarName, CodeBlock.of("$S", fieldName));
+  }
+
+  /**
+   * @return the name of the local variable holding the JSONValueHandle of a field
+   */
+  public static String getFieldHandleName(final String fieldName) {
+    return fieldName + "Handle";
+  }
+
+  /**
+   * @return the name of the local variable holding the projection of the fields within a field
+   */
+  public static String getFieldProjectionName(final String fieldName) {
+    return fieldName + "Projection";
+  }
+
+  /**
+   * Creates the condition that is true if the streaming parser is positioned on a JSON null.
+   */
+  public static CodeBlock createStreamingNullCheck() {
+    return CodeBlock.of("$L.currentToken() == $T.VALUE_NULL", PARSER_PARAM_NAME, JSON_TOKEN);
+  }
+
+  /**
+   * Adds the check that the streaming parser is positioned on the start token of an object or array, or on a JSON null. A
+   * value of another shape would otherwise be read as if it were the expected one, continuing into the tokens after it.
+   *
+   * @param startToken  The name of the expected JsonToken, START_OBJECT or START_ARRAY.
+   * @param description The expected value in the error message, e.g. "an array".
+   */
+  public static void addStreamingStartCheck(final CodeBlock.Builder code, final String startToken, final String description,
+      final String parserPackage) {
+    code.beginControlFlow("if ($L.currentToken() != $T.$L && $L.currentToken() != $T.VALUE_NULL)", PARSER_PARAM_NAME, JSON_TOKEN, startToken,
+        PARSER_PARAM_NAME, JSON_TOKEN)
+        .addStatement("throw new $T($S + $L.currentToken())", getParseException(parserPackage), "Expected " + description + ", got ",
+            PARSER_PARAM_NAME)
+        .endControlFlow();
+  }
+
+  /**
+   * Adds the check, at the start of the body of a loop over the elements of an array, that the input did not end before the
+   * array did. The parser returns no token at the end of the input, which would otherwise never end the loop.
+   */
+  public static void addStreamingEndOfInputCheck(final CodeBlock.Builder code, final String parserPackage) {
+    code.beginControlFlow("if ($L.currentToken() == null)", PARSER_PARAM_NAME)
+        .addStatement("throw new $T($S)", getParseException(parserPackage), "Unexpected end of input")
+        .endControlFlow();
+  }
+
+  /**
+   * Adds the check, after a loop over the fields of an object, that the loop ended on the end of the object, and not on the end
+   * of the input or on a token that can't occur in an object.
+   */
+  public static void addStreamingEndObjectCheck(final CodeBlock.Builder code, final String parserPackage) {
+    code.beginControlFlow("if ($L.currentToken() != $T.END_OBJECT)", PARSER_PARAM_NAME, JSON_TOKEN)
+        .addStatement("throw new $T($S + $L.currentToken())", getParseException(parserPackage), "Expected a field name, got ",
+            PARSER_PARAM_NAME)
+        .endControlFlow();
+  }
+
+  /**
+   * Opens the try block around the parsing of an element of an array or map by the streaming parser.
+   */
+  public static void beginStreamingElementTracking(final CodeBlock.Builder code) {
+    code.beginControlFlow("try");
+  }
+
+  /**
+   * Closes the try block opened by {@link #beginStreamingElementTracking}, prepending the index or key of the element, given
+   * as a String expression, to the path of any error. The streaming parsers don't apply lenient mode, so errors always abort.
+   */
+  public static void endStreamingElementTracking(final CodeBlock.Builder code, final CodeBlock pathSegment, final String parserPackage) {
+    code.nextControlFlow("catch (final $T e)", RuntimeException.class)
+        .addStatement("throw $T.at($L, e)", getParseException(parserPackage), pathSegment)
+        .endControlFlow();
+  }
+
+  /**
+   * Adds the check that the current token of the streaming parser is a scalar that can be read as the given type, or a JSON
+   * null. The getValueAsX methods of the parser read any other token as 0, false or null without moving past it, so an object
+   * or array would leave its fields to be read as fields of the enclosing object.
+   */
+  public static void addStreamingScalarCheck(final CodeBlock.Builder code, final Class<?> type, final String parserPackage) {
+    final CodeBlock invalid;
+    final String description;
+    if (type == String.class || type == char.class || type == Character.class || type.isEnum()) {
+      invalid = CodeBlock.of("$L.currentToken() != $T.VALUE_STRING", PARSER_PARAM_NAME, JSON_TOKEN);
+      description = "a string";
+    } else if (type == boolean.class || type == Boolean.class) {
+      invalid = CodeBlock.of("!$L.currentToken().isBoolean()", PARSER_PARAM_NAME);
+      description = "a boolean";
+    } else {
+      invalid = CodeBlock.of("!$L.currentToken().isNumeric()", PARSER_PARAM_NAME);
+      description = "a number";
+    }
+    code.beginControlFlow("if ($L && $L.currentToken() != $T.VALUE_NULL)", invalid, PARSER_PARAM_NAME, JSON_TOKEN)
+        .addStatement("throw new $T($S + $L.currentToken())", getParseException(parserPackage), "Expected " + description + ", got ",
+            PARSER_PARAM_NAME)
+        .endControlFlow();
+  }
+
   /**
    * Strips type arguments from a source-level type name: {@code "List<String>"} → {@code "List"}.
    */
@@ -167,10 +436,36 @@ public final class ParserCommonUtils {
     }
   }
 
+  /**
+   * @return true if JSON arrays are iterated with plain for loops over their indices instead of the forEach methods of the
+   *         JSON handles. Lenient mode always uses indexed loops, as the index of an element that fails to parse is part of
+   *         its path.
+   */
+  public static boolean isIndexedLoops() {
+    final GeneratorOptions options = ParserWriterUtils.getOptions();
+    return options.isIndexedLoops() || options.isLenientParsing() || !getRuntimeTarget().isLambdaIteration();
+  }
+
+  /**
+   * @return the kind of value read for the primitive type without boxing it
+   */
+  private static ValueKind getPrimitiveKind(final Class<?> primitiveType) {
+    if (primitiveType == long.class) {
+      return ValueKind.LONG;
+    } else if (primitiveType == double.class || primitiveType == float.class) {
+      return ValueKind.DOUBLE;
+    } else if (primitiveType == boolean.class) {
+      return ValueKind.BOOLEAN;
+    } else {
+      // int, short and byte
+      return ValueKind.INT;
+    }
+  }
+
   /**
    * Creates a CodeBlock representing the access to a field's data within a JSONObjectHandle.
-   * Determines the correct getter method (getObject, getString, getInteger, getArray, etc.)
-   * based on the provided type.
+   * The runtime target determines the correct getter method (getObject, getString, getInteger, getArray, etc.)
+   * from the kind of value of the provided type.
    *
    * @param type                     The Type of the data being accessed.
    * @param objVarName               The variable name of the JSONObjectHandle.
@@ -178,35 +473,44 @@ public final class ParserCommonUtils {
    * @return A CodeBlock like `objVar.getObject(keyOrFieldNameExpression)` or `objVar.getString(keyOrFieldNameExpression)`.
    */
   public static CodeBlock createFieldAccessCode(final Type type, final String objVarName, final CodeBlock keyOrFieldNameExpression) {
+    return getRuntimeTarget().readMember(getValueKind(type), objVarName, keyOrFieldNameExpression);
+  }
+
+  /**
+   * @return the kind of value read for the given type from a JSON handle
+   */
+  public static ValueKind getValueKind(final Type type) {
     if (type instanceof Class<?>) {
       final Class<?> clazz = (Class<?>) type;
       if (clazz.equals(String.class)) {
-        return CodeBlock.of("$L.getString($L)", objVarName, keyOrFieldNameExpression);
-      } else if (clazz.equals(Integer.class) || clazz.equals(int.class)) {
-        return CodeBlock.of("$L.getInteger($L)", objVarName, keyOrFieldNameExpression);
-      } else if (clazz.equals(Short.class) || clazz.equals(short.class)) {
-        return CodeBlock.of("$L.getInteger($L)", objVarName, keyOrFieldNameExpression);
-      } else if (clazz.equals(Byte.class) || clazz.equals(byte.class)) {
-        return CodeBlock.of("$L.getInteger($L)", objVarName, keyOrFieldNameExpression);
+        return ValueKind.STRING;
+      } else if (clazz.isPrimitive() && clazz != char.class
+          && (ParserWriterUtils.getOptions().isPrimitiveAccessors() || getRuntimeTarget().isNullableBoxedKinds())) {
+        // Primitives use the primitive accessors, or the primitive kinds when a boxed kind would read null, so are never boxed
+        return getPrimitiveKind(clazz);
+      } else if ((clazz.equals(Short.class) || clazz.equals(Byte.class)) && getRuntimeTarget().isNullableBoxedKinds()) {
+        // Narrowed with a cast, which a boxed Integer can't be, the caller checks for null before reading
+        return ValueKind.INT;
+      } else if (clazz.equals(Integer.class) || clazz.equals(Short.class) || clazz.equals(Byte.class)
+          || clazz.equals(int.class) || clazz.equals(short.class) || clazz.equals(byte.class)) {
+        return ValueKind.BOXED_INT;
       } else if (clazz.equals(Long.class) || clazz.equals(long.class)) {
-        return CodeBlock.of("$L.getLong($L)", objVarName, keyOrFieldNameExpression);
-      } else if (clazz.equals(Double.class) || clazz.equals(double.class)) {
-        return CodeBlock.of("$L.getNumber($L)", objVarName, keyOrFieldNameExpression);
-      } else if (clazz.equals(Float.class) || clazz.equals(float.class)) {
-        return CodeBlock.of("$L.getNumber($L)", objVarName, keyOrFieldNameExpression);
+        return ValueKind.BOXED_LONG;
+      } else if (clazz.equals(Double.class) || clazz.equals(Float.class) || clazz.equals(double.class) || clazz.equals(float.class)) {
+        return ValueKind.BOXED_DOUBLE;
       } else if (clazz.equals(Boolean.class) || clazz.equals(boolean.class)) {
-        return CodeBlock.of("$L.getBoolean($L)", objVarName, keyOrFieldNameExpression);
+        return ValueKind.BOXED_BOOLEAN;
       } else if (clazz.equals(Character.class) || clazz.equals(char.class)) {
-        return CodeBlock.of("$L.getString($L)", objVarName, keyOrFieldNameExpression);
+        return ValueKind.STRING;
       } else if (clazz.isEnum()) {
         // Enums are typically stored as strings, the parser will handle valueOf
-        return CodeBlock.of("$L.getString($L)", objVarName, keyOrFieldNameExpression);
+        return ValueKind.STRING;
       } else if (clazz.isArray()) {
         // JSON arrays correspond to getArray
-        return CodeBlock.of("$L.getArray($L)", objVarName, keyOrFieldNameExpression);
+        return ValueKind.ARRAY;
       } else {
         // Default to getObject for complex objects or unknown types that aren't collections/maps
-        return CodeBlock.of("$L.getObject($L)", objVarName, keyOrFieldNameExpression);
+        return ValueKind.OBJECT;
       }
     } else if (type instanceof ParameterizedType) {
       final ParameterizedType paramType = (ParameterizedType) type;
@@ -215,20 +519,20 @@ public final class ParserCommonUtils {
         final Class<?> rawClass = (Class<?>) rawType;
         if (Map.class.isAssignableFrom(rawClass)) {
           // Maps are represented as JSON objects
-          return CodeBlock.of("$L.getObject($L)", objVarName, keyOrFieldNameExpression);
+          return ValueKind.OBJECT;
         } else if (List.class.isAssignableFrom(rawClass) || Collection.class.isAssignableFrom(rawClass)) {
           // Lists/Collections are represented as JSON arrays
-          return CodeBlock.of("$L.getArray($L)", objVarName, keyOrFieldNameExpression);
+          return ValueKind.ARRAY;
         }
       }
       // Default for other parameterized types (assume object)
-      return CodeBlock.of("$L.getObject($L)", objVarName, keyOrFieldNameExpression);
+      return ValueKind.OBJECT;
     }
 
     // Fallback for other types (like TypeVariable, WildcardType) - default to getObject
     // Log warning or throw error might be better long-term
     System.err.println("Warning: Defaulting to getObject() for unknown type in createFieldAccessCode: " + type.getTypeName());
-    return CodeBlock.of("$L.getObject($L)", objVarName, keyOrFieldNameExpression);
+    return ValueKind.OBJECT;
   }
 
   /**
@@ -330,4 +634,248 @@ public final class ParserCommonUtils {
     }
     return null;
   }
-}
\ No newline at end of file
+
+  /**
+   * Declares {@code resultVarName} and decodes the string in {@code strVarName} to the enum constant with a switch on the
+   * JSON names of the constants. Values matching none of the names are passed to the {@code @JsonCreator} method of the enum
+   * if it has one, which can accept aliases the names don't cover, and leave the result null otherwise instead of throwing.
+   *
+   * @param code          The code block builder to add the decoding code to.
+   * @param enumType      The enum class to decode.
+   * @param strVarName    Name of the variable holding the JSON string, may be null at runtime.
+   * @param resultVarName Name of the enum variable to declare.
+   * @param classFinder   Util to get the class based on the name
+   * @param logger        Logger to log progress
+   */
+  public static void addEnumDecoding(final CodeBlock.Builder code, final Class<?> enumType, final String strVarName, final String resultVarName,
+      final ClassFinder classFinder, final Logger logger) {
+    code.addStatement("$T $L = null", enumType, resultVarName);
+    code.beginControlFlow("if ($L != null)", strVarName);
+    code.beginControlFlow("switch ($L)", strVarName);
+    for (final Map.Entry<String, String> entry : findEnumJsonNames(enumType, classFinder, logger).entrySet()) {
+      code.add("case $S:\n", entry.getKey())
+          .indent()
+          .addStatement("$L = $T.$L", resultVarName, enumType, entry.getValue())
+          .addStatement("break")
+          .unindent();
+    }
+    code.add("default:\n").indent();
+    final Method jsonCreatorMethod = findJsonCreatorMethod(enumType, classFinder, logger);
+    if (jsonCreatorMethod == null) {
+      code.add("// Unknown enum value, leave as null\n");
+    } else {
+      code.addStatement("$L = $T.$L($L)", resultVarName, enumType, jsonCreatorMethod.getName(), strVarName);
+    }
+    code.addStatement("break").unindent();
+    code.endControlFlow(); // End switch
+    code.endControlFlow(); // End if (strVarName != null)
+  }
+
+  /**
+   * Generates code that appends the JSON string of an enum constant to the StringBuilder. The value is written with the
+   * result of a {@code @JsonValue} method if the enum has one, with a switch on the {@code @JsonProperty} names if any
+   * constant has one, and by its name otherwise. The value must not be null.
+   *
+   * @param code            The code block builder to add the encoding code to.
+   * @param enumType        The enum class to encode.
+   * @param valueExpression Expression holding the enum constant, evaluated once.
+   * @param parserPackage   The package of the generated writers.
+   * @param classFinder     Util to get the class based on the name
+   * @param logger          Logger to log progress
+   */
+  public static void addEnumEncoding(final CodeBlock.Builder code, final Class<?> enumType, final CodeBlock valueExpression,
+      final String parserPackage, final ClassFinder classFinder, final Logger logger) {
+    final Method jsonValueMethod = findJsonValueMethod(enumType, classFinder);
+    if (jsonValueMethod != null) {
+      final Class<?> returnType = jsonValueMethod.getReturnType();
+      if (returnType.isPrimitive() && returnType != char.class || Number.class.isAssignableFrom(returnType)) {
+        code.addStatement("$L.append($L.$L())", BUILDER_PARAM_NAME, valueExpression, jsonValueMethod.getName());
+      } else {
+        code.addStatement("$T.appendString($L, $T.valueOf($L.$L()))", getJSONWriterUtils(parserPackage), BUILDER_PARAM_NAME,
+            String.class, valueExpression, jsonValueMethod.getName());
+      }
+      return;
+    }
+
+    final Map<String, String> jsonNames = findEnumConstantJsonNames(enumType, classFinder, logger);
+    if (jsonNames.isEmpty()) {
+      code.addStatement("$L.append('\"').append($L.name()).append('\"')", BUILDER_PARAM_NAME, valueExpression);
+      return;
+    }
+    code.beginControlFlow("switch ($L)", valueExpression);
+    for (final Map.Entry<String, String> entry : jsonNames.entrySet()) {
+      code.add("case $L:\n", entry.getKey()).indent();
+      code.addStatement("$L.append($S)", BUILDER_PARAM_NAME, toJsonString(entry.getValue()));
+      code.addStatement("break").unindent();
+    }
+    code.endControlFlow(); // End switch
+  }
+
+  /**
+   * @return the {@code @JsonValue} method of the enum, or null if it has none
+   */
+  public static Method findJsonValueMethod(final Class<?> enumType, final ClassFinder classFinder) {
+    return findAnnotatedMethod(enumType, JSON_VALUE_ANNOTATION, classFinder);
+  }
+
+  /**
+   * Determines the JSON names the constants of an enum are written with, mapped from the constant name: the
+   * {@code @JsonProperty} value of a constant, or its name otherwise. Doesn't take a {@code @JsonValue} method into account.
+   *
+   * @return the JSON names of all constants, or an empty map if no constant has a {@code @JsonProperty} name
+   */
+  public static Map<String, String> findEnumConstantJsonNames(final Class<?> enumType, final ClassFinder classFinder,
+      final Logger logger) {
+    final Map<String, String> jsonNames = new LinkedHashMap<>();
+    boolean hasAlias = false;
+    for (final Object constant : enumType.getEnumConstants()) {
+      final String constantName = ((Enum<?>) constant).name();
+      String propertyName = null;
+      try {
+        propertyName = findJsonPropertyName(enumType.getField(constantName), classFinder);
+      } catch (final ReflectiveOperationException | RuntimeException e) {
+        logger.warn("Warning: Could not determine JSON name of " + enumType.getName() + "." + constantName + ": " + e.getMessage());
+      }
+      hasAlias |= propertyName != null;
+      jsonNames.put(constantName, propertyName == null ? constantName : propertyName);
+    }
+    return hasAlias ? jsonNames : Map.of();
+  }
+
+  /**
+   * Starts a null check on the value to write: null is written as JSON null, the caller writes the value in the else branch
+   * and ends the control flow.
+   */
+  public static void beginNullSafeWrite(final CodeBlock.Builder code, final CodeBlock valueExpression) {
+    code.beginControlFlow("if ($L == null)", valueExpression)
+        .addStatement("$L.append($S)", BUILDER_PARAM_NAME, "null")
+        .nextControlFlow("else");
+  }
+
+  /**
+   * Finds the method that converts a map key to its JSON string: the method annotated with {@code @JsonKey}, or a public
+   * toStringValue() method.
+   *
+   * @return the method, or null if the key class has neither
+   */
+  public static Method findJsonKeyMethod(final Class<?> keyClass, final ClassFinder classFinder) {
+    final Method jsonKeyMethod = findAnnotatedMethod(keyClass, JSON_KEY_ANNOTATION, classFinder);
+    if (jsonKeyMethod != null) {
+      return jsonKeyMethod;
+    }
+    try {
+      return keyClass.getMethod("toStringValue");
+    } catch (final NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Quotes and escapes a string as a JSON string, for names that are known when generating the code.
+   */
+  public static String toJsonString(final String value) {
+    final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        builder.append('\\').append(c);
+      } else if (c < 0x20) {
+        builder.append(String.format("\\u%04x", (int) c));
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.append('"').toString();
+  }
+
+  /**
+   * Finds the public getter of a field: getX() or isX() returning the field type, or the accessor of a record component.
+   *
+   * @return the getter, or null if the class has none
+   */
+  public static Method findGetter(final Class<?> targetClass, final Field field) {
+    final String capitalized = capitalize(field.getName());
+    final String[] names = targetClass.isRecord()
+        ? new String[] {field.getName()}
+        : new String[] {"get" + capitalized, "is" + capitalized};
+    for (final String name : names) {
+      try {
+        final Method method = targetClass.getMethod(name);
+        if (method.getReturnType().equals(field.getType())) {
+          return method;
+        }
+      } catch (final NoSuchMethodException e) {
+        // Try the next naming convention
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Determines the JSON names of the constants of an enum, mapped to the constant name. A constant is known by its
+   * {@code @JsonProperty} value, or its name otherwise, and by the String returned from a public {@code @JsonValue} method.
+   * When two constants share a name, the first one keeps it.
+   */
+  private static Map<String, String> findEnumJsonNames(final Class<?> enumType, final ClassFinder classFinder, final Logger logger) {
+    final Map<String, String> names = new LinkedHashMap<>();
+    final Object[] constants = enumType.getEnumConstants();
+    Method jsonValueMethod = findJsonValueMethod(enumType, classFinder);
+    if (jsonValueMethod != null && (jsonValueMethod.getReturnType() != String.class || Modifier.isStatic(jsonValueMethod.getModifiers()))) {
+      jsonValueMethod = null;
+    } else if (jsonValueMethod != null && constants.length > 0 && !jsonValueMethod.canAccess(constants[0])) {
+      // Not made accessible, the generator doesn't reach into non-public code of the beans
+      logger.warn("Warning: @JsonValue method " + jsonValueMethod.getName() + " of " + enumType.getName()
+          + " is not public, its values are not decoded");
+      jsonValueMethod = null;
+    }
+
+    for (final Object constant : constants) {
+      final String constantName = ((Enum<?>) constant).name();
+      try {
+        final String propertyName = findJsonPropertyName(enumType.getField(constantName), classFinder);
+        names.putIfAbsent(propertyName == null ? constantName : propertyName, constantName);
+        if (jsonValueMethod != null) {
+          final String jsonValue = (String) jsonValueMethod.invoke(constant);
+          if (jsonValue != null) {
+            names.putIfAbsent(jsonValue, constantName);
+          }
+        }
+      } catch (final ReflectiveOperationException | RuntimeException e) {
+        logger.warn("Warning: Could not determine JSON name of " + enumType.getName() + "." + constantName + ": " + e.getMessage());
+      }
+    }
+    return names;
+  }
+
+  private static String findJsonPropertyName(final Field field, final ClassFinder classFinder) throws ReflectiveOperationException {
+    final Annotation jsonProperty = findAnnotation(field.getAnnotations(), JSON_PROPERTY_ANNOTATION, classFinder);
+    if (jsonProperty == null) {
+      return null;
+    }
+    final String value = (String) jsonProperty.annotationType().getMethod("value").invoke(jsonProperty);
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Method findAnnotatedMethod(final Class<?> type, final String annotationName, final ClassFinder classFinder) {
+    for (final Method method : type.getDeclaredMethods()) {
+      if (findAnnotation(method.getAnnotations(), annotationName, classFinder) != null && method.getParameterCount() == 0) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  private static Annotation findAnnotation(final Annotation[] annotations, final String annotationName, final ClassFinder classFinder) {
+    try {
+      final Class<?> annotationClass = classFinder.forName(annotationName);
+      for (final Annotation annotation : annotations) {
+        if (annotation.annotationType() == annotationClass) {
+          return annotation;
+        }
+      }
+    } catch (final ClassNotFoundException e) {
+      // Annotation not found, expected if Jackson is not used/available
+    }
+    return null;
+  }
+}
@@ -1,16 +1,68 @@
 package nl.aerius.codegen.generator.parser;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
-import com.palantir.javapoet.ParameterizedTypeName;
 import com.palantir.javapoet.TypeName;
 
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
+
 /**
- * Parser for primitive and wrapper array fields (String[], int[], Integer[], double[], Double[]).
+ * Parser for primitive, wrapper and String array fields (String[], int[], Integer[], long[], double[], boolean[], etc.).
+ * By default the elements are collected through the forEach method of JSONArrayHandle for their type. With primitive
+ * accessors or indexed loops the array is allocated with the exact length of the JSON array and filled by index, so
+ * primitive elements are never boxed. Arrays of longs and booleans, for which JSONArrayHandle has no forEach method, are
+ * always filled by index.
+ *
+ * char[] and byte[] are not supported, as Jackson serializes them as a JSON string (byte[] as base64) instead of an array.
  */
 public class PrimitiveArrayFieldParser implements TypeParser {
+  // Kind of value read from the JSON array for each supported component type, wrappers are read as primitives
+  private static final Map<Class<?>, ValueKind> COMPONENT_TYPE_TO_KIND = new HashMap<>();
+
+  static {
+    COMPONENT_TYPE_TO_KIND.put(String.class, ValueKind.STRING);
+    COMPONENT_TYPE_TO_KIND.put(int.class, ValueKind.INT);
+    COMPONENT_TYPE_TO_KIND.put(Integer.class, ValueKind.INT);
+    COMPONENT_TYPE_TO_KIND.put(long.class, ValueKind.LONG);
+    COMPONENT_TYPE_TO_KIND.put(Long.class, ValueKind.LONG);
+    COMPONENT_TYPE_TO_KIND.put(double.class, ValueKind.DOUBLE);
+    COMPONENT_TYPE_TO_KIND.put(Double.class, ValueKind.DOUBLE);
+    COMPONENT_TYPE_TO_KIND.put(float.class, ValueKind.DOUBLE);
+    COMPONENT_TYPE_TO_KIND.put(Float.class, ValueKind.DOUBLE);
+    COMPONENT_TYPE_TO_KIND.put(short.class, ValueKind.INT);
+    COMPONENT_TYPE_TO_KIND.put(Short.class, ValueKind.INT);
+    COMPONENT_TYPE_TO_KIND.put(Byte.class, ValueKind.INT);
+    COMPONENT_TYPE_TO_KIND.put(boolean.class, ValueKind.BOOLEAN);
+    COMPONENT_TYPE_TO_KIND.put(Boolean.class, ValueKind.BOOLEAN);
+  }
+
+  // forEach method of JSONArrayHandle and the type it passes for the component types that have one
+  private static final Map<Class<?>, String> COMPONENT_TYPE_TO_FOR_EACH = new HashMap<>();
+  private static final Map<String, Class<?>> FOR_EACH_TO_ELEMENT_TYPE = new HashMap<>();
+
+  static {
+    COMPONENT_TYPE_TO_FOR_EACH.put(String.class, "forEachString");
+    COMPONENT_TYPE_TO_FOR_EACH.put(int.class, "forEachInteger");
+    COMPONENT_TYPE_TO_FOR_EACH.put(Integer.class, "forEachInteger");
+    COMPONENT_TYPE_TO_FOR_EACH.put(short.class, "forEachInteger");
+    COMPONENT_TYPE_TO_FOR_EACH.put(Short.class, "forEachInteger");
+    COMPONENT_TYPE_TO_FOR_EACH.put(Byte.class, "forEachInteger");
+    COMPONENT_TYPE_TO_FOR_EACH.put(double.class, "forEachNumber");
+    COMPONENT_TYPE_TO_FOR_EACH.put(Double.class, "forEachNumber");
+    COMPONENT_TYPE_TO_FOR_EACH.put(float.class, "forEachNumber");
+    COMPONENT_TYPE_TO_FOR_EACH.put(Float.class, "forEachNumber");
+
+    FOR_EACH_TO_ELEMENT_TYPE.put("forEachString", String.class);
+    FOR_EACH_TO_ELEMENT_TYPE.put("forEachInteger", Integer.class);
+    FOR_EACH_TO_ELEMENT_TYPE.put("forEachNumber", Double.class);
+  }
 
   @Override
   public boolean canHandle(Type type) {
@@ -21,12 +73,7 @@ public class PrimitiveArrayFieldParser implements TypeParser {
     if (!clazz.isArray()) {
       return false;
     }
-    Class<?> componentType = clazz.getComponentType();
-    // Check for supported component types (primitive or wrapper or String)
-    // EXCLUDING boolean/Boolean
-    return componentType.equals(String.class) ||
-        componentType.equals(int.class) || componentType.equals(Integer.class) ||
-        componentType.equals(double.class) || componentType.equals(Double.class);
+    return COMPONENT_TYPE_TO_KIND.containsKey(clazz.getComponentType());
   }
 
   @Override
@@ -49,75 +96,169 @@ public class PrimitiveArrayFieldParser implements TypeParser {
       throw new IllegalArgumentException("PrimitiveArrayFieldParser cannot handle type: " + type.getTypeName());
     }
 
-    // --- Extract simple field name from accessExpression ---
-    String accessExpressionString = accessExpression.toString();
-    String fieldNameString = "";
-    int lastQuote = accessExpressionString.lastIndexOf('"');
-    int secondLastQuote = accessExpressionString.lastIndexOf('"', lastQuote - 1);
-    if (lastQuote > secondLastQuote && secondLastQuote != -1) {
-        fieldNameString = accessExpressionString.substring(secondLastQuote + 1, lastQuote);
-      } else {
-       String simpleAccess = accessExpression.toString().replace("\"", "");
-       if (simpleAccess.matches("^[a-zA-Z0-9_]+$")) {
-           fieldNameString = simpleAccess;
-       } else {
-         // If extraction fails, it indicates an unexpected accessExpression format.
-         throw new IllegalArgumentException("Could not extract simple field name from access expression: " + accessExpressionString);
-       }
+    Class<?> componentType = ((Class<?>) type).getComponentType();
+    String resultVarName = ParserCommonUtils.localVarName(variableName, "", level, "Array");
+    String jsonArrayVar = ParserCommonUtils.localVarName(variableName, "JsonArray", level, "JsonArray");
+    String indexVar = ParserCommonUtils.localVarName(variableName, "Index", level, "Index");
+    String pathLevelVar = ParserCommonUtils.localVarName(variableName, "PathLevel", level, "PathLevel");
+
+    code.addStatement("$T $L = null", TypeName.get(fieldType), resultVarName);
+    code.addStatement("final $T $L = $L", ParserCommonUtils.getJSONArrayHandle(), jsonArrayVar, accessExpression);
+
+    code.beginControlFlow("if ($L != null)", jsonArrayVar);
+    String forEachMethod = COMPONENT_TYPE_TO_FOR_EACH.get(componentType);
+    if (forEachMethod != null && !ParserWriterUtils.getOptions().isPrimitiveAccessors() && !ParserCommonUtils.isIndexedLoops()) {
+      String listVarName = ParserCommonUtils.localVarName(variableName, "TempList", level, "TempList");
+      String itemVar = ParserCommonUtils.localVarName(variableName, "Item", level, "Item");
+      addForEachParsingCode(code, componentType, forEachMethod, resultVarName, jsonArrayVar, listVarName, itemVar, indexVar,
+          parserPackage);
+      code.endControlFlow(); // End if (jsonArrayVar != null)
+      return resultVarName;
     }
-    CodeBlock fieldNameCodeBlock = CodeBlock.of("$S", fieldNameString);
-    // --- End field name extraction ---
+    final JsonRuntimeTarget target = ParserCommonUtils.getRuntimeTarget();
+    code.addStatement("$L = new $T[$L]", resultVarName, componentType, target.length(jsonArrayVar));
+    ParserWriterUtils.beginLenientLoop(code, pathLevelVar);
+    code.beginControlFlow("for (int $L = 0; $L < $L.length; $L++)", indexVar, indexVar, resultVarName, indexVar);
+    ParserWriterUtils.beginElementTracking(code, pathLevelVar, CodeBlock.of("$L", indexVar));
+    CodeBlock element = createElementExpression(componentType, target.readElement(COMPONENT_TYPE_TO_KIND.get(componentType), jsonArrayVar,
+        CodeBlock.of("$L", indexVar)));
+    if (componentType.equals(String.class)) {
+      code.addStatement("$L[$L] = $L", resultVarName, indexVar, ParserWriterUtils.internString(element, parserPackage));
+    } else if (componentType.isPrimitive()) {
+      code.addStatement("$L[$L] = $L", resultVarName, indexVar, element);
+    } else {
+      // Wrapper types keep JSON null as null
+      code.addStatement("$L[$L] = $L ? null : $L", resultVarName, indexVar,
+          target.isNullElement(jsonArrayVar, CodeBlock.of("$L", indexVar)), element);
+    }
+    ParserWriterUtils.endElementTracking(code, pathLevelVar, ParserWriterUtils.indexPathSegment(indexVar), parserPackage);
+    code.endControlFlow(); // End for
+    ParserWriterUtils.endLenientLoop(code, pathLevelVar);
+    code.endControlFlow(); // End if (jsonArrayVar != null)
+
+    return resultVarName;
+  }
 
-    Class<?> arrayType = (Class<?>) type;
-    Class<?> componentType = arrayType.getComponentType();
-    TypeName declarationTypeName = TypeName.get(fieldType);
+  @Override
+  public String generateStreamingCodeInto(CodeBlock.Builder code, Type type, String parserPackage, int level, Type fieldType,
+      String variableName) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("PrimitiveArrayFieldParser cannot handle type: " + type.getTypeName());
+    }
+    Class<?> componentType = ((Class<?>) type).getComponentType();
     String resultVarName = ParserCommonUtils.localVarName(variableName, "", level, "Array");
+    String sizeVar = ParserCommonUtils.localVarName(variableName, "Size", level, "Size");
+    String parserVar = ParserCommonUtils.PARSER_PARAM_NAME;
 
-    code.addStatement("$T $L = null", declarationTypeName, resultVarName);
+    // The length is not known upfront, so the array grows while reading and is trimmed afterwards
+    ParserCommonUtils.addStreamingStartCheck(code, "START_ARRAY", "an array", parserPackage);
+    code.addStatement("$T $L = null", TypeName.get(fieldType), resultVarName);
+    code.beginControlFlow("if ($L.currentToken() == $T.START_ARRAY)", parserVar, ParserCommonUtils.JSON_TOKEN);
+    code.addStatement("$L = new $T[16]", resultVarName, componentType);
+    code.addStatement("int $L = 0", sizeVar);
+    code.beginControlFlow("while ($L.nextToken() != $T.END_ARRAY)", parserVar, ParserCommonUtils.JSON_TOKEN);
+    ParserCommonUtils.addStreamingEndOfInputCheck(code, parserPackage);
+    code.beginControlFlow("if ($L == $L.length)", sizeVar, resultVarName)
+        .addStatement("$L = $T.copyOf($L, $L * 2)", resultVarName, java.util.Arrays.class, resultVarName, sizeVar)
+        .endControlFlow();
+    ParserCommonUtils.beginStreamingElementTracking(code);
+    ParserCommonUtils.addStreamingScalarCheck(code, componentType, parserPackage);
+    CodeBlock element = SimpleFieldParser.createStreamingReadExpression(componentType);
+    if (componentType.equals(String.class)) {
+      code.addStatement("$L[$L++] = $L", resultVarName, sizeVar, ParserWriterUtils.internString(element, parserPackage));
+    } else if (componentType.isPrimitive()) {
+      code.addStatement("$L[$L++] = $L", resultVarName, sizeVar, element);
+    } else {
+      code.addStatement("$L[$L++] = $L ? null : $L", resultVarName, sizeVar, ParserCommonUtils.createStreamingNullCheck(), element);
+    }
+    ParserCommonUtils.endStreamingElementTracking(code, ParserWriterUtils.indexPathSegment(sizeVar), parserPackage);
+    code.endControlFlow(); // End while
+    code.addStatement("$L = $T.copyOf($L, $L)", resultVarName, java.util.Arrays.class, resultVarName, sizeVar);
+    code.endControlFlow(); // End if (START_ARRAY)
+
+    return resultVarName;
+  }
+
+  @Override
+  public void generateWritingCodeInto(CodeBlock.Builder code, Type type, CodeBlock valueExpression, String parserPackage, int level) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("PrimitiveArrayFieldParser cannot handle type: " + type.getTypeName());
+    }
+    Class<?> componentType = ((Class<?>) type).getComponentType();
+    String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+    String indexVar = ParserCommonUtils.getVariableNameForLevel(level, "Index");
 
-    String forEachMethodName;
-    Class<?> wrapperType;
+    ParserCommonUtils.beginNullSafeWrite(code, valueExpression);
+    code.addStatement("$L.append('[')", builderVar);
+    code.beginControlFlow("for (int $L = 0; $L < $L.length; $L++)", indexVar, indexVar, valueExpression, indexVar);
+    code.beginControlFlow("if ($L > 0)", indexVar)
+        .addStatement("$L.append(',')", builderVar)
+        .endControlFlow();
     if (componentType.equals(String.class)) {
-        forEachMethodName = "forEachString";
-        wrapperType = String.class;
-    } else if (componentType.equals(int.class) || componentType.equals(Integer.class)) {
-        forEachMethodName = "forEachInteger";
-        wrapperType = Integer.class;
-    } else if (componentType.equals(double.class) || componentType.equals(Double.class)) {
-        forEachMethodName = "forEachNumber";
-        wrapperType = Double.class;
+      code.addStatement("$T.appendString($L, $L[$L])", ParserCommonUtils.getJSONWriterUtils(parserPackage), builderVar, valueExpression,
+          indexVar);
     } else {
-      // Should not happen due to canHandle check
-        code.endControlFlow();
-        return resultVarName;
+      code.addStatement("$L.append($L[$L])", builderVar, valueExpression, indexVar);
     }
+    code.endControlFlow(); // End for
+    code.addStatement("$L.append(']')", builderVar);
+    code.endControlFlow(); // End null check
+  }
 
-    String jsonArrayVar = ParserCommonUtils.localVarName(variableName, "JsonArray", level, "JsonArray");
-    String listVarName = ParserCommonUtils.localVarName(variableName, "TempList", level, "TempList");
-    ClassName jsonArrayHandleName = ParserCommonUtils.getJSONArrayHandle();
-    ClassName arrayListName = ClassName.get(java.util.ArrayList.class);
-    TypeName wrapperListName = ParameterizedTypeName.get(ClassName.get(java.util.List.class), ClassName.get(wrapperType));
+  /**
+   * Collects the elements through the forEach method of JSONArrayHandle in a temporary list and copies them to the array.
+   */
+  private static void addForEachParsingCode(CodeBlock.Builder code, Class<?> componentType, String forEachMethod, String resultVarName,
+      String jsonArrayVar, String listVarName, String itemVar, String indexVar, String parserPackage) {
+    Class<?> elementType = FOR_EACH_TO_ELEMENT_TYPE.get(forEachMethod);
+    code.addStatement("final $T<$T> $L = new $T<>()", List.class, elementType, listVarName, ArrayList.class);
+    if (componentType.equals(String.class) && ParserWriterUtils.isInternStrings()) {
+      code.addStatement("$L.$L($L -> $L.add($L))", jsonArrayVar, forEachMethod, itemVar, listVarName,
+          ParserWriterUtils.internString(CodeBlock.of("$L", itemVar), parserPackage));
+    } else {
+      code.addStatement("$L.$L($L::add)", jsonArrayVar, forEachMethod, listVarName);
+    }
 
-    code.addStatement("final $T $L = $L.getArray($L)", jsonArrayHandleName, jsonArrayVar, objVarName, fieldNameCodeBlock);
+    if (componentType.equals(elementType)) {
+      code.addStatement("$L = $L.toArray(new $T[0])", resultVarName, listVarName, componentType);
+    } else if (componentType.equals(int.class)) {
+      code.addStatement("$L = $L.stream().mapToInt(i -> i != null ? i.intValue() : 0).toArray()", resultVarName, listVarName);
+    } else if (componentType.equals(double.class)) {
+      code.addStatement("$L = $L.stream().mapToDouble(d -> d != null ? d.doubleValue() : 0.0).toArray()", resultVarName, listVarName);
+    } else {
+      // Narrow each element to the component type, JSON null becomes 0 for primitives and stays null for wrappers
+      Class<?> primitiveType = componentType.isPrimitive() ? componentType : unwrap(componentType);
+      CodeBlock element = CodeBlock.of("$L.get($L)", listVarName, indexVar);
+      code.addStatement("$L = new $T[$L.size()]", resultVarName, componentType, listVarName);
+      code.beginControlFlow("for (int $L = 0; $L < $L.length; $L++)", indexVar, indexVar, resultVarName, indexVar);
+      code.addStatement("$L[$L] = $L != null ? $L.$LValue() : $L", resultVarName, indexVar, element, element, primitiveType.getName(),
+          componentType.isPrimitive() ? "0" : "null");
+      code.endControlFlow();
+    }
+  }
 
-    code.beginControlFlow("if ($L != null)", jsonArrayVar);
-    code.addStatement("final $T $L = new $T<>()", wrapperListName, listVarName, arrayListName);
-    code.addStatement("$L.$L($L::add)", jsonArrayVar, forEachMethodName, listVarName);
-
-    if (componentType.isPrimitive()) {
-        if (componentType.equals(int.class)) {
-            code.addStatement("$L = $L.stream().mapToInt(i -> i != null ? i.intValue() : 0).toArray()",
-                resultVarName, listVarName);
-        } else if (componentType.equals(double.class)) {
-            code.addStatement("$L = $L.stream().mapToDouble(d -> d != null ? d.doubleValue() : 0.0).toArray()",
-                resultVarName, listVarName);
-          }
+  private static Class<?> unwrap(Class<?> wrapperType) {
+    if (wrapperType.equals(Short.class)) {
+      return short.class;
+    } else if (wrapperType.equals(Byte.class)) {
+      return byte.class;
     } else {
-      code.addStatement("$L = $L.toArray(new $T[0])",
-          resultVarName, listVarName, componentType);
+      return float.class;
     }
-    code.endControlFlow(); // End if (jsonArrayVar != null)
+  }
 
-    return resultVarName;
+  /**
+   * Narrows the value read from the JSON array to the component type where needed.
+   */
+  private static CodeBlock createElementExpression(Class<?> componentType, CodeBlock getterExpression) {
+    if (componentType.equals(float.class) || componentType.equals(Float.class)) {
+      return CodeBlock.of("(float) $L", getterExpression);
+    } else if (componentType.equals(short.class) || componentType.equals(Short.class)) {
+      return CodeBlock.of("(short) $L", getterExpression);
+    } else if (componentType.equals(Byte.class)) {
+      return CodeBlock.of("(byte) $L", getterExpression);
+    } else {
+      return getterExpression;
+    }
   }
-}
\ No newline at end of file
+}
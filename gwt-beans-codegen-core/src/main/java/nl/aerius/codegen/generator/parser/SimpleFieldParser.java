@@ -6,6 +6,9 @@ import java.util.Map;
 
 import com.palantir.javapoet.CodeBlock;
 
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTarget.ValueKind;
+
 /**
  * Parser for simple field types like primitives and their wrappers.
  */
@@ -78,22 +81,103 @@ public class SimpleFieldParser implements TypeParser {
       }
     } else {
       // Handle all other simple types using the helper
-      CodeBlock assignment = createAssignmentExpression(clazz, accessExpression);
+      CodeBlock assignment = createAssignmentExpression(clazz, accessExpression, parserPackage);
       code.addStatement("final $T $L = $L", type, resultVarName, assignment);
     }
 
     return resultVarName;
   }
 
-  private CodeBlock createAssignmentExpression(Class<?> targetType, CodeBlock accessExpression) {
-    if (targetType.equals(byte.class) || targetType.equals(Byte.class)) {
+  @Override
+  public String generateStreamingCodeInto(CodeBlock.Builder code, Type type, String parserPackage, int level, Type fieldType,
+      String variableName) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("SimpleFieldParser cannot handle type: " + type.getTypeName());
+    }
+    Class<?> clazz = (Class<?>) type;
+    String resultVarName = variableName != null ? variableName : ParserCommonUtils.getVariableNameForLevel(level, "value");
+    String parserVar = ParserCommonUtils.PARSER_PARAM_NAME;
+
+    ParserCommonUtils.addStreamingScalarCheck(code, clazz, parserPackage);
+    if (clazz.equals(char.class) || clazz.equals(Character.class)) {
+      String tempStringVar = ParserCommonUtils.localVarName(variableName, "Str", level, "str");
+      code.addStatement("final String $L = $L.getValueAsString()", tempStringVar, parserVar);
+      code.addStatement("final $T $L = ($L != null && !$L.isEmpty()) ? $L.charAt(0) : $L",
+          clazz, resultVarName, tempStringVar, tempStringVar, tempStringVar, clazz.isPrimitive() ? "0" : "null");
+    } else if (clazz.equals(String.class)) {
+      code.addStatement("final $T $L = $L", type, resultVarName,
+          ParserWriterUtils.internString(createStreamingReadExpression(clazz), parserPackage));
+    } else if (clazz.isPrimitive()) {
+      code.addStatement("final $T $L = $L", type, resultVarName, createStreamingReadExpression(clazz));
+    } else {
+      // Wrapper types keep JSON null as null
+      code.addStatement("final $T $L = $L ? null : $L", type, resultVarName, ParserCommonUtils.createStreamingNullCheck(),
+          createStreamingReadExpression(clazz));
+    }
+
+    return resultVarName;
+  }
+
+  @Override
+  public void generateWritingCodeInto(CodeBlock.Builder code, Type type, CodeBlock valueExpression, String parserPackage, int level) {
+    if (!canHandle(type)) {
+      throw new IllegalArgumentException("SimpleFieldParser cannot handle type: " + type.getTypeName());
+    }
+    Class<?> clazz = (Class<?>) type;
+    String builderVar = ParserCommonUtils.BUILDER_PARAM_NAME;
+
+    if (clazz.equals(String.class)) {
+      code.addStatement("$T.appendString($L, $L)", ParserCommonUtils.getJSONWriterUtils(parserPackage), builderVar, valueExpression);
+    } else if (clazz.equals(char.class)) {
+      code.addStatement("$T.appendString($L, $T.valueOf($L))", ParserCommonUtils.getJSONWriterUtils(parserPackage), builderVar,
+          String.class, valueExpression);
+    } else if (clazz.equals(Character.class)) {
+      code.addStatement("$T.appendString($L, $L == null ? null : $T.valueOf($L))", ParserCommonUtils.getJSONWriterUtils(parserPackage),
+          builderVar, valueExpression, String.class, valueExpression);
+    } else {
+      // Numbers and booleans, wrapper types are appended as Object which writes null as null
+      code.addStatement("$L.append($L)", builderVar, valueExpression);
+    }
+  }
+
+  /**
+   * Creates the expression reading the current scalar token of the streaming parser as the given type.
+   */
+  static CodeBlock createStreamingReadExpression(Class<?> targetType) {
+    String parserVar = ParserCommonUtils.PARSER_PARAM_NAME;
+    if (targetType.equals(String.class)) {
+      return CodeBlock.of("$L.getValueAsString()", parserVar);
+    } else if (targetType.equals(int.class) || targetType.equals(Integer.class)) {
+      return CodeBlock.of("$L.getValueAsInt()", parserVar);
+    } else if (targetType.equals(long.class) || targetType.equals(Long.class)) {
+      return CodeBlock.of("$L.getValueAsLong()", parserVar);
+    } else if (targetType.equals(double.class) || targetType.equals(Double.class)) {
+      return CodeBlock.of("$L.getValueAsDouble()", parserVar);
+    } else if (targetType.equals(float.class) || targetType.equals(Float.class)) {
+      return CodeBlock.of("(float) $L.getValueAsDouble()", parserVar);
+    } else if (targetType.equals(byte.class) || targetType.equals(Byte.class)) {
+      return CodeBlock.of("(byte) $L.getValueAsInt()", parserVar);
+    } else if (targetType.equals(short.class) || targetType.equals(Short.class)) {
+      return CodeBlock.of("(short) $L.getValueAsInt()", parserVar);
+    } else if (targetType.equals(boolean.class) || targetType.equals(Boolean.class)) {
+      return CodeBlock.of("$L.getValueAsBoolean()", parserVar);
+    }
+    throw new IllegalArgumentException("No streaming read expression for type: " + targetType.getName());
+  }
+
+  private CodeBlock createAssignmentExpression(Class<?> targetType, CodeBlock accessExpression, String parserPackage) {
+    if (targetType.equals(String.class)) {
+      return ParserWriterUtils.internString(accessExpression, parserPackage);
+    } else if (targetType.equals(byte.class) || targetType.equals(Byte.class)) {
       return CodeBlock.of("(byte) $L", accessExpression);
     } else if (targetType.equals(short.class) || targetType.equals(Short.class)) {
       return CodeBlock.of("(short) $L", accessExpression);
+    } else if (targetType.equals(float.class) && ParserCommonUtils.getValueKind(targetType) == ValueKind.DOUBLE) {
+      return CodeBlock.of("(float) $L", accessExpression);
     } else if (targetType.equals(float.class) || targetType.equals(Float.class)) {
       return CodeBlock.of("$L.floatValue()", accessExpression);
     } else {
-      // String, Integer, Long, Double, Boolean
+      // Integer, Long, Double, Boolean
       return accessExpression;
     }
   }
@@ -66,4 +66,34 @@ public interface TypeParser {
         CodeBlock accessExpression, int level, Type fieldType, String variableName) {
         return generateParsingCodeInto(code, type, objVarName, parserPackage, accessExpression, level, fieldType);
     }
+
+    /**
+     * Generates code that reads a value of the given type from a streaming Jackson {@code JsonParser}
+     * and declares a variable holding the parsed value. The parser variable is
+     * {@link ParserCommonUtils#PARSER_PARAM_NAME} and is positioned on the first token of the value;
+     * the generated code leaves it on the last token of the value.
+     *
+     * @param code          The CodeBlock.Builder to add generated code to.
+     * @param type          The runtime Type being parsed.
+     * @param parserPackage The package for generated parsers.
+     * @param level         The current nesting level.
+     * @param fieldType     The exact generic type of the original field/setter parameter.
+     * @param variableName  Optional variable name override, see above.
+     * @return The name of the variable declared within the generated code block
+     *         that holds the final parsed value.
+     */
+    String generateStreamingCodeInto(CodeBlock.Builder code, Type type, String parserPackage, int level, Type fieldType,
+        String variableName);
+
+    /**
+     * Generates code that appends the JSON representation of a value of the given type to the StringBuilder variable
+     * {@link ParserCommonUtils#BUILDER_PARAM_NAME}. The value may be null unless the type is primitive.
+     *
+     * @param code            The CodeBlock.Builder to add generated code to.
+     * @param type            The Type of the value.
+     * @param valueExpression Expression holding the value, usually a local variable. It may be evaluated more than once.
+     * @param parserPackage   The package for generated parsers and writers.
+     * @param level           The current nesting level (for variable scoping).
+     */
+    void generateWritingCodeInto(CodeBlock.Builder code, Type type, CodeBlock valueExpression, String parserPackage, int level);
 }
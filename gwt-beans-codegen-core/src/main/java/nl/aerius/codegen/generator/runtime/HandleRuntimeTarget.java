@@ -0,0 +1,140 @@
+package nl.aerius.codegen.generator.runtime;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.TypeName;
+
+/**
+ * The default target, generating against the AERIUS JSONObjectHandle, JSONArrayHandle and JSONValueHandle wrappers.
+ * By default fields are read with has(), isNull() and the getters by key. The single lookup option reads them through
+ * getOrAbsent() and JSONValueHandle instead, which the wrappers must then offer; the README lists that API.
+ *
+ * Custom targets on another wrapper API with the same method names can extend this class and only change the types.
+ */
+public class HandleRuntimeTarget implements JsonRuntimeTarget {
+  /**
+   * Name of this target.
+   */
+  public static final String NAME = "handle";
+
+  private static final String JSON_PACKAGE = "nl.aerius.wui.service.json";
+
+  // Getters of JSONObjectHandle and JSONValueHandle, the first with the key as argument and the latter without
+  private static final Map<ValueKind, String> VALUE_GETTERS = new EnumMap<>(ValueKind.class);
+  // Getters of JSONArrayHandle, with the index as argument
+  private static final Map<ValueKind, String> ELEMENT_GETTERS = new EnumMap<>(ValueKind.class);
+
+  static {
+    VALUE_GETTERS.put(ValueKind.STRING, "getString");
+    VALUE_GETTERS.put(ValueKind.INT, "getInt");
+    VALUE_GETTERS.put(ValueKind.LONG, "getLongValue");
+    VALUE_GETTERS.put(ValueKind.DOUBLE, "getDouble");
+    VALUE_GETTERS.put(ValueKind.BOOLEAN, "getBooleanValue");
+    VALUE_GETTERS.put(ValueKind.BOXED_INT, "getInteger");
+    VALUE_GETTERS.put(ValueKind.BOXED_LONG, "getLong");
+    VALUE_GETTERS.put(ValueKind.BOXED_DOUBLE, "getNumber");
+    VALUE_GETTERS.put(ValueKind.BOXED_BOOLEAN, "getBoolean");
+    VALUE_GETTERS.put(ValueKind.OBJECT, "getObject");
+    VALUE_GETTERS.put(ValueKind.ARRAY, "getArray");
+
+    ELEMENT_GETTERS.put(ValueKind.STRING, "getString");
+    ELEMENT_GETTERS.put(ValueKind.INT, "getInt");
+    ELEMENT_GETTERS.put(ValueKind.LONG, "getLong");
+    ELEMENT_GETTERS.put(ValueKind.DOUBLE, "getDouble");
+    ELEMENT_GETTERS.put(ValueKind.BOOLEAN, "getBoolean");
+    ELEMENT_GETTERS.put(ValueKind.BOXED_INT, "getInt");
+    ELEMENT_GETTERS.put(ValueKind.BOXED_LONG, "getLong");
+    ELEMENT_GETTERS.put(ValueKind.BOXED_DOUBLE, "getDouble");
+    ELEMENT_GETTERS.put(ValueKind.BOXED_BOOLEAN, "getBoolean");
+    ELEMENT_GETTERS.put(ValueKind.OBJECT, "getObject");
+    ELEMENT_GETTERS.put(ValueKind.ARRAY, "getArray");
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public TypeName getObjectType() {
+    return ClassName.get(JSON_PACKAGE, "JSONObjectHandle");
+  }
+
+  @Override
+  public TypeName getArrayType() {
+    return ClassName.get(JSON_PACKAGE, "JSONArrayHandle");
+  }
+
+  @Override
+  public TypeName getValueType() {
+    return ClassName.get(JSON_PACKAGE, "JSONValueHandle");
+  }
+
+  @Override
+  public boolean isLambdaIteration() {
+    return true;
+  }
+
+  @Override
+  public CodeBlock parseText(final CodeBlock text) {
+    return CodeBlock.of("$T.fromText($L)", getObjectType(), text);
+  }
+
+  @Override
+  public CodeBlock hasMember(final String objectVar, final CodeBlock key) {
+    return CodeBlock.of("$L.has($L)", objectVar, key);
+  }
+
+  @Override
+  public CodeBlock lookup(final String objectVar, final CodeBlock key) {
+    return CodeBlock.of("$L.getOrAbsent($L)", objectVar, key);
+  }
+
+  @Override
+  public CodeBlock isAbsent(final String valueVar) {
+    return CodeBlock.of("$L.isAbsent()", valueVar);
+  }
+
+  @Override
+  public CodeBlock isNull(final String valueVar) {
+    return CodeBlock.of("$L.isNull()", valueVar);
+  }
+
+  @Override
+  public CodeBlock readValue(final ValueKind kind, final String valueVar) {
+    return CodeBlock.of("$L.$L()", valueVar, VALUE_GETTERS.get(kind));
+  }
+
+  @Override
+  public CodeBlock readMember(final ValueKind kind, final String objectVar, final CodeBlock key) {
+    return CodeBlock.of("$L.$L($L)", objectVar, VALUE_GETTERS.get(kind), key);
+  }
+
+  @Override
+  public CodeBlock isNullMember(final String objectVar, final CodeBlock key) {
+    return CodeBlock.of("$L.isNull($L)", objectVar, key);
+  }
+
+  @Override
+  public CodeBlock keys(final String objectVar) {
+    return CodeBlock.of("$L.keySet()", objectVar);
+  }
+
+  @Override
+  public CodeBlock length(final String arrayVar) {
+    return CodeBlock.of("$L.length()", arrayVar);
+  }
+
+  @Override
+  public CodeBlock readElement(final ValueKind kind, final String arrayVar, final CodeBlock index) {
+    return CodeBlock.of("$L.$L($L)", arrayVar, ELEMENT_GETTERS.get(kind), index);
+  }
+
+  @Override
+  public CodeBlock isNullElement(final String arrayVar, final CodeBlock index) {
+    return CodeBlock.of("$L.isNull($L)", arrayVar, index);
+  }
+}
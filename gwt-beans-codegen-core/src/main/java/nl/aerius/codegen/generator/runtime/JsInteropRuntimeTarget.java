@@ -0,0 +1,197 @@
+package nl.aerius.codegen.generator.runtime;
+
+import javax.lang.model.element.Modifier;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+/**
+ * Target for parsers running in the browser, reading straight from the result of {@code JSON.parse} with native JsInterop
+ * access instead of through JSON handle wrappers. Objects are read as {@code JsPropertyMap}, arrays as {@code JsArrayLike}
+ * with their native length and index access, and primitive values with the {@code Js.asX} casts, so reading a value
+ * allocates nothing. Numbers are read through the generated {@code JsValues} helpers, which look the value up once: a null
+ * or undefined primitive is read as its default, while a boxed Integer or Long stays null.
+ *
+ * The generated code needs jsinterop-base and elemental2-core, for {@code JSON.parse} and the keys of an object, on the
+ * classpath of the GWT project. An absent field is JavaScript undefined, which is told apart from null. Custom parsers are
+ * called with the object as {@code JsPropertyMap<Object>}, so they must provide a {@code parse(JsPropertyMap<Object>)}
+ * method under this target.
+ */
+public class JsInteropRuntimeTarget implements JsonRuntimeTarget {
+  /**
+   * Name of this target.
+   */
+  public static final String NAME = "jsinterop";
+
+  private static final ClassName OBJECT = ClassName.get(Object.class);
+  private static final ClassName JS = ClassName.get("jsinterop.base", "Js");
+  private static final ClassName JS_PROPERTY_MAP = ClassName.get("jsinterop.base", "JsPropertyMap");
+  private static final ClassName JS_ARRAY_LIKE = ClassName.get("jsinterop.base", "JsArrayLike");
+  private static final ClassName GLOBAL = ClassName.get("elemental2.core", "Global");
+  private static final ClassName JS_OBJECT = ClassName.get("elemental2.core", "JsObject");
+  private static final String JS_VALUES_NAME = "JsValues";
+  private static final String VALUE_PARAM_NAME = "value";
+
+  private ClassName jsValues;
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public TypeName getObjectType() {
+    return ParameterizedTypeName.get(JS_PROPERTY_MAP, OBJECT);
+  }
+
+  @Override
+  public TypeName getArrayType() {
+    return ParameterizedTypeName.get(JS_ARRAY_LIKE, OBJECT);
+  }
+
+  @Override
+  public TypeName getValueType() {
+    return OBJECT;
+  }
+
+  @Override
+  public boolean isLambdaIteration() {
+    return false;
+  }
+
+  @Override
+  public boolean isNullableBoxedKinds() {
+    return true;
+  }
+
+  @Override
+  public TypeSpec createHelpersTypeSpec(final String parserPackage, final AnnotationSpec generated) {
+    jsValues = ClassName.get(parserPackage, JS_VALUES_NAME);
+    // The Js.asX casts fail on null and undefined, so these are checked first. GWT compiles == null to match undefined too
+    return TypeSpec.classBuilder(jsValues)
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+        .addAnnotation(generated)
+        .addMethod(MethodSpec.constructorBuilder()
+            .addModifiers(Modifier.PRIVATE)
+            .build())
+        .addMethod(createHelper("asInt", TypeName.INT, CodeBlock.of("0"), CodeBlock.of("$T.asInt($L)", JS, VALUE_PARAM_NAME)))
+        // JSON numbers are doubles in JavaScript, which Js.asLong would not convert
+        .addMethod(createHelper("asLong", TypeName.LONG, CodeBlock.of("0L"), CodeBlock.of("(long) $T.asDouble($L)", JS, VALUE_PARAM_NAME)))
+        .addMethod(createHelper("asDouble", TypeName.DOUBLE, CodeBlock.of("0D"), CodeBlock.of("$T.asDouble($L)", JS, VALUE_PARAM_NAME)))
+        .addMethod(createHelper("asBoolean", TypeName.BOOLEAN, CodeBlock.of("false"),
+            CodeBlock.of("$T.asBoolean($L)", JS, VALUE_PARAM_NAME)))
+        .addMethod(createHelper("asBoxedInt", ClassName.get(Integer.class), CodeBlock.of("null"),
+            CodeBlock.of("$T.asInt($L)", JS, VALUE_PARAM_NAME)))
+        .addMethod(createHelper("asBoxedLong", ClassName.get(Long.class), CodeBlock.of("null"),
+            CodeBlock.of("(long) $T.asDouble($L)", JS, VALUE_PARAM_NAME)))
+        .build();
+  }
+
+  @Override
+  public CodeBlock parseText(final CodeBlock text) {
+    return CodeBlock.of("$T.asPropertyMap($T.JSON.parse($L))", JS, GLOBAL, text);
+  }
+
+  @Override
+  public CodeBlock hasMember(final String objectVar, final CodeBlock key) {
+    return CodeBlock.of("$L.has($L)", objectVar, key);
+  }
+
+  @Override
+  public CodeBlock lookup(final String objectVar, final CodeBlock key) {
+    return CodeBlock.of("$L.get($L)", objectVar, key);
+  }
+
+  @Override
+  public CodeBlock isAbsent(final String valueVar) {
+    return CodeBlock.of("$T.isTripleEqual($L, $T.undefined())", JS, valueVar, JS);
+  }
+
+  @Override
+  public CodeBlock isNull(final String valueVar) {
+    return CodeBlock.of("$T.isTripleEqual($L, null)", JS, valueVar);
+  }
+
+  @Override
+  public CodeBlock readValue(final ValueKind kind, final String valueVar) {
+    return read(kind, CodeBlock.of("$L", valueVar));
+  }
+
+  @Override
+  public CodeBlock readMember(final ValueKind kind, final String objectVar, final CodeBlock key) {
+    return read(kind, CodeBlock.of("$L.get($L)", objectVar, key));
+  }
+
+  @Override
+  public CodeBlock isNullMember(final String objectVar, final CodeBlock key) {
+    return CodeBlock.of("$T.isTripleEqual($L.get($L), null)", JS, objectVar, key);
+  }
+
+  @Override
+  public CodeBlock keys(final String objectVar) {
+    return CodeBlock.of("$T.keys($L).asList()", JS_OBJECT, objectVar);
+  }
+
+  @Override
+  public CodeBlock length(final String arrayVar) {
+    return CodeBlock.of("$L.getLength()", arrayVar);
+  }
+
+  @Override
+  public CodeBlock readElement(final ValueKind kind, final String arrayVar, final CodeBlock index) {
+    return read(kind, CodeBlock.of("$L.getAt($L)", arrayVar, index));
+  }
+
+  @Override
+  public CodeBlock isNullElement(final String arrayVar, final CodeBlock index) {
+    return CodeBlock.of("$T.isTripleEqual($L.getAt($L), null)", JS, arrayVar, index);
+  }
+
+  private CodeBlock read(final ValueKind kind, final CodeBlock value) {
+    if (kind == ValueKind.STRING) {
+      return CodeBlock.of("$T.asString($L)", JS, value);
+    } else if (kind == ValueKind.INT) {
+      return CodeBlock.of("$T.asInt($L)", getJsValues(), value);
+    } else if (kind == ValueKind.LONG) {
+      return CodeBlock.of("$T.asLong($L)", getJsValues(), value);
+    } else if (kind == ValueKind.DOUBLE) {
+      return CodeBlock.of("$T.asDouble($L)", getJsValues(), value);
+    } else if (kind == ValueKind.BOOLEAN) {
+      return CodeBlock.of("$T.asBoolean($L)", getJsValues(), value);
+    } else if (kind == ValueKind.BOXED_INT) {
+      return CodeBlock.of("$T.asBoxedInt($L)", getJsValues(), value);
+    } else if (kind == ValueKind.BOXED_LONG) {
+      return CodeBlock.of("$T.asBoxedLong($L)", getJsValues(), value);
+    } else if (kind == ValueKind.BOXED_DOUBLE) {
+      // GWT represents Double and Boolean as JavaScript primitives, so these are used as they are
+      return CodeBlock.of("$T.<$T>uncheckedCast($L)", JS, Double.class, value);
+    } else if (kind == ValueKind.BOXED_BOOLEAN) {
+      return CodeBlock.of("$T.<$T>uncheckedCast($L)", JS, Boolean.class, value);
+    } else if (kind == ValueKind.ARRAY) {
+      return CodeBlock.of("$T.asArrayLike($L)", JS, value);
+    } else {
+      return CodeBlock.of("$T.asPropertyMap($L)", JS, value);
+    }
+  }
+
+  private ClassName getJsValues() {
+    if (jsValues == null) {
+      throw new IllegalStateException("The JsValues helpers must be created before parsers are generated for the " + NAME + " target");
+    }
+    return jsValues;
+  }
+
+  private static MethodSpec createHelper(final String name, final TypeName returnType, final CodeBlock nullValue, final CodeBlock read) {
+    return MethodSpec.methodBuilder(name)
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .returns(returnType)
+        .addParameter(Object.class, VALUE_PARAM_NAME, Modifier.FINAL)
+        .addStatement("return $L == null ? $L : $L", VALUE_PARAM_NAME, nullValue, read)
+        .build();
+  }
+}
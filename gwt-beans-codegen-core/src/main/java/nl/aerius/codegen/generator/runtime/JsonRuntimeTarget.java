@@ -0,0 +1,138 @@
+package nl.aerius.codegen.generator.runtime;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+/**
+ * The JSON API the generated parsers are written against. A target decides the types of the JSON objects, arrays and
+ * values the parsers receive, and generates the expressions that read from them, so the field parsers can generate for
+ * another JSON backend without changing.
+ *
+ * Receivers are passed as the names of local variables, keys and indices as code. Implementations are selected by name
+ * with {@link JsonRuntimeTargets#forName(String)}, which also loads custom implementations by their class name.
+ */
+public interface JsonRuntimeTarget {
+
+  /**
+   * The kind of value read from JSON, determining the Java type of the expression that reads it.
+   */
+  enum ValueKind {
+    STRING,
+    INT,
+    LONG,
+    DOUBLE,
+    BOOLEAN,
+    BOXED_INT,
+    BOXED_LONG,
+    BOXED_DOUBLE,
+    BOXED_BOOLEAN,
+    OBJECT,
+    ARRAY;
+  }
+
+  /**
+   * @return the name this target is selected by
+   */
+  String getName();
+
+  /**
+   * @return the type of a JSON object, the type parsers receive
+   */
+  TypeName getObjectType();
+
+  /**
+   * @return the type of a JSON array
+   */
+  TypeName getArrayType();
+
+  /**
+   * @return the type of the value of a field looked up with {@link #lookup}
+   */
+  TypeName getValueType();
+
+  /**
+   * @return true if the generated code may iterate the JSON with the forEach methods of the JSON handles, otherwise
+   *         arrays are iterated by index and objects over {@link #keys}
+   */
+  boolean isLambdaIteration();
+
+  /**
+   * @return true if the boxed kinds read JSON null as null, false if they read it as the default of the primitive, like the
+   *         getters of the JSON handles. Under a target that keeps null, primitive values are read with the primitive kinds.
+   */
+  default boolean isNullableBoxedKinds() {
+    return false;
+  }
+
+  /**
+   * Creates the class of static helpers the expressions of this target call, in the package of the parsers. It is created
+   * before any parser is generated, so the expressions can refer to it.
+   *
+   * @return the helper class, or null if the expressions of this target call no helpers
+   */
+  default TypeSpec createHelpersTypeSpec(final String parserPackage, final AnnotationSpec generated) {
+    return null;
+  }
+
+  /**
+   * @return expression parsing the JSON text into a JSON object
+   */
+  CodeBlock parseText(CodeBlock text);
+
+  /**
+   * @return condition that is true if the JSON object has the key, also if its value is JSON null
+   */
+  CodeBlock hasMember(String objectVar, CodeBlock key);
+
+  /**
+   * @return expression looking the key up once, to a value of {@link #getValueType()} that is absent if the key is not present
+   */
+  CodeBlock lookup(String objectVar, CodeBlock key);
+
+  /**
+   * @return condition that is true if the looked up value is absent
+   */
+  CodeBlock isAbsent(String valueVar);
+
+  /**
+   * @return condition that is true if the looked up value is JSON null
+   */
+  CodeBlock isNull(String valueVar);
+
+  /**
+   * @return expression reading the looked up value
+   */
+  CodeBlock readValue(ValueKind kind, String valueVar);
+
+  /**
+   * @return expression reading the value of a key of a JSON object
+   */
+  CodeBlock readMember(ValueKind kind, String objectVar, CodeBlock key);
+
+  /**
+   * @return condition that is true if the value of a key of a JSON object is JSON null
+   */
+  CodeBlock isNullMember(String objectVar, CodeBlock key);
+
+  /**
+   * @return expression iterating the keys of a JSON object, usable in a for-each loop
+   */
+  CodeBlock keys(String objectVar);
+
+  /**
+   * @return expression of the number of elements of a JSON array
+   */
+  CodeBlock length(String arrayVar);
+
+  /**
+   * @return expression reading an element of a JSON array
+   */
+  CodeBlock readElement(ValueKind kind, String arrayVar, CodeBlock index);
+
+  /**
+   * @return condition that is true if an element of a JSON array is JSON null
+   */
+  CodeBlock isNullElement(String arrayVar, CodeBlock index);
+}
@@ -0,0 +1,56 @@
+package nl.aerius.codegen.generator.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Looks up the JSON runtime targets by name.
+ */
+public final class JsonRuntimeTargets {
+  // Built-in targets by their name
+  private static final Map<String, Supplier<JsonRuntimeTarget>> TARGETS = new LinkedHashMap<>();
+
+  static {
+    TARGETS.put(HandleRuntimeTarget.NAME, HandleRuntimeTarget::new);
+    TARGETS.put(JsInteropRuntimeTarget.NAME, JsInteropRuntimeTarget::new);
+  }
+
+  private JsonRuntimeTargets() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * @return the target used when none is selected
+   */
+  public static JsonRuntimeTarget getDefault() {
+    return forName(HandleRuntimeTarget.NAME);
+  }
+
+  /**
+   * Returns the built-in target with the given name, or else creates an instance of the class with the given name. Such a
+   * class must implement {@link JsonRuntimeTarget} and have a public constructor without arguments.
+   *
+   * @param name name of a built-in target or fully qualified name of a target class
+   * @return the target
+   * @throws IllegalArgumentException if there is no target with the name
+   */
+  public static JsonRuntimeTarget forName(final String name) {
+    final Supplier<JsonRuntimeTarget> target = TARGETS.get(name);
+    if (target != null) {
+      return target.get();
+    }
+    try {
+      final Class<?> targetClass = Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+      if (!JsonRuntimeTarget.class.isAssignableFrom(targetClass)) {
+        throw new IllegalArgumentException("Class " + name + " does not implement " + JsonRuntimeTarget.class.getName());
+      }
+      return (JsonRuntimeTarget) targetClass.getConstructor().newInstance();
+    } catch (final ClassNotFoundException e) {
+      throw new IllegalArgumentException("Unknown JSON runtime target '" + name + "', expected one of " + TARGETS.keySet()
+          + " or the name of a class implementing " + JsonRuntimeTarget.class.getName(), e);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Could not create JSON runtime target " + name, e);
+    }
+  }
+}
@@ -18,11 +18,16 @@ import javax.tools.JavaCompiler;
 import javax.tools.StandardJavaFileManager;
 import javax.tools.ToolProvider;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+
 public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
   protected ObjectMapper objectMapper;
   protected File outputDir;
@@ -42,6 +47,8 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
 
     customDir = new File("src/test/resources/parsers/custom");
 
+    ParserWriterUtils.setOptions(createGeneratorOptions());
+
     System.out.println("\n=== Test Setup ===");
     System.out.println("Output directory: " + outputDir.getAbsolutePath());
     System.out.println("Expected directory: " + new File("src/test/resources/parsers/expected").getAbsolutePath());
@@ -50,7 +57,8 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
   }
 
   /**
-   * Cleans a directory by deleting all files in it.
+   * Cleans a directory by deleting all files in it and its subdirectories, so parsers generated by a previous test are not
+   * compiled against the shared classes generated for this test.
    * If the directory doesn't exist, it will be created.
    *
    * @param directory The directory to clean
@@ -62,7 +70,9 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
 
       if (files != null) {
         for (final File file : files) {
-          if (file.isFile() && !file.delete()) {
+          if (file.isDirectory()) {
+            cleanDirectory(file);
+          } else if (!file.delete()) {
             throw new IOException("Failed to delete file: " + file.getAbsolutePath());
           }
         }
@@ -70,7 +80,27 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
     }
   }
 
-  protected abstract void prepareParser() throws Exception;
+  @AfterEach
+  void resetOptions() {
+    ParserWriterUtils.setOptions(null);
+    ParserWriterUtils.clearCustomParserRegistry();
+  }
+
+  /**
+   * Returns the options the parsers of the test are generated with, set before and reset after each test.
+   *
+   * @return the options, or null for the default output
+   */
+  protected GeneratorOptions createGeneratorOptions() {
+    return null;
+  }
+
+  /**
+   * Generates the parsers of the test, by default those of {@link TestRootObjectType}.
+   */
+  protected void prepareParser() throws Exception {
+    generateParser(TestRootObjectType.class);
+  }
 
   /**
    * Compiles all parser files in the output directory and loads the specified
@@ -81,6 +111,17 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
    * @return The loaded parser class
    */
   protected Class<?> compileAndLoadParser(final String className) throws Exception {
+    compileParsers();
+
+    // Load the requested class
+    final URLClassLoader classLoader = new URLClassLoader(new URL[] {outputDir.toURI().toURL()});
+    return Class.forName(PARSER_PACKAGE + "." + className, true, classLoader);
+  }
+
+  /**
+   * Compiles all parser files in the output directory, without loading them.
+   */
+  protected void compileParsers() throws Exception {
     // Get the Java compiler
     final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
     final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
@@ -119,10 +160,12 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
     // Get the classpath including the gwt-beans-codegen-test-json module
     final String classpath = System.getProperty("java.class.path");
 
-    // Compile all parsers together
+    // Compile all parsers together. The source path is set, so the sources shipped in the jsinterop jars on the class path
+    // are not compiled instead of their classes
     final List<String> options = Arrays.asList(
         "-d", outputDir.getAbsolutePath(),
-        "-cp", classpath);
+        "-cp", classpath,
+        "-sourcepath", outputDir.getAbsolutePath());
 
     final boolean success = compiler.getTask(null, fileManager, null, options, null,
         fileManager.getJavaFileObjectsFromFiles(parserFiles)).call();
@@ -130,10 +173,6 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
     if (!success) {
       throw new IllegalStateException("Failed to compile parser files");
     }
-
-    // Load the requested class
-    final URLClassLoader classLoader = new URLClassLoader(new URL[] {outputDir.toURI().toURL()});
-    return Class.forName(PARSER_PACKAGE + "." + className, true, classLoader);
   }
 
   /**
@@ -178,4 +217,20 @@ public abstract class AbstractRoundTripTest extends ParserGeneratorTestBase {
         parsedTree,
         "JSON should match after round trip.\nOriginal: " + originalJson + "\nParsed:   " + parsedJson);
   }
-}
\ No newline at end of file
+
+  /**
+   * Generates the parsers of {@link TestRootObjectType} with the given options and asserts the round trip of both the
+   * full and the null object.
+   *
+   * @param options The options to generate the parsers with, or null for the default output
+   */
+  protected void assertRoundTripWithOptions(final GeneratorOptions options) throws Exception {
+    ParserWriterUtils.setOptions(options);
+    generateParser(TestRootObjectType.class);
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+
+    assertRoundTrip(TestRootObjectType.createFullObject(), parserClass);
+    assertRoundTrip(TestRootObjectType.createNullObject(), parserClass);
+  }
+}
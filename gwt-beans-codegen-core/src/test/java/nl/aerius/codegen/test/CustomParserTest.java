@@ -7,13 +7,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import nl.aerius.codegen.ParserGenerator;
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
 import nl.aerius.codegen.test.custom.TestCustomParserTypeParser;
 import nl.aerius.codegen.test.types.TestCustomParserType;
 import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.util.ClassFinder;
+import nl.aerius.codegen.util.Logger;
 
 /**
  * Tests that custom parsers are used instead of generated ones.
@@ -83,4 +91,24 @@ class CustomParserTest extends AbstractRoundTripTest {
         parsed.getCustomParserType().getCustomValue(),
         "Custom value should be parsed correctly");
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldWarnAboutMethodsMissingFromCustomParser(@TempDir final Path generatedDir) throws Exception {
+    ParserWriterUtils.setOptions(new GeneratorOptions().setStreamingParsing(true).setGenerateWriters(true));
+    final List<String> warnings = new ArrayList<>();
+    final Logger logger = new Logger() {
+      @Override
+      public void warn(final String message) {
+        warnings.add(message);
+      }
+    };
+
+    ParserGenerator.generateParsersForClass(TestRootObjectType.class, PARSER_PACKAGE, generatedDir.toString(), getCustomParserDir().toString(),
+        "nl.aerius.codegen.ParserGenerator", new ClassFinder() {}, logger);
+
+    assertTrue(warnings.stream().anyMatch(warning -> warning.contains("TestCustomParserTypeParser has no parse(JsonParser)")),
+        "Missing streaming parse method should be reported");
+    assertTrue(warnings.stream().anyMatch(warning -> warning.contains("No TestCustomParserTypeWriter found")),
+        "Missing writer should be reported");
+  }
+}
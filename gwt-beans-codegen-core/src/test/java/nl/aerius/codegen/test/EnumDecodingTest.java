@@ -0,0 +1,96 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.test.types.TestEnumType;
+import nl.aerius.codegen.test.types.TestJsonValueEnumType;
+
+/**
+ * Tests that enums are decoded with a generated switch on their JSON names, without relying on exceptions for unknown values.
+ */
+class EnumDecodingTest extends AbstractRoundTripTest {
+
+  @Override
+  protected void prepareParser() throws Exception {
+    generateParser(TestEnumType.class);
+  }
+
+  @Test
+  void shouldGenerateSwitchOnJsonNames() throws Exception {
+    prepareParser();
+
+    final String decoders = getEnumDecodersContent();
+    assertTrue(decoders.contains("case \"first-class\":"), "Decoder should decode the @JsonProperty alias");
+    assertFalse(decoders.contains("valueOf("), "Decoder should not use valueOf");
+    assertFalse(decoders.contains("catch (IllegalArgumentException"), "Decoder should not catch exceptions");
+  }
+
+  @Test
+  void shouldDecodeEachEnumInOneSharedMethod() throws Exception {
+    prepareParser();
+
+    final String decoders = getEnumDecodersContent();
+    assertEquals(1, decoders.split("public static TestEnumType.Status decodeStatus\\(", -1).length - 1,
+        "Enum should have a single decoder");
+
+    final String content = getGeneratedParserContent("TestEnumType");
+    assertTrue(content.contains("= EnumDecoders.decodeStatus(baseObj.getString(\"status\"));"), "Field should call the decoder");
+    assertTrue(content.contains("= EnumDecoders.decodeStatus(baseObj.getString(\"nullableStatus\"));"),
+        "Second field of the same enum should call the same decoder");
+    assertFalse(content.contains("switch ("), "Decoding should not be expanded inline");
+  }
+
+  @Test
+  void shouldRoundTripAliases() throws Exception {
+    prepareParser();
+
+    assertRoundTrip(TestEnumType.createFullObject(), findParserForType(TestEnumType.class));
+  }
+
+  @Test
+  void shouldDecodeUnknownValuesToNull() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestEnumType.class);
+    final TestEnumType parsed = (TestEnumType) parserClass.getMethod("parse", String.class)
+        .invoke(null, "{\"status\":\"UNKNOWN\",\"priority\":\"HIGH\",\"category\":\"FIRST_CLASS\"}");
+
+    assertNull(parsed.getStatus(), "Unknown constant should be decoded to null");
+    assertEquals(TestEnumType.Priority.HIGH, parsed.getPriority());
+    assertNull(parsed.getCategory(), "Constant name should not be accepted when an alias is defined");
+  }
+
+  @Test
+  void shouldDecodeUnknownValuesThroughCreator() throws Exception {
+    generateParser(TestJsonValueEnumType.class);
+
+    final String decoders = getEnumDecodersContent();
+    assertTrue(decoders.contains("value = TestJsonValueEnumType.Unit.fromCode(json);"), "Decoder should fall back to the creator");
+
+    final Class<?> parserClass = findParserForType(TestJsonValueEnumType.class);
+    final TestJsonValueEnumType original = new TestJsonValueEnumType();
+    original.setUnit(TestJsonValueEnumType.Unit.MOL_PER_HECTARE);
+    original.setUnits(List.of(TestJsonValueEnumType.Unit.KILOGRAM_PER_YEAR, TestJsonValueEnumType.Unit.MOL_PER_HECTARE));
+    assertRoundTrip(original, parserClass);
+
+    final TestJsonValueEnumType parsed = (TestJsonValueEnumType) parserClass.getMethod("parse", String.class)
+        .invoke(null, "{\"unit\":\"kg/yr\",\"units\":[\"mol/ha\",\"KILOGRAM_PER_YEAR\",\"g/s\"]}");
+
+    assertEquals(TestJsonValueEnumType.Unit.KILOGRAM_PER_YEAR, parsed.getUnit(), "Legacy code should be decoded by the creator");
+    assertEquals(TestJsonValueEnumType.Unit.MOL_PER_HECTARE, parsed.getUnits().get(0), "@JsonValue should be decoded");
+    assertEquals(TestJsonValueEnumType.Unit.KILOGRAM_PER_YEAR, parsed.getUnits().get(1), "Constant name should be decoded");
+    assertNull(parsed.getUnits().get(2), "Value the creator doesn't know should be decoded to null");
+  }
+
+  private String getEnumDecodersContent() throws Exception {
+    return Files.readString(outputDir.toPath().resolve(PARSER_PACKAGE.replace('.', '/') + "/EnumDecoders.java"));
+  }
+}
@@ -0,0 +1,89 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+
+/**
+ * Tests parsers generated in projection mode, which only parse the fields selected by a Projection.
+ */
+class FieldProjectionTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setFieldProjection(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateProjectionOverloads() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestRootObjectType");
+    assertTrue(content.contains("public static TestRootObjectType parse(final String jsonText, final Projection projection)"),
+        "Parser should have a parse method taking the projection");
+    assertTrue(content.contains("return parse(jsonText, Projection.ALL)"), "Parse method without a projection should parse all fields");
+    assertTrue(content.contains("final Projection simpleCollectionProjection = projection.field(\"simpleCollection\")"),
+        "Fields should be looked up in the projection");
+  }
+
+  @Test
+  void shouldParseSelectedFieldsOnly() throws Exception {
+    final TestRootObjectType original = TestRootObjectType.createFullObject();
+    final TestRootObjectType parsed = parseProjected(original, "foo", "simpleCollection.tags", "advancedMap.objectListMap.primitiveLong");
+
+    assertEquals(original.getFoo(), parsed.getFoo(), "Selected field should be parsed");
+    assertEquals(0, parsed.getCount(), "Unselected primitive field should keep its default");
+    assertNull(parsed.getSimpleTypes(), "Unselected object should be skipped");
+    assertEquals(original.getSimpleCollection().getTags(), parsed.getSimpleCollection().getTags(), "Selected nested field should be parsed");
+    assertNull(parsed.getSimpleCollection().getMetadata(), "Unselected nested field should be skipped");
+
+    final List<TestSimpleTypesType> objects = parsed.getAdvancedMap().getObjectListMap().get("objects");
+    assertEquals(List.of(123L, 456L), objects.stream().map(TestSimpleTypesType::getPrimitiveLong).collect(Collectors.toList()),
+        "Selected field of the elements of a map of lists should be parsed");
+    assertEquals(0, objects.get(0).getPrimitiveByte(), "Unselected field of the elements should be skipped");
+    assertNull(parsed.getAdvancedMap().getStringListMap(), "Unselected map should be skipped");
+  }
+
+  @Test
+  void shouldSkipUnselectedConstructorArguments() throws Exception {
+    final TestRootObjectType original = TestRootObjectType.createFullObject();
+    final TestRootObjectType parsed = parseProjected(original, "constructorBased.value");
+
+    assertEquals(original.getConstructorBased().getValue(), parsed.getConstructorBased().getValue(), "Selected argument should be parsed");
+    assertNull(parsed.getConstructorBased().getName(), "Unselected argument should be passed as null");
+  }
+
+  @Test
+  void shouldSelectWholeFieldOverPathsWithinIt() throws Exception {
+    final TestRootObjectType original = TestRootObjectType.createFullObject();
+    final TestRootObjectType parsed = parseProjected(original, "simpleCollection.tags", "simpleCollection");
+
+    assertEquals(original.getSimpleCollection().getMetadata(), parsed.getSimpleCollection().getMetadata(),
+        "Selecting a field should select all fields within it");
+  }
+
+  private TestRootObjectType parseProjected(final TestRootObjectType original, final String... paths) throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final Class<?> projectionClass = parserClass.getClassLoader().loadClass(PARSER_PACKAGE + ".Projection");
+    final Object projection = projectionClass.getMethod("of", String[].class).invoke(null, (Object) paths);
+    final Method parseMethod = parserClass.getMethod("parse", String.class, projectionClass);
+
+    return (TestRootObjectType) parseMethod.invoke(null, objectMapper.writeValueAsString(original), projection);
+  }
+}
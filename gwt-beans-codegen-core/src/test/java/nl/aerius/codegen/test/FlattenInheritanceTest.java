@@ -0,0 +1,65 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.ConcreteType;
+import nl.aerius.codegen.test.types.TestHiddenFieldChildType;
+
+/**
+ * Tests the round trip of parsers generated with flattened inheritance, where the parser of a subclass parses the inherited
+ * fields itself in a single pass over the JSON keys.
+ */
+class FlattenInheritanceTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setFlattenInheritance(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldInlineInheritedFields() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("ConcreteType");
+    assertFalse(content.contains("AbstractMiddleTypeParser.parse("), "Parser should not call the parent parser");
+    assertTrue(content.contains("case \"deepest\": {"), "Parser should parse the fields of the root class");
+    assertTrue(content.contains("case \"outer\": {"), "Parser should parse its own fields");
+  }
+
+  @Test
+  void shouldParseInheritedFieldsOnce() throws Exception {
+    prepareParser();
+
+    final ConcreteType parsed = (ConcreteType) findParserForType(ConcreteType.class).getMethod("parse", String.class)
+        .invoke(null, "{\"outer\":\"o\",\"middle\":\"m\",\"deepest\":\"d\",\"unknown\":\"u\"}");
+
+    assertEquals("o", parsed.getOuter());
+    assertEquals("m", parsed.getMiddle(), "Field of the middle class should be parsed");
+    assertEquals("d", parsed.getDeepest(), "Field of the root class should be parsed");
+  }
+
+  @Test
+  void shouldParseHiddenFieldIntoSubclass() throws Exception {
+    generateParser(TestHiddenFieldChildType.class);
+
+    final String content = getGeneratedParserContent("TestHiddenFieldChildType");
+    assertEquals(content.indexOf("case \"label\""), content.lastIndexOf("case \"label\""), "Hidden field should be parsed once");
+
+    final TestHiddenFieldChildType parsed = (TestHiddenFieldChildType) findParserForType(TestHiddenFieldChildType.class)
+        .getMethod("parse", String.class).invoke(null, "{\"label\":\"child\",\"weight\":3}");
+
+    assertEquals("child", parsed.getLabel(), "Field of the subclass should get the value");
+    assertNull(parsed.parentLabel(), "Hidden field of the parent should not be set");
+    assertEquals(3, parsed.getWeight(), "Field of the parent that is not hidden should be parsed");
+  }
+}
@@ -1,47 +1,53 @@
 package nl.aerius.codegen.test;
 
-import org.junit.jupiter.api.Test;
+import java.util.stream.Stream;
 
-import nl.aerius.codegen.test.types.TestRootObjectType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
 
 /**
  * Tests the round trip functionality using the dynamically generated parser.
  * This test verifies that our parser generator produces code that correctly
- * handles all fields and types. If this test fails but
- * ExpectedParserRoundTripTest passes, it means our generator is not producing
- * correct code.
+ * handles all fields and types, for the default output and for each of the
+ * generator options. If this test fails but ExpectedParserRoundTripTest passes,
+ * it means our generator is not producing correct code.
+ *
+ * The checks specific to an option are in the test of that option, which also
+ * provides the options used here.
  */
 class GeneratedParserRoundTripTest extends AbstractRoundTripTest {
-  @Override
-  protected void prepareParser() throws Exception {
-    generateParser(TestRootObjectType.class);
-  }
-
-  @Test
-  void shouldRoundTripBasicTypes() throws Exception {
-    // First generate the parser
-    prepareParser();
-
-    // Find the appropriate parser for TestRootObjectType
-    Class<?> parserClass = findParserForType(TestRootObjectType.class);
 
-    // Create test object with all fields set
-    TestRootObjectType original = TestRootObjectType.createFullObject();
-
-    assertRoundTrip(original, parserClass);
+  static Stream<Arguments> optionVariants() {
+    return Stream.of(
+        Arguments.of("default", null),
+        Arguments.of("keyDriven", KeyDrivenParsingTest.options()),
+        Arguments.of("indexedLoops", IndexedLoopsTest.options()),
+        Arguments.of("flattenInheritance", FlattenInheritanceTest.options()),
+        Arguments.of("lazy", LazyParsingTest.options()),
+        Arguments.of("merge", MergeParsingTest.options()),
+        Arguments.of("stringInterning", StringInterningTest.options()),
+        Arguments.of("lenient", LenientParsingTest.options()),
+        Arguments.of("fieldProjection", FieldProjectionTest.options()),
+        Arguments.of("fieldProjection+keyDriven+lenient",
+            FieldProjectionTest.options().setKeyDrivenParsing(true).setLenientParsing(true)),
+        Arguments.of("parallel", ParallelParsingTest.options()),
+        Arguments.of("sharedHelpers", SharedHelpersTest.options()),
+        Arguments.of("tableDriven", TableDrivenParsingTest.options()),
+        Arguments.of("methodSplitting", MethodSplittingTest.options()),
+        Arguments.of("methodSplitting+keyDriven", MethodSplittingTest.options().setKeyDrivenParsing(true)),
+        Arguments.of("runtimeTarget", RuntimeTargetTest.options()),
+        Arguments.of("singleLookup", SingleLookupTest.options()),
+        Arguments.of("singleLookup+keyDriven", SingleLookupTest.options().setKeyDrivenParsing(true)),
+        Arguments.of("primitiveAccessors", PrimitiveAccessorsTest.options()),
+        Arguments.of("streaming", StreamingParsingTest.options()));
   }
 
-  @Test
-  void shouldHandleNullValues() throws Exception {
-    // First generate the parser
-    prepareParser();
-
-    // Find the appropriate parser for TestRootObjectType
-    Class<?> parserClass = findParserForType(TestRootObjectType.class);
-
-    // Create object with null values
-    TestRootObjectType original = TestRootObjectType.createNullObject();
-
-    assertRoundTrip(original, parserClass);
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("optionVariants")
+  void shouldRoundTripWithOptions(final String name, final GeneratorOptions options) throws Exception {
+    assertRoundTripWithOptions(options);
   }
-}
\ No newline at end of file
+}
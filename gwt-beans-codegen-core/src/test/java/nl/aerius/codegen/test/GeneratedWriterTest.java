@@ -0,0 +1,70 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+
+/**
+ * Tests the generated writers by parsing their output with the generated parsers and comparing the result with the original.
+ */
+class GeneratedWriterTest extends AbstractRoundTripTest {
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return new GeneratorOptions().setGenerateWriters(true);
+  }
+
+  @Test
+  void shouldWriteFullObject() throws Exception {
+    prepareParser();
+
+    final TestRootObjectType original = TestRootObjectType.createFullObject();
+    final String written = write(original);
+
+    assertTrue(written.contains("\"_type\":\"TypeA\""), "Polymorphic subtype should write its discriminator");
+    assertTrue(written.contains("\"category\":\"first-class\""), "Enum should be written with its JSON name");
+    assertTrue(written.contains("\"key1:1\":"), "Complex map key should be written with its @JsonKey method");
+    assertWrittenParsesToOriginal(original, written);
+  }
+
+  @Test
+  void shouldWriteNullValues() throws Exception {
+    prepareParser();
+
+    final TestRootObjectType original = TestRootObjectType.createNullObject();
+
+    assertWrittenParsesToOriginal(original, write(original));
+  }
+
+  @Test
+  void shouldEscapeStrings() throws Exception {
+    prepareParser();
+
+    final TestRootObjectType original = TestRootObjectType.createNullObject();
+    original.setFoo("quote \" backslash \\ newline \n tab \t control \u0001 unicode é");
+    final JsonNode tree = objectMapper.readTree(write(original));
+
+    assertEquals(original.getFoo(), tree.get("foo").asText(), "String should survive escaping");
+  }
+
+  private String write(final Object value) throws Exception {
+    final Class<?> writerClass = compileAndLoadParser("TestRootObjectTypeWriter");
+    final String written = (String) writerClass.getMethod("write", TestRootObjectType.class).invoke(null, value);
+    System.out.println("Written JSON: " + written);
+    return written;
+  }
+
+  private void assertWrittenParsesToOriginal(final Object original, final String written) throws Exception {
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final Object parsed = parserClass.getMethod("parse", String.class).invoke(null, written);
+
+    assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(original)), objectMapper.readTree(objectMapper.writeValueAsString(parsed)),
+        "Object parsed from the written JSON should match the original");
+  }
+}
@@ -0,0 +1,64 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestNestedMapType;
+import nl.aerius.codegen.test.types.TestSimpleCollectionType;
+
+/**
+ * Tests the round trip of parsers generated with indexed loops, where arrays, collections and maps are parsed with plain
+ * for loops instead of forEach lambdas.
+ */
+class IndexedLoopsTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setIndexedLoops(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateLoopsWithoutLambdas() throws Exception {
+    prepareParser();
+
+    final String nestedMapContent = getGeneratedParserContent("TestNestedMapType");
+    assertTrue(nestedMapContent.contains("for (final String level2Key : level2Obj.keySet())"), "Parser should loop over the map keys");
+    assertFalse(nestedMapContent.contains("->"), "Parser should not contain lambdas");
+
+    final String collectionContent = getGeneratedParserContent("TestSimpleCollectionType");
+    assertTrue(collectionContent.contains("list.add(array.getString(index))"), "Parser should read list elements by index");
+    assertFalse(collectionContent.contains("::add"), "Parser should not contain method references");
+  }
+
+  @Test
+  void shouldParseElementsInOrderByIndex() throws Exception {
+    prepareParser();
+
+    final TestSimpleCollectionType collections = (TestSimpleCollectionType) findParserForType(TestSimpleCollectionType.class)
+        .getMethod("parse", String.class)
+        .invoke(null, "{\"tags\":[\"b\",\"a\",\"b\"],\"metadata\":{},\"defaultHashSet\":[2,1,2],\"explicitHashMap\":{\"x\":1,\"y\":2}}");
+
+    assertEquals(List.of("b", "a", "b"), collections.getTags(), "List should keep the order and duplicates of the array");
+    assertEquals(Map.of(), collections.getMetadata(), "Empty object should be parsed to an empty map");
+    assertEquals(Set.of(1, 2), collections.getDefaultHashSet());
+    assertEquals(Map.of("x", 1, "y", 2), collections.getExplicitHashMap());
+
+    final TestNestedMapType nested = (TestNestedMapType) findParserForType(TestNestedMapType.class).getMethod("parse", String.class)
+        .invoke(null, "{\"stringToNestedIntMap\":{\"a\":{\"x\":1,\"y\":2},\"b\":{}}}");
+
+    assertEquals(Map.of("a", Map.of("x", 1, "y", 2), "b", Map.of()), nested.getStringToNestedIntMap(),
+        "Nested maps should be parsed key by key");
+  }
+}
@@ -0,0 +1,184 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.generator.runtime.JsInteropRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTargets;
+import nl.aerius.codegen.test.types.TestPrimitiveArrayType;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleCollectionType;
+
+/**
+ * Tests parsers generated for the JsInterop target. The generated code is compiled against jsinterop-base and
+ * elemental2-core, which only work in the browser. To run the parsers, they are compiled against JVM stand-ins of the
+ * classes they use instead, with maps and lists standing in for the parsed JSON.
+ */
+class JsInteropRuntimeTargetTest extends AbstractRoundTripTest {
+  private static final Path STUB_DIR = Path.of("src/test/resources/jsinterop-stubs");
+  private static final Path STUB_CLASSES_DIR = Path.of("target/jsinterop-stub-classes");
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return new GeneratorOptions().setRuntimeTarget(JsonRuntimeTargets.forName("jsinterop"));
+  }
+
+  @Test
+  void shouldSelectTargetByName() {
+    assertInstanceOf(JsInteropRuntimeTarget.class, JsonRuntimeTargets.forName(JsInteropRuntimeTarget.NAME),
+        "JsInterop target should be found by name");
+  }
+
+  @Test
+  void shouldCompileAgainstJsInterop() throws Exception {
+    prepareParser();
+
+    compileParsers();
+  }
+
+  @Test
+  void shouldReadFromJsPropertyMap() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("import jsinterop.base.JsPropertyMap;"), "Parser should import JsPropertyMap");
+    assertTrue(content.contains("Js.asPropertyMap(Global.JSON.parse(jsonText))"), "Text should be parsed with JSON.parse");
+    assertTrue(content.contains("(byte) JsValues.asInt(baseObj.get(\"primitiveByte\"))"),
+        "Primitives should be read without wrappers, looking the value up once");
+    assertTrue(content.contains("Js.isTripleEqual("), "Absent fields should be told apart from null");
+    assertFalse(content.contains("JSONObjectHandle"), "Parser should not use the JSON handles");
+  }
+
+  @Test
+  void shouldIterateArraysByIndex() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleCollectionType");
+    assertFalse(content.contains("forEach"), "Arrays should not be iterated with lambdas");
+    assertTrue(content.contains(".getLength(); "), "Arrays should be iterated over their native length");
+    assertTrue(content.contains(".getAt("), "Elements should be read by native index access");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void shouldReadNullPrimitivesAsDefault(final boolean primitiveAccessors) throws Exception {
+    ParserWriterUtils.setOptions(createGeneratorOptions().setPrimitiveAccessors(primitiveAccessors));
+    prepareParser();
+
+    final Map<String, Object> simpleTypes = new HashMap<>();
+    simpleTypes.put("primitiveByte", null);
+    simpleTypes.put("primitiveLong", null);
+    final Map<String, Object> primitiveArrays = new HashMap<>();
+    primitiveArrays.put("intArray", Arrays.asList(1D, null));
+    primitiveArrays.put("longArray", Arrays.asList(null, 3D));
+    primitiveArrays.put("doubleArray", Arrays.asList(null, 2.5));
+    primitiveArrays.put("booleanArray", Arrays.asList(true, null));
+    final Map<String, Object> json = new HashMap<>();
+    json.put("count", null);
+    json.put("simpleTypes", simpleTypes);
+    json.put("primitiveArrays", primitiveArrays);
+
+    final ClassLoader classLoader = compileAgainstStubs();
+    final Class<?> jsClass = classLoader.loadClass("jsinterop.base.Js");
+    final Class<?> propertyMapClass = classLoader.loadClass("jsinterop.base.JsPropertyMap");
+    final TestRootObjectType existing = TestRootObjectType.createFullObject();
+    classLoader.loadClass(PARSER_PACKAGE + ".TestRootObjectTypeParser").getMethod("parse", propertyMapClass, TestRootObjectType.class)
+        .invoke(null, jsClass.getMethod("asPropertyMap", Object.class).invoke(null, json), existing);
+
+    assertEquals(0, existing.getCount(), "Null int should be read as 0");
+    assertEquals(0, existing.getSimpleTypes().getPrimitiveByte(), "Null byte should be read as 0");
+    assertEquals(0L, existing.getSimpleTypes().getPrimitiveLong(), "Null long should be read as 0");
+    final TestPrimitiveArrayType arrays = existing.getPrimitiveArrays();
+    assertArrayEquals(new int[] {1, 0}, arrays.getIntArray(), "Null int element should be read as 0");
+    assertArrayEquals(new long[] {0L, 3L}, arrays.getLongArray(), "Null long element should be read as 0");
+    assertArrayEquals(new double[] {0D, 2.5}, arrays.getDoubleArray(), "Null double element should be read as 0");
+    assertArrayEquals(new boolean[] {true, false}, arrays.getBooleanArray(), "Null boolean element should be read as false");
+  }
+
+  @Test
+  void shouldReadNullBoxedValuesAsNull() throws Exception {
+    prepareParser();
+
+    final Map<String, Object> simpleCollection = new HashMap<>();
+    simpleCollection.put("defaultHashSet", Arrays.asList(1D, null));
+    simpleCollection.put("explicitHashMap", Collections.singletonMap("key", null));
+    final Map<String, Object> json = new HashMap<>();
+    json.put("simpleCollection", simpleCollection);
+
+    final ClassLoader classLoader = compileAgainstStubs();
+    final Class<?> jsClass = classLoader.loadClass("jsinterop.base.Js");
+    final Class<?> propertyMapClass = classLoader.loadClass("jsinterop.base.JsPropertyMap");
+    final TestRootObjectType existing = TestRootObjectType.createFullObject();
+    classLoader.loadClass(PARSER_PACKAGE + ".TestRootObjectTypeParser").getMethod("parse", propertyMapClass, TestRootObjectType.class)
+        .invoke(null, jsClass.getMethod("asPropertyMap", Object.class).invoke(null, json), existing);
+
+    final TestSimpleCollectionType collections = existing.getSimpleCollection();
+    assertEquals(new HashSet<>(Arrays.asList(1, null)), collections.getDefaultHashSet(), "Null Integer element should be read as null");
+    assertEquals(Collections.singletonMap("key", null), collections.getExplicitHashMap(), "Null Integer value should be read as null");
+  }
+
+  /**
+   * Compiles the generated parsers against the JVM stand-ins of jsinterop-base and elemental2-core, and returns a class loader
+   * loading them and the stand-ins, instead of the real classes on the class path.
+   */
+  private ClassLoader compileAgainstStubs() throws Exception {
+    final List<File> sources;
+    try (Stream<Path> stubs = Files.walk(STUB_DIR); Stream<Path> parsers = Files.walk(outputDir.toPath())) {
+      sources = Stream.concat(stubs, parsers)
+          .filter(path -> path.toString().endsWith(".java"))
+          .map(Path::toFile)
+          .collect(Collectors.toList());
+    }
+    Files.createDirectories(STUB_CLASSES_DIR);
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+    final List<String> options = Arrays.asList(
+        "-d", STUB_CLASSES_DIR.toString(),
+        "-cp", System.getProperty("java.class.path"),
+        "-sourcepath", STUB_DIR.toString());
+    assertTrue(compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(sources)).call(),
+        "Parsers should compile against the stand-ins");
+
+    return new URLClassLoader(new URL[] {STUB_CLASSES_DIR.toUri().toURL()}, getClass().getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+        // Load the stand-ins and the parsers compiled against them before the real classes on the class path
+        if (name.startsWith("jsinterop.") || name.startsWith("elemental2.") || name.startsWith(PARSER_PACKAGE + ".")) {
+          synchronized (getClassLoadingLock(name)) {
+            final Class<?> loaded = findLoadedClass(name);
+            return loaded != null ? loaded : findClass(name);
+          }
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+  }
+}
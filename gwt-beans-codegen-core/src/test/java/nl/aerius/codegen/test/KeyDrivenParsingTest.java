@@ -0,0 +1,57 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+import nl.aerius.json.JSONObjectHandle;
+
+/**
+ * Tests the round trip of parsers generated in key-driven mode, where setter-based parsers loop
+ * once over the JSON keys and dispatch with a switch.
+ */
+class KeyDrivenParsingTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setKeyDrivenParsing(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateSwitchOnKeys() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("for (final String fieldName : baseObj.keySet())"), "Parser should loop over the JSON keys");
+    assertTrue(content.contains("case \"wrapperLong\": {"), "Parser should dispatch on the key");
+    assertFalse(content.contains("baseObj.has("), "Parser should not check each field with has()");
+  }
+
+  @Test
+  void shouldKeepAbsentFieldsAndIgnoreUnknownKeys() throws Exception {
+    prepareParser();
+
+    final TestSimpleTypesType config = new TestSimpleTypesType();
+    config.setPrimitiveShort((short) 3);
+    config.setWrapperLong(7L);
+    config.setWrapperFloat(1.5F);
+    findParserForType(TestSimpleTypesType.class).getMethod("parse", JSONObjectHandle.class, TestSimpleTypesType.class)
+        .invoke(null, JSONObjectHandle.fromText("{\"unknown\":{\"primitiveByte\":9},\"primitiveByte\":5,\"wrapperFloat\":null,"
+            + "\"other\":[1,2]}"), config);
+
+    assertEquals(5, config.getPrimitiveByte(), "Present key should be parsed, also after an unknown key");
+    assertEquals(3, config.getPrimitiveShort(), "Absent primitive should keep its value");
+    assertEquals(7L, config.getWrapperLong(), "Absent wrapper should keep its value");
+    assertEquals(1.5F, config.getWrapperFloat(), "Null wrapper should keep its value, like with has() checks");
+    assertNull(config.getWrapperChar(), "Absent field without a value should stay null");
+  }
+}
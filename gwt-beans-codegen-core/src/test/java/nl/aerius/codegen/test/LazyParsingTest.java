@@ -0,0 +1,104 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.test.types.TestEnumType;
+import nl.aerius.codegen.test.types.TestEqualsHolderType;
+import nl.aerius.codegen.test.types.TestEqualsType;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+
+/**
+ * Tests the round trip of parsers generated with lazy fields, where nested objects are parsed on the first method call.
+ */
+class LazyParsingTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions()
+        .setLazyTypes(List.of(TestEnumType.class.getName()))
+        .setLazyFields(List.of(TestRootObjectType.class.getName() + "#simpleTypes"));
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateLazyHolders() throws Exception {
+    prepareParser();
+
+    final String rootContent = getGeneratedParserContent("TestRootObjectType");
+    assertTrue(rootContent.contains("TestSimpleTypesTypeParser.parseLazy(baseObj.getObject(\"simpleTypes\"))"),
+        "Configured field should be parsed lazily");
+    assertTrue(rootContent.contains("TestEnumTypeParser.parseLazy(baseObj.getObject(\"enumType\"))"),
+        "Field of configured type should be parsed lazily");
+    assertTrue(getGeneratedParserContent("TestSimpleTypesType").contains("public static class Lazy extends TestSimpleTypesType"),
+        "Parser should contain the lazy subclass");
+  }
+
+  @Test
+  void shouldReturnLazyInstance() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final TestRootObjectType parsed = (TestRootObjectType) parserClass.getMethod("parse", String.class)
+        .invoke(null, objectMapper.writeValueAsString(TestRootObjectType.createFullObject()));
+
+    assertEquals("Lazy", parsed.getEnumType().getClass().getSimpleName(), "Nested object should be a lazy instance");
+    assertEquals(TestRootObjectType.createFullObject().getEnumType().getStatus(), parsed.getEnumType().getStatus(),
+        "Lazy instance should be parsed on first access");
+  }
+
+  @Test
+  void shouldKeepValueOfSetterCalledBeforeGetter() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final TestRootObjectType parsed = (TestRootObjectType) parserClass.getMethod("parse", String.class)
+        .invoke(null, objectMapper.writeValueAsString(TestRootObjectType.createFullObject()));
+    final TestSimpleTypesType simpleTypes = parsed.getSimpleTypes();
+    simpleTypes.setWrapperLong(99L);
+
+    assertEquals(99L, simpleTypes.getWrapperLong(), "Setter should not be overwritten by the deferred parse");
+    assertEquals(TestRootObjectType.createFullObject().getSimpleTypes().getPrimitiveLong(), simpleTypes.getPrimitiveLong(),
+        "Other fields should be parsed by the setter");
+  }
+
+  @Test
+  void shouldParseTypeWithEqualsDirectly() throws Exception {
+    ParserWriterUtils.setOptions(new GeneratorOptions().setLazyTypes(List.of(TestEqualsType.class.getName())));
+    generateParser(TestEqualsHolderType.class);
+
+    assertFalse(getGeneratedParserContent("TestEqualsHolderType").contains("parseLazy("),
+        "Type whose equals reads the fields of the other instance should not be parsed lazily");
+
+    final Class<?> parserClass = findParserForType(TestEqualsHolderType.class);
+    final TestEqualsHolderType parsed = (TestEqualsHolderType) parserClass.getMethod("parse", String.class)
+        .invoke(null, objectMapper.writeValueAsString(TestEqualsHolderType.createFullObject()));
+
+    assertEquals(TestEqualsType.createFullObject(), parsed.getEqualsType(), "Parsed object should equal the original");
+    assertEquals(parsed.getEqualsType(), TestEqualsType.createFullObject(), "Original should equal the parsed object");
+  }
+
+  @Test
+  void shouldParseDirectlyWhenLenientOrProjected() throws Exception {
+    ParserWriterUtils.setOptions(options().setLenientParsing(true));
+    prepareParser();
+    assertFalse(getGeneratedParserContent("TestRootObjectType").contains("parseLazy("),
+        "Lenient parsers should not defer parsing past the error sink");
+
+    ParserWriterUtils.setOptions(options().setFieldProjection(true));
+    prepareParser();
+    assertFalse(getGeneratedParserContent("TestRootObjectType").contains("parseLazy("),
+        "Projected parsers should not defer parsing past the projection");
+  }
+}
@@ -0,0 +1,87 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+
+/**
+ * Tests parsers generated in lenient mode, which record elements that fail to parse in an error sink and continue.
+ */
+class LenientParsingTest extends AbstractRoundTripTest {
+  private static final String INVALID_ELEMENTS_JSON = "{\"complexCollection\": {\"objectMap\": {"
+      + "\"valid\": {\"primitiveLong\": 1}, \"invalid\": {\"primitiveLong\": \"notALong\"}}},"
+      + " \"advancedMap\": {\"objectListMap\": {\"list\": [{\"primitiveLong\": 2}, {\"primitiveLong\": true}, {\"primitiveLong\": 3}]}}}";
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setLenientParsing(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateErrorSinkOverloads() throws Exception {
+    prepareParser();
+
+    final String rootContent = getGeneratedParserContent("TestRootObjectType");
+    assertTrue(rootContent.contains("public static TestRootObjectType parse(final String jsonText, final ParseErrors parseErrors)"),
+        "Parser should have a parse method taking the error sink");
+    assertTrue(rootContent.contains("return parse(jsonText, ParseErrors.failFast())"),
+        "Parse method without a sink should fail on the first error");
+    assertTrue(getGeneratedParserContent("TestAdvancedMapType").contains("parseErrors.record("),
+        "Element loops should record errors in the sink");
+  }
+
+  @Test
+  void shouldCollectErrorsAndSkipInvalidElements() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final Class<?> parseErrorsClass = parserClass.getClassLoader().loadClass(PARSER_PACKAGE + ".ParseErrors");
+    final Object parseErrors = parseErrorsClass.getConstructor().newInstance();
+
+    final TestRootObjectType parsed = (TestRootObjectType) parserClass.getMethod("parse", String.class, parseErrorsClass)
+        .invoke(null, INVALID_ELEMENTS_JSON, parseErrors);
+
+    assertEquals(List.of("valid"), List.copyOf(parsed.getComplexCollection().getObjectMap().keySet()), "Invalid map entry should be skipped");
+    assertEquals(List.of(2L, 3L), parsed.getAdvancedMap().getObjectListMap().get("list").stream()
+        .map(element -> element.getPrimitiveLong())
+        .collect(Collectors.toList()), "Invalid collection element should be skipped");
+    assertEquals(List.of("/complexCollection/objectMap/invalid/primitiveLong", "/advancedMap/objectListMap/list/1/primitiveLong"),
+        getErrorPaths(parseErrors), "Each invalid element should be recorded with its path");
+  }
+
+  @Test
+  void shouldFailOnFirstErrorWithoutSink() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+        () -> parserClass.getMethod("parse", String.class).invoke(null, INVALID_ELEMENTS_JSON));
+
+    final Object error = thrown.getCause();
+    assertEquals("/complexCollection/objectMap/invalid/primitiveLong", error.getClass().getMethod("getPath").invoke(error),
+        "First error should be thrown with its path");
+  }
+
+  private static List<Object> getErrorPaths(final Object parseErrors) throws Exception {
+    final List<?> errors = (List<?>) parseErrors.getClass().getMethod("getErrors").invoke(parseErrors);
+    final List<Object> paths = new ArrayList<>();
+    for (final Object error : errors) {
+      paths.add(error.getClass().getMethod("getPath").invoke(error));
+    }
+    return paths;
+  }
+}
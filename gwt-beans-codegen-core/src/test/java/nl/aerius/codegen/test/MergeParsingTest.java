@@ -0,0 +1,99 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestNestedMapType;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleCollectionType;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+import nl.aerius.json.JSONObjectHandle;
+
+/**
+ * Tests parsers generated with merge methods, which apply a JSON Merge Patch to an existing object.
+ */
+class MergeParsingTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setMergeParsing(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateMergeMethods() throws Exception {
+    prepareParser();
+
+    final String rootContent = getGeneratedParserContent("TestRootObjectType");
+    assertTrue(rootContent.contains("public static TestRootObjectType merge(final JSONObjectHandle baseObj,"),
+        "Parser should contain a merge method");
+    assertTrue(rootContent.contains("TestSimpleTypesTypeParser.merge(baseObj.getObject(\"simpleTypes\"), existing.getSimpleTypes())"),
+        "Nested setter-based object should be merged in place");
+  }
+
+  @Test
+  void shouldMergePatchIntoExistingObject() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final TestRootObjectType existing = TestRootObjectType.createFullObject();
+    final TestSimpleTypesType simpleTypes = existing.getSimpleTypes();
+    final TestSimpleCollectionType simpleCollection = existing.getSimpleCollection();
+    final List<String> tags = simpleCollection.getTags();
+
+    final String patch = "{\"foo\": \"patched\", \"enumType\": null,"
+        + " \"simpleTypes\": {\"primitiveLong\": 7},"
+        + " \"simpleCollection\": {\"tags\": [\"replaced\"], \"metadata\": {\"key1\": null, \"key3\": \"value3\"}}}";
+    final Object merged = parserClass.getMethod("merge", JSONObjectHandle.class, TestRootObjectType.class)
+        .invoke(null, JSONObjectHandle.fromText(patch), existing);
+
+    assertSame(existing, merged, "Merge should update the existing object");
+    assertEquals("patched", existing.getFoo(), "Patched field should be replaced");
+    assertEquals(42, existing.getCount(), "Absent field should be untouched");
+    assertNull(existing.getEnumType(), "Null in the patch should clear the field");
+    assertSame(simpleTypes, existing.getSimpleTypes(), "Nested object should be merged in place");
+    assertEquals(7L, simpleTypes.getPrimitiveLong(), "Patched nested field should be replaced");
+    assertEquals(TestSimpleTypesType.createFullObject().getPrimitiveShort(), simpleTypes.getPrimitiveShort(),
+        "Absent nested field should be untouched");
+    assertSame(simpleCollection, existing.getSimpleCollection(), "Nested object should be merged in place");
+    assertEquals(List.of("replaced"), simpleCollection.getTags(), "Collections should be replaced as a whole");
+    assertEquals(List.of("tag1", "tag2", "tag3"), tags, "Replaced collection should not be modified");
+    assertFalse(simpleCollection.getMetadata().containsKey("key1"), "Null map value should remove the entry");
+    assertEquals("value2", simpleCollection.getMetadata().get("key2"), "Absent map entry should be untouched");
+    assertEquals("value3", simpleCollection.getMetadata().get("key3"), "New map entry should be added");
+  }
+
+  @Test
+  void shouldMergeNestedMapsRecursively() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestNestedMapType.class);
+    final TestNestedMapType existing = TestNestedMapType.createFullObject();
+    final Map<String, Integer> innerMap = existing.getStringToNestedIntMap().get("outer1");
+    final Map<String, Double> deepInnerMap = existing.getDeeplyNestedDoubleMap().get("deep1").get("mid1");
+
+    final String patch = "{\"stringToNestedIntMap\": {\"outer1\": {\"key1\": null, \"key3\": 3}, \"outer2\": {\"key4\": 4}},"
+        + " \"deeplyNestedDoubleMap\": {\"deep1\": {\"mid1\": {\"value2\": 2.5}}}}";
+    parserClass.getMethod("merge", JSONObjectHandle.class, TestNestedMapType.class)
+        .invoke(null, JSONObjectHandle.fromText(patch), existing);
+
+    assertSame(innerMap, existing.getStringToNestedIntMap().get("outer1"), "Nested map should be merged in place");
+    assertEquals(Map.of("key2", 2, "key3", 3), innerMap, "Nested map entries should be removed, kept and added");
+    assertEquals(Map.of("key4", 4), existing.getStringToNestedIntMap().get("outer2"), "New nested map should be added");
+    assertSame(deepInnerMap, existing.getDeeplyNestedDoubleMap().get("deep1").get("mid1"),
+        "Deeper nested map should be merged in place");
+    assertEquals(Map.of("value1", 1.1, "value2", 2.5), deepInnerMap, "Deeper nested map entries should be merged");
+  }
+}
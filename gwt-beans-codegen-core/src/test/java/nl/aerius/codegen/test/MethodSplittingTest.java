@@ -0,0 +1,168 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestWideRecordType;
+import nl.aerius.codegen.test.types.TestWideType;
+
+/**
+ * Tests parsers generated with a small method size limit, which parse the fields of a type in several field group methods.
+ */
+class MethodSplittingTest extends AbstractRoundTripTest {
+  private static final int WIDE_TYPE_METHOD_SIZE_LIMIT = 2000;
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setMethodSizeLimit(200);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldSplitFieldsIntoGroupMethods() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("private static void parseFieldGroup2("), "Fields should be parsed in group methods");
+    assertTrue(content.contains("parseFieldGroup2(baseObj, config);"), "Parse method should call each group method");
+
+    final String constructorContent = getGeneratedParserContent("TestConstructorWithGenericsType");
+    assertTrue(constructorContent.contains("parseFieldGroup2(baseObj, constructorArgs);"),
+        "Constructor arguments should be parsed in group methods");
+    assertTrue(constructorContent.contains("private static final class ConstructorArgs {"),
+        "Constructor arguments should be kept in a typed holder");
+    assertFalse(constructorContent.contains("Object[]"), "Constructor arguments should not be boxed into an array");
+  }
+
+  static Stream<Arguments> wideTypeOptions() {
+    return Stream.of(
+        Arguments.of("default", new GeneratorOptions()),
+        Arguments.of("keyDriven", new GeneratorOptions().setKeyDrivenParsing(true)),
+        Arguments.of("singleLookup", new GeneratorOptions().setSingleLookup(true)),
+        Arguments.of("indexedLoops", new GeneratorOptions().setIndexedLoops(true)),
+        Arguments.of("lenient", new GeneratorOptions().setLenientParsing(true)),
+        Arguments.of("projection", new GeneratorOptions().setFieldProjection(true)));
+  }
+
+  /**
+   * Compiles the parsers of types with many fields and checks the real bytecode size of each method against the limit. Key
+   * driven parse methods dispatch every key to its group method, so only their group methods are bounded.
+   */
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("wideTypeOptions")
+  void shouldKeepCompiledMethodsWithinLimit(final String name, final GeneratorOptions options) throws Exception {
+    ParserWriterUtils.setOptions(options.setMethodSizeLimit(WIDE_TYPE_METHOD_SIZE_LIMIT));
+    generateParser(TestWideType.class);
+    generateParser(TestWideRecordType.class);
+    compileParsers();
+
+    for (final Class<?> type : new Class<?>[] {TestWideType.class, TestWideRecordType.class}) {
+      final Map<String, Integer> codeLengths = ParserTestUtils.readMethodCodeLengths(outputDir.toPath()
+          .resolve(PARSER_PACKAGE.replace('.', '/')).resolve(type.getSimpleName() + "Parser.class"));
+
+      assertTrue(codeLengths.containsKey("parseFieldGroup2"), type.getSimpleName() + " should be parsed in group methods");
+      final boolean dispatchesKeys = options.isKeyDrivenParsing() && type == TestWideType.class;
+      codeLengths.forEach((method, length) -> {
+        if (method.startsWith("parseFieldGroup") || (method.equals("parse") && !dispatchesKeys)) {
+          assertTrue(length <= WIDE_TYPE_METHOD_SIZE_LIMIT,
+              type.getSimpleName() + "Parser." + method + " has " + length + " bytes of bytecode, over the limit");
+        }
+      });
+      assertTrue(codeLengths.get("parseFieldGroup1") >= WIDE_TYPE_METHOD_SIZE_LIMIT / 3,
+          type.getSimpleName() + "Parser.parseFieldGroup1 has only " + codeLengths.get("parseFieldGroup1")
+              + " bytes of bytecode, the size estimate is too conservative");
+    }
+  }
+
+  @Test
+  void shouldParseWideTypesLikeUnsplitParser() throws Exception {
+    ParserWriterUtils.setOptions(new GeneratorOptions().setMethodSizeLimit(WIDE_TYPE_METHOD_SIZE_LIMIT));
+    generateParser(TestWideType.class);
+    generateParser(TestWideRecordType.class);
+
+    assertRoundTrip(TestWideType.createFullObject(), findParserForType(TestWideType.class));
+    assertRoundTrip(TestWideType.createNullObject(), findParserForType(TestWideType.class));
+    assertRoundTrip(TestWideRecordType.createFullObject(), findParserForType(TestWideRecordType.class));
+  }
+
+  /**
+   * Parses partially filled JSON, with nulls and unknown keys, with the split and the unsplit parsers of the wide types and
+   * compares the results.
+   */
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("wideTypeOptions")
+  void shouldParseSameObjectsAsUnsplitParser(final String name, final GeneratorOptions options) throws Exception {
+    final String unsplit = parseWideTypes(options.setMethodSizeLimit(Integer.MAX_VALUE));
+    assertFalse(getGeneratedParserContent("TestWideType").contains("parseFieldGroup1("), "Reference parser should not be split");
+
+    final String split = parseWideTypes(options.setMethodSizeLimit(WIDE_TYPE_METHOD_SIZE_LIMIT));
+    assertTrue(getGeneratedParserContent("TestWideType").contains("parseFieldGroup1("), "Parser should be split");
+    assertTrue(getGeneratedParserContent("TestWideRecordType").contains("parseFieldGroup1("), "Record parser should be split");
+
+    assertEquals(unsplit, split, "Split parser should parse the same objects as the unsplit parser");
+  }
+
+  @Test
+  void shouldReportPathOfInvalidField() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final Method parseMethod = parserClass.getMethod("parse", String.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+        () -> parseMethod.invoke(null, "{\"foo\": \"bar\", \"active\": 12}"));
+
+    final RuntimeException error = assertInstanceOf(RuntimeException.class, thrown.getCause());
+    assertEquals("/active", error.getClass().getMethod("getPath").invoke(error),
+        "Group method should report the path of the field that failed to parse");
+  }
+
+  @Test
+  void shouldDispatchKeysToGroupMethods() throws Exception {
+    ParserWriterUtils.setOptions(options().setKeyDrivenParsing(true));
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("case \"primitiveLong\":\n          parseFieldGroup2(baseObj, config, fieldName);\n          break;"),
+        "Each key should be dispatched to the group method of its field");
+    assertEquals(content.indexOf("parseFieldGroup2(baseObj"), content.lastIndexOf("parseFieldGroup2(baseObj"),
+        "Group method should only be called for its own keys");
+  }
+
+  private String parseWideTypes(final GeneratorOptions options) throws Exception {
+    final String json = "{\"name1\":\"a\",\"count1\":1,\"ratio2\":null,\"tags3\":[],\"scores4\":{\"k\":4},\"unknown\":true,"
+        + "\"name24\":\"z\",\"count24\":24,\"tags24\":[\"x\",\"y\"],\"scores12\":null,\"ratio13\":1.5}";
+    ParserWriterUtils.setOptions(options);
+    generateParser(TestWideType.class);
+    generateParser(TestWideRecordType.class);
+
+    // Record components are required, so the record gets all of them with some null values
+    final ObjectNode recordJson = objectMapper.valueToTree(TestWideRecordType.createFullObject());
+    recordJson.putNull("ratio2").putNull("name24").put("unknown", true).putArray("tags3");
+
+    final Object wide = findParserForType(TestWideType.class).getMethod("parse", String.class).invoke(null, json);
+    final Object wideRecord = findParserForType(TestWideRecordType.class).getMethod("parse", String.class)
+        .invoke(null, recordJson.toString());
+    return objectMapper.writeValueAsString(wide) + objectMapper.writeValueAsString(wideRecord);
+  }
+}
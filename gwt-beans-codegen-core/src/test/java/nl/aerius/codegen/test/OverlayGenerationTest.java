@@ -0,0 +1,80 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+
+/**
+ * Tests the generated native JsInterop overlays. The generated code is compiled against jsinterop-base and elemental2-core,
+ * but not run, as these only work in the browser.
+ */
+class OverlayGenerationTest extends AbstractRoundTripTest {
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return new GeneratorOptions().setGenerateOverlays(true);
+  }
+
+  @Test
+  void shouldCompileOverlays() throws Exception {
+    prepareParser();
+
+    compileParsers();
+  }
+
+  @Test
+  void shouldViewJsonAsNativeType() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedContent("TestSimpleTypesTypeOverlay");
+    assertTrue(content.contains("public interface TestSimpleTypesTypeOverlay"), "Overlay should be an interface");
+    assertTrue(content.contains("isNative = true"), "Overlay should be a native type");
+    assertTrue(content.contains("return Js.uncheckedCast(Global.JSON.parse(jsonText));"), "Parse should only cast the result of JSON.parse");
+    assertTrue(content.contains("@JsProperty(\n      name = \"primitiveLong\"\n  )\n  double getPrimitiveLongJson();"),
+        "Long should be viewed as the JavaScript number");
+    assertTrue(content.contains("default long getPrimitiveLong() {"), "Long should be converted by an overlay method");
+  }
+
+  @Test
+  void shouldConvertEnumsWithAdapters() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedContent("TestEnumTypeOverlay");
+    assertTrue(content.contains("String getCategoryJson();"), "Enum should be viewed as its JSON string");
+    assertTrue(content.contains("return CategoryAdapter.fromJson(json);"), "Enum should be converted by its adapter");
+
+    final String adapterContent = getGeneratedContent("CategoryAdapter");
+    assertTrue(adapterContent.contains("case \"first-class\":"), "Adapter should decode the JSON names");
+    assertTrue(adapterContent.contains("return \"first-class\";"), "Adapter should encode the JSON names");
+  }
+
+  @Test
+  void shouldSkipIncompatibleTypes() throws Exception {
+    prepareParser();
+
+    assertFalse(overlayExists("TestPolyBase"), "Polymorphic type should get no overlay");
+    assertFalse(overlayExists("TestSimpleCollectionType"), "Type with a set should get no overlay");
+    assertFalse(overlayExists("TestRootObjectType"), "Type referencing a type without overlay should get no overlay");
+  }
+
+  private boolean overlayExists(final String typeName) {
+    return Files.exists(getGeneratedPath(typeName + "Overlay"));
+  }
+
+  private String getGeneratedContent(final String className) throws IOException {
+    final Path path = getGeneratedPath(className);
+    assertTrue(Files.exists(path), "Generated file should exist at: " + path);
+    return Files.readString(path);
+  }
+
+  private static Path getGeneratedPath(final String className) {
+    return ParserGeneratorTestBase.outputDir.resolve(TEST_PACKAGE.replace(".", "/") + "/" + className + ".java");
+  }
+}
@@ -0,0 +1,92 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+
+/**
+ * Tests parsers generated with a parallel parsing threshold, which parse large collections of objects in parallel.
+ */
+class ParallelParsingTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setParallelParsingThreshold(2);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateParallelBranchForObjectCollections() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestAdvancedMapType");
+    assertTrue(content.contains("if (ParallelParsing.isParallel("), "Collections of objects should be parsed in parallel when large");
+    assertFalse(getGeneratedParserContent("TestSimpleCollectionType").contains("ParallelParsing"),
+        "Collections of simple values should not be parsed in parallel");
+  }
+
+  @Test
+  void shouldPreserveElementOrder() throws Exception {
+    prepareParser();
+
+    final TestRootObjectType original = TestRootObjectType.createFullObject();
+    final List<TestSimpleTypesType> objects = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      final TestSimpleTypesType object = new TestSimpleTypesType();
+      object.setPrimitiveLong(i);
+      objects.add(object);
+    }
+    original.getAdvancedMap().getObjectListMap().put("objects", objects);
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final Method parseMethod = parserClass.getMethod("parse", String.class);
+    final TestRootObjectType parsed = (TestRootObjectType) parseMethod.invoke(null, objectMapper.writeValueAsString(original));
+
+    assertEquals(objects.stream().map(TestSimpleTypesType::getPrimitiveLong).collect(Collectors.toList()),
+        parsed.getAdvancedMap().getObjectListMap().get("objects").stream().map(TestSimpleTypesType::getPrimitiveLong)
+            .collect(Collectors.toList()),
+        "Elements parsed in parallel should keep their order");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5})
+  void shouldParseNullElementsAsNull(final int size) throws Exception {
+    prepareParser();
+
+    // The threshold is 2, so the single element array is parsed sequentially and the larger one in parallel
+    final List<String> elements = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      elements.add(i == size / 2 ? "null" : "{\"primitiveLong\": " + i + "}");
+    }
+    final String json = "{\"advancedMap\": {\"objectListMap\": {\"objects\": [" + String.join(", ", elements) + "]}}}";
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final TestRootObjectType parsed = (TestRootObjectType) parserClass.getMethod("parse", String.class).invoke(null, json);
+    final List<TestSimpleTypesType> objects = parsed.getAdvancedMap().getObjectListMap().get("objects");
+
+    assertEquals(size, objects.size(), "Null element should be kept in the list");
+    assertNull(objects.get(size / 2), "Null element should be parsed as null");
+    for (int i = 0; i < size; i++) {
+      if (i != size / 2) {
+        assertEquals(i, objects.get(i).getPrimitiveLong(), "Other elements should be parsed");
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.test.types.TestRootObjectType;
+
+/**
+ * Tests the errors thrown by the generated parsers, which report the JSON pointer to the value that failed to parse.
+ */
+class ParseErrorPathTest extends AbstractRoundTripTest {
+
+  @Override
+  protected void prepareParser() throws Exception {
+    generateParser(TestRootObjectType.class);
+  }
+
+  @Test
+  void shouldReportPathOfNestedField() throws Exception {
+    final RuntimeException error = parseInvalid("{\"simpleCollection\": {\"tags\": \"notAnArray\"}}");
+
+    assertEquals("ParseException", error.getClass().getSimpleName(), "Parser should throw its own exception");
+    assertEquals("/simpleCollection/tags", getPath(error), "Path should point to the field that failed to parse");
+    assertTrue(error.getMessage().startsWith("Failed to parse JSON at '/simpleCollection/tags': "), "Message should contain the path");
+  }
+
+  @Test
+  void shouldReportPathOfMissingConstructorField() throws Exception {
+    final RuntimeException error = parseInvalid("{\"constructorBased\": {\"value\": 1, \"optionalValue\": null}}");
+
+    assertEquals("/constructorBased/name", getPath(error), "Path should point to the missing field");
+    assertTrue(error.getMessage().contains("Required field 'name' is missing"), "Message should describe the missing field");
+  }
+
+  @Test
+  void shouldReportPathOfUnknownSubtype() throws Exception {
+    final RuntimeException error = parseInvalid("{\"testPolyBase\": {\"_type\": \"UNKNOWN\"}}");
+
+    assertEquals("/testPolyBase", getPath(error), "Path should point to the polymorphic object");
+    assertTrue(error.getMessage().contains("Unknown type name 'UNKNOWN'"), "Message should describe the unknown type");
+  }
+
+  @Test
+  void shouldReportPathOfListElement() throws Exception {
+    final RuntimeException error = parseInvalid(
+        "{\"advancedMap\": {\"objectListMap\": {\"k1\": [{\"primitiveLong\": 1}, {\"primitiveLong\": \"notANumber\"}]}}}");
+
+    assertEquals("/advancedMap/objectListMap/k1/1/primitiveLong", getPath(error), "Path should contain the index of the element");
+  }
+
+  @Test
+  void shouldReportPathOfMapValue() throws Exception {
+    final RuntimeException error = parseInvalid("{\"complexCollection\": {\"objectMap\": {\"k1\": {\"primitiveLong\": \"notANumber\"}}}}");
+
+    assertEquals("/complexCollection/objectMap/k1/primitiveLong", getPath(error), "Path should contain the key of the entry");
+  }
+
+  @Test
+  void shouldBoundMessageOfLargeDocument() throws Exception {
+    final String large = "x".repeat(100_000);
+    final RuntimeException error = parseInvalid("{\"simpleCollection\": {\"tags\": {\"large\": \"" + large + "\"}}}");
+
+    assertEquals("/simpleCollection/tags", getPath(error), "Path should point to the field that failed to parse");
+    assertTrue(error.getMessage().length() < 500, "Message should not contain the whole document");
+  }
+
+  private RuntimeException parseInvalid(final String json) throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+        () -> parserClass.getMethod("parse", String.class).invoke(null, json));
+    return (RuntimeException) thrown.getCause();
+  }
+
+  private static String getPath(final RuntimeException error) throws Exception {
+    return (String) error.getClass().getMethod("getPath").invoke(error);
+  }
+}
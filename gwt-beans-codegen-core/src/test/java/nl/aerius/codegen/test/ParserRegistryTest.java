@@ -0,0 +1,85 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestCustomParserType;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.polymorphic.TestPolyBase;
+import nl.aerius.codegen.test.types.polymorphic.TestPolySubA;
+import nl.aerius.json.JSONObjectHandle;
+
+/**
+ * Tests the generated ParserRegistry, which parses a JSON object as a type given by its Class.
+ */
+class ParserRegistryTest extends AbstractRoundTripTest {
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return new GeneratorOptions().setGenerateRegistry(true);
+  }
+
+  @Override
+  protected void prepareParser() throws Exception {
+    generateParser(TestRootObjectType.class, getCustomParserDir().toString());
+  }
+
+  @Test
+  void shouldDispatchOnTypeIdWithStaticCalls() throws Exception {
+    prepareParser();
+
+    final String content = Files.readString(outputDir.toPath().resolve(PARSER_PACKAGE.replace('.', '/') + "/ParserRegistry.java"));
+    assertTrue(content.contains("switch (typeId)"), "Registry should dispatch with a switch on the type id");
+    assertTrue(content.contains("return TestRootObjectTypeParser.parse(baseObj);"), "Registry should call generated parsers directly");
+    assertTrue(content.contains("return TestCustomParserTypeParser.parse(baseObj);")
+        && content.contains("import nl.aerius.codegen.test.custom.TestCustomParserTypeParser;"), "Registry should include custom parsers");
+  }
+
+  @Test
+  void shouldParseByClass() throws Exception {
+    final TestRootObjectType original = TestRootObjectType.createFullObject();
+    final Object parsed = parse(TestRootObjectType.class, objectMapper.writeValueAsString(original));
+
+    assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(original)), objectMapper.readTree(objectMapper.writeValueAsString(parsed)),
+        "JSON should match after parsing through the registry");
+  }
+
+  @Test
+  void shouldParseWithCustomParser() throws Exception {
+    final TestCustomParserType original = TestCustomParserType.createFullObject();
+    final TestCustomParserType parsed = (TestCustomParserType) parse(TestCustomParserType.class, objectMapper.writeValueAsString(original));
+
+    assertEquals(original.getCustomField(), parsed.getCustomField(), "Custom parser should be used for its type");
+  }
+
+  @Test
+  void shouldParsePolymorphicBaseType() throws Exception {
+    final Object parsed = parse(TestPolyBase.class, "{\"_type\":\"TypeA\",\"baseField\":\"base\",\"fieldA\":7}");
+
+    assertInstanceOf(TestPolySubA.class, parsed, "Polymorphic base type should dispatch on the discriminator");
+  }
+
+  @Test
+  void shouldRejectTypeWithoutParser() throws Exception {
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class, () -> parse(String.class, "{}"));
+
+    assertInstanceOf(IllegalArgumentException.class, thrown.getCause(), "Unknown type should be rejected");
+  }
+
+  private Object parse(final Class<?> type, final String json) throws Exception {
+    prepareParser();
+
+    final Class<?> registryClass = compileAndLoadParser("ParserRegistry");
+    final Method parseMethod = registryClass.getMethod("parse", Class.class, JSONObjectHandle.class);
+    return parseMethod.invoke(null, type, JSONObjectHandle.fromText(json));
+  }
+}
@@ -1,9 +1,13 @@
 package nl.aerius.codegen.test;
 
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.TypeSpec;
@@ -32,6 +36,10 @@ public final class ParserTestUtils {
     updatedCode = updatedCode.replace(
         GWT_JSON_PACKAGE + ".JSONArrayHandle",
         TEST_JSON_PACKAGE + ".JSONArrayHandle");
+    // And the JSONValueHandle returned by getOrAbsent
+    updatedCode = updatedCode.replace(
+        GWT_JSON_PACKAGE + ".JSONValueHandle",
+        TEST_JSON_PACKAGE + ".JSONValueHandle");
     return updatedCode;
   }
 
@@ -76,4 +84,76 @@ public final class ParserTestUtils {
     Files.createDirectories(Paths.get(outputDir));
     Files.writeString(outputPath, code);
   }
-}
\ No newline at end of file
+
+  /**
+   * Reads the length in bytes of the bytecode of each method in a compiled class, as stored in its Code attribute. The JIT
+   * refuses to compile methods above a size, so this is what the method size limit of the generator has to keep below.
+   *
+   * @return the largest code length per method name, over all overloads
+   */
+  public static Map<String, Integer> readMethodCodeLengths(final Path classFile) throws IOException {
+    try (final InputStream stream = Files.newInputStream(classFile);
+        final DataInputStream in = new DataInputStream(stream)) {
+      in.readInt(); // magic
+      in.readUnsignedShort(); // minor version
+      in.readUnsignedShort(); // major version
+
+      final int constantPoolCount = in.readUnsignedShort();
+      final String[] utf8 = new String[constantPoolCount];
+      for (int i = 1; i < constantPoolCount; i++) {
+        final int tag = in.readUnsignedByte();
+        switch (tag) {
+        case 1 -> utf8[i] = in.readUTF();
+        case 7, 8, 16, 19, 20 -> in.skipNBytes(2);
+        case 15 -> in.skipNBytes(3);
+        case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+        case 5, 6 -> {
+          // Longs and doubles take two entries
+          in.skipNBytes(8);
+          i++;
+        }
+        default -> throw new IOException("Unknown constant pool tag " + tag + " in " + classFile);
+        }
+      }
+
+      in.skipNBytes(6); // access flags, this class and super class
+      in.skipNBytes(2L * in.readUnsignedShort()); // interfaces
+
+      final int fieldCount = in.readUnsignedShort();
+      for (int i = 0; i < fieldCount; i++) {
+        in.skipNBytes(6); // access flags, name and descriptor
+        skipAttributes(in);
+      }
+
+      final Map<String, Integer> codeLengths = new HashMap<>();
+      final int methodCount = in.readUnsignedShort();
+      for (int i = 0; i < methodCount; i++) {
+        in.skipNBytes(2); // access flags
+        final String name = utf8[in.readUnsignedShort()];
+        in.skipNBytes(2); // descriptor
+        final int attributeCount = in.readUnsignedShort();
+        for (int j = 0; j < attributeCount; j++) {
+          final String attributeName = utf8[in.readUnsignedShort()];
+          final int length = in.readInt();
+          if ("Code".equals(attributeName)) {
+            in.skipNBytes(4); // max stack and max locals
+            final int codeLength = in.readInt();
+            codeLengths.merge(name, codeLength, Math::max);
+            in.skipNBytes(length - 8L);
+          } else {
+            in.skipNBytes(length);
+          }
+        }
+      }
+      return codeLengths;
+    }
+  }
+
+  private static void skipAttributes(final DataInputStream in) throws IOException {
+    final int attributeCount = in.readUnsignedShort();
+    for (int i = 0; i < attributeCount; i++) {
+      in.skipNBytes(2); // name
+      in.skipNBytes(in.readInt());
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+
+/**
+ * Tests the round trip of parsers generated with primitive accessors, where primitive fields are read without boxing and
+ * primitive arrays are filled by index.
+ */
+class PrimitiveAccessorsTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setPrimitiveAccessors(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldReadPrimitivesWithoutBoxing() throws Exception {
+    prepareParser();
+
+    final String simpleContent = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(simpleContent.contains("final float value = (float) baseObj.getDouble(\"primitiveFloat\");"),
+        "Primitive field should be read with the primitive getter");
+    assertTrue(simpleContent.contains("final long value = baseObj.getLongValue(\"primitiveLong\");"),
+        "Primitive long should be read with the primitive getter");
+
+    final String arrayContent = getGeneratedParserContent("TestPrimitiveArrayType");
+    assertTrue(arrayContent.contains("array = new double[jsonArray.length()];"), "Array should be allocated with the JSON length");
+    assertTrue(arrayContent.contains("array[index] = jsonArray.getDouble(index);"), "Array should be filled by index");
+    assertFalse(arrayContent.contains("forEachNumber("), "Array should not be collected in a temporary list");
+  }
+
+  @Test
+  void shouldUseBoxedGettersAndForEachByDefault() throws Exception {
+    ParserWriterUtils.setOptions(null);
+    prepareParser();
+
+    final String simpleContent = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(simpleContent.contains("final float value = baseObj.getNumber(\"primitiveFloat\").floatValue();"),
+        "Default parser should read primitives with the boxed getters");
+    assertFalse(simpleContent.contains("getLongValue("), "Default parser should not need the primitive getters");
+
+    final String arrayContent = getGeneratedParserContent("TestPrimitiveArrayType");
+    assertTrue(arrayContent.contains("jsonArray.forEachNumber(tempList::add);"),
+        "Default parser should collect arrays with the forEach methods");
+    assertFalse(arrayContent.contains("jsonArray.getDouble(index)"), "Default parser should not read doubles by index");
+  }
+}
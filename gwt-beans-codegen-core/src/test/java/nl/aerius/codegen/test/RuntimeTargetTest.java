@@ -0,0 +1,63 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.runtime.HandleRuntimeTarget;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTargets;
+
+/**
+ * Tests selecting the JSON runtime target, with a custom target that iterates the JSON handles without their forEach methods.
+ */
+class RuntimeTargetTest extends AbstractRoundTripTest {
+
+  /**
+   * Custom target on the same handles, which the generated code may only iterate by index.
+   */
+  public static class IndexedHandleRuntimeTarget extends HandleRuntimeTarget {
+    @Override
+    public String getName() {
+      return "indexed-handle";
+    }
+
+    @Override
+    public boolean isLambdaIteration() {
+      return false;
+    }
+  }
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions()
+        .setRuntimeTarget(JsonRuntimeTargets.forName(IndexedHandleRuntimeTarget.class.getName()));
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldSelectTargetByName() {
+    assertInstanceOf(HandleRuntimeTarget.class, JsonRuntimeTargets.forName("handle"), "Default target should be found by name");
+    assertEquals("handle", new GeneratorOptions().getRuntimeTarget().getName(), "Handle target should be the default");
+    assertThrows(IllegalArgumentException.class, () -> JsonRuntimeTargets.forName("nonexistent"), "Unknown target should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> JsonRuntimeTargets.forName(String.class.getName()),
+        "Class that isn't a target should be rejected");
+  }
+
+  @Test
+  void shouldGenerateIterationOfTarget() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleCollectionType");
+    assertFalse(content.contains("forEach"), "Target without forEach methods should not get lambda iteration");
+    assertTrue(content.contains(".length(); "), "Arrays should be iterated by index");
+    assertTrue(content.contains(".keySet())"), "Objects should be iterated over their keys");
+  }
+}
@@ -0,0 +1,73 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestEnumType;
+import nl.aerius.codegen.test.types.TestNestedMapType;
+
+/**
+ * Tests parsers generated with shared helpers, which parse nested generic shapes through one helper per distinct shape.
+ */
+class SharedHelpersTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setSharedHelpers(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateOneHelperPerShape() throws Exception {
+    prepareParser();
+
+    final String helpers = Files.readString(outputDir.toPath().resolve(PARSER_PACKAGE.replace('.', '/') + "/ParserHelpers.java"));
+    assertEquals(1, countOccurrences(helpers, "public static Map<String, Map<String, Integer>> parseMapStringMapStringInteger("),
+        "Shape should have a single helper");
+
+    final String content = getGeneratedParserContent("TestNestedMapType");
+    assertTrue(content.contains("final Map<String, Map<String, Integer>> map = ParserHelpers.parseMapStringMapStringInteger("),
+        "Field should be parsed by the helper of its shape");
+    assertTrue(content.contains("ParserHelpers.parseMapStatusMapStringMapStringInteger("),
+        "Nested shape should be parsed by its own helper");
+    assertTrue(helpers.contains("= ParserHelpers.parseMapStringMapStringInteger("),
+        "Helper should reuse the helper of the shape nested in it");
+    assertFalse(content.contains("forEach"), "Nested shapes should not be expanded inline");
+  }
+
+  @Test
+  void shouldParseEachUseOfSharedHelperIndependently() throws Exception {
+    prepareParser();
+
+    // The helper of Map<String, Map<String, Integer>> parses the first field and the values of the second one
+    final TestNestedMapType parsed = (TestNestedMapType) findParserForType(TestNestedMapType.class).getMethod("parse", String.class)
+        .invoke(null, "{\"stringToNestedIntMap\":{\"a\":{\"x\":1}},\"enumKeyNestedMap\":{\"ACTIVE\":{\"a\":{\"x\":1}},"
+            + "\"PENDING\":{\"b\":{\"y\":2,\"z\":3}}}}");
+
+    final Map<String, Map<String, Integer>> first = parsed.getStringToNestedIntMap();
+    final Map<String, Map<String, Integer>> active = parsed.getEnumKeyNestedMap().get(TestEnumType.Status.ACTIVE);
+    assertEquals(Map.of("a", Map.of("x", 1)), first);
+    assertEquals(first, active, "Same JSON should give the same value at each use of the helper");
+    assertNotSame(first, active, "Each use of the helper should get its own map");
+    assertEquals(Map.of("b", Map.of("y", 2, "z", 3)), parsed.getEnumKeyNestedMap().get(TestEnumType.Status.PENDING));
+  }
+
+  private static int countOccurrences(final String content, final String text) {
+    int count = 0;
+    for (int index = content.indexOf(text); index >= 0; index = content.indexOf(text, index + 1)) {
+      count++;
+    }
+    return count;
+  }
+}
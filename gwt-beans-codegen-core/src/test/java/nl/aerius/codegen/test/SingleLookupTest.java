@@ -0,0 +1,67 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+
+/**
+ * Tests the round trip of parsers generated with single lookups, where each field is looked up once with getOrAbsent() and
+ * read from the returned JSONValueHandle.
+ */
+class SingleLookupTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setSingleLookup(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldLookFieldsUpOnce() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("final JSONValueHandle wrapperLongHandle = baseObj.getOrAbsent(\"wrapperLong\");"),
+        "Parser should look the field up once");
+    assertTrue(content.contains("final Long value = wrapperLongHandle.getLong();"), "Parser should read the value from the handle");
+    assertFalse(content.contains("baseObj.has("), "Parser should not check fields with has()");
+  }
+
+  @Test
+  void shouldCheckFieldsByKeyByDefault() throws Exception {
+    ParserWriterUtils.setOptions(null);
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("if (baseObj.has(\"wrapperLong\") && !baseObj.isNull(\"wrapperLong\"))"),
+        "Default parser should check the field with has() and isNull()");
+    assertFalse(content.contains("getOrAbsent("), "Default parser should only need the getters by key");
+  }
+
+  @Test
+  void shouldSkipAbsentAndNullFields() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestSimpleTypesType.class);
+    final Method parseMethod = parserClass.getMethod("parse", String.class);
+    final TestSimpleTypesType parsed = (TestSimpleTypesType) parseMethod.invoke(null,
+        "{\"primitiveLong\": 12, \"wrapperLong\": null, \"wrapperChar\": \"x\"}");
+
+    assertEquals(12L, parsed.getPrimitiveLong(), "Present primitive should be read");
+    assertNull(parsed.getWrapperLong(), "Null field should be left null");
+    assertNull(parsed.getWrapperByte(), "Absent field should be left null");
+    assertEquals('x', parsed.getWrapperChar(), "Present field should be read");
+  }
+}
@@ -0,0 +1,239 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestCustomParentChildType;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+import nl.aerius.codegen.test.types.polymorphic.TestPolyBase;
+import nl.aerius.codegen.test.types.polymorphic.TestPolySubA;
+
+/**
+ * Tests the round trip of the parse(JsonParser) overloads generated in streaming mode.
+ */
+class StreamingParsingTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setStreamingParsing(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateStreamingOverload() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("public static TestSimpleTypesType parse(final JsonParser parser) throws IOException"),
+        "Parser should have a streaming overload");
+    assertTrue(content.contains("public static boolean parseField(final JsonParser parser, final String fieldName,"),
+        "Parser should have a field parse method");
+  }
+
+  @Test
+  void shouldRoundTripBasicTypes() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+
+    assertStreamingRoundTrip(TestRootObjectType.createFullObject(), parserClass);
+  }
+
+  @Test
+  void shouldHandleNullValues() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+
+    assertStreamingRoundTrip(TestRootObjectType.createNullObject(), parserClass);
+  }
+
+  @Test
+  void shouldReplayFieldsBeforeTypeDiscriminator() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestPolyBase.class);
+    final Object parsed = parseStreaming(parserClass, "{\"baseField\":\"base\",\"fieldA\":7,\"_type\":\"TypeA\"}");
+
+    assertEquals(new TestPolySubA("base", 7), parsed);
+  }
+
+  @Test
+  void shouldParseEachElementOfTopLevelArray() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestSimpleTypesType.class);
+    final List<Object> elements = parseEach(parserClass, "[{\"primitiveLong\": 1}, null, {\"primitiveLong\": 2}]");
+
+    assertEquals(3, elements.size(), "Each element should be handed to the consumer");
+    assertEquals(1L, ((TestSimpleTypesType) elements.get(0)).getPrimitiveLong());
+    assertEquals(null, elements.get(1), "Null elements should be handed over as null");
+    assertEquals(2L, ((TestSimpleTypesType) elements.get(2)).getPrimitiveLong());
+  }
+
+  @Test
+  void shouldReportIndexOfInvalidElement() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestPolyBase.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+        () -> parseEach(parserClass, "[{\"_type\": \"TypeA\", \"fieldA\": 1}, {\"_type\": \"UNKNOWN\"}]"));
+
+    final Object error = thrown.getCause();
+    assertEquals("/1", error.getClass().getMethod("getPath").invoke(error), "Path should point to the invalid element");
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "{\"simpleCollection\": {\"tags\": 5}}                                                          | /simpleCollection/tags",
+      "{\"constructorBased\": {\"value\": 1, \"optionalValue\": null}}                                | /constructorBased/name",
+      "{\"primitiveArrays\": {\"intArray\": [1, \"a\"]}}                                              | /primitiveArrays/intArray/1",
+      "{\"advancedMap\": {\"objectListMap\": {\"k1\": [{}, {\"primitiveLong\": \"notANumber\"}]}}}     | /advancedMap/objectListMap/k1/1/primitiveLong",
+      "{\"complexCollection\": {\"objectMap\": {\"k1\": {\"primitiveLong\": \"notANumber\"}}}}        | /complexCollection/objectMap/k1/primitiveLong",
+  })
+  void shouldReportPathOfInvalidValue(final String json, final String path) throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class, () -> parseStreaming(parserClass, json));
+
+    final Object error = thrown.getCause();
+    assertEquals(path, error.getClass().getMethod("getPath").invoke(error), "Path should point to the invalid value");
+  }
+
+  @Test
+  void shouldSkipFieldsOfCustomParsedParent() throws Exception {
+    generateParser(TestCustomParentChildType.class, getCustomParserDir().toString());
+
+    final String content = getGeneratedParserContent("TestCustomParentChildType");
+    assertFalse(content.contains("TestCustomParserTypeParser.parseField("), "Custom parser of the parent has no parseField method");
+
+    final Class<?> parserClass = findParserForType(TestCustomParentChildType.class);
+    final TestCustomParentChildType parsed = (TestCustomParentChildType) parseStreaming(parserClass,
+        "{\"customField\": \"parent\", \"childField\": \"child\", \"customValue\": {\"nested\": [1, 2]}}");
+
+    assertEquals("child", parsed.getChildField(), "Field of the subclass should be parsed");
+    assertNull(parsed.getCustomField(), "Field of the custom parsed parent should be skipped");
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "{\"simpleCollection\": {\"tags\": 5}}                | Expected an array, got VALUE_NUMBER_INT",
+      "{\"simpleCollection\": {\"metadata\": [\"a\"]}}      | Expected an object, got START_ARRAY",
+      "{\"simpleTypes\": [1]}                               | Expected an object, got START_ARRAY",
+      "{\"primitiveArrays\": {\"intArray\": {}}}            | Expected an array, got START_OBJECT",
+      "{\"primitiveArrays\": {\"intArray\": [\"a\"]}}       | Expected a number, got VALUE_STRING",
+      "{\"count\": {\"nested\": 1}}                         | Expected a number, got START_OBJECT",
+      "{\"active\": 1}                                      | Expected a boolean, got VALUE_NUMBER_INT",
+      "{\"foo\": [\"a\"]}                                   | Expected a string, got START_ARRAY",
+  })
+  void shouldRejectValueOfOtherShape(final String json, final String message) throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class, () -> parseStreaming(parserClass, json));
+
+    assertEquals("ParseException", thrown.getCause().getClass().getSimpleName(), "Parser should throw its own exception");
+    assertTrue(thrown.getCause().getMessage().contains(message), "Message should describe the mismatch: " + thrown.getCause().getMessage());
+  }
+
+  @Test
+  void shouldRejectTruncatedInput() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+        () -> parseStreaming(parserClass, "{\"simpleCollection\": {\"tags\": [\"a\", \"b\""));
+
+    assertTrue(thrown.getCause() instanceof IOException, "Parser should report the end of the input");
+  }
+
+  @Test
+  void shouldStopAtEndOfTokensWithoutEndOfInputError() throws Exception {
+    prepareParser();
+
+    // Unlike a parser reading text, a token buffer simply runs out of tokens in an unfinished array or object
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final Method parseMethod = parserClass.getMethod("parse", JsonParser.class);
+    final TokenBuffer unfinishedArray = createUnfinishedBuffer(false);
+    final TokenBuffer unfinishedObject = createUnfinishedBuffer(true);
+
+    final InvocationTargetException arrayThrown = assertThrows(InvocationTargetException.class,
+        () -> parseMethod.invoke(null, unfinishedArray.asParser()));
+    final InvocationTargetException objectThrown = assertThrows(InvocationTargetException.class,
+        () -> parseMethod.invoke(null, unfinishedObject.asParser()));
+
+    assertTrue(arrayThrown.getCause().getMessage().contains("Unexpected end of input"), "Unfinished array should be reported");
+    assertTrue(objectThrown.getCause().getMessage().contains("Expected a field name, got null"), "Unfinished object should be reported");
+  }
+
+  @Test
+  void shouldWarnAboutModesNotApplied() {
+    final GeneratorOptions options = options().setLenientParsing(true).setFieldProjection(true).setFlattenInheritance(true);
+
+    assertEquals(3, options.getIgnoredModes().size(), "Each mode the streaming methods don't apply should be reported");
+    assertTrue(new GeneratorOptions().setLenientParsing(true).getIgnoredModes().isEmpty(), "Modes without streaming all apply");
+  }
+
+  private void assertStreamingRoundTrip(final Object original, final Class<?> parserClass) throws Exception {
+    final String originalJson = objectMapper.writeValueAsString(original);
+    final Object parsed = parseStreaming(parserClass, originalJson);
+
+    assertEquals(objectMapper.readTree(originalJson), objectMapper.readTree(objectMapper.writeValueAsString(parsed)),
+        "JSON should match after streaming round trip");
+  }
+
+  private TokenBuffer createUnfinishedBuffer(final boolean closeArray) throws IOException {
+    final TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+    buffer.writeStartObject();
+    buffer.writeFieldName("simpleCollection");
+    buffer.writeStartObject();
+    buffer.writeFieldName("tags");
+    buffer.writeStartArray();
+    buffer.writeString("a");
+    if (closeArray) {
+      buffer.writeEndArray();
+    }
+    return buffer;
+  }
+
+  private Object parseStreaming(final Class<?> parserClass, final String json) throws Exception {
+    final Method parseMethod = parserClass.getMethod("parse", JsonParser.class);
+
+    try (final JsonParser parser = objectMapper.getFactory().createParser(json)) {
+      return parseMethod.invoke(null, parser);
+    }
+  }
+
+  private List<Object> parseEach(final Class<?> parserClass, final String json) throws Exception {
+    final Method parseEachMethod = parserClass.getMethod("parseEach", JsonParser.class, Consumer.class);
+    final List<Object> elements = new ArrayList<>();
+
+    try (final JsonParser parser = objectMapper.getFactory().createParser(json)) {
+      parseEachMethod.invoke(null, parser, (Consumer<Object>) elements::add);
+    }
+    return elements;
+  }
+}
@@ -0,0 +1,113 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.test.types.TestPrimitiveArrayType;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleCollectionType;
+
+/**
+ * Tests parsers generated with string deduplication, where repeated String values share a pooled instance.
+ */
+class StringInterningTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions()
+        .setInternTypes(List.of(TestSimpleCollectionType.class.getName(), TestPrimitiveArrayType.class.getName()))
+        .setInternFields(List.of(TestRootObjectType.class.getName() + "#foo"));
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateStringPoolLookups() throws Exception {
+    prepareParser();
+
+    final String collectionContent = getGeneratedParserContent("TestSimpleCollectionType");
+    assertTrue(collectionContent.contains("JSONStringPool.intern(baseObj.getString(\"sanity\"))"),
+        "String field of configured type should be deduplicated");
+    assertTrue(collectionContent.contains("map.put(JSONStringPool.intern(key), level2Value)"), "String map keys should be deduplicated");
+    assertTrue(getGeneratedParserContent("TestRootObjectType").contains("JSONStringPool.intern(baseObj.getString(\"foo\"))"),
+        "Configured field should be deduplicated");
+    assertFalse(getGeneratedParserContent("TestSimpleTypesType").contains("JSONStringPool"),
+        "Fields of other types should not be deduplicated");
+  }
+
+  @Test
+  void shouldShareRepeatedStrings() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestSimpleCollectionType.class);
+    final String json = "{\"sanity\": \"repeated\", \"tags\": [\"repeated\", \"repeated\"],"
+        + " \"metadata\": {\"key\": \"repeated\"}, \"explicitHashSet\": [\"other\"]}";
+    final TestSimpleCollectionType parsed = (TestSimpleCollectionType) parserClass.getMethod("parse", String.class).invoke(null, json);
+
+    assertSame(parsed.getSanity(), parsed.getTags().get(0), "Equal strings should share one instance");
+    assertSame(parsed.getTags().get(0), parsed.getTags().get(1), "Equal collection elements should share one instance");
+    assertSame(parsed.getSanity(), parsed.getMetadata().get("key"), "Equal map values should share one instance");
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedStrings() throws Exception {
+    ParserWriterUtils.setOptions(options().setStringPoolSize(2));
+    prepareParser();
+
+    final Method intern = compileAndLoadParser("JSONStringPool").getMethod("intern", String.class);
+    assertFalse(Modifier.isSynchronized(intern.getModifiers()), "Pool used from a single thread should not lock");
+    final Object first = intern.invoke(null, new String("first"));
+    intern.invoke(null, new String("second"));
+    assertSame(first, intern.invoke(null, new String("first")), "Pooled string should be returned");
+    intern.invoke(null, new String("third"));
+
+    assertSame(first, intern.invoke(null, new String("first")), "Recently used string should stay in the pool");
+    final String second = new String("second");
+    assertSame(second, intern.invoke(null, second), "Least recently used string should have been evicted");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 2})
+  void shouldClearPoolWhenScopeCloses(final int parallelThreshold) throws Exception {
+    ParserWriterUtils.setOptions(options().setParallelParsingThreshold(parallelThreshold));
+    prepareParser();
+
+    final Class<?> poolClass = compileAndLoadParser("JSONStringPool");
+    final Method intern = poolClass.getMethod("intern", String.class);
+    final Object before = intern.invoke(null, new String("pooled"));
+    final String inScope = new String("pooled");
+    try (AutoCloseable scope = (AutoCloseable) poolClass.getMethod("scope").invoke(null)) {
+      assertSame(inScope, intern.invoke(null, inScope), "Opening the scope should clear the pool");
+      assertSame(inScope, intern.invoke(null, new String("pooled")), "Pool should be used within the scope");
+    }
+
+    final String after = new String("pooled");
+    assertSame(after, intern.invoke(null, after), "Closing the scope should clear the pool");
+    assertNotSame(before, after);
+  }
+
+  @Test
+  void shouldStripePoolForParallelParsing() throws Exception {
+    ParserWriterUtils.setOptions(options().setParallelParsingThreshold(2));
+    prepareParser();
+
+    final Method intern = compileAndLoadParser("JSONStringPool").getMethod("intern", String.class);
+    assertFalse(Modifier.isSynchronized(intern.getModifiers()), "Pool should not take a single lock when parsing in parallel");
+    final Object first = intern.invoke(null, new String("first"));
+    assertSame(first, intern.invoke(null, new String("first")), "Pooled string should be returned");
+  }
+}
@@ -0,0 +1,76 @@
+package nl.aerius.codegen.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import nl.aerius.codegen.generator.GeneratorOptions;
+import nl.aerius.codegen.test.types.TestRootObjectType;
+import nl.aerius.codegen.test.types.TestSimpleTypesType;
+import nl.aerius.json.JSONObjectHandle;
+
+/**
+ * Tests parsers generated in table-driven mode, which parse setter-based types by walking a table of their fields.
+ */
+class TableDrivenParsingTest extends AbstractRoundTripTest {
+
+  static GeneratorOptions options() {
+    return new GeneratorOptions().setTableDriven(true);
+  }
+
+  @Override
+  protected GeneratorOptions createGeneratorOptions() {
+    return options();
+  }
+
+  @Test
+  void shouldGenerateFieldTables() throws Exception {
+    prepareParser();
+
+    final String content = getGeneratedParserContent("TestSimpleTypesType");
+    assertTrue(content.contains("TableParser.parse(baseObj, config, TABLE)"), "Fields should be parsed by the interpreter");
+    assertTrue(content.contains("TableParser.LONG"), "Table should hold the kind of each field");
+    assertFalse(content.contains("getOrAbsent("), "Simple fields should not have generated parsing code");
+  }
+
+  @Test
+  void shouldReportPathOfInvalidField() throws Exception {
+    prepareParser();
+
+    final Class<?> parserClass = findParserForType(TestRootObjectType.class);
+    final Method parseMethod = parserClass.getMethod("parse", String.class);
+    final InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+        () -> parseMethod.invoke(null, "{\"foo\": \"bar\", \"active\": 12}"));
+
+    final RuntimeException error = assertInstanceOf(RuntimeException.class, thrown.getCause());
+    assertEquals("/active", error.getClass().getMethod("getPath").invoke(error),
+        "Interpreter should report the path of the field that failed to parse");
+  }
+
+  @Test
+  void shouldReadNullPrimitivesAsDefaultAndSkipNullWrappers() throws Exception {
+    prepareParser();
+
+    final TestSimpleTypesType config = new TestSimpleTypesType();
+    config.setPrimitiveLong(9L);
+    config.setPrimitiveFloat(2.5F);
+    config.setWrapperLong(7L);
+    config.setWrapperShort((short) 3);
+    findParserForType(TestSimpleTypesType.class).getMethod("parse", JSONObjectHandle.class, TestSimpleTypesType.class)
+        .invoke(null, JSONObjectHandle.fromText("{\"primitiveLong\":null,\"wrapperLong\":null,\"primitiveByte\":4,\"unknown\":1}"),
+            config);
+
+    assertEquals(0L, config.getPrimitiveLong(), "Null primitive should be read as its default value");
+    assertEquals(2.5F, config.getPrimitiveFloat(), "Absent primitive should keep its value");
+    assertEquals(4, config.getPrimitiveByte(), "Primitive should be read by the interpreter");
+    assertEquals(7L, config.getWrapperLong(), "Null wrapper should be skipped");
+    assertEquals((short) 3, config.getWrapperShort(), "Absent wrapper should keep its value");
+  }
+}
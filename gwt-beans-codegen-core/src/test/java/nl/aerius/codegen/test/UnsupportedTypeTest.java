@@ -14,7 +14,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import nl.aerius.codegen.ParserGenerator;
+import nl.aerius.codegen.analyzer.UnsupportedTypeException;
 import nl.aerius.codegen.test.types.TestUnsupportedTypesType;
+import nl.aerius.codegen.util.ClassFinder;
+import nl.aerius.codegen.util.Logger;
 
 /**
  * Tests that the parser generator correctly fails when encountering unsupported
@@ -86,6 +89,46 @@ class UnsupportedTypeTest extends ParserGeneratorTestBase {
     }
   }
 
+  @Test
+  void shouldFailForArraysWrittenAsString() {
+    // Jackson writes byte[] as a base64 string and char[] as a string, not as an array
+    for (Class<?> type : Arrays.asList(ByteArrayType.class, CharArrayType.class)) {
+      UnsupportedTypeException exception = assertThrows(
+          UnsupportedTypeException.class,
+          () -> ParserGenerator.generateParsersForClass(type, TEST_PACKAGE, outputDir.toString(), null,
+              "nl.aerius.codegen.ParserGenerator", new ClassFinder() {}, new Logger() {}),
+          "Expected generateParsersForClass to throw an exception for " + type.getSimpleName());
+
+      String arrayTypeName = type.getDeclaredFields()[0].getType().getTypeName();
+      assertTrue(exception.getMessage().contains("'" + arrayTypeName + "'"),
+          "Exception message should mention type '" + arrayTypeName + "': " + exception.getMessage());
+    }
+  }
+
+  public static class ByteArrayType {
+    private byte[] content;
+
+    public byte[] getContent() {
+      return content;
+    }
+
+    public void setContent(byte[] content) {
+      this.content = content;
+    }
+  }
+
+  public static class CharArrayType {
+    private char[] content;
+
+    public char[] getContent() {
+      return content;
+    }
+
+    public void setContent(char[] content) {
+      this.content = content;
+    }
+  }
+
   private Field findField(String fieldName) {
     try {
       return TestUnsupportedTypesType.class.getDeclaredField(fieldName);
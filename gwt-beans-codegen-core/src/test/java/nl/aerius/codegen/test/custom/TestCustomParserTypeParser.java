@@ -50,7 +50,17 @@ public class TestCustomParserTypeParser {
     }
 
     final TestCustomParserType config = new TestCustomParserType();
+    parse(json, config);
+    return config;
+  }
 
+  /**
+   * Parses a JSON object into an existing TestCustomParserType, as called by the parsers of subclasses.
+   * 
+   * @param json The JSON object to parse
+   * @param config The instance to parse into
+   */
+  public static void parse(final JSONObjectHandle json, final TestCustomParserType config) {
     if (json.has("customField")) {
       config.setCustomField(json.getString("customField"));
     }
@@ -58,8 +68,6 @@ public class TestCustomParserTypeParser {
     if (json.has("customValue")) {
       config.setCustomValue(json.getInteger("customValue"));
     }
-
-    return config;
   }
 
   /**
@@ -0,0 +1,17 @@
+package nl.aerius.codegen.test.types;
+
+/**
+ * Test class extending a class with a custom parser, so its generated parser passes the inherited fields to the custom
+ * parser.
+ */
+public class TestCustomParentChildType extends TestCustomParserType {
+  private String childField;
+
+  public String getChildField() {
+    return childField;
+  }
+
+  public void setChildField(String childField) {
+    this.childField = childField;
+  }
+}
@@ -1,5 +1,7 @@
 package nl.aerius.codegen.test.types;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Test class for enum types that should be supported in the parser generator.
  */
@@ -24,10 +26,21 @@ public class TestEnumType {
     CRITICAL
   }
 
+  /**
+   * Test enum with constants that are serialized under an alias.
+   */
+  public enum Category {
+    @JsonProperty("first-class")
+    FIRST_CLASS,
+    @JsonProperty("economy")
+    ECONOMY
+  }
+
   // Enum fields
   private Status status;
   private Priority priority;
   private Status nullableStatus;
+  private Category category;
 
   // Getters and setters
   public Status getStatus() {
@@ -54,6 +67,14 @@ public class TestEnumType {
     this.nullableStatus = nullableStatus;
   }
 
+  public Category getCategory() {
+    return category;
+  }
+
+  public void setCategory(Category category) {
+    this.category = category;
+  }
+
   /**
    * Creates a fully populated instance with test values.
    */
@@ -62,6 +83,7 @@ public class TestEnumType {
     obj.setStatus(Status.ACTIVE);
     obj.setPriority(Priority.HIGH);
     obj.setNullableStatus(Status.PENDING);
+    obj.setCategory(Category.FIRST_CLASS);
     return obj;
   }
 
@@ -76,6 +98,7 @@ public class TestEnumType {
     obj.setPriority(Priority.LOW);
     // Set nullable fields to null
     obj.setNullableStatus(null);
+    obj.setCategory(null);
     return obj;
   }
 }
\ No newline at end of file
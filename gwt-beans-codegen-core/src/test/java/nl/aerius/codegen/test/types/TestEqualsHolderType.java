@@ -0,0 +1,25 @@
+package nl.aerius.codegen.test.types;
+
+/**
+ * Test class holding a type with an equals method, which is not parsed lazily.
+ */
+public class TestEqualsHolderType {
+  private TestEqualsType equalsType;
+
+  public TestEqualsType getEqualsType() {
+    return equalsType;
+  }
+
+  public void setEqualsType(TestEqualsType equalsType) {
+    this.equalsType = equalsType;
+  }
+
+  /**
+   * Creates a fully populated instance with test values.
+   */
+  public static TestEqualsHolderType createFullObject() {
+    final TestEqualsHolderType obj = new TestEqualsHolderType();
+    obj.setEqualsType(TestEqualsType.createFullObject());
+    return obj;
+  }
+}
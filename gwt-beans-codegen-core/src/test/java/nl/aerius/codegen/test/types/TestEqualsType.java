@@ -0,0 +1,54 @@
+package nl.aerius.codegen.test.types;
+
+import java.util.Objects;
+
+/**
+ * Test class with an equals method that reads the fields of the other instance directly, as generated by most IDEs.
+ */
+public class TestEqualsType {
+  private String name;
+  private int value;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getValue() {
+    return value;
+  }
+
+  public void setValue(int value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof TestEqualsType)) {
+      return false;
+    }
+    final TestEqualsType other = (TestEqualsType) obj;
+    return value == other.value && Objects.equals(name, other.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, value);
+  }
+
+  /**
+   * Creates a fully populated instance with test values.
+   */
+  public static TestEqualsType createFullObject() {
+    final TestEqualsType obj = new TestEqualsType();
+    obj.setName("equals test");
+    obj.setValue(3);
+    return obj;
+  }
+}
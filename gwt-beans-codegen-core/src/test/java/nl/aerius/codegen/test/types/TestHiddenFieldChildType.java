@@ -0,0 +1,18 @@
+package nl.aerius.codegen.test.types;
+
+/**
+ * Child class hiding the label field of its parent with its own field.
+ */
+public class TestHiddenFieldChildType extends TestHiddenFieldParentType {
+  private String label;
+
+  @Override
+  public String getLabel() {
+    return label;
+  }
+
+  @Override
+  public void setLabel(String label) {
+    this.label = label;
+  }
+}
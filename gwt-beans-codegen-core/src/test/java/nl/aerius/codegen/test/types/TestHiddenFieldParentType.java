@@ -0,0 +1,32 @@
+package nl.aerius.codegen.test.types;
+
+/**
+ * Parent class with a field that is hidden by a field with the same name in {@link TestHiddenFieldChildType}.
+ */
+public class TestHiddenFieldParentType {
+  private String label;
+  private int weight;
+
+  public String getLabel() {
+    return label;
+  }
+
+  public void setLabel(String label) {
+    this.label = label;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+
+  public void setWeight(int weight) {
+    this.weight = weight;
+  }
+
+  /**
+   * @return the value of the hidden field of this class, which the parsers don't set
+   */
+  public String parentLabel() {
+    return label;
+  }
+}
@@ -0,0 +1,63 @@
+package nl.aerius.codegen.test.types;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Test class for an enum that is written with a {@code @JsonValue} method and has a {@code @JsonCreator} method.
+ */
+public class TestJsonValueEnumType {
+  /**
+   * Test enum written with its code. The creator also accepts the legacy codes, which the generated parsers only decode
+   * through the creator.
+   */
+  public enum Unit {
+    KILOGRAM_PER_YEAR("kg/y"),
+    MOL_PER_HECTARE("mol/ha");
+
+    private final String code;
+
+    Unit(final String code) {
+      this.code = code;
+    }
+
+    @JsonValue
+    public String getCode() {
+      return code;
+    }
+
+    @JsonCreator
+    public static Unit fromCode(final String code) {
+      if ("kg/yr".equals(code)) {
+        return KILOGRAM_PER_YEAR;
+      }
+      for (final Unit unit : values()) {
+        if (unit.code.equals(code)) {
+          return unit;
+        }
+      }
+      return null;
+    }
+  }
+
+  private Unit unit;
+  private List<Unit> units;
+
+  public Unit getUnit() {
+    return unit;
+  }
+
+  public void setUnit(Unit unit) {
+    this.unit = unit;
+  }
+
+  public List<Unit> getUnits() {
+    return units;
+  }
+
+  public void setUnits(List<Unit> units) {
+    this.units = units;
+  }
+}
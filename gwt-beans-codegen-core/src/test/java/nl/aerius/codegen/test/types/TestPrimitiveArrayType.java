@@ -9,6 +9,12 @@ public class TestPrimitiveArrayType {
   private Integer[] integerArray; // Wrapper Integer array
   private double[] doubleArray; // Primitive double array
   private Double[] numberArray; // Wrapper Double array (matches JSON number)
+  private long[] longArray;
+  private float[] floatArray;
+  private short[] shortArray;
+  private boolean[] booleanArray;
+  private Long[] wrapperLongArray;
+  private Byte[] wrapperByteArray; // byte[] itself is written as base64 by Jackson
 
   public String[] getStringArray() {
     return stringArray;
@@ -50,6 +56,54 @@ public class TestPrimitiveArrayType {
     this.numberArray = numberArray;
   }
 
+  public long[] getLongArray() {
+    return longArray;
+  }
+
+  public void setLongArray(long[] longArray) {
+    this.longArray = longArray;
+  }
+
+  public float[] getFloatArray() {
+    return floatArray;
+  }
+
+  public void setFloatArray(float[] floatArray) {
+    this.floatArray = floatArray;
+  }
+
+  public short[] getShortArray() {
+    return shortArray;
+  }
+
+  public void setShortArray(short[] shortArray) {
+    this.shortArray = shortArray;
+  }
+
+  public boolean[] getBooleanArray() {
+    return booleanArray;
+  }
+
+  public void setBooleanArray(boolean[] booleanArray) {
+    this.booleanArray = booleanArray;
+  }
+
+  public Long[] getWrapperLongArray() {
+    return wrapperLongArray;
+  }
+
+  public void setWrapperLongArray(Long[] wrapperLongArray) {
+    this.wrapperLongArray = wrapperLongArray;
+  }
+
+  public Byte[] getWrapperByteArray() {
+    return wrapperByteArray;
+  }
+
+  public void setWrapperByteArray(Byte[] wrapperByteArray) {
+    this.wrapperByteArray = wrapperByteArray;
+  }
+
   public static TestPrimitiveArrayType createFullObject() {
     TestPrimitiveArrayType obj = new TestPrimitiveArrayType();
     obj.setStringArray(new String[] {"hello", "world", ""});
@@ -57,6 +111,12 @@ public class TestPrimitiveArrayType {
     obj.setIntegerArray(new Integer[] {10, 5, 30});
     obj.setDoubleArray(new double[] {1.1, 2.2, -3.3});
     obj.setNumberArray(new Double[] {10.1, 2D, 30.3});
+    obj.setLongArray(new long[] {1L, Long.MAX_VALUE, -3L});
+    obj.setFloatArray(new float[] {1.5f, -2.25f});
+    obj.setShortArray(new short[] {1, Short.MIN_VALUE});
+    obj.setBooleanArray(new boolean[] {true, false, true});
+    obj.setWrapperLongArray(new Long[] {5L, null, 7L});
+    obj.setWrapperByteArray(new Byte[] {1, Byte.MIN_VALUE, Byte.MAX_VALUE});
     return obj;
   }
 
@@ -71,7 +131,13 @@ public class TestPrimitiveArrayType {
         Arrays.equals(intArray, that.intArray) &&
         Arrays.equals(integerArray, that.integerArray) &&
         Arrays.equals(doubleArray, that.doubleArray) &&
-        Arrays.equals(numberArray, that.numberArray);
+        Arrays.equals(numberArray, that.numberArray) &&
+        Arrays.equals(longArray, that.longArray) &&
+        Arrays.equals(floatArray, that.floatArray) &&
+        Arrays.equals(shortArray, that.shortArray) &&
+        Arrays.equals(booleanArray, that.booleanArray) &&
+        Arrays.equals(wrapperLongArray, that.wrapperLongArray) &&
+        Arrays.equals(wrapperByteArray, that.wrapperByteArray);
   }
 
   @Override
@@ -80,6 +146,12 @@ public class TestPrimitiveArrayType {
     result = 31 * result + Arrays.hashCode(stringArray);
     result = 31 * result + Arrays.hashCode(intArray);
     result = 31 * result + Arrays.hashCode(doubleArray);
+    result = 31 * result + Arrays.hashCode(longArray);
+    result = 31 * result + Arrays.hashCode(floatArray);
+    result = 31 * result + Arrays.hashCode(shortArray);
+    result = 31 * result + Arrays.hashCode(booleanArray);
+    result = 31 * result + Arrays.hashCode(wrapperLongArray);
+    result = 31 * result + Arrays.hashCode(wrapperByteArray);
     return result;
   }
 }
\ No newline at end of file
@@ -0,0 +1,379 @@
+package nl.aerius.codegen.test.types;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Record fixture with more fields than fit in one parse method, exercising the constructor-based path split into field
+ * group methods.
+ */
+public record TestWideRecordType(
+    String name1,
+    int count1,
+    Double ratio1,
+    List<String> tags1,
+    Map<String, Integer> scores1,
+    String name2,
+    int count2,
+    Double ratio2,
+    List<String> tags2,
+    Map<String, Integer> scores2,
+    String name3,
+    int count3,
+    Double ratio3,
+    List<String> tags3,
+    Map<String, Integer> scores3,
+    String name4,
+    int count4,
+    Double ratio4,
+    List<String> tags4,
+    Map<String, Integer> scores4,
+    String name5,
+    int count5,
+    Double ratio5,
+    List<String> tags5,
+    Map<String, Integer> scores5,
+    String name6,
+    int count6,
+    Double ratio6,
+    List<String> tags6,
+    Map<String, Integer> scores6,
+    String name7,
+    int count7,
+    Double ratio7,
+    List<String> tags7,
+    Map<String, Integer> scores7,
+    String name8,
+    int count8,
+    Double ratio8,
+    List<String> tags8,
+    Map<String, Integer> scores8,
+    String name9,
+    int count9,
+    Double ratio9,
+    List<String> tags9,
+    Map<String, Integer> scores9,
+    String name10,
+    int count10,
+    Double ratio10,
+    List<String> tags10,
+    Map<String, Integer> scores10,
+    String name11,
+    int count11,
+    Double ratio11,
+    List<String> tags11,
+    Map<String, Integer> scores11,
+    String name12,
+    int count12,
+    Double ratio12,
+    List<String> tags12,
+    Map<String, Integer> scores12,
+    String name13,
+    int count13,
+    Double ratio13,
+    List<String> tags13,
+    Map<String, Integer> scores13,
+    String name14,
+    int count14,
+    Double ratio14,
+    List<String> tags14,
+    Map<String, Integer> scores14,
+    String name15,
+    int count15,
+    Double ratio15,
+    List<String> tags15,
+    Map<String, Integer> scores15,
+    String name16,
+    int count16,
+    Double ratio16,
+    List<String> tags16,
+    Map<String, Integer> scores16,
+    String name17,
+    int count17,
+    Double ratio17,
+    List<String> tags17,
+    Map<String, Integer> scores17,
+    String name18,
+    int count18,
+    Double ratio18,
+    List<String> tags18,
+    Map<String, Integer> scores18,
+    String name19,
+    int count19,
+    Double ratio19,
+    List<String> tags19,
+    Map<String, Integer> scores19,
+    String name20,
+    int count20,
+    Double ratio20,
+    List<String> tags20,
+    Map<String, Integer> scores20,
+    String name21,
+    int count21,
+    Double ratio21,
+    List<String> tags21,
+    Map<String, Integer> scores21,
+    String name22,
+    int count22,
+    Double ratio22,
+    List<String> tags22,
+    Map<String, Integer> scores22,
+    String name23,
+    int count23,
+    Double ratio23,
+    List<String> tags23,
+    Map<String, Integer> scores23,
+    String name24,
+    int count24,
+    Double ratio24,
+    List<String> tags24,
+    Map<String, Integer> scores24) {
+
+  public static TestWideRecordType createFullObject() {
+    return new TestWideRecordType(
+        "name1",
+        1,
+        2.5,
+        List.of("tags1-a", "tags1-b"),
+        Map.of("scores1", 4),
+        "name2",
+        6,
+        7.5,
+        List.of("tags2-a", "tags2-b"),
+        Map.of("scores2", 9),
+        "name3",
+        11,
+        12.5,
+        List.of("tags3-a", "tags3-b"),
+        Map.of("scores3", 14),
+        "name4",
+        16,
+        17.5,
+        List.of("tags4-a", "tags4-b"),
+        Map.of("scores4", 19),
+        "name5",
+        21,
+        22.5,
+        List.of("tags5-a", "tags5-b"),
+        Map.of("scores5", 24),
+        "name6",
+        26,
+        27.5,
+        List.of("tags6-a", "tags6-b"),
+        Map.of("scores6", 29),
+        "name7",
+        31,
+        32.5,
+        List.of("tags7-a", "tags7-b"),
+        Map.of("scores7", 34),
+        "name8",
+        36,
+        37.5,
+        List.of("tags8-a", "tags8-b"),
+        Map.of("scores8", 39),
+        "name9",
+        41,
+        42.5,
+        List.of("tags9-a", "tags9-b"),
+        Map.of("scores9", 44),
+        "name10",
+        46,
+        47.5,
+        List.of("tags10-a", "tags10-b"),
+        Map.of("scores10", 49),
+        "name11",
+        51,
+        52.5,
+        List.of("tags11-a", "tags11-b"),
+        Map.of("scores11", 54),
+        "name12",
+        56,
+        57.5,
+        List.of("tags12-a", "tags12-b"),
+        Map.of("scores12", 59),
+        "name13",
+        61,
+        62.5,
+        List.of("tags13-a", "tags13-b"),
+        Map.of("scores13", 64),
+        "name14",
+        66,
+        67.5,
+        List.of("tags14-a", "tags14-b"),
+        Map.of("scores14", 69),
+        "name15",
+        71,
+        72.5,
+        List.of("tags15-a", "tags15-b"),
+        Map.of("scores15", 74),
+        "name16",
+        76,
+        77.5,
+        List.of("tags16-a", "tags16-b"),
+        Map.of("scores16", 79),
+        "name17",
+        81,
+        82.5,
+        List.of("tags17-a", "tags17-b"),
+        Map.of("scores17", 84),
+        "name18",
+        86,
+        87.5,
+        List.of("tags18-a", "tags18-b"),
+        Map.of("scores18", 89),
+        "name19",
+        91,
+        92.5,
+        List.of("tags19-a", "tags19-b"),
+        Map.of("scores19", 94),
+        "name20",
+        96,
+        97.5,
+        List.of("tags20-a", "tags20-b"),
+        Map.of("scores20", 99),
+        "name21",
+        101,
+        102.5,
+        List.of("tags21-a", "tags21-b"),
+        Map.of("scores21", 104),
+        "name22",
+        106,
+        107.5,
+        List.of("tags22-a", "tags22-b"),
+        Map.of("scores22", 109),
+        "name23",
+        111,
+        112.5,
+        List.of("tags23-a", "tags23-b"),
+        Map.of("scores23", 114),
+        "name24",
+        116,
+        117.5,
+        List.of("tags24-a", "tags24-b"),
+        Map.of("scores24", 119));
+  }
+
+  public static TestWideRecordType createNullObject() {
+    return new TestWideRecordType(
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null,
+        null,
+        0,
+        null,
+        null,
+        null);
+  }
+}
@@ -0,0 +1,1220 @@
+package nl.aerius.codegen.test.types;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bean fixture with more fields than fit in one parse method, exercising the setter-based path split into field group
+ * methods.
+ */
+public class TestWideType {
+  private String name1;
+  private int count1;
+  private Double ratio1;
+  private List<String> tags1;
+  private Map<String, Integer> scores1;
+  private String name2;
+  private int count2;
+  private Double ratio2;
+  private List<String> tags2;
+  private Map<String, Integer> scores2;
+  private String name3;
+  private int count3;
+  private Double ratio3;
+  private List<String> tags3;
+  private Map<String, Integer> scores3;
+  private String name4;
+  private int count4;
+  private Double ratio4;
+  private List<String> tags4;
+  private Map<String, Integer> scores4;
+  private String name5;
+  private int count5;
+  private Double ratio5;
+  private List<String> tags5;
+  private Map<String, Integer> scores5;
+  private String name6;
+  private int count6;
+  private Double ratio6;
+  private List<String> tags6;
+  private Map<String, Integer> scores6;
+  private String name7;
+  private int count7;
+  private Double ratio7;
+  private List<String> tags7;
+  private Map<String, Integer> scores7;
+  private String name8;
+  private int count8;
+  private Double ratio8;
+  private List<String> tags8;
+  private Map<String, Integer> scores8;
+  private String name9;
+  private int count9;
+  private Double ratio9;
+  private List<String> tags9;
+  private Map<String, Integer> scores9;
+  private String name10;
+  private int count10;
+  private Double ratio10;
+  private List<String> tags10;
+  private Map<String, Integer> scores10;
+  private String name11;
+  private int count11;
+  private Double ratio11;
+  private List<String> tags11;
+  private Map<String, Integer> scores11;
+  private String name12;
+  private int count12;
+  private Double ratio12;
+  private List<String> tags12;
+  private Map<String, Integer> scores12;
+  private String name13;
+  private int count13;
+  private Double ratio13;
+  private List<String> tags13;
+  private Map<String, Integer> scores13;
+  private String name14;
+  private int count14;
+  private Double ratio14;
+  private List<String> tags14;
+  private Map<String, Integer> scores14;
+  private String name15;
+  private int count15;
+  private Double ratio15;
+  private List<String> tags15;
+  private Map<String, Integer> scores15;
+  private String name16;
+  private int count16;
+  private Double ratio16;
+  private List<String> tags16;
+  private Map<String, Integer> scores16;
+  private String name17;
+  private int count17;
+  private Double ratio17;
+  private List<String> tags17;
+  private Map<String, Integer> scores17;
+  private String name18;
+  private int count18;
+  private Double ratio18;
+  private List<String> tags18;
+  private Map<String, Integer> scores18;
+  private String name19;
+  private int count19;
+  private Double ratio19;
+  private List<String> tags19;
+  private Map<String, Integer> scores19;
+  private String name20;
+  private int count20;
+  private Double ratio20;
+  private List<String> tags20;
+  private Map<String, Integer> scores20;
+  private String name21;
+  private int count21;
+  private Double ratio21;
+  private List<String> tags21;
+  private Map<String, Integer> scores21;
+  private String name22;
+  private int count22;
+  private Double ratio22;
+  private List<String> tags22;
+  private Map<String, Integer> scores22;
+  private String name23;
+  private int count23;
+  private Double ratio23;
+  private List<String> tags23;
+  private Map<String, Integer> scores23;
+  private String name24;
+  private int count24;
+  private Double ratio24;
+  private List<String> tags24;
+  private Map<String, Integer> scores24;
+
+  public static TestWideType createFullObject() {
+    final TestWideType object = new TestWideType();
+    object.setName1("name1");
+    object.setCount1(1);
+    object.setRatio1(2.5);
+    object.setTags1(List.of("tags1-a", "tags1-b"));
+    object.setScores1(Map.of("scores1", 4));
+    object.setName2("name2");
+    object.setCount2(6);
+    object.setRatio2(7.5);
+    object.setTags2(List.of("tags2-a", "tags2-b"));
+    object.setScores2(Map.of("scores2", 9));
+    object.setName3("name3");
+    object.setCount3(11);
+    object.setRatio3(12.5);
+    object.setTags3(List.of("tags3-a", "tags3-b"));
+    object.setScores3(Map.of("scores3", 14));
+    object.setName4("name4");
+    object.setCount4(16);
+    object.setRatio4(17.5);
+    object.setTags4(List.of("tags4-a", "tags4-b"));
+    object.setScores4(Map.of("scores4", 19));
+    object.setName5("name5");
+    object.setCount5(21);
+    object.setRatio5(22.5);
+    object.setTags5(List.of("tags5-a", "tags5-b"));
+    object.setScores5(Map.of("scores5", 24));
+    object.setName6("name6");
+    object.setCount6(26);
+    object.setRatio6(27.5);
+    object.setTags6(List.of("tags6-a", "tags6-b"));
+    object.setScores6(Map.of("scores6", 29));
+    object.setName7("name7");
+    object.setCount7(31);
+    object.setRatio7(32.5);
+    object.setTags7(List.of("tags7-a", "tags7-b"));
+    object.setScores7(Map.of("scores7", 34));
+    object.setName8("name8");
+    object.setCount8(36);
+    object.setRatio8(37.5);
+    object.setTags8(List.of("tags8-a", "tags8-b"));
+    object.setScores8(Map.of("scores8", 39));
+    object.setName9("name9");
+    object.setCount9(41);
+    object.setRatio9(42.5);
+    object.setTags9(List.of("tags9-a", "tags9-b"));
+    object.setScores9(Map.of("scores9", 44));
+    object.setName10("name10");
+    object.setCount10(46);
+    object.setRatio10(47.5);
+    object.setTags10(List.of("tags10-a", "tags10-b"));
+    object.setScores10(Map.of("scores10", 49));
+    object.setName11("name11");
+    object.setCount11(51);
+    object.setRatio11(52.5);
+    object.setTags11(List.of("tags11-a", "tags11-b"));
+    object.setScores11(Map.of("scores11", 54));
+    object.setName12("name12");
+    object.setCount12(56);
+    object.setRatio12(57.5);
+    object.setTags12(List.of("tags12-a", "tags12-b"));
+    object.setScores12(Map.of("scores12", 59));
+    object.setName13("name13");
+    object.setCount13(61);
+    object.setRatio13(62.5);
+    object.setTags13(List.of("tags13-a", "tags13-b"));
+    object.setScores13(Map.of("scores13", 64));
+    object.setName14("name14");
+    object.setCount14(66);
+    object.setRatio14(67.5);
+    object.setTags14(List.of("tags14-a", "tags14-b"));
+    object.setScores14(Map.of("scores14", 69));
+    object.setName15("name15");
+    object.setCount15(71);
+    object.setRatio15(72.5);
+    object.setTags15(List.of("tags15-a", "tags15-b"));
+    object.setScores15(Map.of("scores15", 74));
+    object.setName16("name16");
+    object.setCount16(76);
+    object.setRatio16(77.5);
+    object.setTags16(List.of("tags16-a", "tags16-b"));
+    object.setScores16(Map.of("scores16", 79));
+    object.setName17("name17");
+    object.setCount17(81);
+    object.setRatio17(82.5);
+    object.setTags17(List.of("tags17-a", "tags17-b"));
+    object.setScores17(Map.of("scores17", 84));
+    object.setName18("name18");
+    object.setCount18(86);
+    object.setRatio18(87.5);
+    object.setTags18(List.of("tags18-a", "tags18-b"));
+    object.setScores18(Map.of("scores18", 89));
+    object.setName19("name19");
+    object.setCount19(91);
+    object.setRatio19(92.5);
+    object.setTags19(List.of("tags19-a", "tags19-b"));
+    object.setScores19(Map.of("scores19", 94));
+    object.setName20("name20");
+    object.setCount20(96);
+    object.setRatio20(97.5);
+    object.setTags20(List.of("tags20-a", "tags20-b"));
+    object.setScores20(Map.of("scores20", 99));
+    object.setName21("name21");
+    object.setCount21(101);
+    object.setRatio21(102.5);
+    object.setTags21(List.of("tags21-a", "tags21-b"));
+    object.setScores21(Map.of("scores21", 104));
+    object.setName22("name22");
+    object.setCount22(106);
+    object.setRatio22(107.5);
+    object.setTags22(List.of("tags22-a", "tags22-b"));
+    object.setScores22(Map.of("scores22", 109));
+    object.setName23("name23");
+    object.setCount23(111);
+    object.setRatio23(112.5);
+    object.setTags23(List.of("tags23-a", "tags23-b"));
+    object.setScores23(Map.of("scores23", 114));
+    object.setName24("name24");
+    object.setCount24(116);
+    object.setRatio24(117.5);
+    object.setTags24(List.of("tags24-a", "tags24-b"));
+    object.setScores24(Map.of("scores24", 119));
+    return object;
+  }
+
+  public static TestWideType createNullObject() {
+    return new TestWideType();
+  }
+
+  public String getName1() {
+    return name1;
+  }
+
+  public void setName1(final String name1) {
+    this.name1 = name1;
+  }
+
+  public int getCount1() {
+    return count1;
+  }
+
+  public void setCount1(final int count1) {
+    this.count1 = count1;
+  }
+
+  public Double getRatio1() {
+    return ratio1;
+  }
+
+  public void setRatio1(final Double ratio1) {
+    this.ratio1 = ratio1;
+  }
+
+  public List<String> getTags1() {
+    return tags1;
+  }
+
+  public void setTags1(final List<String> tags1) {
+    this.tags1 = tags1;
+  }
+
+  public Map<String, Integer> getScores1() {
+    return scores1;
+  }
+
+  public void setScores1(final Map<String, Integer> scores1) {
+    this.scores1 = scores1;
+  }
+
+  public String getName2() {
+    return name2;
+  }
+
+  public void setName2(final String name2) {
+    this.name2 = name2;
+  }
+
+  public int getCount2() {
+    return count2;
+  }
+
+  public void setCount2(final int count2) {
+    this.count2 = count2;
+  }
+
+  public Double getRatio2() {
+    return ratio2;
+  }
+
+  public void setRatio2(final Double ratio2) {
+    this.ratio2 = ratio2;
+  }
+
+  public List<String> getTags2() {
+    return tags2;
+  }
+
+  public void setTags2(final List<String> tags2) {
+    this.tags2 = tags2;
+  }
+
+  public Map<String, Integer> getScores2() {
+    return scores2;
+  }
+
+  public void setScores2(final Map<String, Integer> scores2) {
+    this.scores2 = scores2;
+  }
+
+  public String getName3() {
+    return name3;
+  }
+
+  public void setName3(final String name3) {
+    this.name3 = name3;
+  }
+
+  public int getCount3() {
+    return count3;
+  }
+
+  public void setCount3(final int count3) {
+    this.count3 = count3;
+  }
+
+  public Double getRatio3() {
+    return ratio3;
+  }
+
+  public void setRatio3(final Double ratio3) {
+    this.ratio3 = ratio3;
+  }
+
+  public List<String> getTags3() {
+    return tags3;
+  }
+
+  public void setTags3(final List<String> tags3) {
+    this.tags3 = tags3;
+  }
+
+  public Map<String, Integer> getScores3() {
+    return scores3;
+  }
+
+  public void setScores3(final Map<String, Integer> scores3) {
+    this.scores3 = scores3;
+  }
+
+  public String getName4() {
+    return name4;
+  }
+
+  public void setName4(final String name4) {
+    this.name4 = name4;
+  }
+
+  public int getCount4() {
+    return count4;
+  }
+
+  public void setCount4(final int count4) {
+    this.count4 = count4;
+  }
+
+  public Double getRatio4() {
+    return ratio4;
+  }
+
+  public void setRatio4(final Double ratio4) {
+    this.ratio4 = ratio4;
+  }
+
+  public List<String> getTags4() {
+    return tags4;
+  }
+
+  public void setTags4(final List<String> tags4) {
+    this.tags4 = tags4;
+  }
+
+  public Map<String, Integer> getScores4() {
+    return scores4;
+  }
+
+  public void setScores4(final Map<String, Integer> scores4) {
+    this.scores4 = scores4;
+  }
+
+  public String getName5() {
+    return name5;
+  }
+
+  public void setName5(final String name5) {
+    this.name5 = name5;
+  }
+
+  public int getCount5() {
+    return count5;
+  }
+
+  public void setCount5(final int count5) {
+    this.count5 = count5;
+  }
+
+  public Double getRatio5() {
+    return ratio5;
+  }
+
+  public void setRatio5(final Double ratio5) {
+    this.ratio5 = ratio5;
+  }
+
+  public List<String> getTags5() {
+    return tags5;
+  }
+
+  public void setTags5(final List<String> tags5) {
+    this.tags5 = tags5;
+  }
+
+  public Map<String, Integer> getScores5() {
+    return scores5;
+  }
+
+  public void setScores5(final Map<String, Integer> scores5) {
+    this.scores5 = scores5;
+  }
+
+  public String getName6() {
+    return name6;
+  }
+
+  public void setName6(final String name6) {
+    this.name6 = name6;
+  }
+
+  public int getCount6() {
+    return count6;
+  }
+
+  public void setCount6(final int count6) {
+    this.count6 = count6;
+  }
+
+  public Double getRatio6() {
+    return ratio6;
+  }
+
+  public void setRatio6(final Double ratio6) {
+    this.ratio6 = ratio6;
+  }
+
+  public List<String> getTags6() {
+    return tags6;
+  }
+
+  public void setTags6(final List<String> tags6) {
+    this.tags6 = tags6;
+  }
+
+  public Map<String, Integer> getScores6() {
+    return scores6;
+  }
+
+  public void setScores6(final Map<String, Integer> scores6) {
+    this.scores6 = scores6;
+  }
+
+  public String getName7() {
+    return name7;
+  }
+
+  public void setName7(final String name7) {
+    this.name7 = name7;
+  }
+
+  public int getCount7() {
+    return count7;
+  }
+
+  public void setCount7(final int count7) {
+    this.count7 = count7;
+  }
+
+  public Double getRatio7() {
+    return ratio7;
+  }
+
+  public void setRatio7(final Double ratio7) {
+    this.ratio7 = ratio7;
+  }
+
+  public List<String> getTags7() {
+    return tags7;
+  }
+
+  public void setTags7(final List<String> tags7) {
+    this.tags7 = tags7;
+  }
+
+  public Map<String, Integer> getScores7() {
+    return scores7;
+  }
+
+  public void setScores7(final Map<String, Integer> scores7) {
+    this.scores7 = scores7;
+  }
+
+  public String getName8() {
+    return name8;
+  }
+
+  public void setName8(final String name8) {
+    this.name8 = name8;
+  }
+
+  public int getCount8() {
+    return count8;
+  }
+
+  public void setCount8(final int count8) {
+    this.count8 = count8;
+  }
+
+  public Double getRatio8() {
+    return ratio8;
+  }
+
+  public void setRatio8(final Double ratio8) {
+    this.ratio8 = ratio8;
+  }
+
+  public List<String> getTags8() {
+    return tags8;
+  }
+
+  public void setTags8(final List<String> tags8) {
+    this.tags8 = tags8;
+  }
+
+  public Map<String, Integer> getScores8() {
+    return scores8;
+  }
+
+  public void setScores8(final Map<String, Integer> scores8) {
+    this.scores8 = scores8;
+  }
+
+  public String getName9() {
+    return name9;
+  }
+
+  public void setName9(final String name9) {
+    this.name9 = name9;
+  }
+
+  public int getCount9() {
+    return count9;
+  }
+
+  public void setCount9(final int count9) {
+    this.count9 = count9;
+  }
+
+  public Double getRatio9() {
+    return ratio9;
+  }
+
+  public void setRatio9(final Double ratio9) {
+    this.ratio9 = ratio9;
+  }
+
+  public List<String> getTags9() {
+    return tags9;
+  }
+
+  public void setTags9(final List<String> tags9) {
+    this.tags9 = tags9;
+  }
+
+  public Map<String, Integer> getScores9() {
+    return scores9;
+  }
+
+  public void setScores9(final Map<String, Integer> scores9) {
+    this.scores9 = scores9;
+  }
+
+  public String getName10() {
+    return name10;
+  }
+
+  public void setName10(final String name10) {
+    this.name10 = name10;
+  }
+
+  public int getCount10() {
+    return count10;
+  }
+
+  public void setCount10(final int count10) {
+    this.count10 = count10;
+  }
+
+  public Double getRatio10() {
+    return ratio10;
+  }
+
+  public void setRatio10(final Double ratio10) {
+    this.ratio10 = ratio10;
+  }
+
+  public List<String> getTags10() {
+    return tags10;
+  }
+
+  public void setTags10(final List<String> tags10) {
+    this.tags10 = tags10;
+  }
+
+  public Map<String, Integer> getScores10() {
+    return scores10;
+  }
+
+  public void setScores10(final Map<String, Integer> scores10) {
+    this.scores10 = scores10;
+  }
+
+  public String getName11() {
+    return name11;
+  }
+
+  public void setName11(final String name11) {
+    this.name11 = name11;
+  }
+
+  public int getCount11() {
+    return count11;
+  }
+
+  public void setCount11(final int count11) {
+    this.count11 = count11;
+  }
+
+  public Double getRatio11() {
+    return ratio11;
+  }
+
+  public void setRatio11(final Double ratio11) {
+    this.ratio11 = ratio11;
+  }
+
+  public List<String> getTags11() {
+    return tags11;
+  }
+
+  public void setTags11(final List<String> tags11) {
+    this.tags11 = tags11;
+  }
+
+  public Map<String, Integer> getScores11() {
+    return scores11;
+  }
+
+  public void setScores11(final Map<String, Integer> scores11) {
+    this.scores11 = scores11;
+  }
+
+  public String getName12() {
+    return name12;
+  }
+
+  public void setName12(final String name12) {
+    this.name12 = name12;
+  }
+
+  public int getCount12() {
+    return count12;
+  }
+
+  public void setCount12(final int count12) {
+    this.count12 = count12;
+  }
+
+  public Double getRatio12() {
+    return ratio12;
+  }
+
+  public void setRatio12(final Double ratio12) {
+    this.ratio12 = ratio12;
+  }
+
+  public List<String> getTags12() {
+    return tags12;
+  }
+
+  public void setTags12(final List<String> tags12) {
+    this.tags12 = tags12;
+  }
+
+  public Map<String, Integer> getScores12() {
+    return scores12;
+  }
+
+  public void setScores12(final Map<String, Integer> scores12) {
+    this.scores12 = scores12;
+  }
+
+  public String getName13() {
+    return name13;
+  }
+
+  public void setName13(final String name13) {
+    this.name13 = name13;
+  }
+
+  public int getCount13() {
+    return count13;
+  }
+
+  public void setCount13(final int count13) {
+    this.count13 = count13;
+  }
+
+  public Double getRatio13() {
+    return ratio13;
+  }
+
+  public void setRatio13(final Double ratio13) {
+    this.ratio13 = ratio13;
+  }
+
+  public List<String> getTags13() {
+    return tags13;
+  }
+
+  public void setTags13(final List<String> tags13) {
+    this.tags13 = tags13;
+  }
+
+  public Map<String, Integer> getScores13() {
+    return scores13;
+  }
+
+  public void setScores13(final Map<String, Integer> scores13) {
+    this.scores13 = scores13;
+  }
+
+  public String getName14() {
+    return name14;
+  }
+
+  public void setName14(final String name14) {
+    this.name14 = name14;
+  }
+
+  public int getCount14() {
+    return count14;
+  }
+
+  public void setCount14(final int count14) {
+    this.count14 = count14;
+  }
+
+  public Double getRatio14() {
+    return ratio14;
+  }
+
+  public void setRatio14(final Double ratio14) {
+    this.ratio14 = ratio14;
+  }
+
+  public List<String> getTags14() {
+    return tags14;
+  }
+
+  public void setTags14(final List<String> tags14) {
+    this.tags14 = tags14;
+  }
+
+  public Map<String, Integer> getScores14() {
+    return scores14;
+  }
+
+  public void setScores14(final Map<String, Integer> scores14) {
+    this.scores14 = scores14;
+  }
+
+  public String getName15() {
+    return name15;
+  }
+
+  public void setName15(final String name15) {
+    this.name15 = name15;
+  }
+
+  public int getCount15() {
+    return count15;
+  }
+
+  public void setCount15(final int count15) {
+    this.count15 = count15;
+  }
+
+  public Double getRatio15() {
+    return ratio15;
+  }
+
+  public void setRatio15(final Double ratio15) {
+    this.ratio15 = ratio15;
+  }
+
+  public List<String> getTags15() {
+    return tags15;
+  }
+
+  public void setTags15(final List<String> tags15) {
+    this.tags15 = tags15;
+  }
+
+  public Map<String, Integer> getScores15() {
+    return scores15;
+  }
+
+  public void setScores15(final Map<String, Integer> scores15) {
+    this.scores15 = scores15;
+  }
+
+  public String getName16() {
+    return name16;
+  }
+
+  public void setName16(final String name16) {
+    this.name16 = name16;
+  }
+
+  public int getCount16() {
+    return count16;
+  }
+
+  public void setCount16(final int count16) {
+    this.count16 = count16;
+  }
+
+  public Double getRatio16() {
+    return ratio16;
+  }
+
+  public void setRatio16(final Double ratio16) {
+    this.ratio16 = ratio16;
+  }
+
+  public List<String> getTags16() {
+    return tags16;
+  }
+
+  public void setTags16(final List<String> tags16) {
+    this.tags16 = tags16;
+  }
+
+  public Map<String, Integer> getScores16() {
+    return scores16;
+  }
+
+  public void setScores16(final Map<String, Integer> scores16) {
+    this.scores16 = scores16;
+  }
+
+  public String getName17() {
+    return name17;
+  }
+
+  public void setName17(final String name17) {
+    this.name17 = name17;
+  }
+
+  public int getCount17() {
+    return count17;
+  }
+
+  public void setCount17(final int count17) {
+    this.count17 = count17;
+  }
+
+  public Double getRatio17() {
+    return ratio17;
+  }
+
+  public void setRatio17(final Double ratio17) {
+    this.ratio17 = ratio17;
+  }
+
+  public List<String> getTags17() {
+    return tags17;
+  }
+
+  public void setTags17(final List<String> tags17) {
+    this.tags17 = tags17;
+  }
+
+  public Map<String, Integer> getScores17() {
+    return scores17;
+  }
+
+  public void setScores17(final Map<String, Integer> scores17) {
+    this.scores17 = scores17;
+  }
+
+  public String getName18() {
+    return name18;
+  }
+
+  public void setName18(final String name18) {
+    this.name18 = name18;
+  }
+
+  public int getCount18() {
+    return count18;
+  }
+
+  public void setCount18(final int count18) {
+    this.count18 = count18;
+  }
+
+  public Double getRatio18() {
+    return ratio18;
+  }
+
+  public void setRatio18(final Double ratio18) {
+    this.ratio18 = ratio18;
+  }
+
+  public List<String> getTags18() {
+    return tags18;
+  }
+
+  public void setTags18(final List<String> tags18) {
+    this.tags18 = tags18;
+  }
+
+  public Map<String, Integer> getScores18() {
+    return scores18;
+  }
+
+  public void setScores18(final Map<String, Integer> scores18) {
+    this.scores18 = scores18;
+  }
+
+  public String getName19() {
+    return name19;
+  }
+
+  public void setName19(final String name19) {
+    this.name19 = name19;
+  }
+
+  public int getCount19() {
+    return count19;
+  }
+
+  public void setCount19(final int count19) {
+    this.count19 = count19;
+  }
+
+  public Double getRatio19() {
+    return ratio19;
+  }
+
+  public void setRatio19(final Double ratio19) {
+    this.ratio19 = ratio19;
+  }
+
+  public List<String> getTags19() {
+    return tags19;
+  }
+
+  public void setTags19(final List<String> tags19) {
+    this.tags19 = tags19;
+  }
+
+  public Map<String, Integer> getScores19() {
+    return scores19;
+  }
+
+  public void setScores19(final Map<String, Integer> scores19) {
+    this.scores19 = scores19;
+  }
+
+  public String getName20() {
+    return name20;
+  }
+
+  public void setName20(final String name20) {
+    this.name20 = name20;
+  }
+
+  public int getCount20() {
+    return count20;
+  }
+
+  public void setCount20(final int count20) {
+    this.count20 = count20;
+  }
+
+  public Double getRatio20() {
+    return ratio20;
+  }
+
+  public void setRatio20(final Double ratio20) {
+    this.ratio20 = ratio20;
+  }
+
+  public List<String> getTags20() {
+    return tags20;
+  }
+
+  public void setTags20(final List<String> tags20) {
+    this.tags20 = tags20;
+  }
+
+  public Map<String, Integer> getScores20() {
+    return scores20;
+  }
+
+  public void setScores20(final Map<String, Integer> scores20) {
+    this.scores20 = scores20;
+  }
+
+  public String getName21() {
+    return name21;
+  }
+
+  public void setName21(final String name21) {
+    this.name21 = name21;
+  }
+
+  public int getCount21() {
+    return count21;
+  }
+
+  public void setCount21(final int count21) {
+    this.count21 = count21;
+  }
+
+  public Double getRatio21() {
+    return ratio21;
+  }
+
+  public void setRatio21(final Double ratio21) {
+    this.ratio21 = ratio21;
+  }
+
+  public List<String> getTags21() {
+    return tags21;
+  }
+
+  public void setTags21(final List<String> tags21) {
+    this.tags21 = tags21;
+  }
+
+  public Map<String, Integer> getScores21() {
+    return scores21;
+  }
+
+  public void setScores21(final Map<String, Integer> scores21) {
+    this.scores21 = scores21;
+  }
+
+  public String getName22() {
+    return name22;
+  }
+
+  public void setName22(final String name22) {
+    this.name22 = name22;
+  }
+
+  public int getCount22() {
+    return count22;
+  }
+
+  public void setCount22(final int count22) {
+    this.count22 = count22;
+  }
+
+  public Double getRatio22() {
+    return ratio22;
+  }
+
+  public void setRatio22(final Double ratio22) {
+    this.ratio22 = ratio22;
+  }
+
+  public List<String> getTags22() {
+    return tags22;
+  }
+
+  public void setTags22(final List<String> tags22) {
+    this.tags22 = tags22;
+  }
+
+  public Map<String, Integer> getScores22() {
+    return scores22;
+  }
+
+  public void setScores22(final Map<String, Integer> scores22) {
+    this.scores22 = scores22;
+  }
+
+  public String getName23() {
+    return name23;
+  }
+
+  public void setName23(final String name23) {
+    this.name23 = name23;
+  }
+
+  public int getCount23() {
+    return count23;
+  }
+
+  public void setCount23(final int count23) {
+    this.count23 = count23;
+  }
+
+  public Double getRatio23() {
+    return ratio23;
+  }
+
+  public void setRatio23(final Double ratio23) {
+    this.ratio23 = ratio23;
+  }
+
+  public List<String> getTags23() {
+    return tags23;
+  }
+
+  public void setTags23(final List<String> tags23) {
+    this.tags23 = tags23;
+  }
+
+  public Map<String, Integer> getScores23() {
+    return scores23;
+  }
+
+  public void setScores23(final Map<String, Integer> scores23) {
+    this.scores23 = scores23;
+  }
+
+  public String getName24() {
+    return name24;
+  }
+
+  public void setName24(final String name24) {
+    this.name24 = name24;
+  }
+
+  public int getCount24() {
+    return count24;
+  }
+
+  public void setCount24(final int count24) {
+    this.count24 = count24;
+  }
+
+  public Double getRatio24() {
+    return ratio24;
+  }
+
+  public void setRatio24(final Double ratio24) {
+    this.ratio24 = ratio24;
+  }
+
+  public List<String> getTags24() {
+    return tags24;
+  }
+
+  public void setTags24(final List<String> tags24) {
+    this.tags24 = tags24;
+  }
+
+  public Map<String, Integer> getScores24() {
+    return scores24;
+  }
+
+  public void setScores24(final Map<String, Integer> scores24) {
+    this.scores24 = scores24;
+  }
+}
@@ -0,0 +1,15 @@
+package elemental2.core;
+
+/**
+ * JVM stand-in for the Global of elemental2-core, see {@code jsinterop.base.Js}. Parsing JSON text is not supported, the
+ * parsers are called with the maps standing in for parsed objects.
+ */
+public class Global {
+  public static final JsonType JSON = new JsonType();
+
+  public static class JsonType {
+    public Object parse(final String text) {
+      throw new UnsupportedOperationException("JSON.parse is not available on the JVM");
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package elemental2.core;
+
+import java.util.List;
+
+/**
+ * JVM stand-in for the JsArray of elemental2-core, see {@code jsinterop.base.Js}.
+ */
+public class JsArray<T> {
+  private final List<T> list;
+
+  JsArray(final List<T> list) {
+    this.list = list;
+  }
+
+  public List<T> asList() {
+    return list;
+  }
+}
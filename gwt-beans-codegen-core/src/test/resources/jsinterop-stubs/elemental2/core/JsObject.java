@@ -0,0 +1,12 @@
+package elemental2.core;
+
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * JVM stand-in for the JsObject of elemental2-core, see {@code jsinterop.base.Js}.
+ */
+public class JsObject {
+  public static JsArray<String> keys(final Object obj) {
+    return new JsArray<>(((JsPropertyMap<?>) obj).keys());
+  }
+}
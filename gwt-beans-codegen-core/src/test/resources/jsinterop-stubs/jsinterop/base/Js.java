@@ -0,0 +1,98 @@
+package jsinterop.base;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM stand-in for the casts of jsinterop-base, which only run in the browser, to run parsers generated for the JsInterop
+ * target in tests. JSON objects are maps, arrays are lists, numbers are doubles and undefined is a marker object. The casts
+ * check the type of the value like jsinterop-base does with its checks enabled.
+ */
+public final class Js {
+  private static final Object UNDEFINED = new Object();
+
+  private Js() {
+  }
+
+  public static Object undefined() {
+    return UNDEFINED;
+  }
+
+  public static boolean isTripleEqual(final Object o1, final Object o2) {
+    return o1 == o2;
+  }
+
+  public static String asString(final Object obj) {
+    checkType(obj == null || obj instanceof String);
+    return (String) obj;
+  }
+
+  public static int asInt(final Object obj) {
+    checkType(obj instanceof Double && (Double) obj == ((Double) obj).intValue());
+    return ((Double) obj).intValue();
+  }
+
+  public static double asDouble(final Object obj) {
+    checkType(obj instanceof Double);
+    return (Double) obj;
+  }
+
+  public static boolean asBoolean(final Object obj) {
+    checkType(obj instanceof Boolean);
+    return (Boolean) obj;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T uncheckedCast(final Object obj) {
+    return (T) obj;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> JsPropertyMap<T> asPropertyMap(final Object obj) {
+    if (obj == null || obj instanceof JsPropertyMap) {
+      return (JsPropertyMap<T>) obj;
+    }
+    final Map<String, Object> map = (Map<String, Object>) obj;
+    return new JsPropertyMap<T>() {
+      @Override
+      public boolean has(final String key) {
+        return map.containsKey(key);
+      }
+
+      @Override
+      public T get(final String key) {
+        return (T) (map.containsKey(key) ? map.get(key) : UNDEFINED);
+      }
+
+      @Override
+      public List<String> keys() {
+        return List.copyOf(map.keySet());
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> JsArrayLike<T> asArrayLike(final Object obj) {
+    if (obj == null) {
+      return null;
+    }
+    final List<Object> list = (List<Object>) obj;
+    return new JsArrayLike<T>() {
+      @Override
+      public int getLength() {
+        return list.size();
+      }
+
+      @Override
+      public T getAt(final int index) {
+        return (T) list.get(index);
+      }
+    };
+  }
+
+  private static void checkType(final boolean expression) {
+    if (!expression) {
+      throw new ClassCastException();
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package jsinterop.base;
+
+/**
+ * JVM stand-in for the JsArrayLike of jsinterop-base, see {@link Js}.
+ */
+public interface JsArrayLike<T> {
+  int getLength();
+
+  T getAt(int index);
+}
@@ -0,0 +1,20 @@
+package jsinterop.base;
+
+import java.util.List;
+
+/**
+ * JVM stand-in for the JsPropertyMap of jsinterop-base, see {@link Js}.
+ */
+public interface JsPropertyMap<T> {
+  boolean has(String key);
+
+  /**
+   * @return the value of the key, or {@link Js#undefined()} if the key is absent
+   */
+  T get(String key);
+
+  /**
+   * @return the keys of the object, read by the JsObject.keys stand-in
+   */
+  List<String> keys();
+}
@@ -11,7 +11,6 @@ public class AbstractMiddleTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -19,7 +18,6 @@ public class AbstractMiddleTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     throw new UnsupportedOperationException("Cannot directly instantiate abstract class or interface " + AbstractMiddleType.class.getName() + ". Use @JsonTypeInfo or a custom parser.");
   }
 
@@ -27,14 +25,19 @@ public class AbstractMiddleTypeParser {
     if (baseObj == null || config == null) {
       return;
     }
-
     // Parse fields from parent class (BaseType)
     BaseTypeParser.parse(baseObj, config);
 
-    // Parse middle
-    if (baseObj.has("middle") && !baseObj.isNull("middle")) {
-      final String value = baseObj.getString("middle");
-      config.setMiddle(value);
+    String currentField = null;
+    try {
+      // Parse middle
+      currentField = "middle";
+      if (baseObj.has("middle") && !baseObj.isNull("middle")) {
+        final String value = baseObj.getString("middle");
+        config.setMiddle(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
-}
\ No newline at end of file
+}
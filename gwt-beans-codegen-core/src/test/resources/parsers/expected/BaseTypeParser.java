@@ -11,29 +11,33 @@ public class BaseTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
-  
+
   public static BaseType parse(final JSONObjectHandle baseObj) {
     if (baseObj == null) {
       return null;
     }
-
     final BaseType config = new BaseType();
     parse(baseObj, config);
     return config;
   }
-  
+
   public static void parse(final JSONObjectHandle baseObj, final BaseType config) {
     if (baseObj == null || config == null) {
       return;
     }
-    
-    // Parse deepest
-    if (baseObj.has("deepest") && !baseObj.isNull("deepest")) {
-      final String value = baseObj.getString("deepest");
-      config.setDeepest(value);
+
+    String currentField = null;
+    try {
+      // Parse deepest
+      currentField = "deepest";
+      if (baseObj.has("deepest") && !baseObj.isNull("deepest")) {
+        final String value = baseObj.getString("deepest");
+        config.setDeepest(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
-} 
\ No newline at end of file
+}
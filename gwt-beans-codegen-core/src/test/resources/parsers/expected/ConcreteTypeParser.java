@@ -11,7 +11,6 @@ public class ConcreteTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -19,7 +18,6 @@ public class ConcreteTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final ConcreteType config = new ConcreteType();
     parse(baseObj, config);
     return config;
@@ -29,14 +27,19 @@ public class ConcreteTypeParser {
     if (baseObj == null || config == null) {
       return;
     }
-
     // Parse fields from parent class (AbstractMiddleType)
     AbstractMiddleTypeParser.parse(baseObj, config);
 
-    // Parse outer
-    if (baseObj.has("outer") && !baseObj.isNull("outer")) {
-      final String value = baseObj.getString("outer");
-      config.setOuter(value);
+    String currentField = null;
+    try {
+      // Parse outer
+      currentField = "outer";
+      if (baseObj.has("outer") && !baseObj.isNull("outer")) {
+        final String value = baseObj.getString("outer");
+        config.setOuter(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package nl.aerius.codegen.test.generated;
+
+import javax.annotation.processing.Generated;
+import nl.aerius.codegen.test.types.TestEnumType;
+
+@Generated(
+    value = "nl.aerius.codegen.ParserGenerator",
+    comments = "version: unknown-version (git: unknown-hash)"
+)
+public final class EnumDecoders {
+  private EnumDecoders() {
+  }
+
+  public static TestEnumType.Status decodeStatus(final String json) {
+    TestEnumType.Status value = null;
+    if (json != null) {
+      switch (json) {
+        case "ACTIVE":
+          value = TestEnumType.Status.ACTIVE;
+          break;
+        case "INACTIVE":
+          value = TestEnumType.Status.INACTIVE;
+          break;
+        case "PENDING":
+          value = TestEnumType.Status.PENDING;
+          break;
+        case "COMPLETED":
+          value = TestEnumType.Status.COMPLETED;
+          break;
+        default:
+          // Unknown enum value, leave as null
+          break;
+      }
+    }
+    return value;
+  }
+
+  public static TestEnumType.Priority decodePriority(final String json) {
+    TestEnumType.Priority value = null;
+    if (json != null) {
+      switch (json) {
+        case "LOW":
+          value = TestEnumType.Priority.LOW;
+          break;
+        case "MEDIUM":
+          value = TestEnumType.Priority.MEDIUM;
+          break;
+        case "HIGH":
+          value = TestEnumType.Priority.HIGH;
+          break;
+        case "CRITICAL":
+          value = TestEnumType.Priority.CRITICAL;
+          break;
+        default:
+          // Unknown enum value, leave as null
+          break;
+      }
+    }
+    return value;
+  }
+
+  public static TestEnumType.Category decodeCategory(final String json) {
+    TestEnumType.Category value = null;
+    if (json != null) {
+      switch (json) {
+        case "first-class":
+          value = TestEnumType.Category.FIRST_CLASS;
+          break;
+        case "economy":
+          value = TestEnumType.Category.ECONOMY;
+          break;
+        default:
+          // Unknown enum value, leave as null
+          break;
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,68 @@
+package nl.aerius.codegen.test.generated;
+
+import javax.annotation.processing.Generated;
+
+@Generated(
+    value = "nl.aerius.codegen.ParserGenerator",
+    comments = "version: unknown-version (git: unknown-hash)"
+)
+public class ParseException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  private String path;
+
+  private final String snippet;
+
+  public ParseException(final String message) {
+    super(message);
+    this.path = "";
+    this.snippet = snippet(message);
+  }
+
+  private ParseException(final String path, final String snippet, final RuntimeException cause) {
+    super(snippet, cause);
+    this.path = path;
+    this.snippet = snippet;
+  }
+
+  /**
+   * Returns an exception for an error that occurred while parsing the given segment of the JSON, prepending the
+   * segment to the path of the error. A {@code null} segment leaves the path as is.
+   */
+  public static ParseException at(final String segment, final RuntimeException cause) {
+    final String prefix = segment == null ? "" : "/" + escape(segment);
+    if (cause instanceof ParseException) {
+      final ParseException error = (ParseException) cause;
+      error.path = prefix + error.path;
+      return error;
+    }
+    return new ParseException(prefix, snippet(cause.getMessage()), cause);
+  }
+
+  /**
+   * @return the JSON pointer to the value that failed to parse, empty for the document itself
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * @return the description of the error, cut off after 200 characters
+   */
+  public String getSnippet() {
+    return snippet;
+  }
+
+  @Override
+  public String getMessage() {
+    return "Failed to parse JSON at '" + path + "': " + snippet;
+  }
+
+  private static String escape(final String segment) {
+    return segment.replace("~", "~0").replace("/", "~1");
+  }
+
+  private static String snippet(final String message) {
+    return message == null || message.length() <= 200 ? message : message.substring(0, 200) + "...";
+  }
+}
@@ -19,7 +19,6 @@ public class TestAdvancedMapTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -27,7 +26,6 @@ public class TestAdvancedMapTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestAdvancedMapType config = new TestAdvancedMapType();
     parse(baseObj, config);
     return config;
@@ -38,64 +36,97 @@ public class TestAdvancedMapTypeParser {
       return;
     }
 
-    // Parse doubleListMap
-    if (baseObj.has("doubleListMap") && !baseObj.isNull("doubleListMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("doubleListMap");
-      final Map<String, List<Double>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONArrayHandle level2Array = obj.getArray(key);
-        final List<Double> level2List = new ArrayList<>();
-        level2Array.forEachNumber(level2List::add);
-        map.put(key, level2List);
-      });
-      config.setDoubleListMap(map);
-    }
+    String currentField = null;
+    try {
+      // Parse doubleListMap
+      currentField = "doubleListMap";
+      if (baseObj.has("doubleListMap") && !baseObj.isNull("doubleListMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("doubleListMap");
+        final Map<String, List<Double>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONArrayHandle level2Array = obj.getArray(key);
+            final List<Double> level2List = new ArrayList<>();
+            level2Array.forEachNumber(level2List::add);
+            map.put(key, level2List);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setDoubleListMap(map);
+      }
 
-    // Parse stringListMap
-    if (baseObj.has("stringListMap") && !baseObj.isNull("stringListMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("stringListMap");
-      final Map<String, List<String>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONArrayHandle level2Array = obj.getArray(key);
-        final List<String> level2List = new ArrayList<>();
-        level2Array.forEachString(level2List::add);
-        map.put(key, level2List);
-      });
-      config.setStringListMap(map);
-    }
+      // Parse stringListMap
+      currentField = "stringListMap";
+      if (baseObj.has("stringListMap") && !baseObj.isNull("stringListMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("stringListMap");
+        final Map<String, List<String>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONArrayHandle level2Array = obj.getArray(key);
+            final List<String> level2List = new ArrayList<>();
+            level2Array.forEachString(level2List::add);
+            map.put(key, level2List);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setStringListMap(map);
+      }
 
-    // Parse objectListMap
-    if (baseObj.has("objectListMap") && !baseObj.isNull("objectListMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("objectListMap");
-      final Map<String, List<TestSimpleTypesType>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONArrayHandle level2Array = obj.getArray(key);
-        final List<TestSimpleTypesType> level2List = new ArrayList<>();
-        level2Array.forEach(level2Item -> {
-          final TestSimpleTypesType level3Value = TestSimpleTypesTypeParser.parse(level2Item);
-          level2List.add(level3Value);
+      // Parse objectListMap
+      currentField = "objectListMap";
+      if (baseObj.has("objectListMap") && !baseObj.isNull("objectListMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("objectListMap");
+        final Map<String, List<TestSimpleTypesType>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONArrayHandle level2Array = obj.getArray(key);
+            final List<TestSimpleTypesType> level2List = new ArrayList<>();
+            level2Array.forEachWithIndex((level2Item, level2Index) -> {
+              try {
+                if (level2Array.isNull(level2Index)) {
+                  level2List.add(null);
+                } else {
+                  final TestSimpleTypesType level3Value = TestSimpleTypesTypeParser.parse(level2Item);
+                  level2List.add(level3Value);
+                }
+              } catch (final RuntimeException e) {
+                throw ParseException.at(String.valueOf(level2Index), e);
+              }
+            });
+            map.put(key, level2List);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
         });
-        map.put(key, level2List);
-      });
-      config.setObjectListMap(map);
-    }
+        config.setObjectListMap(map);
+      }
 
-    // Parse complexKeyMap
-    if (baseObj.has("complexKeyMap") && !baseObj.isNull("complexKeyMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("complexKeyMap");
-      final Map<TestComplexKeyType, Double> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final Double level2Value = obj.getNumber(key);
-        map.put(TestComplexKeyType.fromStringValue(key), level2Value);
-      });
-      config.setComplexKeyMap(map);
-    }
+      // Parse complexKeyMap
+      currentField = "complexKeyMap";
+      if (baseObj.has("complexKeyMap") && !baseObj.isNull("complexKeyMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("complexKeyMap");
+        final Map<TestComplexKeyType, Double> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final Double level2Value = obj.getNumber(key);
+            map.put(TestComplexKeyType.fromStringValue(key), level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setComplexKeyMap(map);
+      }
 
-    // Parse sanity
-    if (baseObj.has("sanity") && !baseObj.isNull("sanity")) {
-      final String value = baseObj.getString("sanity");
-      config.setSanity(value);
+      // Parse sanity
+      currentField = "sanity";
+      if (baseObj.has("sanity") && !baseObj.isNull("sanity")) {
+        final String value = baseObj.getString("sanity");
+        config.setSanity(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
-
   }
 }
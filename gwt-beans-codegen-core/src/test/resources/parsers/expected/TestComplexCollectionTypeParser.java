@@ -16,7 +16,6 @@ public class TestComplexCollectionTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -24,7 +23,6 @@ public class TestComplexCollectionTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestComplexCollectionType config = new TestComplexCollectionType();
     parse(baseObj, config);
     return config;
@@ -35,110 +33,153 @@ public class TestComplexCollectionTypeParser {
       return;
     }
 
-    // Parse objectMap
-    if (baseObj.has("objectMap") && !baseObj.isNull("objectMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("objectMap");
-      final Map<String, TestSimpleTypesType> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final TestSimpleTypesType level2Value = TestSimpleTypesTypeParser.parse(obj.getObject(key));
-        map.put(key, level2Value);
-      });
-      config.setObjectMap(map);
-    }
-
-    // Parse sanity
-    if (baseObj.has("sanity") && !baseObj.isNull("sanity")) {
-      final String value = baseObj.getString("sanity");
-      config.setSanity(value);
-    }
-
-    // Parse integerMap
-    if (baseObj.has("integerMap") && !baseObj.isNull("integerMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("integerMap");
-      final Map<String, Integer> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final Integer level2Value = obj.getInteger(key);
-        map.put(key, level2Value);
-      });
-      config.setIntegerMap(map);
-    }
-
-    // Parse doubleMap
-    if (baseObj.has("doubleMap") && !baseObj.isNull("doubleMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("doubleMap");
-      final Map<String, Double> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final Double level2Value = obj.getNumber(key);
-        map.put(key, level2Value);
-      });
-      config.setDoubleMap(map);
-    }
-
-    // Parse enumKeyStringMap
-    if (baseObj.has("enumKeyStringMap") && !baseObj.isNull("enumKeyStringMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("enumKeyStringMap");
-      final Map<TestEnumType.Status, String> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final String level2Value = obj.getString(key);
-        final TestEnumType.Status enumKey = TestEnumType.Status.valueOf(key);
-        map.put(enumKey, level2Value);
-      });
-      config.setEnumKeyStringMap(map);
-    }
-
-    // Parse enumKeyObjectMap
-    if (baseObj.has("enumKeyObjectMap") && !baseObj.isNull("enumKeyObjectMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("enumKeyObjectMap");
-      final Map<TestEnumType.Status, TestSimpleTypesType> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final TestSimpleTypesType level2Value = TestSimpleTypesTypeParser.parse(obj.getObject(key));
-        final TestEnumType.Status enumKey = TestEnumType.Status.valueOf(key);
-        map.put(enumKey, level2Value);
-      });
-      config.setEnumKeyObjectMap(map);
-    }
-
-    // Parse enumKeyIntegerMap
-    if (baseObj.has("enumKeyIntegerMap") && !baseObj.isNull("enumKeyIntegerMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("enumKeyIntegerMap");
-      final Map<TestEnumType.Status, Integer> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final Integer level2Value = obj.getInteger(key);
-        final TestEnumType.Status enumKey = TestEnumType.Status.valueOf(key);
-        map.put(enumKey, level2Value);
-      });
-      config.setEnumKeyIntegerMap(map);
-    }
-
-    // Parse integerKeyEnumMap
-    if (baseObj.has("integerKeyEnumMap") && !baseObj.isNull("integerKeyEnumMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("integerKeyEnumMap");
-      final Map<Integer, TestEnumType.Status> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final String level2Str = obj.getString(key);
-        TestEnumType.Status level2Value = null;
-        if (level2Str != null) {
+    String currentField = null;
+    try {
+      // Parse objectMap
+      currentField = "objectMap";
+      if (baseObj.has("objectMap") && !baseObj.isNull("objectMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("objectMap");
+        final Map<String, TestSimpleTypesType> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
           try {
-            level2Value = TestEnumType.Status.valueOf(level2Str);
-          } catch (IllegalArgumentException e) {
-            // Invalid enum value, leave as default
+            final TestSimpleTypesType level2Value = TestSimpleTypesTypeParser.parse(obj.getObject(key));
+            map.put(key, level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
           }
-        }
-        map.put(Integer.parseInt(key), level2Value);
-      });
-      config.setIntegerKeyEnumMap(map);
-    }
-
-    // Parse integerKeyObjectMap
-    if (baseObj.has("integerKeyObjectMap") && !baseObj.isNull("integerKeyObjectMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("integerKeyObjectMap");
-      final Map<Integer, TestSimpleTypesType> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final TestSimpleTypesType level2Value = TestSimpleTypesTypeParser.parse(obj.getObject(key));
-        map.put(Integer.parseInt(key), level2Value);
-      });
-      config.setIntegerKeyObjectMap(map);
+        });
+        config.setObjectMap(map);
+      }
+
+      // Parse sanity
+      currentField = "sanity";
+      if (baseObj.has("sanity") && !baseObj.isNull("sanity")) {
+        final String value = baseObj.getString("sanity");
+        config.setSanity(value);
+      }
+
+      // Parse integerMap
+      currentField = "integerMap";
+      if (baseObj.has("integerMap") && !baseObj.isNull("integerMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("integerMap");
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final Integer level2Value = obj.getInteger(key);
+            map.put(key, level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setIntegerMap(map);
+      }
+
+      // Parse doubleMap
+      currentField = "doubleMap";
+      if (baseObj.has("doubleMap") && !baseObj.isNull("doubleMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("doubleMap");
+        final Map<String, Double> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final Double level2Value = obj.getNumber(key);
+            map.put(key, level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setDoubleMap(map);
+      }
+
+      // Parse enumKeyStringMap
+      currentField = "enumKeyStringMap";
+      if (baseObj.has("enumKeyStringMap") && !baseObj.isNull("enumKeyStringMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("enumKeyStringMap");
+        final Map<TestEnumType.Status, String> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final String level2Value = obj.getString(key);
+            final TestEnumType.Status enumKey = EnumDecoders.decodeStatus(key);
+            if (enumKey != null) {
+              map.put(enumKey, level2Value);
+            }
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setEnumKeyStringMap(map);
+      }
+
+      // Parse enumKeyObjectMap
+      currentField = "enumKeyObjectMap";
+      if (baseObj.has("enumKeyObjectMap") && !baseObj.isNull("enumKeyObjectMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("enumKeyObjectMap");
+        final Map<TestEnumType.Status, TestSimpleTypesType> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final TestSimpleTypesType level2Value = TestSimpleTypesTypeParser.parse(obj.getObject(key));
+            final TestEnumType.Status enumKey = EnumDecoders.decodeStatus(key);
+            if (enumKey != null) {
+              map.put(enumKey, level2Value);
+            }
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setEnumKeyObjectMap(map);
+      }
+
+      // Parse enumKeyIntegerMap
+      currentField = "enumKeyIntegerMap";
+      if (baseObj.has("enumKeyIntegerMap") && !baseObj.isNull("enumKeyIntegerMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("enumKeyIntegerMap");
+        final Map<TestEnumType.Status, Integer> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final Integer level2Value = obj.getInteger(key);
+            final TestEnumType.Status enumKey = EnumDecoders.decodeStatus(key);
+            if (enumKey != null) {
+              map.put(enumKey, level2Value);
+            }
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setEnumKeyIntegerMap(map);
+      }
+
+      // Parse integerKeyEnumMap
+      currentField = "integerKeyEnumMap";
+      if (baseObj.has("integerKeyEnumMap") && !baseObj.isNull("integerKeyEnumMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("integerKeyEnumMap");
+        final Map<Integer, TestEnumType.Status> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final TestEnumType.Status level2Value = EnumDecoders.decodeStatus(obj.getString(key));
+            map.put(Integer.parseInt(key), level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setIntegerKeyEnumMap(map);
+      }
+
+      // Parse integerKeyObjectMap
+      currentField = "integerKeyObjectMap";
+      if (baseObj.has("integerKeyObjectMap") && !baseObj.isNull("integerKeyObjectMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("integerKeyObjectMap");
+        final Map<Integer, TestSimpleTypesType> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final TestSimpleTypesType level2Value = TestSimpleTypesTypeParser.parse(obj.getObject(key));
+            map.put(Integer.parseInt(key), level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setIntegerKeyObjectMap(map);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
-
   }
 }
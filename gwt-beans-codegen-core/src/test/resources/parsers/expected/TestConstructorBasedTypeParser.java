@@ -11,7 +11,6 @@ public class TestConstructorBasedTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -20,24 +19,32 @@ public class TestConstructorBasedTypeParser {
       return null;
     }
 
-    // Parse name
-    if (!baseObj.has("name")) {
-      throw new RuntimeException("Required field 'name' is missing");
-    }
-    final String name = baseObj.getString("name");
-
-    // Parse value
-    if (!baseObj.has("value")) {
-      throw new RuntimeException("Required field 'value' is missing");
+    String currentField = null;
+    try {
+      // Parse name
+      currentField = "name";
+      if (!baseObj.has("name")) {
+        throw new ParseException("Required field 'name' is missing");
+      }
+      final String name = baseObj.getString("name");
+
+      // Parse value
+      currentField = "value";
+      if (!baseObj.has("value")) {
+        throw new ParseException("Required field 'value' is missing");
+      }
+      final int value = baseObj.getInteger("value");
+
+      // Parse optionalValue
+      currentField = "optionalValue";
+      if (!baseObj.has("optionalValue")) {
+        throw new ParseException("Required field 'optionalValue' is missing");
+      }
+      final Double optionalValue = baseObj.getNumber("optionalValue");
+
+      return new TestConstructorBasedType(name, value, optionalValue);
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
-    final int value = baseObj.getInteger("value");
-
-    // Parse optionalValue
-    if (!baseObj.has("optionalValue")) {
-      throw new RuntimeException("Required field 'optionalValue' is missing");
-    }
-    final Double optionalValue = baseObj.getNumber("optionalValue");
-
-    return new TestConstructorBasedType(name, value, optionalValue);
   }
 }
@@ -19,7 +19,6 @@ public class TestConstructorWithGenericsTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -28,57 +27,71 @@ public class TestConstructorWithGenericsTypeParser {
       return null;
     }
 
-    // Parse tags
-    if (!baseObj.has("tags")) {
-      throw new RuntimeException("Required field 'tags' is missing");
-    }
-    final JSONArrayHandle tagsArray = baseObj.getArray("tags");
-    final List<String> tags = new ArrayList<>();
-    tagsArray.forEachString(tags::add);
+    String currentField = null;
+    try {
+      // Parse tags
+      currentField = "tags";
+      if (!baseObj.has("tags")) {
+        throw new ParseException("Required field 'tags' is missing");
+      }
+      final JSONArrayHandle tagsArray = baseObj.getArray("tags");
+      final List<String> tags = new ArrayList<>();
+      tagsArray.forEachString(tags::add);
 
-    // Parse counts
-    if (!baseObj.has("counts")) {
-      throw new RuntimeException("Required field 'counts' is missing");
-    }
-    final JSONObjectHandle obj = baseObj.getObject("counts");
-    final Map<String, Integer> counts = new LinkedHashMap<>();
-    obj.keySet().forEach(key -> {
-      final Integer level2Value = obj.getInteger(key);
-      counts.put(key, level2Value);
-    });
+      // Parse counts
+      currentField = "counts";
+      if (!baseObj.has("counts")) {
+        throw new ParseException("Required field 'counts' is missing");
+      }
+      final JSONObjectHandle countsObj = baseObj.getObject("counts");
+      final Map<String, Integer> counts = new LinkedHashMap<>();
+      countsObj.keySet().forEach(countsKey -> {
+        try {
+          final Integer level2Value = countsObj.getInteger(countsKey);
+          counts.put(countsKey, level2Value);
+        } catch (final RuntimeException e) {
+          throw ParseException.at(countsKey, e);
+        }
+      });
 
-    // Parse labels
-    if (!baseObj.has("labels")) {
-      throw new RuntimeException("Required field 'labels' is missing");
-    }
-    final JSONArrayHandle labelsArray = baseObj.getArray("labels");
-    final Set<String> labels = new HashSet<>();
-    labelsArray.forEachString(labels::add);
+      // Parse labels
+      currentField = "labels";
+      if (!baseObj.has("labels")) {
+        throw new ParseException("Required field 'labels' is missing");
+      }
+      final JSONArrayHandle labelsArray = baseObj.getArray("labels");
+      final Set<String> labels = new HashSet<>();
+      labelsArray.forEachString(labels::add);
 
-    // Parse sizes
-    if (!baseObj.has("sizes")) {
-      throw new RuntimeException("Required field 'sizes' is missing");
-    }
-    int[] sizes = null;
-    final JSONArrayHandle sizesJsonArray = baseObj.getArray("sizes");
-    if (sizesJsonArray != null) {
-      final List<Integer> sizesTempList = new ArrayList<>();
-      sizesJsonArray.forEachInteger(sizesTempList::add);
-      sizes = sizesTempList.stream().mapToInt(i -> i != null ? i.intValue() : 0).toArray();
-    }
+      // Parse sizes
+      currentField = "sizes";
+      if (!baseObj.has("sizes")) {
+        throw new ParseException("Required field 'sizes' is missing");
+      }
+      int[] sizes = null;
+      final JSONArrayHandle sizesJsonArray = baseObj.getArray("sizes");
+      if (sizesJsonArray != null) {
+        final List<Integer> sizesTempList = new ArrayList<>();
+        sizesJsonArray.forEachInteger(sizesTempList::add);
+        sizes = sizesTempList.stream().mapToInt(i -> i != null ? i.intValue() : 0).toArray();
+      }
 
-    // Parse aliases
-    if (!baseObj.has("aliases")) {
-      throw new RuntimeException("Required field 'aliases' is missing");
-    }
-    String[] aliases = null;
-    final JSONArrayHandle aliasesJsonArray = baseObj.getArray("aliases");
-    if (aliasesJsonArray != null) {
-      final List<String> aliasesTempList = new ArrayList<>();
-      aliasesJsonArray.forEachString(aliasesTempList::add);
-      aliases = aliasesTempList.toArray(new String[0]);
-    }
+      // Parse aliases
+      currentField = "aliases";
+      if (!baseObj.has("aliases")) {
+        throw new ParseException("Required field 'aliases' is missing");
+      }
+      String[] aliases = null;
+      final JSONArrayHandle aliasesJsonArray = baseObj.getArray("aliases");
+      if (aliasesJsonArray != null) {
+        final List<String> aliasesTempList = new ArrayList<>();
+        aliasesJsonArray.forEachString(aliasesTempList::add);
+        aliases = aliasesTempList.toArray(new String[0]);
+      }
 
-    return new TestConstructorWithGenericsType(tags, counts, labels, sizes, aliases);
+      return new TestConstructorWithGenericsType(tags, counts, labels, sizes, aliases);
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
+    }
   }
 }
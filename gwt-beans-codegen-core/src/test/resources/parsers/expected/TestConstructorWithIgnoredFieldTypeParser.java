@@ -11,7 +11,6 @@ public class TestConstructorWithIgnoredFieldTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -20,12 +19,18 @@ public class TestConstructorWithIgnoredFieldTypeParser {
       return null;
     }
 
-    // Parse name
-    if (!baseObj.has("name")) {
-      throw new RuntimeException("Required field 'name' is missing");
-    }
-    final String name = baseObj.getString("name");
+    String currentField = null;
+    try {
+      // Parse name
+      currentField = "name";
+      if (!baseObj.has("name")) {
+        throw new ParseException("Required field 'name' is missing");
+      }
+      final String name = baseObj.getString("name");
 
-    return new TestConstructorWithIgnoredFieldType(name);
+      return new TestConstructorWithIgnoredFieldType(name);
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
+    }
   }
 }
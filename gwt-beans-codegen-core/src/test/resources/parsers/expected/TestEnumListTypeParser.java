@@ -16,12 +16,10 @@ import nl.aerius.json.JSONObjectHandle;
 
 @Generated(value = "nl.aerius.codegen.ParserGenerator", date = "2024-01-01T00:00:00")
 public class TestEnumListTypeParser {
-
   public static TestEnumListType parse(final String jsonText) {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -29,7 +27,6 @@ public class TestEnumListTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestEnumListType config = new TestEnumListType();
     parse(baseObj, config);
     return config;
@@ -40,66 +37,56 @@ public class TestEnumListTypeParser {
       return;
     }
 
-    // Parse statusList
-    if (baseObj.has("statusList") && !baseObj.isNull("statusList")) {
-      final JSONArrayHandle array = baseObj.getArray("statusList");
-      final List<TestEnumType.Status> list = new ArrayList<>();
-      array.forEachString(item -> {
-        TestEnumType.Status level2Value = null;
-        if (item != null) {
-          try {
-            level2Value = TestEnumType.Status.valueOf(item);
-          } catch (IllegalArgumentException e) {
-            // Invalid enum value, leave as default
-          }
-        }
-        list.add(level2Value);
-      });
-      config.setStatusList(list);
-    }
+    String currentField = null;
+    try {
+      // Parse statusList
+      currentField = "statusList";
+      if (baseObj.has("statusList") && !baseObj.isNull("statusList")) {
+        final JSONArrayHandle array = baseObj.getArray("statusList");
+        final List<TestEnumType.Status> list = new ArrayList<>();
+        array.forEachString(item -> {
+          final TestEnumType.Status level2Value = EnumDecoders.decodeStatus(item);
+          list.add(level2Value);
+        });
+        config.setStatusList(list);
+      }
 
-    // Parse statusSet
-    if (baseObj.has("statusSet") && !baseObj.isNull("statusSet")) {
-      final JSONArrayHandle array = baseObj.getArray("statusSet");
-      final Set<TestEnumType.Status> set = new HashSet<>();
-      array.forEachString(item -> {
-        TestEnumType.Status level2Value = null;
-        if (item != null) {
-          try {
-            level2Value = TestEnumType.Status.valueOf(item);
-          } catch (IllegalArgumentException e) {
-            // Invalid enum value, leave as default
-          }
-        }
-        set.add(level2Value);
-      });
-      config.setStatusSet(set);
-    }
+      // Parse statusSet
+      currentField = "statusSet";
+      if (baseObj.has("statusSet") && !baseObj.isNull("statusSet")) {
+        final JSONArrayHandle array = baseObj.getArray("statusSet");
+        final Set<TestEnumType.Status> set = new HashSet<>();
+        array.forEachString(item -> {
+          final TestEnumType.Status level2Value = EnumDecoders.decodeStatus(item);
+          set.add(level2Value);
+        });
+        config.setStatusSet(set);
+      }
 
-    // Parse statusMap
-    if (baseObj.has("statusMap") && !baseObj.isNull("statusMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("statusMap");
-      final Map<String, TestEnumType.Status> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final String level2Str = obj.getString(key);
-        TestEnumType.Status level2Value = null;
-        if (level2Str != null) {
+      // Parse statusMap
+      currentField = "statusMap";
+      if (baseObj.has("statusMap") && !baseObj.isNull("statusMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("statusMap");
+        final Map<String, TestEnumType.Status> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
           try {
-            level2Value = TestEnumType.Status.valueOf(level2Str);
-          } catch (IllegalArgumentException e) {
-            // Invalid enum value, leave as default
+            final TestEnumType.Status level2Value = EnumDecoders.decodeStatus(obj.getString(key));
+            map.put(key, level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
           }
-        }
-        map.put(key, level2Value);
-      });
-      config.setStatusMap(map);
-    }
+        });
+        config.setStatusMap(map);
+      }
 
-    // Parse description
-    if (baseObj.has("description") && !baseObj.isNull("description")) {
-      final String value = baseObj.getString("description");
-      config.setDescription(value);
+      // Parse description
+      currentField = "description";
+      if (baseObj.has("description") && !baseObj.isNull("description")) {
+        final String value = baseObj.getString("description");
+        config.setDescription(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
-
   }
 }
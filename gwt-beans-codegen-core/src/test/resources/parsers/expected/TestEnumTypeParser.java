@@ -11,7 +11,6 @@ public class TestEnumTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -19,7 +18,6 @@ public class TestEnumTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestEnumType config = new TestEnumType();
     parse(baseObj, config);
     return config;
@@ -30,46 +28,37 @@ public class TestEnumTypeParser {
       return;
     }
 
-    // Parse status
-    if (baseObj.has("status") && !baseObj.isNull("status")) {
-      final String str = baseObj.getString("status");
-      TestEnumType.Status value = null;
-      if (str != null) {
-        try {
-          value = TestEnumType.Status.valueOf(str);
-        } catch (IllegalArgumentException e) {
-          // Invalid enum value, leave as default
-        }
+    String currentField = null;
+    try {
+      // Parse status
+      currentField = "status";
+      if (baseObj.has("status") && !baseObj.isNull("status")) {
+        final TestEnumType.Status value = EnumDecoders.decodeStatus(baseObj.getString("status"));
+        config.setStatus(value);
       }
-      config.setStatus(value);
-    }
 
-    // Parse priority
-    if (baseObj.has("priority") && !baseObj.isNull("priority")) {
-      final String str = baseObj.getString("priority");
-      TestEnumType.Priority value = null;
-      if (str != null) {
-        try {
-          value = TestEnumType.Priority.valueOf(str);
-        } catch (IllegalArgumentException e) {
-          // Invalid enum value, leave as default
-        }
+      // Parse priority
+      currentField = "priority";
+      if (baseObj.has("priority") && !baseObj.isNull("priority")) {
+        final TestEnumType.Priority value = EnumDecoders.decodePriority(baseObj.getString("priority"));
+        config.setPriority(value);
+      }
+
+      // Parse nullableStatus
+      currentField = "nullableStatus";
+      if (baseObj.has("nullableStatus") && !baseObj.isNull("nullableStatus")) {
+        final TestEnumType.Status value = EnumDecoders.decodeStatus(baseObj.getString("nullableStatus"));
+        config.setNullableStatus(value);
       }
-      config.setPriority(value);
-    }
 
-    // Parse nullableStatus
-    if (baseObj.has("nullableStatus") && !baseObj.isNull("nullableStatus")) {
-      final String str = baseObj.getString("nullableStatus");
-      TestEnumType.Status value = null;
-      if (str != null) {
-        try {
-          value = TestEnumType.Status.valueOf(str);
-        } catch (IllegalArgumentException e) {
-          // Invalid enum value, leave as default
-        }
+      // Parse category
+      currentField = "category";
+      if (baseObj.has("category") && !baseObj.isNull("category")) {
+        final TestEnumType.Category value = EnumDecoders.decodeCategory(baseObj.getString("category"));
+        config.setCategory(value);
       }
-      config.setNullableStatus(value);
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
 }
@@ -32,110 +32,182 @@ public class TestNestedMapTypeParser {
       return;
     }
 
-    // Parse stringToNestedIntMap
-    if (baseObj.has("stringToNestedIntMap") && !baseObj.isNull("stringToNestedIntMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("stringToNestedIntMap");
-      final Map<String, Map<String, Integer>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONObjectHandle level2Obj = obj.getObject(key);
-        final Map<String, Integer> level2Map = new LinkedHashMap<>();
-        level2Obj.keySet().forEach(level2Key -> {
-          final Integer level3Value = level2Obj.getInteger(level2Key);
-          level2Map.put(level2Key, level3Value);
+    String currentField = null;
+    try {
+      // Parse stringToNestedIntMap
+      currentField = "stringToNestedIntMap";
+      if (baseObj.has("stringToNestedIntMap") && !baseObj.isNull("stringToNestedIntMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("stringToNestedIntMap");
+        final Map<String, Map<String, Integer>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONObjectHandle level2Obj = obj.getObject(key);
+            final Map<String, Integer> level2Map = new LinkedHashMap<>();
+            level2Obj.keySet().forEach(level2Key -> {
+              try {
+                final Integer level3Value = level2Obj.getInteger(level2Key);
+                level2Map.put(level2Key, level3Value);
+              } catch (final RuntimeException e) {
+                throw ParseException.at(level2Key, e);
+              }
+            });
+            map.put(key, level2Map);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
         });
-        map.put(key, level2Map);
-      });
-      config.setStringToNestedIntMap(map);
-    }
+        config.setStringToNestedIntMap(map);
+      }
 
-    // Parse deeplyNestedDoubleMap
-    if (baseObj.has("deeplyNestedDoubleMap") && !baseObj.isNull("deeplyNestedDoubleMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("deeplyNestedDoubleMap");
-      final Map<String, Map<String, Map<String, Double>>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONObjectHandle level2Obj = obj.getObject(key);
-        final Map<String, Map<String, Double>> level2Map = new LinkedHashMap<>();
-        level2Obj.keySet().forEach(level2Key -> {
-          final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
-          final Map<String, Double> level3Map = new LinkedHashMap<>();
-          level3Obj.keySet().forEach(level3Key -> {
-            final Double level4Value = level3Obj.getNumber(level3Key);
-            level3Map.put(level3Key, level4Value);
-          });
-          level2Map.put(level2Key, level3Map);
+      // Parse deeplyNestedDoubleMap
+      currentField = "deeplyNestedDoubleMap";
+      if (baseObj.has("deeplyNestedDoubleMap") && !baseObj.isNull("deeplyNestedDoubleMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("deeplyNestedDoubleMap");
+        final Map<String, Map<String, Map<String, Double>>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONObjectHandle level2Obj = obj.getObject(key);
+            final Map<String, Map<String, Double>> level2Map = new LinkedHashMap<>();
+            level2Obj.keySet().forEach(level2Key -> {
+              try {
+                final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
+                final Map<String, Double> level3Map = new LinkedHashMap<>();
+                level3Obj.keySet().forEach(level3Key -> {
+                  try {
+                    final Double level4Value = level3Obj.getNumber(level3Key);
+                    level3Map.put(level3Key, level4Value);
+                  } catch (final RuntimeException e) {
+                    throw ParseException.at(level3Key, e);
+                  }
+                });
+                level2Map.put(level2Key, level3Map);
+              } catch (final RuntimeException e) {
+                throw ParseException.at(level2Key, e);
+              }
+            });
+            map.put(key, level2Map);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
         });
-        map.put(key, level2Map);
-      });
-      config.setDeeplyNestedDoubleMap(map);
-    }
+        config.setDeeplyNestedDoubleMap(map);
+      }
 
-    // Parse mixedNestedMap
-    if (baseObj.has("mixedNestedMap") && !baseObj.isNull("mixedNestedMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("mixedNestedMap");
-      final Map<String, Map<Integer, Map<String, Boolean>>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONObjectHandle level2Obj = obj.getObject(key);
-        final Map<Integer, Map<String, Boolean>> level2Map = new LinkedHashMap<>();
-        level2Obj.keySet().forEach(level2Key -> {
-          final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
-          final Map<String, Boolean> level3Map = new LinkedHashMap<>();
-          level3Obj.keySet().forEach(level3Key -> {
-            final Boolean level4Value = level3Obj.getBoolean(level3Key);
-            level3Map.put(level3Key, level4Value);
-          });
-          level2Map.put(Integer.parseInt(level2Key), level3Map);
+      // Parse mixedNestedMap
+      currentField = "mixedNestedMap";
+      if (baseObj.has("mixedNestedMap") && !baseObj.isNull("mixedNestedMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("mixedNestedMap");
+        final Map<String, Map<Integer, Map<String, Boolean>>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONObjectHandle level2Obj = obj.getObject(key);
+            final Map<Integer, Map<String, Boolean>> level2Map = new LinkedHashMap<>();
+            level2Obj.keySet().forEach(level2Key -> {
+              try {
+                final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
+                final Map<String, Boolean> level3Map = new LinkedHashMap<>();
+                level3Obj.keySet().forEach(level3Key -> {
+                  try {
+                    final Boolean level4Value = level3Obj.getBoolean(level3Key);
+                    level3Map.put(level3Key, level4Value);
+                  } catch (final RuntimeException e) {
+                    throw ParseException.at(level3Key, e);
+                  }
+                });
+                level2Map.put(Integer.parseInt(level2Key), level3Map);
+              } catch (final RuntimeException e) {
+                throw ParseException.at(level2Key, e);
+              }
+            });
+            map.put(key, level2Map);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
         });
-        map.put(key, level2Map);
-      });
-      config.setMixedNestedMap(map);
-    }
+        config.setMixedNestedMap(map);
+      }
 
-    // Parse enumKeyNestedMap
-    if (baseObj.has("enumKeyNestedMap") && !baseObj.isNull("enumKeyNestedMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("enumKeyNestedMap");
-      final Map<TestEnumType.Status, Map<String, Map<String, Integer>>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONObjectHandle level2Obj = obj.getObject(key);
-        final Map<String, Map<String, Integer>> level2Map = new LinkedHashMap<>();
-        level2Obj.keySet().forEach(level2Key -> {
-          final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
-          final Map<String, Integer> level3Map = new LinkedHashMap<>();
-          level3Obj.keySet().forEach(level3Key -> {
-            final Integer level4Value = level3Obj.getInteger(level3Key);
-            level3Map.put(level3Key, level4Value);
-          });
-          level2Map.put(level2Key, level3Map);
+      // Parse enumKeyNestedMap
+      currentField = "enumKeyNestedMap";
+      if (baseObj.has("enumKeyNestedMap") && !baseObj.isNull("enumKeyNestedMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("enumKeyNestedMap");
+        final Map<TestEnumType.Status, Map<String, Map<String, Integer>>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONObjectHandle level2Obj = obj.getObject(key);
+            final Map<String, Map<String, Integer>> level2Map = new LinkedHashMap<>();
+            level2Obj.keySet().forEach(level2Key -> {
+              try {
+                final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
+                final Map<String, Integer> level3Map = new LinkedHashMap<>();
+                level3Obj.keySet().forEach(level3Key -> {
+                  try {
+                    final Integer level4Value = level3Obj.getInteger(level3Key);
+                    level3Map.put(level3Key, level4Value);
+                  } catch (final RuntimeException e) {
+                    throw ParseException.at(level3Key, e);
+                  }
+                });
+                level2Map.put(level2Key, level3Map);
+              } catch (final RuntimeException e) {
+                throw ParseException.at(level2Key, e);
+              }
+            });
+            final TestEnumType.Status enumKey = EnumDecoders.decodeStatus(key);
+            if (enumKey != null) {
+              map.put(enumKey, level2Map);
+            }
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
         });
-        final TestEnumType.Status enumKey = TestEnumType.Status.valueOf(key);
-        map.put(enumKey, level2Map);
-      });
-      config.setEnumKeyNestedMap(map);
-    }
+        config.setEnumKeyNestedMap(map);
+      }
 
-    // Parse deeplyNestedStringMap
-    if (baseObj.has("deeplyNestedStringMap") && !baseObj.isNull("deeplyNestedStringMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("deeplyNestedStringMap");
-      final Map<String, Map<String, Map<String, Map<String, String>>>> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final JSONObjectHandle level2Obj = obj.getObject(key);
-        final Map<String, Map<String, Map<String, String>>> level2Map = new LinkedHashMap<>();
-        level2Obj.keySet().forEach(level2Key -> {
-          final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
-          final Map<String, Map<String, String>> level3Map = new LinkedHashMap<>();
-          level3Obj.keySet().forEach(level3Key -> {
-            final JSONObjectHandle level4Obj = level3Obj.getObject(level3Key);
-            final Map<String, String> level4Map = new LinkedHashMap<>();
-            level4Obj.keySet().forEach(level4Key -> {
-              final String level5Value = level4Obj.getString(level4Key);
-              level4Map.put(level4Key, level5Value);
+      // Parse deeplyNestedStringMap
+      currentField = "deeplyNestedStringMap";
+      if (baseObj.has("deeplyNestedStringMap") && !baseObj.isNull("deeplyNestedStringMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("deeplyNestedStringMap");
+        final Map<String, Map<String, Map<String, Map<String, String>>>> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final JSONObjectHandle level2Obj = obj.getObject(key);
+            final Map<String, Map<String, Map<String, String>>> level2Map = new LinkedHashMap<>();
+            level2Obj.keySet().forEach(level2Key -> {
+              try {
+                final JSONObjectHandle level3Obj = level2Obj.getObject(level2Key);
+                final Map<String, Map<String, String>> level3Map = new LinkedHashMap<>();
+                level3Obj.keySet().forEach(level3Key -> {
+                  try {
+                    final JSONObjectHandle level4Obj = level3Obj.getObject(level3Key);
+                    final Map<String, String> level4Map = new LinkedHashMap<>();
+                    level4Obj.keySet().forEach(level4Key -> {
+                      try {
+                        final String level5Value = level4Obj.getString(level4Key);
+                        level4Map.put(level4Key, level5Value);
+                      } catch (final RuntimeException e) {
+                        throw ParseException.at(level4Key, e);
+                      }
+                    });
+                    level3Map.put(level3Key, level4Map);
+                  } catch (final RuntimeException e) {
+                    throw ParseException.at(level3Key, e);
+                  }
+                });
+                level2Map.put(level2Key, level3Map);
+              } catch (final RuntimeException e) {
+                throw ParseException.at(level2Key, e);
+              }
             });
-            level3Map.put(level3Key, level4Map);
-          });
-          level2Map.put(level2Key, level3Map);
+            map.put(key, level2Map);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
         });
-        map.put(key, level2Map);
-      });
-      config.setDeeplyNestedStringMap(map);
+        config.setDeeplyNestedStringMap(map);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
-}
\ No newline at end of file
+}
@@ -5,14 +5,12 @@ import javax.annotation.processing.Generated;
 import nl.aerius.codegen.test.types.polymorphic.TestPolyBase;
 import nl.aerius.json.JSONObjectHandle;
 
-@Generated(value = "nl.aerius.codegen.ParserGenerator", date = "GENERATION_TIMESTAMP")
+@Generated(value = "nl.aerius.codegen.ParserGenerator", date = "2024-01-01T00:00:00")
 public class TestPolyBaseParser {
-
   public static TestPolyBase parse(final String jsonText) {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -20,19 +18,17 @@ public class TestPolyBaseParser {
     if (baseObj == null) {
       return null;
     }
-
     if (!baseObj.has("_type") || baseObj.isNull("_type")) {
-      throw new RuntimeException("Expected string for type discriminator field '_type', got different type");
+      throw new ParseException("Expected string for type discriminator field '_type', got different type");
     }
-
     final String typeName = baseObj.getString("_type");
     switch (typeName) {
-    case "TypeA":
-      return TestPolySubAParser.parse(baseObj);
-    case "TypeB":
-      return TestPolySubBParser.parse(baseObj);
-    default:
-      throw new RuntimeException("Unknown type name '" + typeName + "' for TestPolyBase");
+      case "TypeA":
+        return TestPolySubAParser.parse(baseObj);
+      case "TypeB":
+        return TestPolySubBParser.parse(baseObj);
+      default:
+        throw new ParseException("Unknown type name '" + typeName + "' for TestPolyBase");
     }
   }
 
@@ -41,10 +37,16 @@ public class TestPolyBaseParser {
       return;
     }
 
-    // Parse baseField
-    if (baseObj.has("baseField") && !baseObj.isNull("baseField")) {
-      final String value = baseObj.getString("baseField");
-      config.setBaseField(value);
+    String currentField = null;
+    try {
+      // Parse baseField
+      currentField = "baseField";
+      if (baseObj.has("baseField") && !baseObj.isNull("baseField")) {
+        final String value = baseObj.getString("baseField");
+        config.setBaseField(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
 }
@@ -5,14 +5,12 @@ import javax.annotation.processing.Generated;
 import nl.aerius.codegen.test.types.polymorphic.TestPolySubB;
 import nl.aerius.json.JSONObjectHandle;
 
-@Generated(value = "nl.aerius.codegen.ParserGenerator", date = "GENERATION_TIMESTAMP")
+@Generated(value = "nl.aerius.codegen.ParserGenerator", date = "2024-01-01T00:00:00")
 public class TestPolySubBParser {
-
   public static TestPolySubB parse(final String jsonText) {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -20,7 +18,6 @@ public class TestPolySubBParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestPolySubB config = new TestPolySubB();
     parse(baseObj, config);
     return config;
@@ -30,14 +27,19 @@ public class TestPolySubBParser {
     if (baseObj == null || config == null) {
       return;
     }
-
     // Parse fields from parent class (TestPolyBase)
     TestPolyBaseParser.parse(baseObj, config);
 
-    // Parse fieldB
-    if (baseObj.has("fieldB")) {
-      final boolean value = baseObj.getBoolean("fieldB");
-      config.setFieldB(value);
+    String currentField = null;
+    try {
+      // Parse fieldB
+      currentField = "fieldB";
+      if (baseObj.has("fieldB")) {
+        final boolean value = baseObj.getBoolean("fieldB");
+        config.setFieldB(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
-}
\ No newline at end of file
+}
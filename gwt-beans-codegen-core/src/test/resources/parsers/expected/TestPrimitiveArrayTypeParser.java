@@ -9,9 +9,8 @@ import nl.aerius.codegen.test.types.TestPrimitiveArrayType;
 import nl.aerius.json.JSONArrayHandle;
 import nl.aerius.json.JSONObjectHandle;
 
-@Generated(value = "nl.aerius.codegen.ParserGenerator", date = "GENERATION_TIMESTAMP")
+@Generated(value = "nl.aerius.codegen.ParserGenerator", date = "2024-01-01T00:00:00")
 public class TestPrimitiveArrayTypeParser {
-
   public static TestPrimitiveArrayType parse(final String jsonText) {
     if (jsonText == null) {
       return null;
@@ -33,64 +32,176 @@ public class TestPrimitiveArrayTypeParser {
       return;
     }
 
-    // Parse stringArray
-    if (baseObj.has("stringArray") && !baseObj.isNull("stringArray")) {
-      String[] array = null;
-      final JSONArrayHandle jsonArray = baseObj.getArray("stringArray");
-      if (jsonArray != null) {
-        final List<String> tempList = new ArrayList<>();
-        jsonArray.forEachString(tempList::add);
-        array = tempList.toArray(new String[0]);
+    String currentField = null;
+    try {
+      // Parse stringArray
+      currentField = "stringArray";
+      if (baseObj.has("stringArray") && !baseObj.isNull("stringArray")) {
+        String[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("stringArray");
+        if (jsonArray != null) {
+          final List<String> tempList = new ArrayList<>();
+          jsonArray.forEachString(tempList::add);
+          array = tempList.toArray(new String[0]);
+        }
+        config.setStringArray(array);
       }
-      config.setStringArray(array);
-    }
 
-    // Parse intArray
-    if (baseObj.has("intArray") && !baseObj.isNull("intArray")) {
-      int[] array = null;
-      final JSONArrayHandle jsonArray = baseObj.getArray("intArray");
-      if (jsonArray != null) {
-        final List<Integer> tempList = new ArrayList<>();
-        jsonArray.forEachInteger(tempList::add);
-        array = tempList.stream().mapToInt(i -> i != null ? i.intValue() : 0).toArray();
+      // Parse intArray
+      currentField = "intArray";
+      if (baseObj.has("intArray") && !baseObj.isNull("intArray")) {
+        int[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("intArray");
+        if (jsonArray != null) {
+          final List<Integer> tempList = new ArrayList<>();
+          jsonArray.forEachInteger(tempList::add);
+          array = tempList.stream().mapToInt(i -> i != null ? i.intValue() : 0).toArray();
+        }
+        config.setIntArray(array);
       }
-      config.setIntArray(array);
-    }
 
-    // Parse integerArray
-    if (baseObj.has("integerArray") && !baseObj.isNull("integerArray")) {
-      Integer[] array = null;
-      final JSONArrayHandle jsonArray = baseObj.getArray("integerArray");
-      if (jsonArray != null) {
-        final List<Integer> tempList = new ArrayList<>();
-        jsonArray.forEachInteger(tempList::add);
-        array = tempList.toArray(new Integer[0]);
+      // Parse integerArray
+      currentField = "integerArray";
+      if (baseObj.has("integerArray") && !baseObj.isNull("integerArray")) {
+        Integer[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("integerArray");
+        if (jsonArray != null) {
+          final List<Integer> tempList = new ArrayList<>();
+          jsonArray.forEachInteger(tempList::add);
+          array = tempList.toArray(new Integer[0]);
+        }
+        config.setIntegerArray(array);
       }
-      config.setIntegerArray(array);
-    }
 
-    // Parse doubleArray
-    if (baseObj.has("doubleArray") && !baseObj.isNull("doubleArray")) {
-      double[] array = null;
-      final JSONArrayHandle jsonArray = baseObj.getArray("doubleArray");
-      if (jsonArray != null) {
-        final List<Double> tempList = new ArrayList<>();
-        jsonArray.forEachNumber(tempList::add);
-        array = tempList.stream().mapToDouble(d -> d != null ? d.doubleValue() : 0.0).toArray();
+      // Parse doubleArray
+      currentField = "doubleArray";
+      if (baseObj.has("doubleArray") && !baseObj.isNull("doubleArray")) {
+        double[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("doubleArray");
+        if (jsonArray != null) {
+          final List<Double> tempList = new ArrayList<>();
+          jsonArray.forEachNumber(tempList::add);
+          array = tempList.stream().mapToDouble(d -> d != null ? d.doubleValue() : 0.0).toArray();
+        }
+        config.setDoubleArray(array);
+      }
+
+      // Parse numberArray
+      currentField = "numberArray";
+      if (baseObj.has("numberArray") && !baseObj.isNull("numberArray")) {
+        Double[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("numberArray");
+        if (jsonArray != null) {
+          final List<Double> tempList = new ArrayList<>();
+          jsonArray.forEachNumber(tempList::add);
+          array = tempList.toArray(new Double[0]);
+        }
+        config.setNumberArray(array);
+      }
+
+      // Parse longArray
+      currentField = "longArray";
+      if (baseObj.has("longArray") && !baseObj.isNull("longArray")) {
+        long[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("longArray");
+        if (jsonArray != null) {
+          array = new long[jsonArray.length()];
+          for (int index = 0; index < array.length; index++) {
+            try {
+              array[index] = jsonArray.getLong(index);
+            } catch (final RuntimeException e) {
+              throw ParseException.at(String.valueOf(index), e);
+            }
+          }
+        }
+        config.setLongArray(array);
+      }
+
+      // Parse floatArray
+      currentField = "floatArray";
+      if (baseObj.has("floatArray") && !baseObj.isNull("floatArray")) {
+        float[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("floatArray");
+        if (jsonArray != null) {
+          final List<Double> tempList = new ArrayList<>();
+          jsonArray.forEachNumber(tempList::add);
+          array = new float[tempList.size()];
+          for (int index = 0; index < array.length; index++) {
+            array[index] = tempList.get(index) != null ? tempList.get(index).floatValue() : 0;
+          }
+        }
+        config.setFloatArray(array);
+      }
+
+      // Parse shortArray
+      currentField = "shortArray";
+      if (baseObj.has("shortArray") && !baseObj.isNull("shortArray")) {
+        short[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("shortArray");
+        if (jsonArray != null) {
+          final List<Integer> tempList = new ArrayList<>();
+          jsonArray.forEachInteger(tempList::add);
+          array = new short[tempList.size()];
+          for (int index = 0; index < array.length; index++) {
+            array[index] = tempList.get(index) != null ? tempList.get(index).shortValue() : 0;
+          }
+        }
+        config.setShortArray(array);
+      }
+
+      // Parse booleanArray
+      currentField = "booleanArray";
+      if (baseObj.has("booleanArray") && !baseObj.isNull("booleanArray")) {
+        boolean[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("booleanArray");
+        if (jsonArray != null) {
+          array = new boolean[jsonArray.length()];
+          for (int index = 0; index < array.length; index++) {
+            try {
+              array[index] = jsonArray.getBoolean(index);
+            } catch (final RuntimeException e) {
+              throw ParseException.at(String.valueOf(index), e);
+            }
+          }
+        }
+        config.setBooleanArray(array);
+      }
+
+      // Parse wrapperLongArray
+      currentField = "wrapperLongArray";
+      if (baseObj.has("wrapperLongArray") && !baseObj.isNull("wrapperLongArray")) {
+        Long[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("wrapperLongArray");
+        if (jsonArray != null) {
+          array = new Long[jsonArray.length()];
+          for (int index = 0; index < array.length; index++) {
+            try {
+              array[index] = jsonArray.isNull(index) ? null : jsonArray.getLong(index);
+            } catch (final RuntimeException e) {
+              throw ParseException.at(String.valueOf(index), e);
+            }
+          }
+        }
+        config.setWrapperLongArray(array);
       }
-      config.setDoubleArray(array);
-    }
 
-    // Parse numberArray
-    if (baseObj.has("numberArray") && !baseObj.isNull("numberArray")) {
-      Double[] array = null;
-      final JSONArrayHandle jsonArray = baseObj.getArray("numberArray");
-      if (jsonArray != null) {
-        final List<Double> tempList = new ArrayList<>();
-        jsonArray.forEachNumber(tempList::add);
-        array = tempList.toArray(new Double[0]);
+      // Parse wrapperByteArray
+      currentField = "wrapperByteArray";
+      if (baseObj.has("wrapperByteArray") && !baseObj.isNull("wrapperByteArray")) {
+        Byte[] array = null;
+        final JSONArrayHandle jsonArray = baseObj.getArray("wrapperByteArray");
+        if (jsonArray != null) {
+          final List<Integer> tempList = new ArrayList<>();
+          jsonArray.forEachInteger(tempList::add);
+          array = new Byte[tempList.size()];
+          for (int index = 0; index < array.length; index++) {
+            array[index] = tempList.get(index) != null ? tempList.get(index).byteValue() : null;
+          }
+        }
+        config.setWrapperByteArray(array);
       }
-      config.setNumberArray(array);
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
 }
@@ -15,7 +15,6 @@ public class TestRecordTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -24,26 +23,34 @@ public class TestRecordTypeParser {
       return null;
     }
 
-    // Parse name
-    if (!baseObj.has("name")) {
-      throw new RuntimeException("Required field 'name' is missing");
-    }
-    final String name = baseObj.getString("name");
-
-    // Parse value
-    if (!baseObj.has("value")) {
-      throw new RuntimeException("Required field 'value' is missing");
+    String currentField = null;
+    try {
+      // Parse name
+      currentField = "name";
+      if (!baseObj.has("name")) {
+        throw new ParseException("Required field 'name' is missing");
+      }
+      final String name = baseObj.getString("name");
+
+      // Parse value
+      currentField = "value";
+      if (!baseObj.has("value")) {
+        throw new ParseException("Required field 'value' is missing");
+      }
+      final int value = baseObj.getInteger("value");
+
+      // Parse tags
+      currentField = "tags";
+      if (!baseObj.has("tags")) {
+        throw new ParseException("Required field 'tags' is missing");
+      }
+      final JSONArrayHandle tagsArray = baseObj.getArray("tags");
+      final List<String> tags = new ArrayList<>();
+      tagsArray.forEachString(tags::add);
+
+      return new TestRecordType(name, value, tags);
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
-    final int value = baseObj.getInteger("value");
-
-    // Parse tags
-    if (!baseObj.has("tags")) {
-      throw new RuntimeException("Required field 'tags' is missing");
-    }
-    final JSONArrayHandle tagsArray = baseObj.getArray("tags");
-    final List<String> tags = new ArrayList<>();
-    tagsArray.forEachString(tags::add);
-
-    return new TestRecordType(name, value, tags);
   }
 }
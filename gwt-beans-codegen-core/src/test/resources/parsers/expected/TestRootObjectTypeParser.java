@@ -27,7 +27,6 @@ public class TestRootObjectTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -35,7 +34,6 @@ public class TestRootObjectTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestRootObjectType config = new TestRootObjectType();
     parse(baseObj, config);
     return config;
@@ -46,112 +44,135 @@ public class TestRootObjectTypeParser {
       return;
     }
 
-    // Parse foo
-    if (baseObj.has("foo") && !baseObj.isNull("foo")) {
-      final String value = baseObj.getString("foo");
-      config.setFoo(value);
-    }
-
-    // Parse count
-    if (baseObj.has("count")) {
-      final int value = baseObj.getInteger("count");
-      config.setCount(value);
-    }
-
-    // Parse active
-    if (baseObj.has("active")) {
-      final boolean value = baseObj.getBoolean("active");
-      config.setActive(value);
-    }
-
-    // Parse simpleCollection
-    if (baseObj.has("simpleCollection") && !baseObj.isNull("simpleCollection")) {
-      final TestSimpleCollectionType value = TestSimpleCollectionTypeParser.parse(baseObj.getObject("simpleCollection"));
-      config.setSimpleCollection(value);
-    }
-
-    // Parse simpleTypes
-    if (baseObj.has("simpleTypes") && !baseObj.isNull("simpleTypes")) {
-      final TestSimpleTypesType value = TestSimpleTypesTypeParser.parse(baseObj.getObject("simpleTypes"));
-      config.setSimpleTypes(value);
-    }
-
-    // Parse customParserType
-    if (baseObj.has("customParserType") && !baseObj.isNull("customParserType")) {
-      final TestCustomParserType value = TestCustomParserTypeParser.parse(baseObj.getObject("customParserType"));
-      config.setCustomParserType(value);
-    }
-
-    // Parse enumType
-    if (baseObj.has("enumType") && !baseObj.isNull("enumType")) {
-      final TestEnumType value = TestEnumTypeParser.parse(baseObj.getObject("enumType"));
-      config.setEnumType(value);
-    }
-
-    // Parse complexCollection
-    if (baseObj.has("complexCollection") && !baseObj.isNull("complexCollection")) {
-      final TestComplexCollectionType value = TestComplexCollectionTypeParser.parse(baseObj.getObject("complexCollection"));
-      config.setComplexCollection(value);
-    }
-
-    // Parse advancedMap
-    if (baseObj.has("advancedMap") && !baseObj.isNull("advancedMap")) {
-      final TestAdvancedMapType value = TestAdvancedMapTypeParser.parse(baseObj.getObject("advancedMap"));
-      config.setAdvancedMap(value);
-    }
-
-    // Parse enumListType
-    if (baseObj.has("enumListType") && !baseObj.isNull("enumListType")) {
-      final TestEnumListType value = TestEnumListTypeParser.parse(baseObj.getObject("enumListType"));
-      config.setEnumListType(value);
-    }
-
-    // Parse concreteType
-    if (baseObj.has("concreteType") && !baseObj.isNull("concreteType")) {
-      final ConcreteType value = ConcreteTypeParser.parse(baseObj.getObject("concreteType"));
-      config.setConcreteType(value);
-    }
-
-    // Parse nestedMapType
-    if (baseObj.has("nestedMapType") && !baseObj.isNull("nestedMapType")) {
-      final TestNestedMapType value = TestNestedMapTypeParser.parse(baseObj.getObject("nestedMapType"));
-      config.setNestedMapType(value);
-    }
-
-    // Parse testPolyBase
-    if (baseObj.has("testPolyBase") && !baseObj.isNull("testPolyBase")) {
-      final TestPolyBase value = TestPolyBaseParser.parse(baseObj.getObject("testPolyBase"));
-      config.setTestPolyBase(value);
-    }
-
-    // Parse primitiveArrays
-    if (baseObj.has("primitiveArrays") && !baseObj.isNull("primitiveArrays")) {
-      final TestPrimitiveArrayType value = TestPrimitiveArrayTypeParser.parse(baseObj.getObject("primitiveArrays"));
-      config.setPrimitiveArrays(value);
-    }
-
-    // Parse constructorBased
-    if (baseObj.has("constructorBased") && !baseObj.isNull("constructorBased")) {
-      final TestConstructorBasedType value = TestConstructorBasedTypeParser.parse(baseObj.getObject("constructorBased"));
-      config.setConstructorBased(value);
-    }
-
-    // Parse constructorWithGenerics
-    if (baseObj.has("constructorWithGenerics") && !baseObj.isNull("constructorWithGenerics")) {
-      final TestConstructorWithGenericsType value = TestConstructorWithGenericsTypeParser.parse(baseObj.getObject("constructorWithGenerics"));
-      config.setConstructorWithGenerics(value);
-    }
-
-    // Parse constructorWithIgnoredField
-    if (baseObj.has("constructorWithIgnoredField") && !baseObj.isNull("constructorWithIgnoredField")) {
-      final TestConstructorWithIgnoredFieldType value = TestConstructorWithIgnoredFieldTypeParser.parse(baseObj.getObject("constructorWithIgnoredField"));
-      config.setConstructorWithIgnoredField(value);
-    }
-
-    // Parse recordType
-    if (baseObj.has("recordType") && !baseObj.isNull("recordType")) {
-      final TestRecordType value = TestRecordTypeParser.parse(baseObj.getObject("recordType"));
-      config.setRecordType(value);
+    String currentField = null;
+    try {
+      // Parse foo
+      currentField = "foo";
+      if (baseObj.has("foo") && !baseObj.isNull("foo")) {
+        final String value = baseObj.getString("foo");
+        config.setFoo(value);
+      }
+
+      // Parse count
+      currentField = "count";
+      if (baseObj.has("count")) {
+        final int value = baseObj.getInteger("count");
+        config.setCount(value);
+      }
+
+      // Parse active
+      currentField = "active";
+      if (baseObj.has("active")) {
+        final boolean value = baseObj.getBoolean("active");
+        config.setActive(value);
+      }
+
+      // Parse simpleCollection
+      currentField = "simpleCollection";
+      if (baseObj.has("simpleCollection") && !baseObj.isNull("simpleCollection")) {
+        final TestSimpleCollectionType value = TestSimpleCollectionTypeParser.parse(baseObj.getObject("simpleCollection"));
+        config.setSimpleCollection(value);
+      }
+
+      // Parse simpleTypes
+      currentField = "simpleTypes";
+      if (baseObj.has("simpleTypes") && !baseObj.isNull("simpleTypes")) {
+        final TestSimpleTypesType value = TestSimpleTypesTypeParser.parse(baseObj.getObject("simpleTypes"));
+        config.setSimpleTypes(value);
+      }
+
+      // Parse customParserType
+      currentField = "customParserType";
+      if (baseObj.has("customParserType") && !baseObj.isNull("customParserType")) {
+        final TestCustomParserType value = TestCustomParserTypeParser.parse(baseObj.getObject("customParserType"));
+        config.setCustomParserType(value);
+      }
+
+      // Parse enumType
+      currentField = "enumType";
+      if (baseObj.has("enumType") && !baseObj.isNull("enumType")) {
+        final TestEnumType value = TestEnumTypeParser.parse(baseObj.getObject("enumType"));
+        config.setEnumType(value);
+      }
+
+      // Parse complexCollection
+      currentField = "complexCollection";
+      if (baseObj.has("complexCollection") && !baseObj.isNull("complexCollection")) {
+        final TestComplexCollectionType value = TestComplexCollectionTypeParser.parse(baseObj.getObject("complexCollection"));
+        config.setComplexCollection(value);
+      }
+
+      // Parse advancedMap
+      currentField = "advancedMap";
+      if (baseObj.has("advancedMap") && !baseObj.isNull("advancedMap")) {
+        final TestAdvancedMapType value = TestAdvancedMapTypeParser.parse(baseObj.getObject("advancedMap"));
+        config.setAdvancedMap(value);
+      }
+
+      // Parse enumListType
+      currentField = "enumListType";
+      if (baseObj.has("enumListType") && !baseObj.isNull("enumListType")) {
+        final TestEnumListType value = TestEnumListTypeParser.parse(baseObj.getObject("enumListType"));
+        config.setEnumListType(value);
+      }
+
+      // Parse concreteType
+      currentField = "concreteType";
+      if (baseObj.has("concreteType") && !baseObj.isNull("concreteType")) {
+        final ConcreteType value = ConcreteTypeParser.parse(baseObj.getObject("concreteType"));
+        config.setConcreteType(value);
+      }
+
+      // Parse nestedMapType
+      currentField = "nestedMapType";
+      if (baseObj.has("nestedMapType") && !baseObj.isNull("nestedMapType")) {
+        final TestNestedMapType value = TestNestedMapTypeParser.parse(baseObj.getObject("nestedMapType"));
+        config.setNestedMapType(value);
+      }
+
+      // Parse testPolyBase
+      currentField = "testPolyBase";
+      if (baseObj.has("testPolyBase") && !baseObj.isNull("testPolyBase")) {
+        final TestPolyBase value = TestPolyBaseParser.parse(baseObj.getObject("testPolyBase"));
+        config.setTestPolyBase(value);
+      }
+
+      // Parse primitiveArrays
+      currentField = "primitiveArrays";
+      if (baseObj.has("primitiveArrays") && !baseObj.isNull("primitiveArrays")) {
+        final TestPrimitiveArrayType value = TestPrimitiveArrayTypeParser.parse(baseObj.getObject("primitiveArrays"));
+        config.setPrimitiveArrays(value);
+      }
+
+      // Parse constructorBased
+      currentField = "constructorBased";
+      if (baseObj.has("constructorBased") && !baseObj.isNull("constructorBased")) {
+        final TestConstructorBasedType value = TestConstructorBasedTypeParser.parse(baseObj.getObject("constructorBased"));
+        config.setConstructorBased(value);
+      }
+
+      // Parse constructorWithGenerics
+      currentField = "constructorWithGenerics";
+      if (baseObj.has("constructorWithGenerics") && !baseObj.isNull("constructorWithGenerics")) {
+        final TestConstructorWithGenericsType value = TestConstructorWithGenericsTypeParser.parse(baseObj.getObject("constructorWithGenerics"));
+        config.setConstructorWithGenerics(value);
+      }
+
+      // Parse constructorWithIgnoredField
+      currentField = "constructorWithIgnoredField";
+      if (baseObj.has("constructorWithIgnoredField") && !baseObj.isNull("constructorWithIgnoredField")) {
+        final TestConstructorWithIgnoredFieldType value = TestConstructorWithIgnoredFieldTypeParser.parse(baseObj.getObject("constructorWithIgnoredField"));
+        config.setConstructorWithIgnoredField(value);
+      }
+
+      // Parse recordType
+      currentField = "recordType";
+      if (baseObj.has("recordType") && !baseObj.isNull("recordType")) {
+        final TestRecordType value = TestRecordTypeParser.parse(baseObj.getObject("recordType"));
+        config.setRecordType(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
 }
@@ -20,7 +20,6 @@ public class TestSimpleCollectionTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -28,7 +27,6 @@ public class TestSimpleCollectionTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestSimpleCollectionType config = new TestSimpleCollectionType();
     parse(baseObj, config);
     return config;
@@ -39,76 +37,100 @@ public class TestSimpleCollectionTypeParser {
       return;
     }
 
-    // Parse sanity
-    if (baseObj.has("sanity") && !baseObj.isNull("sanity")) {
-      final String value = baseObj.getString("sanity");
-      config.setSanity(value);
+    String currentField = null;
+    try {
+      // Parse sanity
+      currentField = "sanity";
+      if (baseObj.has("sanity") && !baseObj.isNull("sanity")) {
+        final String value = baseObj.getString("sanity");
+        config.setSanity(value);
+      }
+
+      // Parse tags
+      currentField = "tags";
+      if (baseObj.has("tags") && !baseObj.isNull("tags")) {
+        final JSONArrayHandle array = baseObj.getArray("tags");
+        final List<String> list = new ArrayList<>();
+        array.forEachString(list::add);
+        config.setTags(list);
+      }
+
+      // Parse metadata
+      currentField = "metadata";
+      if (baseObj.has("metadata") && !baseObj.isNull("metadata")) {
+        final JSONObjectHandle obj = baseObj.getObject("metadata");
+        final Map<String, String> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final String level2Value = obj.getString(key);
+            map.put(key, level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setMetadata(map);
+      }
+
+      // Parse explicitArrayList
+      currentField = "explicitArrayList";
+      if (baseObj.has("explicitArrayList") && !baseObj.isNull("explicitArrayList")) {
+        final JSONArrayHandle array = baseObj.getArray("explicitArrayList");
+        final ArrayList<String> list = new ArrayList<>();
+        array.forEachString(list::add);
+        config.setExplicitArrayList(list);
+      }
+
+      // Parse explicitHashMap
+      currentField = "explicitHashMap";
+      if (baseObj.has("explicitHashMap") && !baseObj.isNull("explicitHashMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("explicitHashMap");
+        final HashMap<String, Integer> map = new HashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final Integer level2Value = obj.getInteger(key);
+            map.put(key, level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setExplicitHashMap(map);
+      }
+
+      // Parse explicitLinkedHashMap
+      currentField = "explicitLinkedHashMap";
+      if (baseObj.has("explicitLinkedHashMap") && !baseObj.isNull("explicitLinkedHashMap")) {
+        final JSONObjectHandle obj = baseObj.getObject("explicitLinkedHashMap");
+        final LinkedHashMap<String, Double> map = new LinkedHashMap<>();
+        obj.keySet().forEach(key -> {
+          try {
+            final Double level2Value = obj.getNumber(key);
+            map.put(key, level2Value);
+          } catch (final RuntimeException e) {
+            throw ParseException.at(key, e);
+          }
+        });
+        config.setExplicitLinkedHashMap(map);
+      }
+
+      // Parse defaultHashSet
+      currentField = "defaultHashSet";
+      if (baseObj.has("defaultHashSet") && !baseObj.isNull("defaultHashSet")) {
+        final JSONArrayHandle array = baseObj.getArray("defaultHashSet");
+        final Set<Integer> set = new HashSet<>();
+        array.forEachInteger(set::add);
+        config.setDefaultHashSet(set);
+      }
+
+      // Parse explicitHashSet
+      currentField = "explicitHashSet";
+      if (baseObj.has("explicitHashSet") && !baseObj.isNull("explicitHashSet")) {
+        final JSONArrayHandle array = baseObj.getArray("explicitHashSet");
+        final HashSet<String> set = new HashSet<>();
+        array.forEachString(set::add);
+        config.setExplicitHashSet(set);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
-
-    // Parse tags
-    if (baseObj.has("tags") && !baseObj.isNull("tags")) {
-      final JSONArrayHandle array = baseObj.getArray("tags");
-      final List<String> list = new ArrayList<>();
-      array.forEachString(list::add);
-      config.setTags(list);
-    }
-
-    // Parse metadata
-    if (baseObj.has("metadata") && !baseObj.isNull("metadata")) {
-      final JSONObjectHandle obj = baseObj.getObject("metadata");
-      final Map<String, String> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final String level2Value = obj.getString(key);
-        map.put(key, level2Value);
-      });
-      config.setMetadata(map);
-    }
-
-    // Parse explicitArrayList
-    if (baseObj.has("explicitArrayList") && !baseObj.isNull("explicitArrayList")) {
-      final JSONArrayHandle array = baseObj.getArray("explicitArrayList");
-      final ArrayList<String> list = new ArrayList<>();
-      array.forEachString(list::add);
-      config.setExplicitArrayList(list);
-    }
-
-    // Parse explicitHashMap
-    if (baseObj.has("explicitHashMap") && !baseObj.isNull("explicitHashMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("explicitHashMap");
-      final HashMap<String, Integer> map = new HashMap<>();
-      obj.keySet().forEach(key -> {
-        final Integer level2Value = obj.getInteger(key);
-        map.put(key, level2Value);
-      });
-      config.setExplicitHashMap(map);
-    }
-
-    // Parse explicitLinkedHashMap
-    if (baseObj.has("explicitLinkedHashMap") && !baseObj.isNull("explicitLinkedHashMap")) {
-      final JSONObjectHandle obj = baseObj.getObject("explicitLinkedHashMap");
-      final LinkedHashMap<String, Double> map = new LinkedHashMap<>();
-      obj.keySet().forEach(key -> {
-        final Double level2Value = obj.getNumber(key);
-        map.put(key, level2Value);
-      });
-      config.setExplicitLinkedHashMap(map);
-    }
-
-    // Parse defaultHashSet
-    if (baseObj.has("defaultHashSet") && !baseObj.isNull("defaultHashSet")) {
-      final JSONArrayHandle array = baseObj.getArray("defaultHashSet");
-      final Set<Integer> set = new HashSet<>();
-      array.forEachInteger(set::add);
-      config.setDefaultHashSet(set);
-    }
-
-    // Parse explicitHashSet
-    if (baseObj.has("explicitHashSet") && !baseObj.isNull("explicitHashSet")) {
-      final JSONArrayHandle array = baseObj.getArray("explicitHashSet");
-      final HashSet<String> set = new HashSet<>();
-      array.forEachString(set::add);
-      config.setExplicitHashSet(set);
-    }
-
   }
 }
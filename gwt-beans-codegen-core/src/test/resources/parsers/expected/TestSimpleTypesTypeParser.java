@@ -11,7 +11,6 @@ public class TestSimpleTypesTypeParser {
     if (jsonText == null) {
       return null;
     }
-
     return parse(JSONObjectHandle.fromText(jsonText));
   }
 
@@ -19,7 +18,6 @@ public class TestSimpleTypesTypeParser {
     if (baseObj == null) {
       return null;
     }
-
     final TestSimpleTypesType config = new TestSimpleTypesType();
     parse(baseObj, config);
     return config;
@@ -30,66 +28,81 @@ public class TestSimpleTypesTypeParser {
       return;
     }
 
-    // Parse primitiveByte
-    if (baseObj.has("primitiveByte")) {
-      final byte value = (byte) baseObj.getInteger("primitiveByte");
-      config.setPrimitiveByte(value);
-    }
-
-    // Parse primitiveShort
-    if (baseObj.has("primitiveShort")) {
-      final short value = (short) baseObj.getInteger("primitiveShort");
-      config.setPrimitiveShort(value);
-    }
-
-    // Parse primitiveFloat
-    if (baseObj.has("primitiveFloat")) {
-      final float value = baseObj.getNumber("primitiveFloat").floatValue();
-      config.setPrimitiveFloat(value);
-    }
-
-    // Parse primitiveChar
-    if (baseObj.has("primitiveChar")) {
-      final String str = baseObj.getString("primitiveChar");
-      final char value = (str != null && !str.isEmpty()) ? str.charAt(0) : 0;
-      config.setPrimitiveChar(value);
-    }
-
-    // Parse primitiveLong
-    if (baseObj.has("primitiveLong")) {
-      final long value = baseObj.getLong("primitiveLong");
-      config.setPrimitiveLong(value);
-    }
-
-    // Parse wrapperByte
-    if (baseObj.has("wrapperByte") && !baseObj.isNull("wrapperByte")) {
-      final Byte value = (byte) baseObj.getInteger("wrapperByte");
-      config.setWrapperByte(value);
-    }
-
-    // Parse wrapperShort
-    if (baseObj.has("wrapperShort") && !baseObj.isNull("wrapperShort")) {
-      final Short value = (short) baseObj.getInteger("wrapperShort");
-      config.setWrapperShort(value);
-    }
-
-    // Parse wrapperFloat
-    if (baseObj.has("wrapperFloat") && !baseObj.isNull("wrapperFloat")) {
-      final Float value = baseObj.getNumber("wrapperFloat").floatValue();
-      config.setWrapperFloat(value);
-    }
-
-    // Parse wrapperChar
-    if (baseObj.has("wrapperChar") && !baseObj.isNull("wrapperChar")) {
-      final String str = baseObj.getString("wrapperChar");
-      final Character value = (str != null && !str.isEmpty()) ? str.charAt(0) : null;
-      config.setWrapperChar(value);
-    }
-
-    // Parse wrapperLong
-    if (baseObj.has("wrapperLong") && !baseObj.isNull("wrapperLong")) {
-      final Long value = baseObj.getLong("wrapperLong");
-      config.setWrapperLong(value);
+    String currentField = null;
+    try {
+      // Parse primitiveByte
+      currentField = "primitiveByte";
+      if (baseObj.has("primitiveByte")) {
+        final byte value = (byte) baseObj.getInteger("primitiveByte");
+        config.setPrimitiveByte(value);
+      }
+
+      // Parse primitiveShort
+      currentField = "primitiveShort";
+      if (baseObj.has("primitiveShort")) {
+        final short value = (short) baseObj.getInteger("primitiveShort");
+        config.setPrimitiveShort(value);
+      }
+
+      // Parse primitiveFloat
+      currentField = "primitiveFloat";
+      if (baseObj.has("primitiveFloat")) {
+        final float value = baseObj.getNumber("primitiveFloat").floatValue();
+        config.setPrimitiveFloat(value);
+      }
+
+      // Parse primitiveChar
+      currentField = "primitiveChar";
+      if (baseObj.has("primitiveChar")) {
+        final String str = baseObj.getString("primitiveChar");
+        final char value = (str != null && !str.isEmpty()) ? str.charAt(0) : 0;
+        config.setPrimitiveChar(value);
+      }
+
+      // Parse primitiveLong
+      currentField = "primitiveLong";
+      if (baseObj.has("primitiveLong")) {
+        final long value = baseObj.getLong("primitiveLong");
+        config.setPrimitiveLong(value);
+      }
+
+      // Parse wrapperByte
+      currentField = "wrapperByte";
+      if (baseObj.has("wrapperByte") && !baseObj.isNull("wrapperByte")) {
+        final Byte value = (byte) baseObj.getInteger("wrapperByte");
+        config.setWrapperByte(value);
+      }
+
+      // Parse wrapperShort
+      currentField = "wrapperShort";
+      if (baseObj.has("wrapperShort") && !baseObj.isNull("wrapperShort")) {
+        final Short value = (short) baseObj.getInteger("wrapperShort");
+        config.setWrapperShort(value);
+      }
+
+      // Parse wrapperFloat
+      currentField = "wrapperFloat";
+      if (baseObj.has("wrapperFloat") && !baseObj.isNull("wrapperFloat")) {
+        final Float value = baseObj.getNumber("wrapperFloat").floatValue();
+        config.setWrapperFloat(value);
+      }
+
+      // Parse wrapperChar
+      currentField = "wrapperChar";
+      if (baseObj.has("wrapperChar") && !baseObj.isNull("wrapperChar")) {
+        final String str = baseObj.getString("wrapperChar");
+        final Character value = (str != null && !str.isEmpty()) ? str.charAt(0) : null;
+        config.setWrapperChar(value);
+      }
+
+      // Parse wrapperLong
+      currentField = "wrapperLong";
+      if (baseObj.has("wrapperLong") && !baseObj.isNull("wrapperLong")) {
+        final Long value = baseObj.getLong("wrapperLong");
+        config.setWrapperLong(value);
+      }
+    } catch (final RuntimeException e) {
+      throw ParseException.at(currentField, e);
     }
   }
 }
@@ -39,7 +39,9 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
 import nl.aerius.codegen.ParserGenerator;
+import nl.aerius.codegen.generator.GeneratorOptions;
 import nl.aerius.codegen.generator.ParserWriterUtils;
+import nl.aerius.codegen.generator.runtime.JsonRuntimeTargets;
 import nl.aerius.codegen.util.ClassFinder;
 import nl.aerius.codegen.util.FileUtils;
 import nl.aerius.codegen.util.Logger;
@@ -79,6 +81,156 @@ public class ParserGeneratorMojo extends AbstractMojo {
   @Parameter
   private List<String> extraSourceRoots;
 
+  /**
+   * Generate setter-based parsers that loop once over the keys of the JSON object and dispatch on the key with a switch,
+   * instead of checking each field of the model.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean keyDrivenParsing;
+
+  /**
+   * Also generate parse(JsonParser) methods that read from a streaming Jackson parser without building a JSON tree first.
+   * The generated code then requires Jackson on the classpath and can only be used on the JVM.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean streamingParsing;
+
+  /**
+   * Parse arrays, collections and maps with plain for loops over the indices or keys instead of forEach calls with lambdas.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean indexedLoops;
+
+  /**
+   * Parse the fields of parent classes in the parser of the subclass in a single pass over the JSON keys, instead of calling
+   * the parser of each parent class.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean flattenInheritance;
+
+  /**
+   * Also generate merge methods in setter-based parsers that apply a JSON Merge Patch to an existing object in place.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean mergeParsing;
+
+  /**
+   * Also generate a writer next to every generated parser, which appends the JSON of an object to a StringBuilder.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean generateWriters;
+
+  /**
+   * Also generate native JsInterop overlays, which view the result of JSON.parse as the model without copying it, for the
+   * types whose JSON can be used as it is.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean generateOverlays;
+
+  /**
+   * Also generate parse methods taking a ParseErrors sink, which record the elements of collections, arrays and maps that
+   * fail to parse and skip them, instead of aborting the whole parse.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean lenientParsing;
+
+  /**
+   * Also generate parse methods taking a Projection that selects the fields to parse, so unselected fields and everything
+   * in them are skipped.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean fieldProjection;
+
+  /**
+   * Also generate a ParserRegistry that parses a JSON object as a type given by its Class, dispatching to the generated or
+   * custom parser of the type without reflection.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean generateRegistry;
+
+  /**
+   * Parse nested generic shapes, like a map of maps, with one helper per distinct shape in a shared ParserHelpers class,
+   * instead of inline at every field of that shape.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean sharedHelpers;
+
+  /**
+   * Generate the setter-based parsers of this root as tables of their fields, walked by a shared TableParser interpreter,
+   * instead of parsing code per field. This makes the output much smaller at the cost of some parsing speed.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean tableDriven;
+
+  /**
+   * Look each field up once with getOrAbsent() and read it from the returned JSONValueHandle, instead of checking it with
+   * has() and isNull() and reading it by key. The JSON handles must offer getOrAbsent() and JSONValueHandle.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean singleLookup;
+
+  /**
+   * Read primitive fields with the primitive getters of the JSON handles instead of the boxed getters, and fill primitive
+   * arrays by index instead of through a forEach method. The JSON handles must offer these getters.
+   */
+  @Parameter(defaultValue = "false")
+  private boolean primitiveAccessors;
+
+  /**
+   * Fully qualified names of types that are parsed only when a method of the parsed object is first called, wherever they
+   * are the type of a field.
+   */
+  @Parameter
+  private List<String> lazyTypes;
+
+  /**
+   * Fields that are parsed only when a method of the parsed object is first called, as the fully qualified name of the
+   * declaring class and the field name separated by a {@code #}.
+   */
+  @Parameter
+  private List<String> lazyFields;
+
+  /**
+   * Fully qualified names of types of which the String values of all fields are deduplicated through a bounded string pool
+   * while parsing.
+   */
+  @Parameter
+  private List<String> internTypes;
+
+  /**
+   * Fields of which the String values are deduplicated through a bounded string pool while parsing, as the fully qualified
+   * name of the declaring class and the field name separated by a {@code #}.
+   */
+  @Parameter
+  private List<String> internFields;
+
+  /**
+   * Maximum number of distinct Strings kept in the string pool, the least recently used String is evicted when it is full.
+   */
+  @Parameter(defaultValue = "1024")
+  private int stringPoolSize;
+
+  /**
+   * Minimum number of elements of a collection or array of objects to parse its elements in parallel on the common
+   * ForkJoinPool. JVM only, 0 disables parallel parsing.
+   */
+  @Parameter(defaultValue = "0")
+  private int parallelParsingThreshold;
+
+  /**
+   * Maximum estimated bytecode size in bytes of the generated code parsing the fields of a type in one method. The fields of
+   * wider types are parsed in several private methods, keeping each small enough for the JIT to compile.
+   */
+  @Parameter(defaultValue = "8000")
+  private int methodSizeLimit;
+
+  /**
+   * JSON API the generated parsers read from: the name of a built-in target or the fully qualified name of a class
+   * implementing JsonRuntimeTarget on the plugin classpath.
+   */
+  @Parameter(defaultValue = "handle")
+  private String runtimeTarget;
+
   /**
    * The Maven project instance for the executing project.
    */
@@ -102,6 +254,7 @@ public class ParserGeneratorMojo extends AbstractMojo {
 
     try (final MoJoClassFinder finder = new MoJoClassFinder()) {
       ParserWriterUtils.initParsers(finder, logger);
+      ParserWriterUtils.setOptions(createGeneratorOptions());
 
       // Derive source roots from Maven project classpath
       final List<String> sourceRoots = new ArrayList<>(
@@ -132,6 +285,32 @@ public class ParserGeneratorMojo extends AbstractMojo {
     addGeneratedSourcesAsResource(absoluteOutputDir, absoluteJavaSourceDir);
   }
 
+  private GeneratorOptions createGeneratorOptions() {
+    return new GeneratorOptions()
+        .setKeyDrivenParsing(keyDrivenParsing)
+        .setStreamingParsing(streamingParsing)
+        .setIndexedLoops(indexedLoops)
+        .setFlattenInheritance(flattenInheritance)
+        .setMergeParsing(mergeParsing)
+        .setGenerateWriters(generateWriters)
+        .setGenerateOverlays(generateOverlays)
+        .setLenientParsing(lenientParsing)
+        .setFieldProjection(fieldProjection)
+        .setGenerateRegistry(generateRegistry)
+        .setSharedHelpers(sharedHelpers)
+        .setTableDriven(tableDriven)
+        .setSingleLookup(singleLookup)
+        .setPrimitiveAccessors(primitiveAccessors)
+        .setLazyTypes(lazyTypes == null ? List.of() : lazyTypes)
+        .setLazyFields(lazyFields == null ? List.of() : lazyFields)
+        .setInternTypes(internTypes == null ? List.of() : internTypes)
+        .setInternFields(internFields == null ? List.of() : internFields)
+        .setStringPoolSize(stringPoolSize)
+        .setParallelParsingThreshold(parallelParsingThreshold)
+        .setMethodSizeLimit(methodSizeLimit)
+        .setRuntimeTarget(JsonRuntimeTargets.forName(runtimeTarget));
+  }
+
   private String absoluteOrProjectRelative(final String path, final String absoluteJavaSourceDir) {
     if (path == null) {
       return null;
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 public class JSONArrayHandle {
@@ -14,6 +15,40 @@ public class JSONArrayHandle {
     this.inner = inner;
   }
 
+  public int length() {
+    return inner.size();
+  }
+
+  public boolean isNull(final int index) {
+    return inner.get(index).isNull();
+  }
+
+  public JSONObjectHandle getObject(final int index) {
+    final JsonNode value = inner.get(index);
+    return value.isNull() ? null : new JSONObjectHandle(value);
+  }
+
+  public String getString(final int index) {
+    final JsonNode value = inner.get(index);
+    return value.isNull() ? null : value.asText();
+  }
+
+  public int getInt(final int index) {
+    return inner.get(index).asInt();
+  }
+
+  public long getLong(final int index) {
+    return inner.get(index).asLong();
+  }
+
+  public double getDouble(final int index) {
+    return inner.get(index).asDouble();
+  }
+
+  public boolean getBoolean(final int index) {
+    return inner.get(index).asBoolean();
+  }
+
   public void forEach(final Consumer<JSONObjectHandle> consumer) {
     for (int i = 0; i < inner.size(); i++) {
       consumer.accept(new JSONObjectHandle(inner.get(i)));
@@ -1,5 +1,6 @@
 package nl.aerius.json;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -13,6 +14,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * Test implementation of JSONObjectHandle that uses Jackson's JsonNode.
  * This allows us to test parsers without modifying the original
  * JSONObjectHandle class.
+ *
+ * Lookups go directly to the underlying JsonNode, so they are O(1) and the getters
+ * for simple values don't allocate intermediate wrapper objects.
  */
 public class JSONObjectHandle {
   private static final ObjectMapper MAPPER = new ObjectMapper();
@@ -27,41 +31,42 @@ public class JSONObjectHandle {
   }
 
   public JSONObjectHandle getObject(final String key) {
-    if (isNull(key)) {
+    final JsonNode value = required(key, "field");
+    if (value.isNull()) {
       return null;
     }
-    JSONObjectHandle obj = getValue(key).isObject();
-    if (obj == null) {
+    if (!value.isObject()) {
       throw new IllegalStateException(
-          "Wrongly assumed json value to be Object while it was not: [" + key + "] in " + inner);
+          "Wrongly assumed json value to be Object while it was not: [" + key + "] in " + JSONSnippet.of(inner));
     }
-    return obj;
+    return new JSONObjectHandle(value);
   }
 
   public Optional<JSONObjectHandle> getObjectOptional(final String key) {
-    if (has(key) && get(key).isObject()) {
-      return Optional.of(getObject(key));
+    final JsonNode value = inner.get(key);
+    if (value != null && value.isObject()) {
+      return Optional.of(new JSONObjectHandle(value));
     } else {
       return Optional.empty();
     }
   }
 
   public String getString(final String key) {
-    JSONValue value = getValue(key);
+    final JsonNode value = required(key, "field");
     if (value.isNull()) {
       return null;
     }
-    JSONString string = value.isString();
-    if (string == null) {
+    if (!value.isTextual()) {
       throw new IllegalStateException(
-          "Wrongly assumed json value to be String while it was not: [" + key + "] in " + inner);
+          "Wrongly assumed json value to be String while it was not: [" + key + "] in " + JSONSnippet.of(inner));
     }
-    return string.stringValue();
+    return value.textValue();
   }
 
   public Optional<String> getStringOptional(final String key) {
-    if (has(key) && get(key).isString()) {
-      return Optional.of(getString(key));
+    final JsonNode value = inner.get(key);
+    if (value != null && value.isTextual()) {
+      return Optional.of(value.textValue());
     } else {
       return Optional.empty();
     }
@@ -69,7 +74,7 @@ public class JSONObjectHandle {
 
   public String getStringOrDefault(final String key, final String devault) {
     try {
-      return new JSONObjectHandle(inner).getString(key);
+      return getString(key);
     } catch (final IllegalStateException e) {
       return devault;
     }
@@ -94,76 +99,99 @@ public class JSONObjectHandle {
   }
 
   public JSONArrayHandle getArray(final String key) {
-    JSONArrayHandle array = getValue(key).isArray();
-    if (array == null) {
+    final JsonNode value = required(key, "field");
+    if (!value.isArray()) {
       throw new IllegalStateException(
-          "Wrongly assumed json value to be an array while it was not: [" + key + "] in " + inner);
+          "Wrongly assumed json value to be an array while it was not: [" + key + "] in " + JSONSnippet.of(inner));
     }
-    return array;
+    return new JSONArrayHandle((com.fasterxml.jackson.databind.node.ArrayNode) value);
   }
 
   public JSONValue getValue(final String key) {
-    final JsonNode value = inner.get(key);
-    if (value == null) {
-      throw new IllegalStateException("Did not encounter required field in object: " + key + " from " + inner);
-    }
-    return new JSONValue(value);
+    return new JSONValue(required(key, "field"));
   }
 
   public Double getNumber(final String key) {
-    JSONValue value = getValue(key);
-    if (value.isNull()) {
-      return 0.0;
-    }
-    JSONNumber number = value.isNumber();
-    if (number == null) {
-      throw new IllegalStateException(
-          "Wrongly assumed json value to be Number while it was not: [" + key + "] in " + inner);
-    }
-    return number.doubleValue();
+    return number(key);
   }
 
   public int getInteger(final String key) {
-    return getNumber(key).intValue();
+    return (int) number(key);
   }
 
   public long getLong(final String key) {
-    return getNumber(key).longValue();
+    return (long) number(key);
   }
 
+  /**
+   * Primitive accessors for primitive fields: they return the value without boxing it. A JSON null is read as the default
+   * value of the primitive type.
+   */
+  public int getInt(final String key) {
+    return (int) number(key);
+  }
+
+  public double getDouble(final String key) {
+    return number(key);
+  }
+
+  public long getLongValue(final String key) {
+    final JsonNode value = required(key, "field");
+    // Integral numbers are read directly, so longs beyond the precision of a double are not rounded
+    return value.isIntegralNumber() ? value.longValue() : (long) number(key);
+  }
+
+  public boolean getBooleanValue(final String key) {
+    final JsonNode value = required(key, "field");
+    if (value.isNull()) {
+      return false;
+    }
+    if (!value.isBoolean()) {
+      throw new IllegalStateException(
+          "Wrongly assumed json value to be Boolean while it was not: [" + key + "] in " + JSONSnippet.of(inner));
+    }
+    return value.booleanValue();
+  }
+
+  /**
+   * Returns a live view on the keys of this object. The view doesn't copy the keys.
+   */
   public Set<String> keySet() {
     if (inner.isObject()) {
-      Iterator<String> fieldNames = inner.fieldNames();
-      Set<String> keys = new java.util.HashSet<>();
-      fieldNames.forEachRemaining(keys::add);
-      return keys;
+      return new KeySetView(inner);
     }
     return Set.of();
   }
 
   public JSONValueHandle get(final String key) {
+    return new JSONValueHandle(required(key, "item"));
+  }
+
+  /**
+   * Looks the key up once, returning a handle on its value or {@link JSONValueHandle#ABSENT} if the key is not present.
+   * The handle answers the presence and null checks and reads the value without looking the key up again.
+   */
+  public JSONValueHandle getOrAbsent(final String key) {
     final JsonNode value = inner.get(key);
-    if (value == null) {
-      throw new IllegalStateException("Did not encounter required item in object: " + key + " from " + inner);
-    }
-    return new JSONValueHandle(value);
+    return value == null ? JSONValueHandle.ABSENT : new JSONValueHandle(value);
   }
 
   public boolean getBoolean(final String key) {
-    JSONBoolean bool = getValue(key).isBoolean();
-    if (bool == null) {
+    final JsonNode value = required(key, "field");
+    if (!value.isBoolean()) {
       throw new IllegalStateException(
-          "Wrongly assumed json value to be Boolean while it was not: [" + key + "] in " + inner);
+          "Wrongly assumed json value to be Boolean while it was not: [" + key + "] in " + JSONSnippet.of(inner));
     }
-    return bool.booleanValue();
+    return value.booleanValue();
   }
 
   public boolean has(final String key) {
-    return getInner() != null && keySet() != null && keySet().contains(key);
+    return inner != null && inner.isObject() && inner.has(key);
   }
 
   public Optional<JSONArrayHandle> getArrayOptional(final String key) {
-    if (has(key) && get(key).isArray()) {
+    final JsonNode value = inner.get(key);
+    if (value != null && value.isArray()) {
       return Optional.of(getArray(key));
     } else {
       return Optional.empty();
@@ -171,24 +199,27 @@ public class JSONObjectHandle {
   }
 
   public Optional<Boolean> getBooleanOrDefault(final String key, final boolean devault) {
-    if (has(key) && get(key).isBoolean()) {
-      return Optional.of(getBoolean(key));
+    final JsonNode value = inner.get(key);
+    if (value != null && value.isBoolean()) {
+      return Optional.of(value.booleanValue());
     } else {
       return Optional.of(devault);
     }
   }
 
   public Optional<Double> getNumberOptional(final String key) {
-    if (has(key) && get(key).isNumber()) {
-      return Optional.of(getNumber(key));
+    final JsonNode value = inner.get(key);
+    if (value != null && value.isNumber()) {
+      return Optional.of(value.doubleValue());
     } else {
       return Optional.empty();
     }
   }
 
   public Optional<Integer> getIntegerOptional(final String key) {
-    if (has(key) && get(key).isNumber()) {
-      return Optional.of(getInteger(key));
+    final JsonNode value = inner.get(key);
+    if (value != null && value.isNumber()) {
+      return Optional.of((int) value.doubleValue());
     } else {
       return Optional.empty();
     }
@@ -203,12 +234,12 @@ public class JSONObjectHandle {
       JsonNode node = MAPPER.readTree(text);
       return new JSONObjectHandle(node);
     } catch (Exception e) {
-      throw new RuntimeException("Failed to parse JSON: " + text, e);
+      throw new RuntimeException("Failed to parse JSON: " + JSONSnippet.of(text), e);
     }
   }
 
   public boolean isNull(final String key) {
-    return get(key).isNull();
+    return required(key, "item").isNull();
   }
 
   public String asString() {
@@ -217,4 +248,51 @@ public class JSONObjectHandle {
     }
     return inner.asText();
   }
-}
\ No newline at end of file
+
+  private double number(final String key) {
+    final JsonNode value = required(key, "field");
+    if (value.isNull()) {
+      return 0.0;
+    }
+    if (!value.isNumber()) {
+      throw new IllegalStateException(
+          "Wrongly assumed json value to be Number while it was not: [" + key + "] in " + JSONSnippet.of(inner));
+    }
+    return value.doubleValue();
+  }
+
+  private JsonNode required(final String key, final String kind) {
+    final JsonNode value = inner.get(key);
+    if (value == null) {
+      throw new IllegalStateException(
+          "Did not encounter required " + kind + " in object: " + key + " from " + JSONSnippet.of(inner));
+    }
+    return value;
+  }
+
+  /**
+   * Read-only set view on the field names of an object node.
+   */
+  private static class KeySetView extends AbstractSet<String> {
+    private final JsonNode node;
+
+    KeySetView(final JsonNode node) {
+      this.node = node;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+      return node.fieldNames();
+    }
+
+    @Override
+    public int size() {
+      return node.size();
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+      return key instanceof String && node.has((String) key);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package nl.aerius.json;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Builds short JSON snippets for error messages. Only the part of the node that is shown is serialized, so an error in a
+ * large document doesn't serialize the whole document into the message.
+ */
+final class JSONSnippet {
+  static final int MAX_LENGTH = 200;
+  private static final String ELLIPSIS = "...";
+
+  private JSONSnippet() {
+    // Utility class, no instantiation
+  }
+
+  /**
+   * @return the JSON of the node, cut off after {@link #MAX_LENGTH} characters
+   */
+  static String of(final JsonNode node) {
+    final StringBuilder sb = new StringBuilder();
+    append(sb, node);
+    return bounded(sb);
+  }
+
+  /**
+   * @return the text, cut off after {@link #MAX_LENGTH} characters
+   */
+  static String of(final String text) {
+    return text == null || text.length() <= MAX_LENGTH ? text : text.substring(0, MAX_LENGTH) + ELLIPSIS;
+  }
+
+  private static String bounded(final StringBuilder sb) {
+    if (sb.length() <= MAX_LENGTH) {
+      return sb.toString();
+    }
+    sb.setLength(MAX_LENGTH);
+    return sb.append(ELLIPSIS).toString();
+  }
+
+  private static void append(final StringBuilder sb, final JsonNode node) {
+    if (node == null) {
+      sb.append("null");
+    } else if (node.isObject()) {
+      sb.append('{');
+      final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext() && sb.length() <= MAX_LENGTH) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        sb.append('"').append(field.getKey()).append("\":");
+        append(sb, field.getValue());
+        if (fields.hasNext()) {
+          sb.append(',');
+        }
+      }
+      sb.append('}');
+    } else if (node.isArray()) {
+      sb.append('[');
+      for (int i = 0; i < node.size() && sb.length() <= MAX_LENGTH; i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        append(sb, node.get(i));
+      }
+      sb.append(']');
+    } else if (node.isTextual()) {
+      sb.append('"').append(of(node.textValue())).append('"');
+    } else {
+      sb.append(node.toString());
+    }
+  }
+}
@@ -1,14 +1,31 @@
 package nl.aerius.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 
+/**
+ * Handle on a single JSON value. Returned by {@link JSONObjectHandle#getOrAbsent(String)}, which looks a key up once, so
+ * the presence check, the null check and reading the value don't each repeat the lookup.
+ *
+ * The getters follow the same conventions as the getters with a key on {@link JSONObjectHandle}.
+ */
 public class JSONValueHandle {
+  /**
+   * Sentinel returned for keys that are not present in the object.
+   */
+  public static final JSONValueHandle ABSENT = new JSONValueHandle(MissingNode.getInstance());
+
   private final JsonNode inner;
 
   public JSONValueHandle(final JsonNode inner) {
     this.inner = inner;
   }
 
+  public boolean isAbsent() {
+    return inner.isMissingNode();
+  }
+
   public boolean isObject() {
     return inner.isObject();
   }
@@ -32,4 +49,88 @@ public class JSONValueHandle {
   public boolean isNull() {
     return inner.isNull();
   }
-}
\ No newline at end of file
+
+  public JSONObjectHandle getObject() {
+    if (inner.isNull()) {
+      return null;
+    }
+    if (!inner.isObject()) {
+      throw wronglyAssumed("Object");
+    }
+    return new JSONObjectHandle(inner);
+  }
+
+  public JSONArrayHandle getArray() {
+    if (!inner.isArray()) {
+      throw wronglyAssumed("an array");
+    }
+    return new JSONArrayHandle((ArrayNode) inner);
+  }
+
+  public String getString() {
+    if (inner.isNull()) {
+      return null;
+    }
+    if (!inner.isTextual()) {
+      throw wronglyAssumed("String");
+    }
+    return inner.textValue();
+  }
+
+  public Double getNumber() {
+    return number();
+  }
+
+  public int getInteger() {
+    return (int) number();
+  }
+
+  public long getLong() {
+    return (long) number();
+  }
+
+  public boolean getBoolean() {
+    if (!inner.isBoolean()) {
+      throw wronglyAssumed("Boolean");
+    }
+    return inner.booleanValue();
+  }
+
+  /**
+   * Primitive accessors for primitive fields: they return the value without boxing it. A JSON null is read as the default
+   * value of the primitive type.
+   */
+  public int getInt() {
+    return (int) number();
+  }
+
+  public double getDouble() {
+    return number();
+  }
+
+  public long getLongValue() {
+    // Integral numbers are read directly, so longs beyond the precision of a double are not rounded
+    return inner.isIntegralNumber() ? inner.longValue() : (long) number();
+  }
+
+  public boolean getBooleanValue() {
+    return !inner.isNull() && getBoolean();
+  }
+
+  private double number() {
+    if (inner.isNull()) {
+      return 0.0;
+    }
+    if (!inner.isNumber()) {
+      throw wronglyAssumed("Number");
+    }
+    return inner.doubleValue();
+  }
+
+  private IllegalStateException wronglyAssumed(final String kind) {
+    if (inner.isMissingNode()) {
+      return new IllegalStateException("Did not encounter required field, wrongly assumed json value to be " + kind);
+    }
+    return new IllegalStateException("Wrongly assumed json value to be " + kind + " while it was not: " + JSONSnippet.of(inner));
+  }
+}
@@ -0,0 +1,127 @@
+package nl.aerius.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Regression test guarding that the lookups on the JSON stubs don't allocate per call.
+ * Allocations are measured with the per thread allocation counter of the JVM.
+ */
+class JSONObjectHandleAllocationTest {
+  private static final int ITERATIONS = 100_000;
+  /**
+   * Allocation budget per iteration, less than the smallest object. The measurement itself and the JVM may allocate a
+   * little, but anything allocating per call exceeds this many times over.
+   */
+  private static final long MAX_BYTES_PER_ITERATION = 4;
+
+  private static final String OBJECT_JSON = "{\"name\":\"value\",\"count\":42,\"flag\":true,\"amount\":1.5,\"empty\":null}";
+
+  private com.sun.management.ThreadMXBean threadBean;
+
+  @BeforeEach
+  void setUp() {
+    assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+        "Thread allocation counter not available");
+    threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Thread allocation counter not supported");
+    threadBean.setThreadAllocatedMemoryEnabled(true);
+    assumeTrue(threadBean.isThreadAllocatedMemoryEnabled(), "Thread allocation counter can't be enabled");
+  }
+
+  @Test
+  void shouldNotAllocateOnSimpleLookups() {
+    final JSONObjectHandle obj = JSONObjectHandle.fromText(OBJECT_JSON);
+    // Warm up, so class loading and interned constants are not counted
+    final long expected = lookups(obj, 1_000) / 1_000;
+
+    final long before = allocatedBytes();
+    final long total = lookups(obj, ITERATIONS);
+    final long allocated = allocatedBytes() - before;
+
+    assertEquals(expected * ITERATIONS, total);
+    assertTrue(allocated / ITERATIONS < MAX_BYTES_PER_ITERATION,
+        "Lookups allocated " + allocated + " bytes for " + ITERATIONS + " iterations");
+  }
+
+  @Test
+  void shouldNotAllocateOnIndexedArrayReads() {
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < ITERATIONS; i++) {
+      json.append(i == 0 ? "" : ",").append(i);
+    }
+    final JSONArrayHandle array = toArray(json.append(']').toString());
+    // Warm up, so class loading is not counted
+    final long expected = sumByIndex(array);
+
+    final long before = allocatedBytes();
+    final long total = sumByIndex(array);
+    final long allocated = allocatedBytes() - before;
+
+    assertEquals(expected, total);
+    assertTrue(allocated / ITERATIONS < MAX_BYTES_PER_ITERATION,
+        "Indexed reads allocated " + allocated + " bytes for " + ITERATIONS + " elements");
+  }
+
+  @Test
+  void shouldPassHandlePerArrayElement() {
+    final JSONArrayHandle array = toArray("[{\"count\":1},{\"count\":2}]");
+    final List<JSONObjectHandle> kept = new ArrayList<>();
+    array.forEach(kept::add);
+    array.forEachWithIndex((item, index) -> kept.add(item));
+
+    assertNotSame(kept.get(0), kept.get(1), "Each element should get its own handle");
+    assertEquals(1, kept.get(0).getInteger("count"), "Handle should stay valid after the callback");
+    assertEquals(2, kept.get(1).getInteger("count"));
+    assertEquals(1, kept.get(2).getInteger("count"));
+    assertEquals(2, kept.get(3).getInteger("count"));
+  }
+
+  private static JSONArrayHandle toArray(final String json) {
+    return new JSONArrayHandle((ArrayNode) JSONObjectHandle.fromText(json).getInner());
+  }
+
+  private static long sumByIndex(final JSONArrayHandle array) {
+    long total = 0;
+    for (int i = 0; i < array.length(); i++) {
+      if (!array.isNull(i)) {
+        total += array.getInt(i) + array.getLong(i) + (long) array.getDouble(i);
+      }
+    }
+    return total;
+  }
+
+  private static long lookups(final JSONObjectHandle obj, final int iterations) {
+    long total = 0;
+    for (int i = 0; i < iterations; i++) {
+      if (obj.has("name") && !obj.isNull("name")) {
+        total += obj.getString("name").length();
+      }
+      if (obj.has("count")) {
+        total += obj.getInteger("count") + obj.getLong("count");
+      }
+      if (obj.getBoolean("flag") && obj.isNull("empty") && !obj.has("missing")) {
+        total++;
+      }
+      if (obj.getBooleanValue("flag")) {
+        total += obj.getInt("count") + obj.getLongValue("count") + (long) (obj.getDouble("amount") * 2);
+      }
+    }
+    return total;
+  }
+
+  private long allocatedBytes() {
+    return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+}